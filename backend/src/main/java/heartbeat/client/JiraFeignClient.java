@@ -29,10 +29,13 @@ public interface JiraFeignClient {
 	StatusSelfDTO getColumnStatusCategory(URI baseUrl, @PathVariable String statusNum,
 			@RequestHeader String authorization);
 
-	@Cacheable(cacheNames = "jiraCards", key = "#boardId+'-'+#queryCount+'-'+#startAt+'-'+#jql+'-'+#authorization")
-	@GetMapping(path = "/rest/agile/1.0/board/{boardId}/issue?maxResults={queryCount}&startAt={startAt}&jql={jql}")
+	@Cacheable(cacheNames = "jiraCards",
+			key = "#boardId+'-'+#queryCount+'-'+#startAt+'-'+#jql+'-'+#fields+'-'+#authorization")
+	@GetMapping(
+			path = "/rest/agile/1.0/board/{boardId}/issue?maxResults={queryCount}&startAt={startAt}&jql={jql}&fields={fields}")
 	String getJiraCards(URI baseUrl, @PathVariable String boardId, @PathVariable int queryCount,
-			@PathVariable int startAt, @PathVariable String jql, @RequestHeader String authorization);
+			@PathVariable int startAt, @PathVariable String jql, @PathVariable String fields,
+			@RequestHeader String authorization);
 
 	@GetMapping(path = "/rest/internal/2/issue/{jiraCardKey}/activityfeed?startAt={startAt}&maxResults={queryCount}")
 	@Cacheable(cacheNames = "jiraCardHistoryByCount",
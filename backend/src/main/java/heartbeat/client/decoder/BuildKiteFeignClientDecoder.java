@@ -2,13 +2,19 @@ package heartbeat.client.decoder;
 
 import feign.Response;
 import feign.codec.ErrorDecoder;
+import heartbeat.client.ratelimit.AdaptiveConcurrencyLimiter;
+import heartbeat.client.ratelimit.Upstream;
 import heartbeat.util.ExceptionUtil;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.http.HttpStatus;
 
 @Log4j2
+@RequiredArgsConstructor
 public class BuildKiteFeignClientDecoder implements ErrorDecoder {
 
+	private final AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter;
+
 	@Override
 	public Exception decode(String methodKey, Response response) {
 		String errorMessage = switch (methodKey) {
@@ -21,6 +27,7 @@ public class BuildKiteFeignClientDecoder implements ErrorDecoder {
 		};
 
 		log.error("Failed to get BuildKite info_response status: {}, method key: {}", response.status(), methodKey);
+		adaptiveConcurrencyLimiter.onErrorResponse(Upstream.BUILDKITE, response);
 		HttpStatus statusCode = HttpStatus.valueOf(response.status());
 		return ExceptionUtil.handleCommonFeignClientException(statusCode, errorMessage);
 	}
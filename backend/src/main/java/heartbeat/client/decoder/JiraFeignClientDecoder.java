@@ -2,13 +2,19 @@ package heartbeat.client.decoder;
 
 import feign.Response;
 import feign.codec.ErrorDecoder;
+import heartbeat.client.ratelimit.AdaptiveConcurrencyLimiter;
+import heartbeat.client.ratelimit.Upstream;
 import heartbeat.util.ExceptionUtil;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.http.HttpStatus;
 
 @Log4j2
+@RequiredArgsConstructor
 public class JiraFeignClientDecoder implements ErrorDecoder {
 
+	private final AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter;
+
 	@Override
 	public Exception decode(String methodKey, Response response) {
 		String errorMessage = switch (methodKey) {
@@ -23,6 +29,7 @@ public class JiraFeignClientDecoder implements ErrorDecoder {
 		};
 
 		log.error("Failed to get Jira info_response status: {}, method key: {}", response.status(), methodKey);
+		adaptiveConcurrencyLimiter.onErrorResponse(Upstream.JIRA, response);
 		HttpStatus statusCode = HttpStatus.valueOf(response.status());
 		return ExceptionUtil.handleCommonFeignClientException(statusCode, errorMessage);
 	}
@@ -37,6 +37,8 @@ public class JiraCardField {
 
 	private Long lastStatusChangeDate;
 
+	private String updated;
+
 	private double storyPoints;
 
 	private List<FixVersion> fixVersions;
@@ -0,0 +1,304 @@
+package heartbeat.client.ratelimit;
+
+import feign.Response;
+import heartbeat.exception.BaseException;
+import heartbeat.exception.InternalServerErrorException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+@Log4j2
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+	public static final String RETRY_AFTER = HttpHeaders.RETRY_AFTER;
+
+	public static final String RATE_LIMIT_REMAINING = "RateLimit-Remaining";
+
+	public static final String RATE_LIMIT_RESET = "RateLimit-Reset";
+
+	public static final String X_RATE_LIMIT_REMAINING = "X-RateLimit-Remaining";
+
+	public static final String X_RATE_LIMIT_RESET = "X-RateLimit-Reset";
+
+	private static final String ANONYMOUS_CREDENTIAL = "anonymous";
+
+	private final Map<String, UpstreamLimit> limits = new ConcurrentHashMap<>();
+
+	private final MeterRegistry meterRegistry;
+
+	private final int initialConcurrency;
+
+	private final int maxConcurrency;
+
+	private final int lowRemaining;
+
+	private final int maxRetries;
+
+	private final long defaultBackoffMillis;
+
+	private final long idleEvictionMillis;
+
+	public AdaptiveConcurrencyLimiter(MeterRegistry meterRegistry,
+			@Value("${rate-limit.initial-concurrency}") int initialConcurrency,
+			@Value("${rate-limit.max-concurrency}") int maxConcurrency,
+			@Value("${rate-limit.low-remaining}") int lowRemaining, @Value("${rate-limit.max-retries}") int maxRetries,
+			@Value("${rate-limit.default-backoff-seconds}") long defaultBackoffSeconds,
+			@Value("${rate-limit.idle-eviction-minutes}") long idleEvictionMinutes) {
+		this.meterRegistry = meterRegistry;
+		this.initialConcurrency = initialConcurrency;
+		this.maxConcurrency = maxConcurrency;
+		this.lowRemaining = lowRemaining;
+		this.maxRetries = maxRetries;
+		this.defaultBackoffMillis = defaultBackoffSeconds * 1000;
+		this.idleEvictionMillis = TimeUnit.MINUTES.toMillis(idleEvictionMinutes);
+	}
+
+	public <T> T call(Upstream upstream, String credential, Supplier<T> request) {
+		UpstreamLimit limit = getLimit(upstream, credential);
+		for (int attempt = 0;; attempt++) {
+			limit.acquire();
+			try {
+				T result = request.get();
+				limit.increase();
+				return result;
+			}
+			catch (BaseException e) {
+				if (e.getStatus() != HttpStatus.TOO_MANY_REQUESTS.value() || attempt >= maxRetries) {
+					throw e;
+				}
+				log.warn("Retry throttled {} request after cool down, attempt: {}", upstream, attempt + 1);
+			}
+			finally {
+				limit.release();
+			}
+		}
+	}
+
+	public void onErrorResponse(Upstream upstream, Response response) {
+		UpstreamLimit limit = getLimit(upstream,
+				getHeader(response.request().headers(), HttpHeaders.AUTHORIZATION).orElse(null));
+		Optional<Long> remaining = getHeader(response.headers(), RATE_LIMIT_REMAINING)
+			.or(() -> getHeader(response.headers(), X_RATE_LIMIT_REMAINING))
+			.flatMap(AdaptiveConcurrencyLimiter::parseLong);
+		boolean throttled = response.status() == HttpStatus.TOO_MANY_REQUESTS.value()
+				|| remaining.filter(value -> value <= 0).isPresent();
+		if (throttled) {
+			long backoffMillis = getBackoffMillis(response.headers());
+			log.warn("{} rate limit reached, status: {}, back off millis: {}", upstream, response.status(),
+					backoffMillis);
+			limit.throttle(backoffMillis);
+		}
+		else if (remaining.filter(value -> value <= lowRemaining).isPresent()) {
+			limit.decrease();
+		}
+	}
+
+	// every credential gets its own limit and meters, so limits nobody used for a while are dropped with their meters
+	@Scheduled(fixedRateString = "${rate-limit.idle-eviction-minutes}",
+			initialDelayString = "${rate-limit.idle-eviction-minutes}", timeUnit = TimeUnit.MINUTES)
+	public void evictIdleLimits() {
+		long idleSince = System.currentTimeMillis() - idleEvictionMillis;
+		limits.keySet().forEach(key -> limits.computeIfPresent(key, (limitKey, limit) -> {
+			if (!limit.isIdleSince(idleSince)) {
+				return limit;
+			}
+			limit.removeMeters();
+			return null;
+		}));
+	}
+
+	// the limit is touched inside compute, so the eviction of the same key cannot slip in between
+	private UpstreamLimit getLimit(Upstream upstream, String credential) {
+		String credentialHash = credential == null ? ANONYMOUS_CREDENTIAL
+				: DigestUtils.md5DigestAsHex(credential.getBytes(StandardCharsets.UTF_8)).substring(0, 8);
+		return limits.compute(upstream + ":" + credentialHash, (key, limit) -> {
+			UpstreamLimit upstreamLimit = limit == null
+					? new UpstreamLimit(Tags.of("upstream", upstream.name(), "credential", credentialHash)) : limit;
+			upstreamLimit.lastUsedAt = System.currentTimeMillis();
+			return upstreamLimit;
+		});
+	}
+
+	private long getBackoffMillis(Map<String, Collection<String>> headers) {
+		long now = System.currentTimeMillis();
+		return getHeader(headers, RETRY_AFTER).flatMap(value -> parseRetryAfter(value, now))
+			.or(() -> getHeader(headers, RATE_LIMIT_RESET).flatMap(AdaptiveConcurrencyLimiter::parseLong)
+				.map(seconds -> seconds * 1000))
+			.or(() -> getHeader(headers, X_RATE_LIMIT_RESET).flatMap(AdaptiveConcurrencyLimiter::parseLong)
+				.map(epochSeconds -> epochSeconds * 1000 - now))
+			.map(millis -> Math.max(millis, 0))
+			.orElse(defaultBackoffMillis);
+	}
+
+	private static Optional<Long> parseRetryAfter(String value, long now) {
+		Optional<Long> seconds = parseLong(value);
+		if (seconds.isPresent()) {
+			return seconds.map(delay -> delay * 1000);
+		}
+		try {
+			long retryAt = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+			return Optional.of(retryAt - now);
+		}
+		catch (RuntimeException e) {
+			return Optional.empty();
+		}
+	}
+
+	private static Optional<Long> parseLong(String value) {
+		try {
+			return Optional.of(Long.parseLong(value.trim()));
+		}
+		catch (NumberFormatException e) {
+			return Optional.empty();
+		}
+	}
+
+	private static Optional<String> getHeader(Map<String, Collection<String>> headers, String name) {
+		return headers.entrySet()
+			.stream()
+			.filter(header -> name.equalsIgnoreCase(header.getKey()))
+			.flatMap(header -> header.getValue().stream())
+			.findFirst();
+	}
+
+	private final class UpstreamLimit {
+
+		private final ReentrantLock lock = new ReentrantLock();
+
+		private final Condition available = lock.newCondition();
+
+		private final Counter throttledCounter;
+
+		private final List<Meter> meters;
+
+		private volatile double limit = initialConcurrency;
+
+		private volatile int inFlight;
+
+		private volatile long lastUsedAt;
+
+		private long blockedUntil;
+
+		UpstreamLimit(Tags tags) {
+			Gauge limitGauge = Gauge.builder("heartbeat.upstream.concurrency.limit", this, state -> state.limit)
+				.tags(tags)
+				.register(meterRegistry);
+			Gauge inFlightGauge = Gauge
+				.builder("heartbeat.upstream.concurrency.in.flight", this, state -> state.inFlight)
+				.tags(tags)
+				.register(meterRegistry);
+			throttledCounter = Counter.builder("heartbeat.upstream.throttled").tags(tags).register(meterRegistry);
+			meters = List.of(limitGauge, inFlightGauge, throttledCounter);
+		}
+
+		// a limit still holding or waiting for a permit is never idle, however long ago it was looked up
+		boolean isIdleSince(long idleSince) {
+			lock.lock();
+			try {
+				return lastUsedAt <= idleSince && inFlight == 0 && !lock.hasWaiters(available);
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		void removeMeters() {
+			meters.forEach(meterRegistry::remove);
+		}
+
+		void acquire() {
+			lock.lock();
+			try {
+				while (true) {
+					long blockedMillis = blockedUntil - System.currentTimeMillis();
+					if (blockedMillis > 0) {
+						available.await(blockedMillis, TimeUnit.MILLISECONDS);
+					}
+					else if (inFlight < (int) limit) {
+						inFlight++;
+						return;
+					}
+					else {
+						available.await();
+					}
+				}
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InternalServerErrorException("Interrupted while waiting for upstream request permit");
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		void release() {
+			lock.lock();
+			try {
+				inFlight--;
+				available.signalAll();
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		void increase() {
+			lock.lock();
+			try {
+				limit = Math.min(maxConcurrency, limit + 1 / limit);
+				available.signalAll();
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		void decrease() {
+			lock.lock();
+			try {
+				limit = Math.max(1, limit / 2);
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		void throttle(long backoffMillis) {
+			lock.lock();
+			try {
+				limit = Math.max(1, limit / 2);
+				blockedUntil = Math.max(blockedUntil, System.currentTimeMillis() + backoffMillis);
+				throttledCounter.increment();
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+	}
+
+}
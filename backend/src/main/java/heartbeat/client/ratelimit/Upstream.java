@@ -0,0 +1,7 @@
+package heartbeat.client.ratelimit;
+
+public enum Upstream {
+
+	JIRA, BUILDKITE, GITHUB
+
+}
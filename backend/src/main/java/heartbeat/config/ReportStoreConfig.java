@@ -0,0 +1,20 @@
+package heartbeat.config;
+
+import heartbeat.repository.LocalReportStore;
+import heartbeat.repository.ReportStore;
+import heartbeat.repository.SharedDirectoryReportStore;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ReportStoreConfig {
+
+	@Bean
+	public ReportStore reportStore(@Value("${report.storage.shared-directory}") String sharedDirectory) {
+		return StringUtils.isBlank(sharedDirectory) ? new LocalReportStore()
+				: new SharedDirectoryReportStore(sharedDirectory);
+	}
+
+}
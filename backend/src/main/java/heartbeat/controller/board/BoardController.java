@@ -7,6 +7,7 @@ import heartbeat.controller.board.dto.response.BoardConfigDTO;
 import heartbeat.controller.board.dto.response.JiraVerifyResponse;
 import heartbeat.exception.BadRequestException;
 import heartbeat.service.board.jira.JiraService;
+import heartbeat.service.report.scheduler.ReportJobScheduler;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -26,6 +27,8 @@ public class BoardController {
 
 	private final JiraService jiraService;
 
+	private final ReportJobScheduler reportJobScheduler;
+
 	@Deprecated
 	@PostMapping("/{boardType}")
 	public BoardConfigDTO getBoard(@PathVariable @NotBlank BoardType boardType,
@@ -48,7 +51,7 @@ public class BoardController {
 					accessMode = Schema.AccessMode.READ_ONLY) @PathVariable @NotBlank BoardType boardType,
 			@Valid @RequestBody BoardRequestParam boardRequestParam) {
 		checkTime(boardRequestParam.getStartTime(), boardRequestParam.getEndTime());
-		return jiraService.getInfo(boardType, boardRequestParam);
+		return reportJobScheduler.callInteractive(() -> jiraService.getInfo(boardType, boardRequestParam));
 	}
 
 	private void checkTime(String startTime, String endTime) {
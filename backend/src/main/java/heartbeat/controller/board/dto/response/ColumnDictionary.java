@@ -0,0 +1,29 @@
+package heartbeat.controller.board.dto.response;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ColumnDictionary {
+
+	private final Map<String, Integer> indexes = new HashMap<>();
+
+	private final List<String> columns = new ArrayList<>();
+
+	synchronized int indexOf(String column) {
+		return indexes.computeIfAbsent(column, key -> {
+			columns.add(key);
+			return columns.size() - 1;
+		});
+	}
+
+	synchronized int find(String column) {
+		return indexes.getOrDefault(column, -1);
+	}
+
+	synchronized String getColumn(int index) {
+		return columns.get(index);
+	}
+
+}
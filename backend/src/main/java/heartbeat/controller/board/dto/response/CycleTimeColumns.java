@@ -0,0 +1,72 @@
+package heartbeat.controller.board.dto.response;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ObjDoubleConsumer;
+
+public class CycleTimeColumns {
+
+	public static final CycleTimeColumns EMPTY = new CycleTimeColumns(new ColumnDictionary(), new double[0]);
+
+	private final ColumnDictionary columnDictionary;
+
+	private final double[] days;
+
+	private CycleTimeColumns(ColumnDictionary columnDictionary, double[] days) {
+		this.columnDictionary = columnDictionary;
+		this.days = days;
+	}
+
+	public static CycleTimeColumns of(List<CycleTimeInfo> cycleTimeInfos) {
+		Accumulator accumulator = accumulator(new ColumnDictionary());
+		cycleTimeInfos.forEach(cycleTimeInfo -> accumulator.add(cycleTimeInfo.getColumn(), cycleTimeInfo.getDay()));
+		return accumulator.build();
+	}
+
+	public static Accumulator accumulator(ColumnDictionary columnDictionary) {
+		return new Accumulator(columnDictionary);
+	}
+
+	public Double findDay(String column) {
+		int index = columnDictionary.find(column);
+		if (index < 0 || index >= days.length || Double.isNaN(days[index])) {
+			return null;
+		}
+		return days[index];
+	}
+
+	public void forEach(ObjDoubleConsumer<String> action) {
+		for (int i = 0; i < days.length; i++) {
+			if (!Double.isNaN(days[i])) {
+				action.accept(columnDictionary.getColumn(i), days[i]);
+			}
+		}
+	}
+
+	public static class Accumulator {
+
+		private final ColumnDictionary columnDictionary;
+
+		private double[] days = new double[0];
+
+		private Accumulator(ColumnDictionary columnDictionary) {
+			this.columnDictionary = columnDictionary;
+		}
+
+		public void add(String column, double day) {
+			int index = columnDictionary.indexOf(column);
+			if (index >= days.length) {
+				int length = days.length;
+				days = Arrays.copyOf(days, index + 1);
+				Arrays.fill(days, length, days.length, Double.NaN);
+			}
+			days[index] = Double.isNaN(days[index]) ? day : days[index] + day;
+		}
+
+		public CycleTimeColumns build() {
+			return new CycleTimeColumns(columnDictionary, days);
+		}
+
+	}
+
+}
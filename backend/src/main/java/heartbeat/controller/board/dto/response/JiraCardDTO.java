@@ -10,7 +10,6 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.apache.commons.collections4.CollectionUtils;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -23,9 +22,9 @@ public class JiraCardDTO {
 
 	private JiraCard baseInfo;
 
-	private List<CycleTimeInfo> cycleTime;
+	private CycleTimeColumns cycleTime;
 
-	private List<CycleTimeInfo> originCycleTime;
+	private CycleTimeColumns originCycleTime;
 
 	private CardCycleTime cardCycleTime;
 
@@ -33,10 +32,6 @@ public class JiraCardDTO {
 
 	private Integer totalReworkTimes;
 
-	private Object cycleTimeFlat;
-
-	private Object reworkTimesFlat;
-
 	@Nullable
 	private String totalCycleTimeDivideStoryPoints;
 
@@ -52,19 +47,6 @@ public class JiraCardDTO {
 		return storyPoints > 0.0 ? formattedResult : "";
 	}
 
-	@JsonIgnore
-	public Object buildCycleTimeFlatObject() {
-		if (this.getOriginCycleTime() == null) {
-			return null;
-		}
-		HashMap<String, Double> cycleTimeFlat = new HashMap<>();
-		for (int j = 0; j < this.getOriginCycleTime().size(); j++) {
-			CycleTimeInfo cycleTimeInfo = this.getOriginCycleTime().get(j);
-			cycleTimeFlat.put(cycleTimeInfo.getColumn().trim(), cycleTimeInfo.getDay());
-		}
-		return cycleTimeFlat;
-	}
-
 	@JsonIgnore
 	public Object buildReworkTimesFlatObject() {
 		if (CollectionUtils.isEmpty(this.getReworkTimesInfos())) {
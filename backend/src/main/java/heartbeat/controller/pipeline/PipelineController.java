@@ -6,6 +6,7 @@ import heartbeat.controller.pipeline.dto.request.PipelineStepsParam;
 import heartbeat.controller.pipeline.dto.response.BuildKiteResponseDTO;
 import heartbeat.controller.pipeline.dto.response.PipelineStepsDTO;
 import heartbeat.service.pipeline.buildkite.BuildKiteService;
+import heartbeat.service.report.scheduler.ReportJobScheduler;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -33,6 +34,8 @@ public class PipelineController {
 
 	private final BuildKiteService buildKiteService;
 
+	private final ReportJobScheduler reportJobScheduler;
+
 	@PostMapping("/{pipelineType}/verify")
 	public ResponseEntity<Void> verifyBuildKiteToken(
 			@Schema(type = "string", allowableValues = { "buildkite" },
@@ -47,7 +50,8 @@ public class PipelineController {
 			@Schema(type = "string", allowableValues = { "buildkite" },
 					accessMode = Schema.AccessMode.READ_ONLY) @PathVariable PipelineType pipelineType,
 			@Valid @RequestBody TokenParam tokenParam) {
-		BuildKiteResponseDTO buildKiteResponse = buildKiteService.getBuildKiteInfo(tokenParam);
+		BuildKiteResponseDTO buildKiteResponse = reportJobScheduler
+			.callInteractive(() -> buildKiteService.getBuildKiteInfo(tokenParam));
 		if (buildKiteResponse.getPipelineList().isEmpty()) {
 			return ResponseEntity.noContent().build();
 		}
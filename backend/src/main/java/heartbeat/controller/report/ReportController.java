@@ -6,8 +6,11 @@ import heartbeat.controller.report.dto.response.CallbackResponse;
 import heartbeat.controller.report.dto.response.ReportResponse;
 import heartbeat.controller.report.dto.response.ShareApiDetailsResponse;
 import heartbeat.controller.report.dto.response.UuidResponse;
+import heartbeat.handler.ReportProgressPublisher;
+import heartbeat.service.report.ComposedReportCache.CachedReportResponse;
 import heartbeat.service.report.GenerateReporterService;
 import heartbeat.service.report.ReportService;
+import heartbeat.util.GzipUtil;
 import heartbeat.util.TimeUtil;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -15,9 +18,14 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -25,6 +33,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import reactor.core.publisher.Flux;
+
+import java.io.File;
 
 @RestController
 @RequiredArgsConstructor
@@ -34,36 +46,56 @@ import org.springframework.web.bind.annotation.RestController;
 @Log4j2
 public class ReportController {
 
+	private static final MediaType TEXT_CSV = new MediaType("text", "csv");
+
 	private final GenerateReporterService generateReporterService;
 
 	private final ReportService reportService;
 
+	private final ReportProgressPublisher reportProgressPublisher;
+
 	@Value("${callback.interval}")
 	private Integer interval;
 
 	@GetMapping("/{reportType}/{uuid}")
-	public InputStreamResource exportCSV(
+	public ResponseEntity<Resource> exportCSV(
 			@Schema(type = "string", allowableValues = { "metric", "pipeline", "board" },
 					accessMode = Schema.AccessMode.READ_ONLY) @PathVariable ReportType reportType,
 			@PathVariable String uuid,
 			@Schema(type = "string", example = "20240310", pattern = "^[0-9]{8}$") @Parameter String startTime,
-			@Schema(type = "string", example = "20240409", pattern = "^[0-9]{8}$") @Parameter String endTime) {
+			@Schema(type = "string", example = "20240409", pattern = "^[0-9]{8}$") @Parameter String endTime,
+			WebRequest webRequest) {
 		log.info("Start to export CSV file_reportType: {}, uuid: {}", reportType.getValue(), uuid);
-		InputStreamResource result = reportService.exportCsv(reportType, uuid, startTime, endTime);
+		FileSystemResource result = reportService.exportCsv(reportType, uuid, startTime, endTime);
 		log.info("Successfully get CSV file_reportType: {}, uuid: {}, _result: {}", reportType.getValue(), uuid,
 				result);
-		return result;
+		return toCsvResponse(result, webRequest);
 	}
 
 	@GetMapping("/{uuid}/detail")
 	public ReportResponse generateReport(@PathVariable String uuid,
 			@Schema(type = "string", example = "20240310", pattern = "^[0-9]{8}$") @Parameter String startTime,
-			@Schema(type = "string", example = "20240409", pattern = "^[0-9]{8}$") @Parameter String endTime) {
+			@Schema(type = "string", example = "20240409", pattern = "^[0-9]{8}$") @Parameter String endTime,
+			WebRequest webRequest) {
 		log.info("Start to generate report_reportId: {}", uuid);
-		ReportResponse composedReportResponse = generateReporterService.getComposedReportResponse(uuid, startTime,
-				endTime);
+		CachedReportResponse composedReportResponse = generateReporterService.getCachedComposedReportResponse(uuid,
+				startTime, endTime);
 		log.info("Successfully generate report_reportId: {}", uuid);
-		return composedReportResponse;
+		if (webRequest.checkNotModified(composedReportResponse.eTag())) {
+			return null;
+		}
+		return composedReportResponse.reportResponse();
+	}
+
+	@GetMapping(value = "/{uuid}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public Flux<ServerSentEvent<Object>> streamReport(@PathVariable String uuid,
+			@Schema(type = "string", example = "20240310", pattern = "^[0-9]{8}$") @Parameter String startTime,
+			@Schema(type = "string", example = "20240409", pattern = "^[0-9]{8}$") @Parameter String endTime) {
+		log.info("Start to stream report progress_reportId: {}", uuid);
+		return reportProgressPublisher.subscribe(uuid, startTime, endTime)
+			.orElseGet(() -> Flux.defer(() -> Flux.just(ReportProgressPublisher.toEvent(
+					ReportProgressPublisher.REPORT_EVENT,
+					generateReporterService.getComposedReportResponse(uuid, startTime, endTime)))));
 	}
 
 	@GetMapping("/{uuid}")
@@ -98,4 +130,36 @@ public class ReportController {
 		return uuidResponse;
 	}
 
+	private ResponseEntity<Resource> toCsvResponse(FileSystemResource csvResource, WebRequest webRequest) {
+		// a file resource lets spring answer range and conditional requests, so a stalled download can resume
+		File file = csvResource.getFile();
+		String eTag = Long.toHexString(file.lastModified()) + "-" + Long.toHexString(file.length());
+		if (!GzipUtil.isCompressed(file)) {
+			return ResponseEntity.ok()
+				.contentType(TEXT_CSV)
+				.eTag(eTag)
+				.lastModified(file.lastModified())
+				.body(csvResource);
+		}
+		if (GzipUtil.acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+			return ResponseEntity.ok()
+				.contentType(TEXT_CSV)
+				.varyBy(HttpHeaders.ACCEPT_ENCODING)
+				.eTag(eTag + "-" + GzipUtil.GZIP_ENCODING)
+				.lastModified(file.lastModified())
+				.header(HttpHeaders.CONTENT_ENCODING, GzipUtil.GZIP_ENCODING)
+				.body(csvResource);
+		}
+		// checked before the stream is opened, spring would only check it after the body was built
+		if (webRequest.checkNotModified(eTag, file.lastModified())) {
+			return null;
+		}
+		// the decompressed length is unknown, so range requests get the whole file and only gzip clients can resume
+		return ResponseEntity.ok()
+			.contentType(TEXT_CSV)
+			.varyBy(HttpHeaders.ACCEPT_ENCODING)
+			.header(HttpHeaders.ACCEPT_RANGES, "none")
+			.body(new InputStreamResource(GzipUtil.openInputStream(file)));
+	}
+
 }
@@ -8,7 +8,7 @@ import lombok.NoArgsConstructor;
 
 import java.util.Optional;
 
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Data
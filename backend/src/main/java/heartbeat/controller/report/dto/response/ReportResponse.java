@@ -43,6 +43,8 @@ public class ReportResponse {
 
 	private Boolean isSuccessfulCreateCsvFile;
 
+	private Boolean holidayCalendarIncomplete;
+
 	public ReportResponse(Long exportValidityTime) {
 		this.exportValidityTime = exportValidityTime;
 	}
@@ -47,6 +47,12 @@ public class RestResponseEntityExceptionHandler {
 			.body(new RestApiErrorResponse(ex.getStatus(), ex.getMessage(), "Service unavailable"));
 	}
 
+	@ExceptionHandler(value = TooManyRequestsException.class)
+	protected ResponseEntity<Object> handleTooManyRequestsException(TooManyRequestsException ex) {
+		return ResponseEntity.status(ex.getStatus())
+			.body(new RestApiErrorResponse(ex.getStatus(), ex.getMessage(), "Too many requests"));
+	}
+
 	@ExceptionHandler(value = RequestFailedException.class)
 	protected ResponseEntity<Object> handleRequestFailedException(RequestFailedException ex) {
 		return ResponseEntity.status(ex.getStatus())
@@ -0,0 +1,12 @@
+package heartbeat.exception;
+
+import lombok.Getter;
+
+@Getter
+public class TooManyRequestsException extends BaseException {
+
+	public TooManyRequestsException(String message) {
+		super(message, 429);
+	}
+
+}
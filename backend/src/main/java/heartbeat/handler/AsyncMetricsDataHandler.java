@@ -4,13 +4,22 @@ import heartbeat.controller.report.dto.request.MetricType;
 import heartbeat.controller.report.dto.response.MetricsDataCompleted;
 import heartbeat.exception.GenerateReportException;
 import heartbeat.repository.FileRepository;
+import heartbeat.util.StripedLock;
 import lombok.RequiredArgsConstructor;
-import lombok.Synchronized;
 import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
 
 import static heartbeat.repository.FilePrefixType.DATA_COMPLETED_PREFIX;
 import static heartbeat.repository.FileType.METRICS_DATA_COMPLETED;
@@ -24,64 +33,130 @@ public class AsyncMetricsDataHandler {
 
 	private static final String GENERATE_REPORT_ERROR = "Failed to update metrics data completed through this timestamp.";
 
-	private final Object readWriteLock = new Object();
+	private static final String FILENAME_SEPARATOR = "-";
+
+	private static final int METRICS_DATA_COMPLETED_LOCK_STRIPES = 64;
+
+	private final StripedLock metricsDataCompletedLocks = new StripedLock(METRICS_DATA_COMPLETED_LOCK_STRIPES);
+
+	private final Map<String, AtomicReference<MetricsDataCompleted>> statusRegistry = new ConcurrentHashMap<>();
 
 	private final FileRepository fileRepository;
 
-	@Synchronized("readWriteLock")
+	private final ReportProgressPublisher reportProgressPublisher;
+
+	private final ThreadPoolTaskExecutor metricsDataCompletedTaskExecutor;
+
+	public MetricsDataCompleted getMetricsDataCompleted(String uuid, String timeRangeAndTimeStamp) {
+		AtomicReference<MetricsDataCompleted> metricsDataCompleted = findMetricsDataCompleted(uuid,
+				timeRangeAndTimeStamp);
+		return metricsDataCompleted == null ? null : metricsDataCompleted.get();
+	}
+
 	public void updateMetricsDataCompletedInHandler(String uuid, String fileName, MetricType metricType,
 			boolean isCreateCsvSuccess) {
-		MetricsDataCompleted previousMetricsCompleted = fileRepository.readFileByType(METRICS_DATA_COMPLETED, uuid,
-				fileName, MetricsDataCompleted.class, DATA_COMPLETED_PREFIX);
-		if (previousMetricsCompleted == null) {
-			String filename = fileRepository.getFileName(METRICS_DATA_COMPLETED, uuid, fileName);
-			log.error(GENERATE_REPORT_ERROR + "; filename: " + filename);
-			throw new GenerateReportException(GENERATE_REPORT_ERROR);
-		}
-		if (isCreateCsvSuccess) {
-			previousMetricsCompleted.setIsSuccessfulCreateCsvFile(true);
-		}
-		if (metricType == BOARD) {
-			previousMetricsCompleted.setBoardMetricsCompleted(true);
-		}
-		else {
-			previousMetricsCompleted.setDoraMetricsCompleted(true);
-		}
-		fileRepository.createFileByType(METRICS_DATA_COMPLETED, uuid, fileName, previousMetricsCompleted,
-				DATA_COMPLETED_PREFIX);
+		updateMetricsDataCompleted(uuid, fileName, previousMetricsCompleted -> {
+			MetricsDataCompleted.MetricsDataCompletedBuilder metricsCompleted = previousMetricsCompleted.toBuilder();
+			if (isCreateCsvSuccess) {
+				metricsCompleted.isSuccessfulCreateCsvFile(true);
+			}
+			if (metricType == BOARD) {
+				metricsCompleted.boardMetricsCompleted(true);
+			}
+			else {
+				metricsCompleted.doraMetricsCompleted(true);
+			}
+			return metricsCompleted.build();
+		});
 	}
 
-	@Synchronized("readWriteLock")
 	public void updateOverallMetricsCompletedInHandler(String uuid, String timeRangeAndStamp) {
-		MetricsDataCompleted previousMetricsCompleted = fileRepository.readFileByType(METRICS_DATA_COMPLETED, uuid,
-				timeRangeAndStamp, MetricsDataCompleted.class, DATA_COMPLETED_PREFIX);
-		if (previousMetricsCompleted == null) {
-			String fileName = fileRepository.getFileName(METRICS_DATA_COMPLETED, uuid, timeRangeAndStamp);
-			log.error(GENERATE_REPORT_ERROR + "; filename: " + fileName);
-			throw new GenerateReportException(GENERATE_REPORT_ERROR);
-		}
-		previousMetricsCompleted.setOverallMetricCompleted(true);
-		fileRepository.createFileByType(METRICS_DATA_COMPLETED, uuid, timeRangeAndStamp, previousMetricsCompleted,
-				DATA_COMPLETED_PREFIX);
+		updateMetricsDataCompleted(uuid, timeRangeAndStamp,
+				previousMetricsCompleted -> previousMetricsCompleted.toBuilder().overallMetricCompleted(true).build());
 	}
 
 	public void initializeMetricsDataCompletedInHandler(String uuid, List<MetricType> metricTypes,
 			String timeRangeAndTimeStamp) {
-		MetricsDataCompleted previousMetricsDataCompleted = fileRepository.readFileByType(METRICS_DATA_COMPLETED, uuid,
-				timeRangeAndTimeStamp, MetricsDataCompleted.class, DATA_COMPLETED_PREFIX);
+		MetricsDataCompleted previousMetricsDataCompleted = getMetricsDataCompleted(uuid, timeRangeAndTimeStamp);
 		Boolean initializeBoardMetricsCompleted = null;
 		Boolean initializeDoraMetricsCompleted = null;
 		if (!Objects.isNull(previousMetricsDataCompleted)) {
 			initializeBoardMetricsCompleted = previousMetricsDataCompleted.boardMetricsCompleted();
 			initializeDoraMetricsCompleted = previousMetricsDataCompleted.doraMetricsCompleted();
 		}
-		fileRepository
-			.createFileByType(METRICS_DATA_COMPLETED, uuid, timeRangeAndTimeStamp, MetricsDataCompleted.builder()
-				.boardMetricsCompleted(metricTypes.contains(BOARD) ? Boolean.FALSE : initializeBoardMetricsCompleted)
-				.doraMetricsCompleted(metricTypes.contains(DORA) ? Boolean.FALSE : initializeDoraMetricsCompleted)
-				.overallMetricCompleted(Boolean.FALSE)
-				.isSuccessfulCreateCsvFile(Boolean.FALSE)
-				.build(), DATA_COMPLETED_PREFIX);
+		MetricsDataCompleted metricsDataCompleted = MetricsDataCompleted.builder()
+			.boardMetricsCompleted(metricTypes.contains(BOARD) ? Boolean.FALSE : initializeBoardMetricsCompleted)
+			.doraMetricsCompleted(metricTypes.contains(DORA) ? Boolean.FALSE : initializeDoraMetricsCompleted)
+			.overallMetricCompleted(Boolean.FALSE)
+			.isSuccessfulCreateCsvFile(Boolean.FALSE)
+			.build();
+		statusRegistry.computeIfAbsent(getRegistryKey(uuid, timeRangeAndTimeStamp), key -> new AtomicReference<>())
+			.set(metricsDataCompleted);
+		// the initial status is written synchronously, so the report can be found on disk as soon as it starts
+		persistMetricsDataCompleted(uuid, timeRangeAndTimeStamp);
+		reportProgressPublisher.publishMetricsDataCompleted(uuid, timeRangeAndTimeStamp, metricsDataCompleted);
+	}
+
+	public void removeExpiredMetricsDataCompleted(long currentTimeStamp) {
+		statusRegistry.keySet().removeIf(key -> {
+			long timeStamp = NumberUtils.toLong(StringUtils.substringAfterLast(key, FILENAME_SEPARATOR),
+					currentTimeStamp);
+			return fileRepository.isExpired(currentTimeStamp, timeStamp);
+		});
+	}
+
+	private void updateMetricsDataCompleted(String uuid, String timeRangeAndTimeStamp,
+			UnaryOperator<MetricsDataCompleted> updater) {
+		AtomicReference<MetricsDataCompleted> previousMetricsCompleted = findMetricsDataCompleted(uuid,
+				timeRangeAndTimeStamp);
+		if (previousMetricsCompleted == null) {
+			String filename = fileRepository.getFileName(METRICS_DATA_COMPLETED, uuid, timeRangeAndTimeStamp);
+			log.error(GENERATE_REPORT_ERROR + "; filename: " + filename);
+			throw new GenerateReportException(GENERATE_REPORT_ERROR);
+		}
+		MetricsDataCompleted metricsDataCompleted = previousMetricsCompleted.updateAndGet(updater);
+		CompletableFuture
+			.runAsync(() -> persistMetricsDataCompleted(uuid, timeRangeAndTimeStamp), metricsDataCompletedTaskExecutor)
+			.exceptionally(e -> {
+				log.error("Failed to persist metrics data completed, uuid: {}, file name: {}, reason: {}", uuid,
+						timeRangeAndTimeStamp, e.getMessage());
+				return null;
+			});
+		reportProgressPublisher.publishMetricsDataCompleted(uuid, timeRangeAndTimeStamp, metricsDataCompleted);
+	}
+
+	private AtomicReference<MetricsDataCompleted> findMetricsDataCompleted(String uuid,
+			String timeRangeAndTimeStamp) {
+		String registryKey = getRegistryKey(uuid, timeRangeAndTimeStamp);
+		AtomicReference<MetricsDataCompleted> metricsDataCompleted = statusRegistry.get(registryKey);
+		if (metricsDataCompleted != null) {
+			return metricsDataCompleted;
+		}
+		// fall back to the persisted status, e.g. for reports started before a restart
+		MetricsDataCompleted persistedMetricsDataCompleted = fileRepository.readFileByType(METRICS_DATA_COMPLETED,
+				uuid, timeRangeAndTimeStamp, MetricsDataCompleted.class, DATA_COMPLETED_PREFIX);
+		if (persistedMetricsDataCompleted == null) {
+			return null;
+		}
+		// another instance may still be updating the status in a shared store, so only its writer keeps it in memory
+		if (fileRepository.isSharedStore()) {
+			return new AtomicReference<>(persistedMetricsDataCompleted);
+		}
+		return statusRegistry.computeIfAbsent(registryKey, key -> new AtomicReference<>(persistedMetricsDataCompleted));
+	}
+
+	// writes the latest status under the file lock, so a delayed write can never overwrite a newer one,
+	// a status which expired before its delayed write ran is not written again
+	private void persistMetricsDataCompleted(String uuid, String timeRangeAndTimeStamp) {
+		String registryKey = getRegistryKey(uuid, timeRangeAndTimeStamp);
+		metricsDataCompletedLocks.runWithLock(registryKey,
+				() -> Optional.ofNullable(statusRegistry.get(registryKey))
+					.ifPresent(metricsDataCompleted -> fileRepository.createFileByType(METRICS_DATA_COMPLETED, uuid,
+							timeRangeAndTimeStamp, metricsDataCompleted.get(), DATA_COMPLETED_PREFIX)));
+	}
+
+	private String getRegistryKey(String uuid, String timeRangeAndTimeStamp) {
+		return uuid + "/" + timeRangeAndTimeStamp;
 	}
 
 }
@@ -0,0 +1,115 @@
+package heartbeat.handler;
+
+import heartbeat.controller.report.dto.response.MetricsDataCompleted;
+import heartbeat.controller.report.dto.response.ReportResponse;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class ReportProgressPublisher {
+
+	public static final String METRICS_DATA_COMPLETED_EVENT = "metrics-data-completed";
+
+	public static final String REPORT_EVENT = "report";
+
+	public static final String ERROR_EVENT = "report-error";
+
+	public static final long PROGRESS_VALIDITY_TIME = 1000L * 3600 * 2;
+
+	private static final String PROGRESS_EXPIRED_MESSAGE = "Report progress expired before the report was completed";
+
+	private static final String FILENAME_SEPARATOR = "-";
+
+	private final Map<String, ProgressSink> progressSinks = new ConcurrentHashMap<>();
+
+	public void start(String uuid, String timeRangeAndTimeStamp) {
+		ProgressSink previousSink = progressSinks.put(getKey(uuid, timeRangeAndTimeStamp),
+				new ProgressSink(Sinks.many().replay().all(), System.currentTimeMillis()));
+		if (previousSink != null) {
+			complete(previousSink.sink());
+		}
+	}
+
+	public void publishMetricsDataCompleted(String uuid, String timeRangeAndTimeStamp,
+			MetricsDataCompleted metricsDataCompleted) {
+		publish(uuid, timeRangeAndTimeStamp, METRICS_DATA_COMPLETED_EVENT, metricsDataCompleted);
+	}
+
+	public void publishReport(String uuid, String timeRangeAndTimeStamp, ReportResponse reportResponse) {
+		publish(uuid, timeRangeAndTimeStamp, REPORT_EVENT, reportResponse);
+	}
+
+	public void complete(String uuid, String timeRangeAndTimeStamp) {
+		ProgressSink progressSink = progressSinks.remove(getKey(uuid, timeRangeAndTimeStamp));
+		if (progressSink != null) {
+			complete(progressSink.sink());
+		}
+	}
+
+	public void fail(String uuid, String timeRangeAndTimeStamp, String errorMessage) {
+		ProgressSink progressSink = progressSinks.remove(getKey(uuid, timeRangeAndTimeStamp));
+		if (progressSink != null) {
+			fail(progressSink.sink(), errorMessage);
+		}
+	}
+
+	// a report whose jobs never finish would otherwise keep its subscribers waiting forever
+	public void removeExpiredProgress(long currentTimeStamp) {
+		progressSinks.entrySet().removeIf(entry -> {
+			boolean expired = entry.getValue().startedAt() < currentTimeStamp - PROGRESS_VALIDITY_TIME;
+			if (expired) {
+				fail(entry.getValue().sink(), PROGRESS_EXPIRED_MESSAGE);
+			}
+			return expired;
+		});
+	}
+
+	public Optional<Flux<ServerSentEvent<Object>>> subscribe(String uuid, String startTime, String endTime) {
+		String key = uuid + FILENAME_SEPARATOR + startTime + FILENAME_SEPARATOR + endTime;
+		return Optional.ofNullable(progressSinks.get(key)).map(progressSink -> progressSink.sink().asFlux());
+	}
+
+	public static ServerSentEvent<Object> toEvent(String eventName, Object data) {
+		return ServerSentEvent.builder(data).event(eventName).build();
+	}
+
+	private void publish(String uuid, String timeRangeAndTimeStamp, String eventName, Object data) {
+		ProgressSink progressSink = progressSinks.get(getKey(uuid, timeRangeAndTimeStamp));
+		if (progressSink == null) {
+			return;
+		}
+		synchronized (progressSink.sink()) {
+			progressSink.sink().tryEmitNext(toEvent(eventName, data));
+		}
+	}
+
+	private void complete(Sinks.Many<ServerSentEvent<Object>> sink) {
+		synchronized (sink) {
+			sink.tryEmitComplete();
+		}
+	}
+
+	private void fail(Sinks.Many<ServerSentEvent<Object>> sink, String errorMessage) {
+		synchronized (sink) {
+			sink.tryEmitNext(toEvent(ERROR_EVENT, errorMessage));
+			sink.tryEmitComplete();
+		}
+	}
+
+	private String getKey(String uuid, String timeRangeAndTimeStamp) {
+		int timeStampIndex = timeRangeAndTimeStamp.lastIndexOf(FILENAME_SEPARATOR);
+		String timeRange = timeStampIndex < 0 ? timeRangeAndTimeStamp
+				: timeRangeAndTimeStamp.substring(0, timeStampIndex);
+		return uuid + FILENAME_SEPARATOR + timeRange;
+	}
+
+	private record ProgressSink(Sinks.Many<ServerSentEvent<Object>> sink, long startedAt) {
+	}
+
+}
@@ -0,0 +1,171 @@
+package heartbeat.repository;
+
+import com.google.gson.Gson;
+import heartbeat.client.dto.pipeline.buildkite.BuildKiteBuildInfo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BuildKiteBuildStore {
+
+	private static final String BASE_STORE_PATH = "./app/store/buildkite";
+
+	private static final String JSON_EXTENSION = ".json";
+
+	public static final Long BUILDS_VALIDITY_TIME = 1000L * 3600 * 24 * 30;
+
+	private static final long BUILD_SETTLE_TIME = 1000L * 3600 * 24;
+
+	private static final Set<String> FINISHED_STATES = Set.of("passed", "failed", "canceled", "skipped", "not_run");
+
+	private final Gson gson;
+
+	public Optional<List<BuildKiteBuildInfo>> findBuilds(String token, String organizationId, String pipelineId,
+			List<String> branches, String startTime, String endTime) {
+		try {
+			long from = Long.parseLong(startTime);
+			long to = Long.parseLong(endTime);
+			Path path = getBuildsPath(token, organizationId, pipelineId, branches);
+			Optional<StoredBuilds> storedBuilds = readBuilds(path)
+				.filter(it -> it.from() <= from && to <= it.to());
+			if (storedBuilds.isEmpty()) {
+				return Optional.empty();
+			}
+			path.toFile().setLastModified(System.currentTimeMillis());
+			log.info("Reuse stored buildkite builds, pipeline id: {}", pipelineId);
+			return Optional.of(getBuildsCreatedBetween(storedBuilds.get().builds(), from, to).toList());
+		}
+		catch (Exception e) {
+			log.error("Failed to find stored buildkite builds, pipeline id: {}, reason: {}", pipelineId, e);
+			return Optional.empty();
+		}
+	}
+
+	public void saveBuilds(String token, String organizationId, String pipelineId, List<String> branches,
+			String startTime, String endTime, List<BuildKiteBuildInfo> builds) {
+		try {
+			long from = Long.parseLong(startTime);
+			// builds that are still running or may still be retried are fetched again next time
+			long to = Math.min(Long.parseLong(endTime), System.currentTimeMillis() - BUILD_SETTLE_TIME);
+			for (BuildKiteBuildInfo build : builds) {
+				if (!FINISHED_STATES.contains(build.getState())) {
+					to = Math.min(to, getCreatedTime(build) - 1);
+				}
+			}
+			if (to < from) {
+				return;
+			}
+			StoredBuilds fetchedBuilds = new StoredBuilds(from, to,
+					getBuildsCreatedBetween(builds, from, to).toList());
+			Path path = getBuildsPath(token, organizationId, pipelineId, branches);
+			StoredBuilds storedBuilds = readBuilds(path)
+				.filter(it -> it.from() <= fetchedBuilds.to() + 1 && fetchedBuilds.from() <= it.to() + 1)
+				.map(it -> merge(it, fetchedBuilds))
+				.orElse(fetchedBuilds);
+			Files.createDirectories(path.getParent());
+			Path tmpPath = Files.createTempFile(path.getParent(), "builds", FileRepository.SUFFIX_TMP);
+			Files.writeString(tmpPath, gson.toJson(storedBuilds), StandardCharsets.UTF_8);
+			Files.move(tmpPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			log.info("Successfully store buildkite builds, pipeline id: {}", pipelineId);
+		}
+		catch (Exception e) {
+			log.error("Failed to store buildkite builds, pipeline id: {}, reason: {}", pipelineId, e);
+		}
+	}
+
+	public void removeExpiredBuilds(long currentTimeStamp) {
+		Path basePath = Path.of(BASE_STORE_PATH);
+		if (!Files.isDirectory(basePath)) {
+			return;
+		}
+		try (Stream<Path> paths = Files.list(basePath)) {
+			paths.map(Path::toFile)
+				.filter(File::isFile)
+				.filter(file -> file.lastModified() < currentTimeStamp - BUILDS_VALIDITY_TIME)
+				.forEach(this::removeExpiredBuildsFile);
+		}
+		catch (IOException e) {
+			log.error("Failed to deleted expired buildkite builds, reason: {}", e.getMessage());
+		}
+	}
+
+	private void removeExpiredBuildsFile(File file) {
+		try {
+			Files.deleteIfExists(file.toPath());
+			log.info("Successfully deleted expired buildkite builds, file path: {}", file);
+		}
+		catch (IOException e) {
+			log.error("Failed to deleted expired buildkite builds, file path: {}, reason: {}", file, e.getMessage());
+		}
+	}
+
+	// the fetched range is authoritative, stored builds are only kept around it
+	private StoredBuilds merge(StoredBuilds storedBuilds, StoredBuilds fetchedBuilds) {
+		Stream<BuildKiteBuildInfo> buildsAroundFetchedRange = storedBuilds.builds()
+			.stream()
+			.filter(build -> !isCreatedBetween(build, fetchedBuilds.from(), fetchedBuilds.to()));
+		return new StoredBuilds(Math.min(storedBuilds.from(), fetchedBuilds.from()),
+				Math.max(storedBuilds.to(), fetchedBuilds.to()),
+				Stream.concat(buildsAroundFetchedRange, fetchedBuilds.builds().stream()).toList());
+	}
+
+	private Optional<StoredBuilds> readBuilds(Path path) {
+		if (!Files.exists(path)) {
+			return Optional.empty();
+		}
+		try {
+			StoredBuilds storedBuilds = gson.fromJson(Files.readString(path, StandardCharsets.UTF_8),
+					StoredBuilds.class);
+			return Optional.ofNullable(storedBuilds).filter(it -> it.builds() != null);
+		}
+		catch (Exception e) {
+			log.error("Failed to read stored buildkite builds, path: {}, reason: {}", path, e.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	private Stream<BuildKiteBuildInfo> getBuildsCreatedBetween(List<BuildKiteBuildInfo> builds, long from, long to) {
+		return builds.stream().filter(build -> isCreatedBetween(build, from, to));
+	}
+
+	private boolean isCreatedBetween(BuildKiteBuildInfo build, long from, long to) {
+		long createdTime = getCreatedTime(build);
+		return from <= createdTime && createdTime <= to;
+	}
+
+	private long getCreatedTime(BuildKiteBuildInfo build) {
+		return Instant.parse(build.getPipelineCreateTime()).toEpochMilli();
+	}
+
+	// the token is part of the key, so builds are only reused for the token that was allowed to read them
+	private Path getBuildsPath(String token, String organizationId, String pipelineId, List<String> branches)
+			throws NoSuchAlgorithmException {
+		byte[] key = gson.toJson(Arrays.asList(token, organizationId, pipelineId, branches))
+			.getBytes(StandardCharsets.UTF_8);
+		String fileName = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(key));
+		return Path.of(BASE_STORE_PATH, fileName + JSON_EXTENSION);
+	}
+
+	private record StoredBuilds(long from, long to, List<BuildKiteBuildInfo> builds) {
+	}
+
+}
@@ -0,0 +1,194 @@
+package heartbeat.repository;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+@Slf4j
+public class FileExpiryIndex {
+
+	private static final long BUCKET_MILLIS = 1000L * 60 * 10;
+
+	private static final String FIELD_SEPARATOR = "\t";
+
+	private static final String LINE_SEPARATOR = "\n";
+
+	private final Path journalPath;
+
+	private final Map<String, ExpiringReport> reports = new HashMap<>();
+
+	private final NavigableMap<Long, Set<String>> buckets = new TreeMap<>();
+
+	private long totalSize;
+
+	private int journalLines;
+
+	private boolean loaded;
+
+	private boolean initialized;
+
+	public FileExpiryIndex(String journalPath) {
+		this.journalPath = Path.of(journalPath);
+	}
+
+	public synchronized boolean isInitialized() {
+		load();
+		return initialized;
+	}
+
+	public synchronized void markInitialized() {
+		load();
+		initialized = true;
+		writeJournal();
+	}
+
+	public synchronized void schedule(FileType fileType, String uuid, long latestTimeStamp, long size) {
+		load();
+		ExpiringReport report = new ExpiringReport(fileType, uuid, latestTimeStamp, size);
+		put(report);
+		appendJournal(report.toJournalLine());
+	}
+
+	public synchronized List<ExpiringReport> pollExpired(long expireBefore) {
+		load();
+		List<ExpiringReport> expiredReports = buckets.headMap(getBucket(expireBefore), true)
+			.values()
+			.stream()
+			.flatMap(Set::stream)
+			.map(reports::get)
+			.filter(report -> report.latestTimeStamp() < expireBefore)
+			.toList();
+		expiredReports.forEach(report -> remove(report.getKey()));
+		compactJournal();
+		return expiredReports;
+	}
+
+	public synchronized List<ExpiringReport> pollOldest(long maxSize) {
+		load();
+		List<ExpiringReport> evictedReports = new ArrayList<>();
+		while (totalSize > maxSize) {
+			ExpiringReport oldestReport = buckets.firstEntry()
+				.getValue()
+				.stream()
+				.map(reports::get)
+				.min(Comparator.comparingLong(ExpiringReport::latestTimeStamp))
+				.orElseThrow();
+			remove(oldestReport.getKey());
+			evictedReports.add(oldestReport);
+		}
+		compactJournal();
+		return evictedReports;
+	}
+
+	private void put(ExpiringReport report) {
+		remove(report.getKey());
+		reports.put(report.getKey(), report);
+		buckets.computeIfAbsent(getBucket(report.latestTimeStamp()), bucket -> new HashSet<>()).add(report.getKey());
+		totalSize += report.size();
+	}
+
+	private void remove(String key) {
+		ExpiringReport report = reports.remove(key);
+		if (report == null) {
+			return;
+		}
+		long bucket = getBucket(report.latestTimeStamp());
+		Set<String> keys = buckets.get(bucket);
+		keys.remove(key);
+		if (keys.isEmpty()) {
+			buckets.remove(bucket);
+		}
+		totalSize -= report.size();
+	}
+
+	private long getBucket(long timeStamp) {
+		return Math.floorDiv(timeStamp, BUCKET_MILLIS);
+	}
+
+	private void load() {
+		if (loaded) {
+			return;
+		}
+		loaded = true;
+		if (!Files.exists(journalPath)) {
+			return;
+		}
+		try (Stream<String> lines = Files.lines(journalPath, StandardCharsets.UTF_8)) {
+			lines.forEach(this::replay);
+			initialized = true;
+		}
+		catch (Exception e) {
+			log.error("Failed to read file expiry journal, path: {}, reason: {}", journalPath, e.getMessage());
+		}
+	}
+
+	private void replay(String line) {
+		String[] fields = line.split(FIELD_SEPARATOR);
+		put(new ExpiringReport(FileType.valueOf(fields[0]), fields[1], Long.parseLong(fields[2]),
+				Long.parseLong(fields[3])));
+		journalLines++;
+	}
+
+	private void appendJournal(String line) {
+		// before the first full scan the journal must not exist, otherwise a restart would skip that scan
+		if (!initialized) {
+			return;
+		}
+		try {
+			Files.writeString(journalPath, line + LINE_SEPARATOR, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+					StandardOpenOption.APPEND);
+			journalLines++;
+		}
+		catch (Exception e) {
+			log.error("Failed to append file expiry journal, path: {}, reason: {}", journalPath, e.getMessage());
+		}
+	}
+
+	private void compactJournal() {
+		if (initialized && journalLines > reports.size()) {
+			writeJournal();
+		}
+	}
+
+	private void writeJournal() {
+		try {
+			Files.createDirectories(journalPath.getParent());
+			Path tmpPath = Files.createTempFile(journalPath.getParent(), "expiry", FileRepository.SUFFIX_TMP);
+			Files.write(tmpPath, reports.values().stream().map(ExpiringReport::toJournalLine).toList(),
+					StandardCharsets.UTF_8);
+			Files.move(tmpPath, journalPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			journalLines = reports.size();
+		}
+		catch (Exception e) {
+			log.error("Failed to write file expiry journal, path: {}, reason: {}", journalPath, e.getMessage());
+		}
+	}
+
+	public record ExpiringReport(FileType fileType, String uuid, long latestTimeStamp, long size) {
+
+		private String getKey() {
+			return fileType.name() + FIELD_SEPARATOR + uuid;
+		}
+
+		private String toJournalLine() {
+			return String.join(FIELD_SEPARATOR, fileType.name(), uuid, String.valueOf(latestTimeStamp),
+					String.valueOf(size));
+		}
+
+	}
+
+}
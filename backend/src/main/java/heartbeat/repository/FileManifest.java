@@ -0,0 +1,95 @@
+package heartbeat.repository;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class FileManifest {
+
+	private static final String FILENAME_SEPARATOR = "-";
+
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+	private final Map<String, Entry> timeRanges = new ConcurrentHashMap<>();
+
+	public List<String> getFileNames() {
+		return entries.values().stream().map(Entry::fileName).toList();
+	}
+
+	public Optional<Entry> findByTimeRange(String startTime, String endTime) {
+		return Optional.ofNullable(timeRanges.get(startTime + FILENAME_SEPARATOR + endTime));
+	}
+
+	public long getSize() {
+		return entries.values().stream().mapToLong(Entry::size).sum();
+	}
+
+	public OptionalLong getLatestTimeStamp() {
+		return entries.values().stream().filter(Entry::hasTimeRange).mapToLong(Entry::timeStampMillis).max();
+	}
+
+	Collection<Entry> getEntries() {
+		return entries.values();
+	}
+
+	void put(Entry entry) {
+		entries.put(entry.fileName(), entry);
+		if (entry.hasTimeRange()) {
+			timeRanges.merge(entry.timeRange(), entry, FileManifest::latest);
+		}
+	}
+
+	void remove(String fileName) {
+		Entry entry = entries.remove(fileName);
+		if (entry == null || !entry.hasTimeRange() || timeRanges.get(entry.timeRange()) != entry) {
+			return;
+		}
+		// another artifact of the same time range may still exist, e.g. the pipeline error next to the board error
+		entries.values()
+			.stream()
+			.filter(it -> Objects.equals(it.timeRange(), entry.timeRange()))
+			.reduce(FileManifest::latest)
+			.ifPresentOrElse(it -> timeRanges.put(it.timeRange(), it), () -> timeRanges.remove(entry.timeRange()));
+	}
+
+	private static Entry latest(Entry entry, Entry anotherEntry) {
+		return anotherEntry.timeStampMillis() >= entry.timeStampMillis() ? anotherEntry : entry;
+	}
+
+	static Entry createEntry(String fileName, long size) {
+		String[] fileNameParts = fileName.split(FILENAME_SEPARATOR);
+		if (fileNameParts.length != 4) {
+			return new Entry(fileName, null, null, null, size);
+		}
+		return new Entry(fileName, fileNameParts[1], fileNameParts[2], fileNameParts[3], size);
+	}
+
+	public record Entry(String fileName, String startTime, String endTime, String timeStamp, long size) {
+
+		public boolean hasTimeRange() {
+			return timeStamp != null;
+		}
+
+		public String timeRange() {
+			return hasTimeRange() ? startTime + FILENAME_SEPARATOR + endTime : null;
+		}
+
+		public long timeStampMillis() {
+			// csv artifacts carry their extension after the timestamp
+			return NumberUtils.toLong(StringUtils.substringBefore(timeStamp, "."));
+		}
+
+		public String timeRangeAndTimeStamp() {
+			return timeRange() + FILENAME_SEPARATOR + timeStamp;
+		}
+
+	}
+
+}
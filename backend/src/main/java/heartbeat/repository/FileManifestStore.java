@@ -0,0 +1,195 @@
+package heartbeat.repository;
+
+import com.google.gson.Gson;
+import heartbeat.util.StripedLock;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.math.NumberUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Slf4j
+public class FileManifestStore {
+
+	private static final Gson GSON = new Gson();
+
+	private static final String JSON_EXTENSION = ".json";
+
+	static final String VERSION_FILE_NAME = ".version";
+
+	private static final int MANIFEST_LOCK_STRIPES = 64;
+
+	private final StripedLock manifestLocks = new StripedLock(MANIFEST_LOCK_STRIPES);
+
+	private final Map<Path, FileManifest> manifests = new ConcurrentHashMap<>();
+
+	private final Map<Path, Long> loadedVersions = new ConcurrentHashMap<>();
+
+	private final String baseOutputPath;
+
+	private final String baseStorePath;
+
+	private final boolean shared;
+
+	public FileManifestStore(String baseOutputPath, String baseStorePath, boolean shared) {
+		this.baseOutputPath = baseOutputPath;
+		this.baseStorePath = baseStorePath;
+		this.shared = shared;
+	}
+
+	public Optional<FileManifest> getManifest(FileType fileType, String uuid) {
+		Path directory = getDirectory(fileType, uuid);
+		FileManifest manifest = manifests.get(directory);
+		if (manifest != null && isCurrent(directory)) {
+			return Optional.of(manifest);
+		}
+		return manifestLocks.supplyWithLock(directory, () -> Optional.ofNullable(manifests.get(directory))
+			.filter(it -> isCurrent(directory))
+			.or(() -> loadManifest(fileType, uuid, directory)));
+	}
+
+	public void recordFile(FileType fileType, String uuid, String fileName) {
+		Path directory = getDirectory(fileType, uuid);
+		manifestLocks.runWithLock(directory, () -> getManifest(fileType, uuid).ifPresent(manifest -> {
+			manifest.put(FileManifest.createEntry(fileName, directory.resolve(fileName).toFile().length()));
+			saveSnapshot(fileType, uuid, writeVersion(directory), manifest);
+		}));
+	}
+
+	public void removeFile(FileType fileType, String uuid, String fileName) {
+		Path directory = getDirectory(fileType, uuid);
+		manifestLocks.runWithLock(directory, () -> Optional.ofNullable(manifests.get(directory)).ifPresent(manifest -> {
+			manifest.remove(fileName);
+			saveSnapshot(fileType, uuid, writeVersion(directory), manifest);
+		}));
+	}
+
+	public void removeManifest(FileType fileType, String uuid) {
+		Path directory = getDirectory(fileType, uuid);
+		manifestLocks.runWithLock(directory, () -> {
+			manifests.remove(directory);
+			loadedVersions.remove(directory);
+			Path snapshotPath = getSnapshotPath(fileType, uuid);
+			try {
+				Files.deleteIfExists(snapshotPath);
+			}
+			catch (Exception e) {
+				log.error("Failed to remove file manifest, path: {}, reason: {}", snapshotPath, e.getMessage());
+			}
+		});
+	}
+
+	public long getVersion(FileType fileType, String uuid) {
+		return readVersion(getDirectory(fileType, uuid));
+	}
+
+	private Optional<FileManifest> loadManifest(FileType fileType, String uuid, Path directory) {
+		// read before the listing, so a file published while scanning leaves an outdated version behind
+		long version = readVersion(directory);
+		File[] files = directory.toFile().listFiles();
+		if (files == null) {
+			manifests.remove(directory);
+			loadedVersions.remove(directory);
+			return Optional.empty();
+		}
+		FileManifest manifest = new FileManifest();
+		// another instance may have overwritten the version with its own, so a shared directory is always scanned
+		readSnapshot(fileType, uuid).filter(snapshot -> !shared && version != 0 && snapshot.version() == version)
+			.map(StoredFileManifest::entries)
+			.orElseGet(() -> scanDirectory(files))
+			.forEach(manifest::put);
+		manifests.put(directory, manifest);
+		loadedVersions.put(directory, version);
+		return Optional.of(manifest);
+	}
+
+	private boolean isCurrent(Path directory) {
+		return !shared || Objects.equals(loadedVersions.get(directory), readVersion(directory));
+	}
+
+	private List<FileManifest.Entry> scanDirectory(File[] files) {
+		return Arrays.stream(files)
+			.filter(file -> !file.getName().endsWith(FileRepository.SUFFIX_TMP))
+			.filter(file -> !file.getName().equals(VERSION_FILE_NAME))
+			.map(file -> FileManifest.createEntry(file.getName(), file.length()))
+			.toList();
+	}
+
+	private long readVersion(Path directory) {
+		try {
+			return NumberUtils.toLong(Files.readString(directory.resolve(VERSION_FILE_NAME), StandardCharsets.UTF_8));
+		}
+		catch (IOException e) {
+			// a directory without a version yet still has to differ from a removed one
+			return Files.isDirectory(directory) ? 0 : -1;
+		}
+	}
+
+	// the modified time of a directory is too coarse to tell apart publishes of different instances, e.g. on nfs
+	private long writeVersion(Path directory) {
+		long version = ThreadLocalRandom.current().nextLong();
+		try {
+			Path tmpPath = Files.createTempFile(directory, VERSION_FILE_NAME, FileRepository.SUFFIX_TMP);
+			Files.writeString(tmpPath, String.valueOf(version), StandardCharsets.UTF_8);
+			Files.move(tmpPath, directory.resolve(VERSION_FILE_NAME), StandardCopyOption.ATOMIC_MOVE,
+					StandardCopyOption.REPLACE_EXISTING);
+		}
+		catch (Exception e) {
+			log.error("Failed to store file version, path: {}, reason: {}", directory, e.getMessage());
+		}
+		return version;
+	}
+
+	private Optional<StoredFileManifest> readSnapshot(FileType fileType, String uuid) {
+		Path snapshotPath = getSnapshotPath(fileType, uuid);
+		if (!Files.exists(snapshotPath)) {
+			return Optional.empty();
+		}
+		try {
+			StoredFileManifest snapshot = GSON.fromJson(Files.readString(snapshotPath, StandardCharsets.UTF_8),
+					StoredFileManifest.class);
+			return Optional.ofNullable(snapshot).filter(it -> it.entries() != null);
+		}
+		catch (Exception e) {
+			log.error("Failed to read file manifest, path: {}, reason: {}", snapshotPath, e.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	private void saveSnapshot(FileType fileType, String uuid, long version, FileManifest manifest) {
+		Path snapshotPath = getSnapshotPath(fileType, uuid);
+		try {
+			StoredFileManifest snapshot = new StoredFileManifest(version, List.copyOf(manifest.getEntries()));
+			Files.createDirectories(snapshotPath.getParent());
+			Path tmpPath = Files.createTempFile(snapshotPath.getParent(), uuid, FileRepository.SUFFIX_TMP);
+			Files.writeString(tmpPath, GSON.toJson(snapshot), StandardCharsets.UTF_8);
+			Files.move(tmpPath, snapshotPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		}
+		catch (Exception e) {
+			log.error("Failed to store file manifest, path: {}, reason: {}", snapshotPath, e.getMessage());
+		}
+	}
+
+	private Path getDirectory(FileType fileType, String uuid) {
+		return Path.of(baseOutputPath, fileType.getType(), uuid);
+	}
+
+	private Path getSnapshotPath(FileType fileType, String uuid) {
+		return Path.of(baseStorePath, fileType.getType(), uuid + JSON_EXTENSION);
+	}
+
+	private record StoredFileManifest(long version, List<FileManifest.Entry> entries) {
+	}
+
+}
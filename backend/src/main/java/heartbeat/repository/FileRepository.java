@@ -6,55 +6,97 @@ import com.opencsv.CSVWriter;
 import heartbeat.exception.FileIOException;
 import heartbeat.exception.GenerateReportException;
 import heartbeat.exception.NotFoundException;
-import lombok.RequiredArgsConstructor;
+import heartbeat.util.GzipUtil;
+import heartbeat.util.StripedLock;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FileUtils;
-import org.springframework.core.io.InputStreamResource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.stereotype.Component;
 
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileReader;
-import java.io.FileWriter;
+import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
-import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import static heartbeat.repository.FileType.CSV;
+import static heartbeat.repository.FileType.ERROR;
+import static heartbeat.repository.FileType.METRICS_DATA_COMPLETED;
+import static heartbeat.repository.FileType.REPORT;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class FileRepository {
 
-	private static final String BASE_OUTPUT_PATH = "./app/output";
+	private static final String BASE_MANIFEST_PATH = "./app/store/manifest";
 
-	private static final String NORMALIZE_BASE_OUTPUT_PATH = "app/output";
+	private static final String EXPIRY_JOURNAL_PATH = BASE_MANIFEST_PATH + "/expiry.journal";
 
-	private static final String SLASH = "/";
+	private static final Set<FileType> EXPIRABLE_FILE_TYPES = EnumSet.of(CSV, REPORT, ERROR,
+			METRICS_DATA_COMPLETED);
 
-	private static final String FILENAME_SEPARATOR = "-";
+	private static final Set<FileType> COMPRESSED_FILE_TYPES = EnumSet.of(CSV, REPORT);
 
-	public static final String SUFFIX_TMP = ".tmp";
+	private static final Set<FileType> VERSIONED_FILE_TYPES = EnumSet.of(REPORT, ERROR, METRICS_DATA_COMPLETED);
 
-	public static final Long EXPORT_CSV_VALIDITY_TIME = 1000L * 3600 * 24 * 7;
+	private static final String SLASH = "/";
+
+	public static final String SUFFIX_TMP = ".tmp";
 
 	private static final String CSV_EXTENSION = ".csv";
 
 	private static final String SUCCESSFULLY_WRITE_FILE_LOGS = "Successfully write file type: {}, uuid: {}, file name: {}";
 
+	private static final int FILE_LOCK_STRIPES = 64;
+
+	private static final long ONE_HOUR = 1000L * 3600;
+
+	private final StripedLock fileLocks = new StripedLock(FILE_LOCK_STRIPES);
+
+	private final FileManifestStore fileManifestStore;
+
+	private final FileExpiryIndex fileExpiryIndex = new FileExpiryIndex(EXPIRY_JOURNAL_PATH);
+
+	private final FileWriteVersions fileWriteVersions = new FileWriteVersions();
+
 	private final Gson gson;
 
+	private final ReportStore reportStore;
+
+	private final String baseOutputPath;
+
+	private final long retentionTime;
+
+	public FileRepository(Gson gson, ReportStore reportStore, @Value("${report.retention.hours}") long retentionHours) {
+		this.gson = gson;
+		this.reportStore = reportStore;
+		this.baseOutputPath = reportStore.getOutputPath();
+		this.retentionTime = retentionHours * ONE_HOUR;
+		// manifest snapshots and the expiry journal belong to this instance and stay on local disk
+		this.fileManifestStore = new FileManifestStore(baseOutputPath, BASE_MANIFEST_PATH, reportStore.isShared());
+	}
+
 	public void createPath(FileType type, String uuid) {
 		isCorrectFilePath(uuid);
 
-		Path path = Path.of(BASE_OUTPUT_PATH + SLASH + type.getType() + SLASH + uuid);
+		Path path = Path.of(baseOutputPath + SLASH + type.getType() + SLASH + uuid);
 		try {
 			Files.createDirectories(path);
 			log.info("Successfully create {} directory", path);
@@ -72,8 +114,9 @@ public class FileRepository {
 
 		String realFileName = fileNamePrefix.getPrefix() + fileName;
 		File file = new File(getFileName(fileType, uuid, realFileName));
-		if (file.toPath().normalize().startsWith(NORMALIZE_BASE_OUTPUT_PATH) && file.exists()) {
-			try (JsonReader reader = new JsonReader(new FileReader(file))) {
+		if (file.toPath().normalize().startsWith(Path.of(baseOutputPath).normalize()) && file.exists()) {
+			try (JsonReader reader = new JsonReader(
+					new InputStreamReader(GzipUtil.openInputStream(file), StandardCharsets.UTF_8))) {
 				T result = gson.fromJson(reader, classType);
 				log.info("Successfully read file type: {}, uuid: {}, file name: {}", fileType.getType(), uuid,
 						realFileName);
@@ -93,7 +136,7 @@ public class FileRepository {
 		isCorrectFilePath(uuid);
 		isCorrectFilePath(fileName);
 
-		return BASE_OUTPUT_PATH + SLASH + fileType.getType() + SLASH + uuid + SLASH + fileName;
+		return baseOutputPath + SLASH + fileType.getType() + SLASH + uuid + SLASH + fileName;
 	}
 
 	public <T> void createFileByType(FileType fileType, String uuid, String fileName, T data,
@@ -106,12 +149,13 @@ public class FileRepository {
 				realFileName -> createNormalFileHandler(fileType, uuid, json, realFileName));
 	}
 
-	public void createCSVFileByType(String uuid, String fileName, String[][] data, FilePrefixType fileNamePrefix) {
+	public void createCSVFileByType(String uuid, String fileName, Stream<String[]> rows,
+			FilePrefixType fileNamePrefix) {
 		isCorrectFilePath(uuid);
 
 		FileType fileType = CSV;
 		createFileHandler(fileType, uuid, fileName + CSV_EXTENSION, fileNamePrefix,
-				realFileName -> createCSVFileHandler(fileType, uuid, data, realFileName));
+				realFileName -> createCSVFileHandler(fileType, uuid, rows, realFileName));
 	}
 
 	public void removeFileByType(FileType fileType, String uuid, String fileName, FilePrefixType fileNamePrefix) {
@@ -124,6 +168,9 @@ public class FileRepository {
 		log.info("Start to remove file type: {}, uuid: {}, file name: {}", fileType.getType(), uuid, fileName);
 		try {
 			Files.deleteIfExists(Path.of(path));
+			fileManifestStore.removeFile(fileType, uuid, realFileName);
+			scheduleExpiry(fileType, uuid);
+			incrementWriteVersion(fileType, uuid, fileName);
 			log.info("Successfully remove file type: {}, file name: {}", fileType.getType(), fileName);
 		}
 		catch (Exception e) {
@@ -134,80 +181,64 @@ public class FileRepository {
 		}
 	}
 
-	public void removeExpiredFiles(FileType fileType, long currentTimeStamp) {
-		String pathname = BASE_OUTPUT_PATH + SLASH + fileType.getType();
-		File baseFile = new File(pathname);
-		if (!baseFile.exists() || !baseFile.isDirectory()) {
-			return;
-		}
-		File[] uuidDirectories = baseFile.listFiles();
-		for (File uuidDirectory : uuidDirectories) {
-			log.info("Start to deleted expired {} file, file path: {}", fileType.getType(), uuidDirectory);
-			File[] files = uuidDirectory.listFiles();
-			try {
-				if (files.length == 0) {
-					FileUtils.deleteDirectory(uuidDirectory);
-				}
-				else {
-					String timeStamp = files[0].getName().split("[-.]")[3];
-					if (isExpired(currentTimeStamp, Long.parseLong(timeStamp))) {
-						FileUtils.deleteDirectory(uuidDirectory);
-					}
-				}
-				log.info("Successfully deleted expired {} file, file path: {}", fileType.getType(), uuidDirectory);
-			}
-			catch (Exception e) {
-				log.error("Failed to deleted expired {} file, file path: {}, reason: {}", fileType.getType(),
-						uuidDirectory, e);
-			}
-		}
+	public void removeExpiredFiles(long expireBefore) {
+		initializeExpiryIndex();
+		fileExpiryIndex.pollExpired(expireBefore).forEach(this::removeExpiringReport);
+	}
+
+	public void evictOldestFiles(long maxDiskSize) {
+		initializeExpiryIndex();
+		fileExpiryIndex.pollOldest(maxDiskSize).forEach(this::removeExpiringReport);
 	}
 
 	public List<String> getFiles(FileType fileType, String uuid) {
 		isCorrectFilePath(uuid);
 
-		String fileName = BASE_OUTPUT_PATH + SLASH + fileType.getPath() + uuid;
-		File folder = new File(fileName);
-
-		if (folder.exists() && folder.isDirectory()) {
-			return Arrays.stream(folder.listFiles()).map(File::getName).toList();
-		}
-		else {
-			throw new NotFoundException(String.format("Don't find the %s folder in the report files", uuid));
-		}
+		return getManifest(fileType, uuid).getFileNames();
 	}
 
 	public String getFileTimeRangeAndTimeStampByStartTimeAndEndTime(FileType fileType, String uuid, String startTime,
 			String endTime) {
 		isCorrectFilePath(uuid);
 
-		return getFiles(fileType, uuid).stream()
-			.map(it -> it.split(FILENAME_SEPARATOR))
-			.filter(it -> it.length == 4)
-			.filter(it -> Objects.equals(it[1], startTime) && Objects.equals(it[2], endTime))
-			.map(it -> it[1] + FILENAME_SEPARATOR + it[2] + FILENAME_SEPARATOR + it[3])
-			.findFirst()
+		return getManifest(fileType, uuid).findByTimeRange(startTime, endTime)
+			.map(FileManifest.Entry::timeRangeAndTimeStamp)
 			.orElse(null);
+	}
 
+	public long getWriteVersion(String uuid, String fileName) {
+		isCorrectFilePath(uuid);
+
+		if (!reportStore.isShared()) {
+			return fileWriteVersions.get(uuid, fileName);
+		}
+		// writes of other instances only show up as changes of the versions of the report directories
+		return VERSIONED_FILE_TYPES.stream().mapToLong(fileType -> fileManifestStore.getVersion(fileType, uuid)).sum();
+	}
+
+	public boolean isSharedStore() {
+		return reportStore.isShared();
+	}
+
+	public long getRetentionTime() {
+		return retentionTime;
 	}
 
 	public boolean isExpired(long currentTimeStamp, long timeStamp) {
-		return timeStamp < currentTimeStamp - EXPORT_CSV_VALIDITY_TIME;
+		return timeStamp < currentTimeStamp - retentionTime;
 	}
 
-	public InputStreamResource readStringFromCsvFile(String uuid, String fileName, FilePrefixType filePrefixType) {
+	public FileSystemResource readStringFromCsvFile(String uuid, String fileName, FilePrefixType filePrefixType) {
 		isCorrectFilePath(uuid);
 		isCorrectFilePath(fileName);
 
 		File file = new File(getFileName(CSV, uuid, filePrefixType.getPrefix() + fileName + CSV_EXTENSION));
-		try {
-			InputStream inputStream = new FileInputStream(file);
-			return new InputStreamResource(inputStream);
-		}
-		catch (IOException e) {
+		if (!file.isFile()) {
+			NoSuchFileException e = new NoSuchFileException(file.getPath());
 			log.error("Failed to read file", e);
 			throw new FileIOException(e);
 		}
+		return new FileSystemResource(file);
 	}
 
 	private void createFileHandler(FileType fileType, String uuid, String fileName, FilePrefixType fileNamePrefix,
@@ -216,18 +247,25 @@ public class FileRepository {
 		String realBaseFileName = fileNamePrefix.getPrefix() + fileName;
 		String realFileName = getFileName(fileType, uuid, realBaseFileName);
 		log.info("Start to write file type: {}, uuid: {}, file name: {}", fileType.getType(), uuid, realFileName);
-		synchronized (this) {
+		fileLocks.runWithLock(realFileName, () -> {
 			handler.accept(realFileName);
-		}
+			fileManifestStore.recordFile(fileType, uuid, realBaseFileName);
+			scheduleExpiry(fileType, uuid);
+			incrementWriteVersion(fileType, uuid, fileName);
+		});
 		log.info(SUCCESSFULLY_WRITE_FILE_LOGS, fileType.getType(), uuid, realFileName);
 	}
 
 	private void createNormalFileHandler(FileType fileType, String uuid, String json, String realFileName) {
 		String tmpFileName = realFileName + SUFFIX_TMP;
 
-		try (FileWriter writer = new FileWriter(tmpFileName)) {
-			writer.write(json);
-			Files.move(Path.of(tmpFileName), Path.of(realFileName), StandardCopyOption.ATOMIC_MOVE);
+		try {
+			// closed before the move, so a reader never sees a gzip stream without its trailer
+			try (Writer writer = new OutputStreamWriter(openOutputStream(fileType, tmpFileName),
+					StandardCharsets.UTF_8)) {
+				writer.write(json);
+			}
+			publishFile(tmpFileName, realFileName);
 			log.info(SUCCESSFULLY_WRITE_FILE_LOGS, fileType.getType(), uuid, realFileName);
 		}
 		catch (Exception e) {
@@ -237,9 +275,15 @@ public class FileRepository {
 		}
 	}
 
-	private void createCSVFileHandler(FileType fileType, String uuid, String[][] json, String realFileName) {
-		try (CSVWriter writer = new CSVWriter(new FileWriter(realFileName))) {
-			writer.writeAll(Arrays.asList(json));
+	private void createCSVFileHandler(FileType fileType, String uuid, Stream<String[]> rows, String realFileName) {
+		String tmpFileName = realFileName + SUFFIX_TMP;
+
+		try {
+			try (CSVWriter writer = new CSVWriter(new BufferedWriter(
+					new OutputStreamWriter(openOutputStream(fileType, tmpFileName), StandardCharsets.UTF_8)))) {
+				rows.forEachOrdered(writer::writeNext);
+			}
+			publishFile(tmpFileName, realFileName);
 			log.info(SUCCESSFULLY_WRITE_FILE_LOGS, fileType.getType(), uuid, realFileName);
 		}
 		catch (IOException e) {
@@ -248,6 +292,87 @@ public class FileRepository {
 		}
 	}
 
+	// readers on any instance see either the previous file or the complete new one
+	private void publishFile(String tmpFileName, String realFileName) throws IOException {
+		Files.move(Path.of(tmpFileName), Path.of(realFileName), StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	private OutputStream openOutputStream(FileType fileType, String fileName) throws IOException {
+		OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(fileName));
+		return COMPRESSED_FILE_TYPES.contains(fileType) ? GzipUtil.compress(outputStream) : outputStream;
+	}
+
+	private void initializeExpiryIndex() {
+		if (fileExpiryIndex.isInitialized()) {
+			return;
+		}
+		// one full scan for reports written before the expiry index existed
+		log.info("Start to build file expiry index");
+		EXPIRABLE_FILE_TYPES.forEach(fileType -> {
+			File baseFile = new File(baseOutputPath + SLASH + fileType.getType());
+			File[] uuidDirectories = baseFile.listFiles(File::isDirectory);
+			Stream.of(Objects.requireNonNullElse(uuidDirectories, new File[0]))
+				.forEach(uuidDirectory -> scheduleExpiry(fileType, uuidDirectory.getName()));
+		});
+		fileExpiryIndex.markInitialized();
+		log.info("Successfully build file expiry index");
+	}
+
+	private void scheduleExpiry(FileType fileType, String uuid) {
+		if (!EXPIRABLE_FILE_TYPES.contains(fileType)) {
+			return;
+		}
+		fileManifestStore.getManifest(fileType, uuid)
+			.ifPresent(manifest -> fileExpiryIndex.schedule(fileType, uuid,
+					getLatestTimeStamp(fileType, uuid, manifest), manifest.getSize()));
+	}
+
+	private Optional<Long> getLatestTimeStamp(FileType fileType, String uuid) {
+		return fileManifestStore.getManifest(fileType, uuid)
+			.map(manifest -> getLatestTimeStamp(fileType, uuid, manifest));
+	}
+
+	private long getLatestTimeStamp(FileType fileType, String uuid, FileManifest manifest) {
+		File uuidDirectory = new File(baseOutputPath + SLASH + fileType.getType() + SLASH + uuid);
+		return manifest.getLatestTimeStamp().orElseGet(uuidDirectory::lastModified);
+	}
+
+	private void removeExpiringReport(FileExpiryIndex.ExpiringReport report) {
+		FileType fileType = report.fileType();
+		File uuidDirectory = new File(baseOutputPath + SLASH + fileType.getType() + SLASH + report.uuid());
+		// the expiry index only knows the writes of this instance, another one may have written into the directory
+		if (getLatestTimeStamp(fileType, report.uuid()).orElse(0L) > report.latestTimeStamp()) {
+			scheduleExpiry(fileType, report.uuid());
+			return;
+		}
+		log.info("Start to deleted expired {} file, file path: {}", fileType.getType(), uuidDirectory);
+		try {
+			FileUtils.deleteDirectory(uuidDirectory);
+			fileManifestStore.removeManifest(fileType, report.uuid());
+			if (VERSIONED_FILE_TYPES.contains(fileType)) {
+				fileWriteVersions.removeAll(report.uuid());
+			}
+			log.info("Successfully deleted expired {} file, file path: {}", fileType.getType(), uuidDirectory);
+		}
+		catch (Exception e) {
+			log.error("Failed to deleted expired {} file, file path: {}, reason: {}", fileType.getType(), uuidDirectory,
+					e);
+			fileExpiryIndex.schedule(fileType, report.uuid(), report.latestTimeStamp(), report.size());
+		}
+	}
+
+	private void incrementWriteVersion(FileType fileType, String uuid, String fileName) {
+		if (VERSIONED_FILE_TYPES.contains(fileType)) {
+			fileWriteVersions.increment(uuid, fileName);
+		}
+	}
+
+	private FileManifest getManifest(FileType fileType, String uuid) {
+		return fileManifestStore.getManifest(fileType, uuid)
+			.orElseThrow(() -> new NotFoundException(
+					String.format("Don't find the %s folder in the report files", uuid)));
+	}
+
 	private void isCorrectFilePath(String filepath) {
 		if (filepath.contains("..") || filepath.contains("/") || filepath.contains("\\")) {
 			throw new IllegalArgumentException("Invalid filepath, filepath: " + filepath);
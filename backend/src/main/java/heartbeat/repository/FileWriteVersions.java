@@ -0,0 +1,35 @@
+package heartbeat.repository;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class FileWriteVersions {
+
+	private static final String KEY_SEPARATOR = "/";
+
+	private final AtomicLong sequence = new AtomicLong();
+
+	private final Map<String, Long> versions = new ConcurrentHashMap<>();
+
+	private volatile long unwrittenVersion;
+
+	public long get(String uuid, String fileName) {
+		return versions.getOrDefault(getKey(uuid, fileName), unwrittenVersion);
+	}
+
+	public void increment(String uuid, String fileName) {
+		versions.put(getKey(uuid, fileName), sequence.incrementAndGet());
+	}
+
+	public void removeAll(String uuid) {
+		// files that were never written in this process share one version, it changes whenever files are removed
+		unwrittenVersion = sequence.incrementAndGet();
+		versions.keySet().removeIf(key -> key.startsWith(uuid + KEY_SEPARATOR));
+	}
+
+	private String getKey(String uuid, String fileName) {
+		return uuid + KEY_SEPARATOR + fileName;
+	}
+
+}
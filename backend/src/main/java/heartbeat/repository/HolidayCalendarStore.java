@@ -0,0 +1,108 @@
+package heartbeat.repository;
+
+import com.google.gson.Gson;
+import heartbeat.controller.report.dto.request.CalendarTypeEnum;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HolidayCalendarStore {
+
+	public static final int STORE_VERSION = 1;
+
+	private static final String BASE_STORE_PATH = "./app/store/holiday";
+
+	private static final String BUNDLED_PATH = "/holiday/%s/%d.json";
+
+	private static final String JSON_EXTENSION = ".json";
+
+	private static final String SHA_256 = "SHA-256";
+
+	private final Gson gson;
+
+	public Optional<StoredHolidayCalendar> findCalendar(CalendarTypeEnum calendarType, int year) {
+		Path path = getCalendarPath(calendarType, year);
+		if (Files.exists(path)) {
+			try {
+				Optional<StoredHolidayCalendar> storedCalendar = verify(Files.readString(path, StandardCharsets.UTF_8));
+				if (storedCalendar.isPresent()) {
+					return storedCalendar;
+				}
+				log.warn("Skip stored holiday calendar with invalid checksum or version, path: {}", path);
+			}
+			catch (Exception e) {
+				log.error("Failed to read stored holiday calendar, path: {}, reason: {}", path, e.getMessage());
+			}
+		}
+		return findBundledCalendar(calendarType, year);
+	}
+
+	public void saveCalendar(CalendarTypeEnum calendarType, int year, Map<String, Boolean> holidays) {
+		Path path = getCalendarPath(calendarType, year);
+		try {
+			StoredHolidayCalendar storedCalendar = new StoredHolidayCalendar(STORE_VERSION, System.currentTimeMillis(),
+					checksum(holidays), holidays);
+			Files.createDirectories(path.getParent());
+			Path tmpPath = Files.createTempFile(path.getParent(), String.valueOf(year), FileRepository.SUFFIX_TMP);
+			Files.writeString(tmpPath, gson.toJson(storedCalendar), StandardCharsets.UTF_8);
+			Files.move(tmpPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			log.info("Successfully store holiday calendar {} of {}", calendarType, year);
+		}
+		catch (Exception e) {
+			log.error("Failed to store holiday calendar {} of {}, reason: {}", calendarType, year, e.getMessage());
+		}
+	}
+
+	private Optional<StoredHolidayCalendar> findBundledCalendar(CalendarTypeEnum calendarType, int year) {
+		try (InputStream inputStream = HolidayCalendarStore.class
+			.getResourceAsStream(String.format(BUNDLED_PATH, calendarType.name(), year))) {
+			if (inputStream == null) {
+				return Optional.empty();
+			}
+			return verify(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+		}
+		catch (Exception e) {
+			log.error("Failed to read bundled holiday calendar {} of {}, reason: {}", calendarType, year,
+					e.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	private Optional<StoredHolidayCalendar> verify(String content) throws NoSuchAlgorithmException {
+		StoredHolidayCalendar storedCalendar = gson.fromJson(content, StoredHolidayCalendar.class);
+		if (storedCalendar == null || storedCalendar.version() != STORE_VERSION || storedCalendar.holidays() == null
+				|| !Objects.equals(storedCalendar.checksum(), checksum(storedCalendar.holidays()))) {
+			return Optional.empty();
+		}
+		return Optional.of(storedCalendar);
+	}
+
+	private String checksum(Map<String, Boolean> holidays) throws NoSuchAlgorithmException {
+		byte[] content = gson.toJson(new TreeMap<>(holidays)).getBytes(StandardCharsets.UTF_8);
+		return HexFormat.of().formatHex(MessageDigest.getInstance(SHA_256).digest(content));
+	}
+
+	private Path getCalendarPath(CalendarTypeEnum calendarType, int year) {
+		return Path.of(BASE_STORE_PATH, calendarType.name(), year + JSON_EXTENSION);
+	}
+
+	public record StoredHolidayCalendar(int version, long fetchedAt, String checksum, Map<String, Boolean> holidays) {
+	}
+
+}
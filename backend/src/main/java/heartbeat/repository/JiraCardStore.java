@@ -0,0 +1,118 @@
+package heartbeat.repository;
+
+import com.google.gson.Gson;
+import heartbeat.client.dto.board.jira.CardHistoryResponseDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JiraCardStore {
+
+	private static final String BASE_STORE_PATH = "./app/store/jira";
+
+	private static final String JSON_EXTENSION = ".json";
+
+	public static final Long CARD_HISTORY_VALIDITY_TIME = 1000L * 3600 * 24 * 30;
+
+	private final Gson gson;
+
+	public Optional<CardHistoryResponseDTO> findCardHistory(String site, String boardId, String cardKey,
+			String updated) {
+		if (updated == null || !isCorrectFilePath(site, boardId, cardKey)) {
+			return Optional.empty();
+		}
+		Path path = getCardPath(site, boardId, cardKey);
+		if (!Files.exists(path)) {
+			return Optional.empty();
+		}
+		try {
+			StoredCardHistory storedCardHistory = gson.fromJson(Files.readString(path, StandardCharsets.UTF_8),
+					StoredCardHistory.class);
+			if (storedCardHistory == null || !Objects.equals(storedCardHistory.updated(), updated)) {
+				return Optional.empty();
+			}
+			path.toFile().setLastModified(System.currentTimeMillis());
+			return Optional.ofNullable(storedCardHistory.history());
+		}
+		catch (Exception e) {
+			log.error("Failed to read stored jira card history, card key: {}, reason: {}", cardKey, e);
+			return Optional.empty();
+		}
+	}
+
+	public void saveCardHistory(String site, String boardId, String cardKey, String updated,
+			CardHistoryResponseDTO history) {
+		if (updated == null || !isCorrectFilePath(site, boardId, cardKey)) {
+			return;
+		}
+		Path path = getCardPath(site, boardId, cardKey);
+		try {
+			Files.createDirectories(path.getParent());
+			Path tmpPath = Files.createTempFile(path.getParent(), cardKey, FileRepository.SUFFIX_TMP);
+			Files.writeString(tmpPath, gson.toJson(new StoredCardHistory(updated, history)), StandardCharsets.UTF_8);
+			Files.move(tmpPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			log.info("Successfully store jira card history, card key: {}", cardKey);
+		}
+		catch (Exception e) {
+			log.error("Failed to store jira card history, card key: {}, reason: {}", cardKey, e);
+		}
+	}
+
+	public void removeExpiredCards(long currentTimeStamp) {
+		Path basePath = Path.of(BASE_STORE_PATH);
+		if (!Files.isDirectory(basePath)) {
+			return;
+		}
+		try (Stream<Path> paths = Files.walk(basePath)) {
+			paths.map(Path::toFile)
+				.filter(File::isFile)
+				.filter(file -> file.lastModified() < currentTimeStamp - CARD_HISTORY_VALIDITY_TIME)
+				.forEach(this::removeExpiredCard);
+		}
+		catch (IOException e) {
+			log.error("Failed to deleted expired jira card histories, reason: {}", e.getMessage());
+		}
+	}
+
+	private void removeExpiredCard(File file) {
+		try {
+			Files.deleteIfExists(file.toPath());
+			log.info("Successfully deleted expired jira card history, file path: {}", file);
+		}
+		catch (IOException e) {
+			log.error("Failed to deleted expired jira card history, file path: {}, reason: {}", file, e.getMessage());
+		}
+	}
+
+	private Path getCardPath(String site, String boardId, String cardKey) {
+		return Path.of(BASE_STORE_PATH, site, boardId, cardKey + JSON_EXTENSION);
+	}
+
+	private boolean isCorrectFilePath(String... segments) {
+		for (String segment : segments) {
+			if (segment == null || segment.isEmpty() || segment.contains("..") || segment.contains("/")
+					|| segment.contains("\\")) {
+				log.warn("Skip jira card store for invalid path segment: {}", segment);
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private record StoredCardHistory(String updated, CardHistoryResponseDTO history) {
+	}
+
+}
@@ -0,0 +1,17 @@
+package heartbeat.repository;
+
+public class LocalReportStore implements ReportStore {
+
+	private static final String BASE_OUTPUT_PATH = "./app/output";
+
+	@Override
+	public String getOutputPath() {
+		return BASE_OUTPUT_PATH;
+	}
+
+	@Override
+	public boolean isShared() {
+		return false;
+	}
+
+}
@@ -0,0 +1,10 @@
+package heartbeat.repository;
+
+public interface ReportStore {
+
+	String getOutputPath();
+
+	// other backend instances publish to and remove from a shared store, so nothing read from it can be cached as is
+	boolean isShared();
+
+}
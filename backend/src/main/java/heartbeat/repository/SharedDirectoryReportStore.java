@@ -0,0 +1,23 @@
+package heartbeat.repository;
+
+import java.nio.file.Path;
+
+public class SharedDirectoryReportStore implements ReportStore {
+
+	private final String outputPath;
+
+	public SharedDirectoryReportStore(String directory) {
+		this.outputPath = Path.of(directory).toString();
+	}
+
+	@Override
+	public String getOutputPath() {
+		return outputPath;
+	}
+
+	@Override
+	public boolean isShared() {
+		return true;
+	}
+
+}
@@ -6,7 +6,9 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import com.google.gson.JsonPrimitive;
+import com.google.gson.JsonSyntaxException;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
 import heartbeat.client.JiraFeignClient;
 import heartbeat.client.component.JiraUriGenerator;
 import heartbeat.client.dto.board.jira.AllCardsResponseDTO;
@@ -19,10 +21,13 @@ import heartbeat.client.dto.board.jira.Issuetype;
 import heartbeat.client.dto.board.jira.JiraBoardConfigDTO;
 import heartbeat.client.dto.board.jira.JiraBoardVerifyDTO;
 import heartbeat.client.dto.board.jira.JiraCard;
+import heartbeat.client.dto.board.jira.JiraCardField;
 import heartbeat.client.dto.board.jira.JiraCardWithFields;
 import heartbeat.client.dto.board.jira.JiraColumn;
 import heartbeat.client.dto.board.jira.Sprint;
 import heartbeat.client.dto.board.jira.StatusSelfDTO;
+import heartbeat.client.ratelimit.AdaptiveConcurrencyLimiter;
+import heartbeat.client.ratelimit.Upstream;
 import heartbeat.controller.board.dto.request.BoardRequestParam;
 import heartbeat.controller.board.dto.request.BoardType;
 import heartbeat.controller.board.dto.request.BoardVerifyRequestParam;
@@ -34,8 +39,9 @@ import heartbeat.controller.board.dto.response.BoardConfigDTO;
 import heartbeat.controller.board.dto.response.CardCollection;
 import heartbeat.controller.board.dto.response.CardCustomFieldKey;
 import heartbeat.controller.board.dto.response.CardCycleTime;
+import heartbeat.controller.board.dto.response.ColumnDictionary;
 import heartbeat.controller.board.dto.response.ColumnValue;
-import heartbeat.controller.board.dto.response.CycleTimeInfo;
+import heartbeat.controller.board.dto.response.CycleTimeColumns;
 import heartbeat.controller.board.dto.response.CycleTimeInfoDTO;
 import heartbeat.controller.board.dto.response.JiraCardDTO;
 import heartbeat.controller.board.dto.response.JiraColumnDTO;
@@ -50,6 +56,7 @@ import heartbeat.exception.InternalServerErrorException;
 import heartbeat.exception.NoContentException;
 import heartbeat.exception.NotFoundException;
 import heartbeat.exception.PermissionDenyException;
+import heartbeat.repository.JiraCardStore;
 import heartbeat.util.BoardUtil;
 import heartbeat.util.SystemUtil;
 import jakarta.annotation.PreDestroy;
@@ -60,6 +67,10 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.util.CollectionUtils;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -67,6 +78,7 @@ import java.net.URI;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -80,6 +92,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
@@ -106,6 +119,10 @@ public class JiraService {
 
 	public static final int NONE_DONE_MAX_QUERY_COUNT = 50;
 
+	public static final List<String> CARD_FIXED_FIELDS = List.of("assignee", "summary", "status", "issuetype",
+			"reporter", "statusCategoryChangeDate", "fixVersions", "project", "priority", "parent", "labels",
+			"updated");
+
 	public static final List<String> FIELDS_IGNORE = List.of("summary", "description", "attachment", "duedate",
 			"issuelinks", "Development", "Start date", "Rank", "Issue color");
 
@@ -119,6 +136,8 @@ public class JiraService {
 
 	private final ThreadPoolTaskExecutor customTaskExecutor;
 
+	private final ThreadPoolTaskExecutor jiraCardHistoryTaskExecutor;
+
 	private final JiraFeignClient jiraFeignClient;
 
 	private final JiraUriGenerator urlGenerator;
@@ -127,11 +146,26 @@ public class JiraService {
 
 	private final SystemUtil systemUtil;
 
+	private final JiraCardStore jiraCardStore;
+
+	private final AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter;
+
 	private static final String STORY_POINT_KEY = "STORY_POINT_KEY";
 
+	private static final Gson GSON = new Gson();
+
+	private static final Type SPRINT_LIST_TYPE = new TypeToken<List<Sprint>>() {
+	}.getType();
+
+	private static final Set<String> JIRA_CARD_FIELD_KEYS = Arrays.stream(JiraCardField.class.getDeclaredFields())
+		.filter(field -> !Modifier.isStatic(field.getModifiers()))
+		.map(Field::getName)
+		.collect(Collectors.toUnmodifiableSet());
+
 	@PreDestroy
 	public void shutdownExecutor() {
 		customTaskExecutor.shutdown();
+		jiraCardHistoryTaskExecutor.shutdown();
 	}
 
 	public String verify(BoardType boardType, BoardVerifyRequestParam boardVerifyRequestParam) {
@@ -263,7 +297,7 @@ public class JiraService {
 			.build();
 
 		JiraCardWithFields jiraCardWithFields = getAllDoneCards(boardType, baseUrl, request.getStatus(),
-				boardRequestParam, request.getOverrideFields());
+				boardRequestParam, request.getOverrideFields(), request.getTargetFields());
 		List<JiraCard> allDoneCards = jiraCardWithFields.getJiraCards();
 
 		for (RequestJiraBoardColumnSetting boardColumn : boardColumns) {
@@ -402,7 +436,8 @@ public class JiraService {
 		}
 		List<CompletableFuture<List<String>>> futures = allCards.stream()
 			.map(jiraCard -> CompletableFuture
-				.supplyAsync(() -> getAssigneeSet(baseUrl, jiraCard, boardRequestParam.getToken()), customTaskExecutor))
+				.supplyAsync(() -> getAssigneeSet(baseUrl, boardRequestParam.getSite(), boardRequestParam.getBoardId(),
+						jiraCard, boardRequestParam.getToken()), customTaskExecutor))
 			.toList();
 
 		List<List<String>> assigneeList = futures.stream().map(CompletableFuture::join).toList();
@@ -410,10 +445,10 @@ public class JiraService {
 	}
 
 	private JiraCardWithFields getAllDoneCards(BoardType boardType, URI baseUrl, List<String> doneColumns,
-			BoardRequestParam boardRequestParam, List<TargetField> overrideFields) {
+			BoardRequestParam boardRequestParam, List<TargetField> overrideFields, List<TargetField> selectedFields) {
 		String jql = parseJiraJql(boardType, doneColumns, boardRequestParam);
 
-		return getCardList(baseUrl, boardRequestParam, jql, "done", overrideFields, QUERY_COUNT);
+		return getCardList(baseUrl, boardRequestParam, jql, "done", overrideFields, selectedFields, QUERY_COUNT);
 	}
 
 	private JiraCardWithFields getAllCards(BoardType boardType, URI baseUrl, BoardRequestParam boardRequestParam) {
@@ -425,70 +460,102 @@ public class JiraService {
 		else {
 			throw new BadRequestException("boardType param is not correct");
 		}
-		return getCardList(baseUrl, boardRequestParam, jql, "all", null, QUERY_COUNT);
+		return getCardList(baseUrl, boardRequestParam, jql, "all", null, null, QUERY_COUNT);
 	}
 
 	private AllCardsResponseDTO formatAllCards(String allCardResponse, List<TargetField> targetFields,
 			List<TargetField> overrideFields) {
-		AllCardsResponseDTO allCardsResponseDTO = new Gson().fromJson(allCardResponse, AllCardsResponseDTO.class);
-		List<JiraCard> jiraCards = allCardsResponseDTO.getIssues();
-
-		JsonArray elements = JsonParser.parseString(allCardResponse).getAsJsonObject().get("issues").getAsJsonArray();
-		List<Map<String, JsonElement>> customFieldMapList = new ArrayList<>();
-		ArrayList<Double> storyPointList = new ArrayList<>();
-		Map<String, Sprint> sprintMap = new HashMap<>();
 		Map<String, String> resultMap = targetFields.stream()
 			.collect(Collectors.toMap(TargetField::getKey, TargetField::getName));
 		CardCustomFieldKey cardCustomFieldKey = covertCustomFieldKey(targetFields, overrideFields);
-		for (JsonElement element : elements) {
-			JsonObject jsonElement = element.getAsJsonObject().get("fields").getAsJsonObject();
-			JsonElement storyPoints = jsonElement.getAsJsonObject().get(cardCustomFieldKey.getStoryPoints());
-			if (storyPoints == null || storyPoints.isJsonNull() || cardCustomFieldKey.isInTargetField()) {
-				storyPointList.add(0.0);
-			}
-			else {
-				Double storyPoint = jsonElement.getAsJsonObject()
-					.get(cardCustomFieldKey.getStoryPoints())
-					.getAsDouble();
-				storyPointList.add(storyPoint);
-			}
-			for (int index = 0; index < jiraCards.size(); index++) {
-				if (storyPointList.size() > index) {
-					jiraCards.get(index).getFields().setStoryPoints(storyPointList.get(index));
+		Set<String> requiredFieldKeys = new HashSet<>(JIRA_CARD_FIELD_KEYS);
+		requiredFieldKeys.addAll(resultMap.keySet());
+		Optional.ofNullable(cardCustomFieldKey.getStoryPoints()).ifPresent(requiredFieldKeys::add);
+
+		AllCardsResponseDTO allCardsResponseDTO = new AllCardsResponseDTO(null, new ArrayList<>());
+		try (JsonReader reader = new JsonReader(new StringReader(allCardResponse))) {
+			reader.setLenient(true);
+			reader.beginObject();
+			while (reader.hasNext()) {
+				switch (reader.nextName()) {
+					case "total" -> allCardsResponseDTO.setTotal(reader.nextString());
+					case "issues" -> {
+						reader.beginArray();
+						while (reader.hasNext()) {
+							allCardsResponseDTO.getIssues()
+								.add(readJiraCard(reader, requiredFieldKeys, resultMap, cardCustomFieldKey));
+						}
+						reader.endArray();
+					}
+					default -> reader.skipValue();
 				}
 			}
-			customFieldMapList.add(getCustomFieldMap(element, resultMap, jsonElement, sprintMap));
 		}
-		for (int index = 0; index < customFieldMapList.size(); index++) {
-			jiraCards.get(index).getFields().setCustomFields(customFieldMapList.get(index));
+		catch (IOException e) {
+			throw new JsonSyntaxException(e);
 		}
-
-		jiraCards.forEach(jiraCard -> {
-			Sprint sprint = sprintMap.get(jiraCard.getKey());
-			jiraCard.getFields().setSprint(sprint);
-		});
 		return allCardsResponseDTO;
 	}
 
-	private Map<String, JsonElement> getCustomFieldMap(JsonElement element, Map<String, String> resultMap,
-			JsonObject jsonElement, Map<String, Sprint> sprintMap) {
+	private JiraCard readJiraCard(JsonReader reader, Set<String> requiredFieldKeys, Map<String, String> resultMap,
+			CardCustomFieldKey cardCustomFieldKey) throws IOException {
+		String key = null;
+		JsonObject fields = new JsonObject();
+		reader.beginObject();
+		while (reader.hasNext()) {
+			switch (reader.nextName()) {
+				case "key" -> key = reader.nextString();
+				case "fields" -> fields = readRequiredFields(reader, requiredFieldKeys);
+				default -> reader.skipValue();
+			}
+		}
+		reader.endObject();
+
+		JiraCardField jiraCardField = GSON.fromJson(fields, JiraCardField.class);
+		JsonElement storyPoints = fields.get(cardCustomFieldKey.getStoryPoints());
+		if (storyPoints == null || storyPoints.isJsonNull() || cardCustomFieldKey.isInTargetField()) {
+			jiraCardField.setStoryPoints(0.0);
+		}
+		else {
+			jiraCardField.setStoryPoints(storyPoints.getAsDouble());
+		}
+		jiraCardField.setSprint(null);
+		jiraCardField.setCustomFields(getCustomFieldMap(resultMap, fields, jiraCardField));
+		return JiraCard.builder().key(key).fields(jiraCardField).build();
+	}
+
+	private JsonObject readRequiredFields(JsonReader reader, Set<String> requiredFieldKeys) throws IOException {
+		JsonObject fields = new JsonObject();
+		reader.beginObject();
+		while (reader.hasNext()) {
+			String fieldKey = reader.nextName();
+			if (requiredFieldKeys.contains(fieldKey)) {
+				fields.add(fieldKey, JsonParser.parseReader(reader));
+			}
+			else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+		return fields;
+	}
+
+	private Map<String, JsonElement> getCustomFieldMap(Map<String, String> resultMap, JsonObject fields,
+			JiraCardField jiraCardField) {
 		Map<String, JsonElement> customFieldMap = new HashMap<>();
 		resultMap.forEach((customFieldKey, customFieldValue) -> {
-			if (jsonElement.has(customFieldKey)) {
-				JsonElement fieldValue = jsonElement.get(customFieldKey);
-				fieldValue = mapFieldValue(element, sprintMap, customFieldValue, fieldValue);
+			if (fields.has(customFieldKey)) {
+				JsonElement fieldValue = fields.get(customFieldKey);
+				fieldValue = mapFieldValue(jiraCardField, customFieldValue, fieldValue);
 				customFieldMap.put(customFieldKey, fieldValue);
 			}
 		});
 		return customFieldMap;
 	}
 
-	private JsonElement mapFieldValue(JsonElement element, Map<String, Sprint> sprintMap, String customFieldValue,
-			JsonElement fieldValue) {
+	private JsonElement mapFieldValue(JiraCardField jiraCardField, String customFieldValue, JsonElement fieldValue) {
 		switch (customFieldValue) {
-			case "Sprint" -> Optional.ofNullable(getSprint(fieldValue))
-				.ifPresentOrElse(it -> sprintMap.put(element.getAsJsonObject().get("key").getAsString(), it), () -> {
-				});
+			case "Sprint" -> Optional.ofNullable(getSprint(fieldValue)).ifPresent(jiraCardField::setSprint);
 			case "Story point estimate" -> {
 				if (!fieldValue.isJsonNull() && fieldValue.isJsonPrimitive()) {
 					JsonPrimitive jsonPrimitive = fieldValue.getAsJsonPrimitive();
@@ -518,9 +585,7 @@ public class JiraService {
 		if (!fieldValue.isJsonNull() && fieldValue.isJsonArray()) {
 			JsonArray jsonArray = fieldValue.getAsJsonArray();
 			if (!jsonArray.isEmpty()) {
-				Type listType = new TypeToken<List<Sprint>>() {
-				}.getType();
-				List<Sprint> sprints = new Gson().fromJson(jsonArray, listType);
+				List<Sprint> sprints = GSON.fromJson(jsonArray, SPRINT_LIST_TYPE);
 				sprints.sort(Comparator.comparing(Sprint::getCompleteDate,
 						Comparator.nullsLast(Comparator.comparing(ZonedDateTime::parse))));
 				return sprints.get(sprints.size() - 1);
@@ -547,12 +612,17 @@ public class JiraService {
 		}
 	}
 
-	private List<String> getAssigneeSet(URI baseUrl, JiraCard jiraCard, String jiraToken) {
+	private List<String> getAssigneeSet(URI baseUrl, String site, String boardId, JiraCard jiraCard,
+			String jiraToken) {
 		log.info("Start to get jira card history, _cardKey: {}", jiraCard.getKey());
-		CardHistoryResponseDTO cardHistoryResponseDTO = getJiraCardHistory(baseUrl, jiraCard.getKey(), 0, jiraToken);
+		CardHistoryResponseDTO cardHistoryResponseDTO = getJiraCardHistory(baseUrl, site, boardId, jiraCard,
+				jiraToken);
 		log.info("Successfully get jira card history, _cardKey: {}, _cardHistoryItemsSize: {}", jiraCard.getKey(),
 				cardHistoryResponseDTO.getItems().size());
+		return getAssigneeSet(jiraCard, cardHistoryResponseDTO);
+	}
 
+	private List<String> getAssigneeSet(JiraCard jiraCard, CardHistoryResponseDTO cardHistoryResponseDTO) {
 		List<String> assigneeSet = cardHistoryResponseDTO.getItems()
 			.stream()
 			.filter(assignee -> Objects.equals(assignee.getFieldId(), "assignee")
@@ -612,28 +682,25 @@ public class JiraService {
 		CardCustomFieldKey cardCustomFieldKey = covertCustomFieldKey(targetFields, request.getOverrideFields());
 		String keyFlagged = cardCustomFieldKey.getFlagged();
 		List<JiraCardDTO> realDoneCards = new ArrayList<>();
-		List<JiraCard> jiraCards = new ArrayList<>();
+		ColumnDictionary columnDictionary = new ColumnDictionary();
+		Map<String, CardHistoryResponseDTO> cardHistories = getJiraCardHistories(baseUrl, request, allDoneCards);
+		List<JiraCard> jiraCards = allDoneCards.stream()
+			.filter(allDoneCard -> isRealDoneCardByHistory(cardHistories.get(allDoneCard.getKey()), request,
+					allDoneCard))
+			.toList();
 
-		for (JiraCard allDoneCard : allDoneCards) {
-			CardHistoryResponseDTO jiraCardHistory = getJiraCardHistory(baseUrl, allDoneCard.getKey(), 0,
-					request.getToken());
-			if (isRealDoneCardByHistory(jiraCardHistory, request, allDoneCard)) {
-				jiraCards.add(allDoneCard);
-			}
-		}
 		jiraCards.forEach(doneCard -> {
-			CardHistoryResponseDTO cardHistoryResponseDTO = getJiraCardHistory(baseUrl, doneCard.getKey(), 0,
-					request.getToken());
+			CardHistoryResponseDTO cardHistoryResponseDTO = cardHistories.get(doneCard.getKey());
 			List<String> assigneeSet = getAssigneeSet(cardHistoryResponseDTO, filterMethod, doneCard);
 			CycleTimeInfoDTO cycleTimeInfoDTO = getCycleTime(cardHistoryResponseDTO, request.isTreatFlagCardAsBlock(),
-					keyFlagged, request.getStatus(), calendarTypeEnum, timezone);
+					keyFlagged, request.getStatus(), calendarTypeEnum, timezone, columnDictionary);
 			if (users.stream().anyMatch(assigneeSet::contains)) {
 				JiraCardDTO jiraCardDTO = JiraCardDTO.builder()
 					.baseInfo(doneCard)
-					.cycleTime(cycleTimeInfoDTO.getCycleTimeInfos())
-					.originCycleTime(cycleTimeInfoDTO.getOriginCycleTimeInfos())
-					.cardCycleTime(calculateCardCycleTime(doneCard.getKey(), cycleTimeInfoDTO.getCycleTimeInfos(),
-							boardColumns))
+					.cycleTime(cycleTimeInfoDTO.getCycleTime())
+					.originCycleTime(cycleTimeInfoDTO.getOriginCycleTime())
+					.cardCycleTime(
+							calculateCardCycleTime(doneCard.getKey(), cycleTimeInfoDTO.getCycleTime(), boardColumns))
 					.reworkTimesInfos(getReworkTimesInfo(cardHistoryResponseDTO, request.getReworkTimesSetting(),
 							request.isTreatFlagCardAsBlock(), boardColumns))
 					.build();
@@ -799,10 +866,47 @@ public class JiraService {
 			.toList();
 	}
 
+	private Map<String, CardHistoryResponseDTO> getJiraCardHistories(URI baseUrl,
+			StoryPointsAndCycleTimeRequest request, List<JiraCard> cards) {
+		Map<String, CompletableFuture<CardHistoryResponseDTO>> futures = new HashMap<>();
+		cards.forEach(card -> futures.computeIfAbsent(card.getKey(),
+				cardKey -> CompletableFuture.supplyAsync(() -> getJiraCardHistory(baseUrl, request.getSite(),
+						request.getBoardId(), card, request.getToken()), jiraCardHistoryTaskExecutor)));
+		log.info("Start to get jira card histories, _cardsSize: {}", futures.size());
+
+		Map<String, CardHistoryResponseDTO> cardHistories = new HashMap<>();
+		try {
+			futures.forEach((cardKey, future) -> cardHistories.put(cardKey, future.join()));
+		}
+		catch (CompletionException e) {
+			// histories which are not fetched yet are skipped, the report fails anyway
+			futures.values().forEach(future -> future.cancel(false));
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (e.getCause() instanceof Error cause) {
+				throw cause;
+			}
+			throw e;
+		}
+		log.info("Successfully get jira card histories, _cardsSize: {}", cardHistories.size());
+		return cardHistories;
+	}
+
+	private CardHistoryResponseDTO getJiraCardHistory(URI baseUrl, String site, String boardId, JiraCard card,
+			String token) {
+		String updated = isNull(card.getFields()) ? null : card.getFields().getUpdated();
+		return jiraCardStore.findCardHistory(site, boardId, card.getKey(), updated).orElseGet(() -> {
+			CardHistoryResponseDTO cardHistory = getJiraCardHistory(baseUrl, card.getKey(), 0, token);
+			jiraCardStore.saveCardHistory(site, boardId, card.getKey(), updated, cardHistory);
+			return cardHistory;
+		});
+	}
+
 	private CardHistoryResponseDTO getJiraCardHistory(URI baseUrl, String cardKey, int startAt, String token) {
 		int queryCount = 100;
-		CardHistoryResponseDTO jiraCardHistory = jiraFeignClient.getJiraCardHistoryByCount(baseUrl, cardKey, startAt,
-				queryCount, token);
+		CardHistoryResponseDTO jiraCardHistory = adaptiveConcurrencyLimiter.call(Upstream.JIRA, token,
+				() -> jiraFeignClient.getJiraCardHistoryByCount(baseUrl, cardKey, startAt, queryCount, token));
 		if (Boolean.FALSE.equals(jiraCardHistory.getIsLast())) {
 			CardHistoryResponseDTO cardAllHistory = getJiraCardHistory(baseUrl, cardKey, startAt + queryCount, token);
 			jiraCardHistory.getItems().addAll(cardAllHistory.getItems());
@@ -853,18 +957,16 @@ public class JiraService {
 	}
 
 	private CycleTimeInfoDTO getCycleTime(CardHistoryResponseDTO cardHistoryResponseDTO, Boolean treatFlagCardAsBlock,
-			String keyFlagged, List<String> realDoneStatus, CalendarTypeEnum calendarTypeEnum, ZoneId timezone) {
+			String keyFlagged, List<String> realDoneStatus, CalendarTypeEnum calendarTypeEnum, ZoneId timezone,
+			ColumnDictionary columnDictionary) {
 		List<StatusChangedItem> statusChangedArray = putStatusChangeEventsIntoAnArray(cardHistoryResponseDTO,
 				keyFlagged);
-		List<CycleTimeInfo> cycleTimeInfos = boardUtil.getCycleTimeInfos(statusChangedArray, realDoneStatus,
-				treatFlagCardAsBlock, calendarTypeEnum, timezone);
-		List<CycleTimeInfo> originCycleTimeInfos = boardUtil.getOriginCycleTimeInfos(statusChangedArray,
-				treatFlagCardAsBlock, calendarTypeEnum, timezone);
-
-		return CycleTimeInfoDTO.builder()
-			.cycleTimeInfos(cycleTimeInfos)
-			.originCycleTimeInfos(originCycleTimeInfos)
-			.build();
+		CycleTimeColumns cycleTime = boardUtil.getCycleTimeColumns(statusChangedArray, realDoneStatus,
+				treatFlagCardAsBlock, calendarTypeEnum, timezone, columnDictionary);
+		CycleTimeColumns originCycleTime = boardUtil.getOriginCycleTimeColumns(statusChangedArray,
+				treatFlagCardAsBlock, calendarTypeEnum, timezone, columnDictionary);
+
+		return CycleTimeInfoDTO.builder().cycleTime(cycleTime).originCycleTime(originCycleTime).build();
 	}
 
 	private List<StatusChangedItem> putStatusChangeEventsIntoAnArray(CardHistoryResponseDTO jiraCardHistory,
@@ -913,15 +1015,14 @@ public class JiraService {
 
 	}
 
-	private CardCycleTime calculateCardCycleTime(String cardId, List<CycleTimeInfo> cycleTimeInfos,
+	private CardCycleTime calculateCardCycleTime(String cardId, CycleTimeColumns cycleTime,
 			List<RequestJiraBoardColumnSetting> boardColumns) {
 		Map<String, CardStepsEnum> boardMap = boardColumns.stream()
 			.collect(Collectors.toMap(boardColumn -> boardColumn.getName().toUpperCase(),
 					boardColumn -> CardStepsEnum.fromValue(boardColumn.getValue())));
 		StepsDay stepsDay = StepsDay.builder().build();
-		double total = 0;
-		for (CycleTimeInfo cycleTimeInfo : cycleTimeInfos) {
-			String swimLane = cycleTimeInfo.getColumn();
+		CardCycleTime cardCycleTime = CardCycleTime.builder().name(cardId).steps(stepsDay).build();
+		cycleTime.forEach((swimLane, day) -> {
 			if (swimLane.equalsIgnoreCase(CardStepsEnum.BLOCK.getValue())) {
 				boardMap.put(swimLane, CardStepsEnum.BLOCK);
 			}
@@ -929,36 +1030,36 @@ public class JiraService {
 				CardStepsEnum cardStep = boardMap.get(swimLane);
 				switch (cardStep) {
 					case DEVELOPMENT -> {
-						stepsDay.setDevelopment(stepsDay.getDevelopment() + cycleTimeInfo.getDay());
-						total += cycleTimeInfo.getDay();
+						stepsDay.setDevelopment(stepsDay.getDevelopment() + day);
+						cardCycleTime.setTotal(cardCycleTime.getTotal() + day);
 					}
 					case WAITING -> {
-						stepsDay.setWaiting(stepsDay.getWaiting() + cycleTimeInfo.getDay());
-						total += cycleTimeInfo.getDay();
+						stepsDay.setWaiting(stepsDay.getWaiting() + day);
+						cardCycleTime.setTotal(cardCycleTime.getTotal() + day);
 					}
 					case TESTING -> {
-						stepsDay.setTesting(stepsDay.getTesting() + cycleTimeInfo.getDay());
-						total += cycleTimeInfo.getDay();
+						stepsDay.setTesting(stepsDay.getTesting() + day);
+						cardCycleTime.setTotal(cardCycleTime.getTotal() + day);
 					}
 					case BLOCK -> {
-						stepsDay.setBlocked(stepsDay.getBlocked() + cycleTimeInfo.getDay());
-						total += cycleTimeInfo.getDay();
+						stepsDay.setBlocked(stepsDay.getBlocked() + day);
+						cardCycleTime.setTotal(cardCycleTime.getTotal() + day);
 					}
 					case REVIEW -> {
-						stepsDay.setReview(stepsDay.getReview() + cycleTimeInfo.getDay());
-						total += cycleTimeInfo.getDay();
+						stepsDay.setReview(stepsDay.getReview() + day);
+						cardCycleTime.setTotal(cardCycleTime.getTotal() + day);
 					}
 					case ANALYSE -> {
-						stepsDay.setAnalyse(stepsDay.getAnalyse() + cycleTimeInfo.getDay());
-						total += cycleTimeInfo.getDay();
+						stepsDay.setAnalyse(stepsDay.getAnalyse() + day);
+						cardCycleTime.setTotal(cardCycleTime.getTotal() + day);
 					}
-					case TODO -> stepsDay.setTodo(stepsDay.getTodo() + cycleTimeInfo.getDay());
+					case TODO -> stepsDay.setTodo(stepsDay.getTodo() + day);
 					default -> {
 					}
 				}
 			}
-		}
-		return CardCycleTime.builder().name(cardId).steps(stepsDay).total(total).build();
+		});
+		return cardCycleTime;
 	}
 
 	private CardCustomFieldKey covertCustomFieldKey(List<TargetField> model, List<TargetField> overrideFields) {
@@ -1019,11 +1120,11 @@ public class JiraService {
 			.build();
 
 		JiraCardWithFields jiraCardWithFields = getAllNonDoneCardsForActiveSprint(baseUrl, request.getStatus(),
-				boardRequestParam, request.getOverrideFields());
+				boardRequestParam, request.getOverrideFields(), request.getTargetFields());
 
 		if (jiraCardWithFields.getJiraCards().isEmpty()) {
 			jiraCardWithFields = getAllNonDoneCardsForKanBan(baseUrl, request.getStatus(), boardRequestParam,
-					request.getOverrideFields());
+					request.getOverrideFields(), request.getTargetFields());
 		}
 
 		List<JiraCardDTO> matchedNonCards = getMatchedNonDoneCards(new GetMatchedNonDoneCardsParams(request,
@@ -1046,22 +1147,25 @@ public class JiraService {
 		CardCustomFieldKey cardCustomFieldKey = covertCustomFieldKey(getMatchedNonDoneCardsParams.getTargetFields(),
 				getMatchedNonDoneCardsParams.getRequest().getOverrideFields());
 		String keyFlagged = cardCustomFieldKey.getFlagged();
+		ColumnDictionary columnDictionary = new ColumnDictionary();
+
+		Map<String, CardHistoryResponseDTO> cardHistories = getJiraCardHistories(
+				getMatchedNonDoneCardsParams.getBaseUrl(), getMatchedNonDoneCardsParams.getRequest(),
+				getMatchedNonDoneCardsParams.getAllNonDoneCards());
 
 		getMatchedNonDoneCardsParams.getAllNonDoneCards().forEach(card -> {
-			CardHistoryResponseDTO cardHistoryResponseDTO = getJiraCardHistory(
-					getMatchedNonDoneCardsParams.getBaseUrl(), card.getKey(), 0,
-					getMatchedNonDoneCardsParams.getRequest().getToken());
+			CardHistoryResponseDTO cardHistoryResponseDTO = cardHistories.get(card.getKey());
 			CycleTimeInfoDTO cycleTimeInfoDTO = getCycleTime(cardHistoryResponseDTO,
 					getMatchedNonDoneCardsParams.getRequest().isTreatFlagCardAsBlock(), keyFlagged,
 					getMatchedNonDoneCardsParams.getRequest().getStatus(),
-					getMatchedNonDoneCardsParams.getCalendarTypeEnum(), getMatchedNonDoneCardsParams.getTimezone());
+					getMatchedNonDoneCardsParams.getCalendarTypeEnum(), getMatchedNonDoneCardsParams.getTimezone(),
+					columnDictionary);
 
 			setLastStatusChangeTimeInCard(card, cardHistoryResponseDTO);
-			List<String> assigneeSet = getAssigneeSetWithDisplayName(getMatchedNonDoneCardsParams.getBaseUrl(), card,
-					getMatchedNonDoneCardsParams.getRequest().getToken());
+			List<String> assigneeSet = getAssigneeSetWithDisplayName(card, cardHistoryResponseDTO);
 			if (getMatchedNonDoneCardsParams.getUsers().stream().anyMatch(assigneeSet::contains)) {
-				CardCycleTime cardCycleTime = calculateCardCycleTime(card.getKey(),
-						cycleTimeInfoDTO.getCycleTimeInfos(), getMatchedNonDoneCardsParams.getBoardColumns());
+				CardCycleTime cardCycleTime = calculateCardCycleTime(card.getKey(), cycleTimeInfoDTO.getCycleTime(),
+						getMatchedNonDoneCardsParams.getBoardColumns());
 
 				cardCycleTime.setTotal(0.0);
 
@@ -1081,8 +1185,8 @@ public class JiraService {
 			.ifPresent(aLong -> card.getFields().setLastStatusChangeDate(aLong));
 	}
 
-	private List<String> getAssigneeSetWithDisplayName(URI baseUrl, JiraCard card, String token) {
-		List<String> assigneeSet = new ArrayList<>(getAssigneeSet(baseUrl, card, token));
+	private List<String> getAssigneeSetWithDisplayName(JiraCard card, CardHistoryResponseDTO cardHistoryResponseDTO) {
+		List<String> assigneeSet = new ArrayList<>(getAssigneeSet(card, cardHistoryResponseDTO));
 		if (card.getFields().getAssignee() != null && card.getFields().getAssignee().getDisplayName() != null) {
 			assigneeSet.add(card.getFields().getAssignee().getDisplayName());
 		}
@@ -1093,14 +1197,14 @@ public class JiraService {
 			CardCycleTime cardCycleTime) {
 		return JiraCardDTO.builder()
 			.baseInfo(card)
-			.cycleTime(cycleTimeInfoDTO.getCycleTimeInfos())
-			.originCycleTime(cycleTimeInfoDTO.getOriginCycleTimeInfos())
+			.cycleTime(cycleTimeInfoDTO.getCycleTime())
+			.originCycleTime(cycleTimeInfoDTO.getOriginCycleTime())
 			.cardCycleTime(cardCycleTime)
 			.build();
 	}
 
 	private JiraCardWithFields getAllNonDoneCardsForActiveSprint(URI baseUrl, List<String> status,
-			BoardRequestParam boardRequestParam, List<TargetField> overrideFields) {
+			BoardRequestParam boardRequestParam, List<TargetField> overrideFields, List<TargetField> selectedFields) {
 		String jql;
 		if (status.isEmpty()) {
 			jql = "sprint in openSprints() ORDER BY updated DESC";
@@ -1110,12 +1214,12 @@ public class JiraService {
 					+ "') ORDER BY updated DESC";
 		}
 
-		return getCardList(baseUrl, boardRequestParam, jql, NONE_DONE_CARD_TAG, overrideFields,
+		return getCardList(baseUrl, boardRequestParam, jql, NONE_DONE_CARD_TAG, overrideFields, selectedFields,
 				NONE_DONE_MAX_QUERY_COUNT);
 	}
 
 	private JiraCardWithFields getAllNonDoneCardsForKanBan(URI baseUrl, List<String> status,
-			BoardRequestParam boardRequestParam, List<TargetField> overrideFields) {
+			BoardRequestParam boardRequestParam, List<TargetField> overrideFields, List<TargetField> selectedFields) {
 		String jql;
 		if (status.isEmpty()) {
 			jql = "ORDER BY updated DESC";
@@ -1123,21 +1227,24 @@ public class JiraService {
 		else {
 			jql = "status not in ('" + String.join("','", status) + "') ORDER BY updated DESC";
 		}
-		return getCardList(baseUrl, boardRequestParam, jql, NONE_DONE_CARD_TAG, overrideFields,
+		return getCardList(baseUrl, boardRequestParam, jql, NONE_DONE_CARD_TAG, overrideFields, selectedFields,
 				NONE_DONE_MAX_QUERY_COUNT);
 	}
 
 	private JiraCardWithFields getCardList(URI baseUrl, BoardRequestParam boardRequestParam, String jql,
-			String cardType, List<TargetField> overrideFields, int queryCount) {
+			String cardType, List<TargetField> overrideFields, List<TargetField> selectedFields, int queryCount) {
+		List<TargetField> targetField = getTargetField(baseUrl, boardRequestParam);
+		String fields = getProjectedFields(targetField, overrideFields, selectedFields);
+
 		log.info("Start to get first-page xxx card information form kanban, _param {}", cardType);
-		String allCardResponse = jiraFeignClient.getJiraCards(baseUrl, boardRequestParam.getBoardId(), queryCount, 0,
-				jql, boardRequestParam.getToken());
+		String allCardResponse = adaptiveConcurrencyLimiter.call(Upstream.JIRA, boardRequestParam.getToken(),
+				() -> jiraFeignClient.getJiraCards(baseUrl, boardRequestParam.getBoardId(), queryCount, 0, jql, fields,
+						boardRequestParam.getToken()));
 		if (allCardResponse.isEmpty()) {
 			return JiraCardWithFields.builder().jiraCards(Collections.emptyList()).build();
 		}
 		log.info("Successfully get first-page xxx card information form kanban, _param {}", cardType);
 
-		List<TargetField> targetField = getTargetField(baseUrl, boardRequestParam);
 		AllCardsResponseDTO allCardsResponseDTO = formatAllCards(allCardResponse, targetField, overrideFields);
 
 		List<JiraCard> cards = new ArrayList<>(new LinkedHashSet<>(allCardsResponseDTO.getIssues()));
@@ -1150,9 +1257,10 @@ public class JiraService {
 		List<Integer> range = IntStream.rangeClosed(1, pages - 1).boxed().toList();
 		List<CompletableFuture<AllCardsResponseDTO>> futures = range.stream()
 			.map(startFrom -> CompletableFuture
-				.supplyAsync(() -> (formatAllCards(
-						jiraFeignClient.getJiraCards(baseUrl, boardRequestParam.getBoardId(), QUERY_COUNT,
-								startFrom * QUERY_COUNT, jql, boardRequestParam.getToken()),
+				.supplyAsync(() -> (formatAllCards(adaptiveConcurrencyLimiter.call(Upstream.JIRA,
+						boardRequestParam.getToken(),
+						() -> jiraFeignClient.getJiraCards(baseUrl, boardRequestParam.getBoardId(), QUERY_COUNT,
+								startFrom * QUERY_COUNT, jql, fields, boardRequestParam.getToken())),
 						targetField, overrideFields)), customTaskExecutor))
 			.toList();
 		log.info("Successfully get more xxx card information form kanban, _param {}", cardType);
@@ -1168,6 +1276,22 @@ public class JiraService {
 			.build();
 	}
 
+	private String getProjectedFields(List<TargetField> targetFields, List<TargetField> overrideFields,
+			List<TargetField> selectedFields) {
+		CardCustomFieldKey cardCustomFieldKey = covertCustomFieldKey(targetFields, overrideFields);
+		Set<String> fields = new LinkedHashSet<>(CARD_FIXED_FIELDS);
+		Stream.of(cardCustomFieldKey.getStoryPoints(), cardCustomFieldKey.getSprint(), cardCustomFieldKey.getFlagged())
+			.filter(StringUtils::isNotBlank)
+			.forEach(fields::add);
+		Stream
+			.concat(Stream.ofNullable(overrideFields).flatMap(List::stream),
+					Stream.ofNullable(selectedFields).flatMap(List::stream).filter(TargetField::isFlag))
+			.map(TargetField::getKey)
+			.filter(StringUtils::isNotBlank)
+			.forEach(fields::add);
+		return String.join(",", fields);
+	}
+
 	public JiraBoardConfigDTO getJiraBoardConfig(URI baseUrl, String boardId, String token) {
 		log.info("Start to get configuration for board, _boardId: {}", boardId);
 		JiraBoardConfigDTO jiraBoardConfigDTO = jiraFeignClient.getJiraBoardConfiguration(baseUrl, boardId, token);
@@ -9,6 +9,8 @@ import heartbeat.client.dto.pipeline.buildkite.BuildKiteTokenInfo;
 import heartbeat.client.dto.pipeline.buildkite.DeployInfo;
 import heartbeat.client.dto.pipeline.buildkite.DeployTimes;
 import heartbeat.client.dto.pipeline.buildkite.PageStepsInfoDto;
+import heartbeat.client.ratelimit.AdaptiveConcurrencyLimiter;
+import heartbeat.client.ratelimit.Upstream;
 import heartbeat.controller.pipeline.dto.request.DeploymentEnvironment;
 import heartbeat.controller.pipeline.dto.request.PipelineStepsParam;
 import heartbeat.controller.pipeline.dto.request.TokenParam;
@@ -55,6 +57,8 @@ public class BuildKiteService {
 
 	private final BuildKiteFeignClient buildKiteFeignClient;
 
+	private final AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter;
+
 	@PreDestroy
 	public void shutdownExecutor() {
 		customTaskExecutor.shutdown();
@@ -158,8 +162,9 @@ public class BuildKiteService {
 		stepsParam.setStartTime(TimeUtil.convertToISOFormat(stepsParam.getStartTime()));
 		stepsParam.setEndTime(TimeUtil.convertToISOFormat(stepsParam.getEndTime()));
 
-		PageStepsInfoDto pageStepsInfoDto = cachePageService.fetchPageStepsInfo(realToken, orgId, pipelineId, page,
-				perPage, stepsParam.getStartTime(), stepsParam.getEndTime(), branches);
+		PageStepsInfoDto pageStepsInfoDto = adaptiveConcurrencyLimiter.call(Upstream.BUILDKITE, realToken,
+				() -> cachePageService.fetchPageStepsInfo(realToken, orgId, pipelineId, page, perPage,
+						stepsParam.getStartTime(), stepsParam.getEndTime(), branches));
 		List<BuildKiteBuildInfo> firstPageStepsInfo = pageStepsInfoDto.getFirstPageStepsInfo();
 		int totalPage = pageStepsInfoDto.getTotalPage();
 		List<BuildKiteBuildInfo> pageStepsInfo = new ArrayList<>();
@@ -198,9 +203,10 @@ public class BuildKiteService {
 		return CompletableFuture.supplyAsync(() -> {
 			log.info("Start to paginated pipeline steps info, orgId: {}, pipelineId: {}, stepsParam: {}, page:{}",
 					organizationId, pipelineId, stepsParam, page);
-			List<BuildKiteBuildInfo> pipelineStepsInfo = buildKiteFeignClient.getPipelineStepsInfo(token,
-					organizationId, pipelineId, String.valueOf(page), perPage, stepsParam.getStartTime(),
-					stepsParam.getEndTime(), branch);
+			List<BuildKiteBuildInfo> pipelineStepsInfo = adaptiveConcurrencyLimiter.call(Upstream.BUILDKITE, token,
+					() -> buildKiteFeignClient.getPipelineStepsInfo(token, organizationId, pipelineId,
+							String.valueOf(page), perPage, stepsParam.getStartTime(), stepsParam.getEndTime(),
+							branch));
 			log.info(
 					"Successfully get paginated pipeline steps info, orgId: {}, pipelineId: {}, pipeline steps size: {}, page:{}",
 					organizationId, pipelineId, pipelineStepsInfo.size(), page);
@@ -34,8 +34,9 @@ import heartbeat.repository.FileRepository;
 import io.micrometer.core.instrument.util.TimeUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
@@ -58,6 +59,8 @@ public class CSVFileGenerator {
 
 	public static final String FILE_LOCAL_PATH = "./app/output/csv";
 
+	public static final String CYCLE_TIME_FLAT_PREFIX = "cycleTimeFlat.";
+
 	private static final String CANCELED_STATUS = "canceled";
 
 	private static final String REWORK_FIELD = "Rework";
@@ -80,12 +83,10 @@ public class CSVFileGenerator {
 				"Pipeline Finish Time", "Non-Workdays (Hours)", "Total Lead Time (HH:mm:ss)", "PR Lead Time (HH:mm:ss)",
 				"Pipeline Lead Time (HH:mm:ss)", "Status", "Branch", "Revert" };
 
-		List<String[]> pipelineData = new ArrayList<>();
-		pipelineData.add(headers);
-		pipelineData.addAll(leadTimeData.stream().map(this::getRowData).toList());
-		String[][] data = pipelineData.toArray(new String[0][0]);
+		Stream<String[]> rows = Stream.concat(Stream.<String[]>of(headers),
+				leadTimeData.stream().map(this::getRowData));
 
-		fileRepository.createCSVFileByType(uuid, csvTimeStamp, data, FilePrefixType.PIPELINE_REPORT_PREFIX);
+		fileRepository.createCSVFileByType(uuid, csvTimeStamp, rows, FilePrefixType.PIPELINE_REPORT_PREFIX);
 	}
 
 	private String[] getRowData(PipelineCSVInfo csvInfo) {
@@ -125,7 +126,7 @@ public class CSVFileGenerator {
 				pipelineFinishTime, nonWorkdays, totalTime, prLeadTime, pipelineLeadTime, state, branch, isRevert };
 	}
 
-	public InputStreamResource getDataFromCSV(ReportType reportDataType, String uuid, String timeRangeAndTimeStamp) {
+	public FileSystemResource getDataFromCSV(ReportType reportDataType, String uuid, String timeRangeAndTimeStamp) {
 		if (timeRangeAndTimeStamp.contains("..") || timeRangeAndTimeStamp.contains("/")
 				|| timeRangeAndTimeStamp.contains("\\")) {
 			throw new IllegalArgumentException("Invalid time range time stamp");
@@ -140,88 +141,58 @@ public class CSVFileGenerator {
 		};
 	}
 
-	public String[][] assembleBoardData(List<JiraCardDTO> cardDTOList, List<BoardCSVConfig> fields,
+	public Stream<String[]> assembleBoardData(List<JiraCardDTO> cardDTOList, List<BoardCSVConfig> fields,
 			List<BoardCSVConfig> extraFields) {
 		List<BoardCSVConfig> fixedFields = new ArrayList<>(fields);
 		fixedFields.removeAll(extraFields);
 
-		String[][] fixedFieldsData = getFixedFieldsData(cardDTOList, fixedFields);
-		String[][] extraFieldsData = getExtraFieldsData(cardDTOList, extraFields);
-
-		String[] fixedFieldsRow = fixedFieldsData[0];
-		String targetElement = "Cycle Time";
-		List<String> fixedFieldsRowList = Arrays.asList(fixedFieldsRow);
-		int targetIndex = fixedFieldsRowList.indexOf(targetElement) + 1;
-
-		return mergeArrays(fixedFieldsData, extraFieldsData, targetIndex);
-	}
-
-	public String[][] mergeArrays(String[][] fixedFieldsData, String[][] extraFieldsData, int fixedColumnCount) {
-		int mergedColumnLength = fixedFieldsData[0].length + extraFieldsData[0].length;
-		String[][] mergedArray = new String[fixedFieldsData.length][mergedColumnLength];
-		for (int i = 0; i < fixedFieldsData.length; i++) {
-			String[] mergedPerRowArray = new String[mergedColumnLength];
-			System.arraycopy(fixedFieldsData[i], 0, mergedPerRowArray, 0, fixedColumnCount);
-			System.arraycopy(extraFieldsData[i], 0, mergedPerRowArray, fixedColumnCount, extraFieldsData[i].length);
-			System.arraycopy(fixedFieldsData[i], fixedColumnCount, mergedPerRowArray,
-					fixedColumnCount + extraFieldsData[i].length, fixedFieldsData[i].length - fixedColumnCount);
-			mergedArray[i] = mergedPerRowArray;
-		}
-
-		return mergedArray;
-	}
-
-	private String[][] getExtraFieldsData(List<JiraCardDTO> cardDTOList, List<BoardCSVConfig> extraFields) {
-		int rowCount = cardDTOList.size() + 1;
-		int columnCount = extraFields.size();
-		String[][] data = new String[rowCount][columnCount];
-
-		for (int column = 0; column < columnCount; column++) {
-			data[0][column] = extraFields.get(column).getLabel();
-		}
-		for (int row = 0; row < cardDTOList.size(); row++) {
-			JiraCardDTO perRowCardDTO = cardDTOList.get(row);
-			Map<String, JsonElement> customFields = getCustomFields(perRowCardDTO);
-			for (int column = 0; column < columnCount; column++) {
-				data[row + 1][column] = getExtraDataPerRow(customFields, extraFields.get(column));
-			}
-		}
-		return data;
-	}
-
-	private String[][] getFixedFieldsData(List<JiraCardDTO> cardDTOList, List<BoardCSVConfig> fixedFields) {
-
-		int rowCount = cardDTOList.size() + 1;
-		int columnCount = fixedFields.size();
 		List<BoardCSVConfig> originCycleTimeFields = getOriginCycleTimeFields(fixedFields);
-		int fixedFieldColumnCount = columnCount - originCycleTimeFields.size();
-
+		int fixedFieldColumnCount = fixedFields.size() - originCycleTimeFields.size();
 		boolean existTodo = fixedFields.stream()
 			.anyMatch(it -> it.getLabel().equals(BoardCSVConfigEnum.TODO_DAYS.getLabel()));
 
-		String[][] data = new String[rowCount][columnCount];
-
-		for (int column = 0; column < columnCount; column++) {
-			data[0][column] = fixedFields.get(column).getLabel();
-		}
-		for (int row = 0; row < cardDTOList.size(); row++) {
-			JiraCardDTO cardDTO = cardDTOList.get(row);
+		String[] fixedFieldsRow = fixedFields.stream().map(BoardCSVConfig::getLabel).toArray(String[]::new);
+		String[] extraFieldsRow = extraFields.stream().map(BoardCSVConfig::getLabel).toArray(String[]::new);
+		String targetElement = "Cycle Time";
+		int targetIndex = Arrays.asList(fixedFieldsRow).indexOf(targetElement) + 1;
 
+		Stream<String[]> cardRows = cardDTOList.stream().map(cardDTO -> {
 			String[] fixedDataPerRow = getFixedDataPerRow(cardDTO, fixedFieldColumnCount, existTodo);
 			String[] originCycleTimePerRow = getOriginCycleTimePerRow(cardDTO, originCycleTimeFields);
-			data[row + 1] = Stream.concat(Arrays.stream(fixedDataPerRow), Arrays.stream(originCycleTimePerRow))
-				.toArray(String[]::new);
-		}
-		return data;
+			return mergeRow(ArrayUtils.addAll(fixedDataPerRow, originCycleTimePerRow),
+					getExtraFieldsPerRow(cardDTO, extraFields), targetIndex);
+		});
+		return Stream.concat(Stream.<String[]>of(mergeRow(fixedFieldsRow, extraFieldsRow, targetIndex)), cardRows);
+	}
+
+	private String[] mergeRow(String[] fixedFieldsRow, String[] extraFieldsRow, int fixedColumnCount) {
+		String[] mergedRow = new String[fixedFieldsRow.length + extraFieldsRow.length];
+		System.arraycopy(fixedFieldsRow, 0, mergedRow, 0, fixedColumnCount);
+		System.arraycopy(extraFieldsRow, 0, mergedRow, fixedColumnCount, extraFieldsRow.length);
+		System.arraycopy(fixedFieldsRow, fixedColumnCount, mergedRow, fixedColumnCount + extraFieldsRow.length,
+				fixedFieldsRow.length - fixedColumnCount);
+		return mergedRow;
+	}
+
+	private String[] getExtraFieldsPerRow(JiraCardDTO cardDTO, List<BoardCSVConfig> extraFields) {
+		Map<String, JsonElement> customFields = getCustomFields(cardDTO);
+		return extraFields.stream()
+			.map(extraField -> getExtraDataPerRow(customFields, extraField))
+			.toArray(String[]::new);
 	}
 
 	private String[] getOriginCycleTimePerRow(JiraCardDTO cardDTO, List<BoardCSVConfig> originCycleTimeFields) {
 
 		int columnCount = originCycleTimeFields.size();
 		String[] data = new String[columnCount];
+		if (cardDTO.getOriginCycleTime() == null) {
+			return data;
+		}
 
 		for (int column = 0; column < columnCount; column++) {
-			data[column] = getExtraDataPerRow(cardDTO.getCycleTimeFlat(), originCycleTimeFields.get(column));
+			Double day = cardDTO.getOriginCycleTime()
+				.findDay(StringUtils.removeStart(originCycleTimeFields.get(column).getValue(), CYCLE_TIME_FLAT_PREFIX));
+			data[column] = day == null ? "0" : DecimalUtil.formatDecimalTwo(day);
 		}
 		return data;
 
@@ -305,9 +276,6 @@ public class CSVFileGenerator {
 		Object fieldValue = elementMap.get(extraFieldValue);
 
 		if (fieldValue == null) {
-			if (extraField.getLabel().contains("OriginCycleTime")) {
-				return "0";
-			}
 			return "";
 		}
 		else if (fieldValue instanceof Double) {
@@ -331,12 +299,10 @@ public class CSVFileGenerator {
 	public void convertMetricDataToCSV(String uuid, ReportResponse reportResponse, String csvTimeStamp) {
 		String[] headers = { "Group", "Metrics", "Value" };
 
-		List<String[]> pipelineData = new ArrayList<>();
-		pipelineData.add(headers);
-		pipelineData.addAll(convertReportResponseToCSVRows(reportResponse));
-		String[][] data = pipelineData.toArray(new String[0][0]);
+		Stream<String[]> rows = Stream.concat(Stream.<String[]>of(headers),
+				convertReportResponseToCSVRows(reportResponse).stream());
 
-		fileRepository.createCSVFileByType(uuid, csvTimeStamp, data, FilePrefixType.METRIC_REPORT_PREFIX);
+		fileRepository.createCSVFileByType(uuid, csvTimeStamp, rows, FilePrefixType.METRIC_REPORT_PREFIX);
 	}
 
 	private List<String[]> convertReportResponseToCSVRows(ReportResponse reportResponse) {
@@ -0,0 +1,76 @@
+package heartbeat.service.report;
+
+import com.google.gson.Gson;
+import heartbeat.controller.report.dto.response.MetricsDataCompleted;
+import heartbeat.controller.report.dto.response.ReportResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+@Component
+public class ComposedReportCache {
+
+	private static final String KEY_SEPARATOR = "/";
+
+	private final Map<String, CachedReportResponse> responses;
+
+	private final Gson gson;
+
+	public ComposedReportCache(Gson gson, @Value("${report.response-cache.max-entries}") int maxEntries) {
+		this.gson = gson;
+		this.responses = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CachedReportResponse> eldest) {
+				return size() > maxEntries;
+			}
+		};
+	}
+
+	public synchronized Optional<CachedReportResponse> get(String uuid, String timeRangeAndTimeStamp,
+			long writeVersion, MetricsDataCompleted reportReadyStatus) {
+		String key = getKey(uuid, timeRangeAndTimeStamp);
+		CachedReportResponse cachedReportResponse = responses.get(key);
+		if (cachedReportResponse == null) {
+			return Optional.empty();
+		}
+		if (cachedReportResponse.writeVersion() != writeVersion
+				|| !Objects.equals(cachedReportResponse.reportReadyStatus(), reportReadyStatus)) {
+			responses.remove(key);
+			return Optional.empty();
+		}
+		return Optional.of(cachedReportResponse);
+	}
+
+	public CachedReportResponse put(String uuid, String timeRangeAndTimeStamp, long writeVersion,
+			MetricsDataCompleted reportReadyStatus, ReportResponse reportResponse) {
+		CachedReportResponse cachedReportResponse = new CachedReportResponse(reportResponse, toETag(reportResponse),
+				writeVersion, reportReadyStatus);
+		synchronized (this) {
+			responses.put(getKey(uuid, timeRangeAndTimeStamp), cachedReportResponse);
+		}
+		return cachedReportResponse;
+	}
+
+	public CachedReportResponse uncached(ReportResponse reportResponse) {
+		return new CachedReportResponse(reportResponse, toETag(reportResponse), -1, null);
+	}
+
+	private String toETag(ReportResponse reportResponse) {
+		return DigestUtils.md5DigestAsHex(gson.toJson(reportResponse).getBytes(StandardCharsets.UTF_8));
+	}
+
+	private String getKey(String uuid, String timeRangeAndTimeStamp) {
+		return uuid + KEY_SEPARATOR + timeRangeAndTimeStamp;
+	}
+
+	public record CachedReportResponse(ReportResponse reportResponse, String eTag, long writeVersion,
+			MetricsDataCompleted reportReadyStatus) {
+	}
+
+}
@@ -17,6 +17,7 @@ import heartbeat.exception.GenerateReportException;
 import heartbeat.exception.RequestFailedException;
 import heartbeat.exception.ServiceUnavailableException;
 import heartbeat.handler.AsyncMetricsDataHandler;
+import heartbeat.handler.ReportProgressPublisher;
 import heartbeat.handler.base.AsyncExceptionDTO;
 import heartbeat.service.report.calculator.ClassificationCalculator;
 import heartbeat.service.report.calculator.CycleTimeCalculator;
@@ -28,21 +29,24 @@ import heartbeat.service.report.calculator.ReworkCalculator;
 import heartbeat.service.report.calculator.VelocityCalculator;
 import heartbeat.service.report.calculator.model.FetchedData;
 import heartbeat.service.report.calculator.model.FetchedData.BuildKiteData;
+import heartbeat.service.report.scheduler.ReportJobScheduler;
 import heartbeat.repository.FileRepository;
+import heartbeat.service.report.ComposedReportCache.CachedReportResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.collections.CollectionUtils;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import static heartbeat.repository.FileType.ERROR;
 import static heartbeat.repository.FileType.REPORT;
 import static heartbeat.controller.report.dto.request.MetricType.BOARD;
 import static heartbeat.controller.report.dto.request.MetricType.DORA;
-import static heartbeat.repository.FileRepository.EXPORT_CSV_VALIDITY_TIME;
 import static heartbeat.util.ValueUtil.getValueOrNull;
 import static java.util.Objects.isNull;
 
@@ -79,6 +83,16 @@ public class GenerateReporterService {
 
 	private final FileRepository fileRepository;
 
+	private final ReportJobScheduler reportJobScheduler;
+
+	private final ReportProgressPublisher reportProgressPublisher;
+
+	private final ReportFetchDeduplicator reportFetchDeduplicator;
+
+	private final ComposedReportCache composedReportCache;
+
+	private final HolidayCalendarService holidayCalendarService;
+
 	private static final char FILENAME_SEPARATOR = '-';
 
 	public void generateBoardReport(String uuid, GenerateReportRequest request) {
@@ -89,8 +103,9 @@ public class GenerateReporterService {
 				request.getMetrics(), request.getCalendarType(), request.getStartTime(), request.getEndTime(), uuid,
 				timeRangeAndTimeStamp);
 		try {
-			saveReporterInHandler(generateBoardReporter(uuid, request), uuid, timeRangeAndTimeStamp,
-					FilePrefixType.BOARD_REPORT_PREFIX);
+			boolean holidayCalendarIncomplete = isHolidayCalendarIncomplete(request);
+			saveReporterInHandler(generateBoardReporter(uuid, request, holidayCalendarIncomplete), uuid,
+					timeRangeAndTimeStamp, FilePrefixType.BOARD_REPORT_PREFIX);
 			log.info(
 					"Successfully generate board report, _metrics: {}, _country holiday: {}, _startTime: {}, _endTime: {}, _uuid: {}, _fileName: {}",
 					request.getMetrics(), request.getCalendarType(), request.getStartTime(), request.getEndTime(), uuid,
@@ -118,11 +133,12 @@ public class GenerateReporterService {
 			generateSourceControlReport(uuid, sourceControlRequest, fetchedData);
 		}
 
-		MetricsDataCompleted previousMetricsCompleted = fileRepository.readFileByType(FileType.METRICS_DATA_COMPLETED,
-				uuid, timeRangeAndTimeStamp, MetricsDataCompleted.class, FilePrefixType.DATA_COMPLETED_PREFIX);
+		MetricsDataCompleted previousMetricsCompleted = asyncMetricsDataHandler.getMetricsDataCompleted(uuid,
+				timeRangeAndTimeStamp);
 
 		if (previousMetricsCompleted != null && Boolean.FALSE.equals(previousMetricsCompleted.doraMetricsCompleted())) {
-			CompletableFuture.runAsync(() -> generateCSVForPipeline(uuid, request, fetchedData.getBuildKiteData()));
+			reportJobScheduler.submitFollowUp(uuid,
+					() -> generateCSVForPipeline(uuid, request, fetchedData.getBuildKiteData()));
 		}
 	}
 
@@ -134,9 +150,10 @@ public class GenerateReporterService {
 				request.getPipelineMetrics(), request.getCalendarType(), request.getStartTime(), request.getEndTime(),
 				uuid, timeRangeAndTimeStamp);
 		try {
+			boolean holidayCalendarIncomplete = isHolidayCalendarIncomplete(request);
 			fetchBuildKiteData(request, fetchedData);
-			saveReporterInHandler(generatePipelineReporter(request, fetchedData), uuid, timeRangeAndTimeStamp,
-					FilePrefixType.PIPELINE_REPORT_PREFIX);
+			saveReporterInHandler(generatePipelineReporter(request, fetchedData, holidayCalendarIncomplete), uuid,
+					timeRangeAndTimeStamp, FilePrefixType.PIPELINE_REPORT_PREFIX);
 			log.info(
 					"Successfully generate pipeline report, _metrics: {}, _country holiday: {}, _startTime: {}, _endTime: {}, _uuid: {}, _fileName: {}",
 					request.getPipelineMetrics(), request.getCalendarType(), request.getStartTime(),
@@ -158,9 +175,10 @@ public class GenerateReporterService {
 				request.getSourceControlMetrics(), request.getCalendarType(), request.getStartTime(),
 				request.getEndTime(), uuid, timeRangeAndTimeStamp);
 		try {
+			boolean holidayCalendarIncomplete = isHolidayCalendarIncomplete(request);
 			fetchGitHubData(request, fetchedData);
-			saveReporterInHandler(generateSourceControlReporter(request, fetchedData), uuid, timeRangeAndTimeStamp,
-					FilePrefixType.SOURCE_CONTROL_PREFIX);
+			saveReporterInHandler(generateSourceControlReporter(request, fetchedData, holidayCalendarIncomplete),
+					uuid, timeRangeAndTimeStamp, FilePrefixType.SOURCE_CONTROL_PREFIX);
 			log.info(
 					"Successfully generate source control report, _metrics: {}, _country holiday: {}, _startTime: {}, _endTime: {}, _uuid: {} _fileName: {}",
 					request.getSourceControlMetrics(), request.getCalendarType(), request.getStartTime(),
@@ -174,10 +192,11 @@ public class GenerateReporterService {
 		}
 	}
 
-	private synchronized ReportResponse generatePipelineReporter(GenerateReportRequest request,
-			FetchedData fetchedData) {
+	private ReportResponse generatePipelineReporter(GenerateReportRequest request, FetchedData fetchedData,
+			boolean holidayCalendarIncomplete) {
 
-		ReportResponse reportResponse = new ReportResponse(EXPORT_CSV_VALIDITY_TIME);
+		ReportResponse reportResponse = new ReportResponse(fileRepository.getRetentionTime());
+		reportResponse.setHolidayCalendarIncomplete(holidayCalendarIncomplete);
 
 		request.getPipelineMetrics().forEach(metric -> {
 			switch (metric) {
@@ -195,10 +214,12 @@ public class GenerateReporterService {
 		return reportResponse;
 	}
 
-	private synchronized ReportResponse generateBoardReporter(String uuid, GenerateReportRequest request) {
+	private ReportResponse generateBoardReporter(String uuid, GenerateReportRequest request,
+			boolean holidayCalendarIncomplete) {
 		FetchedData fetchedData = fetchJiraBoardData(request, new FetchedData());
 
-		ReportResponse reportResponse = new ReportResponse(EXPORT_CSV_VALIDITY_TIME);
+		ReportResponse reportResponse = new ReportResponse(fileRepository.getRetentionTime());
+		reportResponse.setHolidayCalendarIncomplete(holidayCalendarIncomplete);
 		JiraBoardSetting jiraBoardSetting = request.getJiraBoardSetting();
 
 		request.getBoardMetrics().forEach(metric -> {
@@ -210,7 +231,7 @@ public class GenerateReporterService {
 			}
 		});
 
-		CompletableFuture.runAsync(() -> generateCsvForBoard(uuid, request, fetchedData));
+		reportJobScheduler.submitFollowUp(uuid, () -> generateCsvForBoard(uuid, request, fetchedData));
 		return reportResponse;
 	}
 
@@ -247,10 +268,11 @@ public class GenerateReporterService {
 		reportResponse.setRework(reworkCalculator.calculateRework(realDoneCardCollection, enumReworkState));
 	}
 
-	private synchronized ReportResponse generateSourceControlReporter(GenerateReportRequest request,
-			FetchedData fetchedData) {
+	private ReportResponse generateSourceControlReporter(GenerateReportRequest request, FetchedData fetchedData,
+			boolean holidayCalendarIncomplete) {
 
-		ReportResponse reportResponse = new ReportResponse(EXPORT_CSV_VALIDITY_TIME);
+		ReportResponse reportResponse = new ReportResponse(fileRepository.getRetentionTime());
+		reportResponse.setHolidayCalendarIncomplete(holidayCalendarIncomplete);
 
 		request.getSourceControlMetrics()
 			.forEach(metric -> reportResponse.setLeadTimeForChanges(
@@ -259,23 +281,63 @@ public class GenerateReporterService {
 		return reportResponse;
 	}
 
+	// checked before fetching: years only get loaded, so a report whose years were all loaded at the start never
+	// counted a year as weekends only, while any other report is marked as computed against missing years
+	private boolean isHolidayCalendarIncomplete(GenerateReportRequest request) {
+		ZoneId timezone = request.getTimezoneByZoneId();
+		int startYear = Instant.ofEpochMilli(Long.parseLong(request.getStartTime())).atZone(timezone).getYear();
+		int endYear = Instant.ofEpochMilli(Long.parseLong(request.getEndTime())).atZone(timezone).getYear();
+		if (holidayCalendarService.isLoaded(request.getCalendarType(), startYear, endYear)) {
+			return false;
+		}
+		log.warn("Holiday calendar {} is not loaded from {} to {}, missing years only count weekends, _fileName: {}",
+				request.getCalendarType(), startYear, endYear, request.getTimeRangeAndTimeStamp());
+		return true;
+	}
+
+	// work days are computed while fetching, so the calendar version keeps a fetch from being shared once the
+	// holiday calendar it counted against has changed
+	private long getHolidayCalendarVersion(GenerateReportRequest request) {
+		return holidayCalendarService.getSnapshot().get(request.getCalendarType()).version();
+	}
+
 	private void fetchBuildKiteData(GenerateReportRequest request, FetchedData fetchedData) {
-		if (request.getBuildKiteSetting() == null)
-			throw new BadRequestException("Failed to fetch BuildKite info due to BuildKite setting is null.");
-		fetchedData.setBuildKiteData(pipelineService.fetchBuildKiteInfo(request));
+		fetchedData.setBuildKiteData(getOrFetchBuildKiteBuilds(request, fetchedData));
 	}
 
 	private void fetchGitHubData(GenerateReportRequest request, FetchedData fetchedData) {
 		if (request.getCodebaseSetting() == null)
 			throw new BadRequestException("Failed to fetch Github info due to code base setting is null.");
-		fetchedData.setBuildKiteData(pipelineService.fetchGitHubData(request));
+		BuildKiteData buildKiteBuilds = getOrFetchBuildKiteBuilds(request, fetchedData);
+		String fingerprint = reportFetchDeduplicator.fingerprint("github", request.getBuildKiteSetting(),
+				request.getCodebaseSetting(), request.getStartTime(), request.getEndTime(), request.getTimezone(),
+				request.getCalendarType(), getHolidayCalendarVersion(request));
+		fetchedData.setBuildKiteData(reportFetchDeduplicator.fetch(fingerprint,
+				() -> pipelineService.fetchGitHubData(request, buildKiteBuilds)));
+	}
+
+	// BuildKite builds and deploy times are fetched once per DORA report and shared by the pipeline metrics,
+	// the GitHub lead time stage and the pipeline CSV.
+	private BuildKiteData getOrFetchBuildKiteBuilds(GenerateReportRequest request, FetchedData fetchedData) {
+		if (fetchedData.getBuildKiteData() != null) {
+			return fetchedData.getBuildKiteData();
+		}
+		if (request.getBuildKiteSetting() == null)
+			throw new BadRequestException("Failed to fetch BuildKite info due to BuildKite setting is null.");
+		String fingerprint = reportFetchDeduplicator.fingerprint("buildkite", request.getBuildKiteSetting(),
+				request.getStartTime(), request.getEndTime());
+		return reportFetchDeduplicator.fetch(fingerprint, () -> pipelineService.fetchBuildKiteInfo(request));
 	}
 
 	private FetchedData fetchJiraBoardData(GenerateReportRequest request, FetchedData fetchedData) {
 		if (CollectionUtils.isNotEmpty(request.getBoardMetrics())) {
 			if (request.getJiraBoardSetting() == null)
 				throw new BadRequestException("Failed to fetch Jira info due to Jira board setting is null.");
-			fetchedData.setCardCollectionInfo(kanbanService.fetchDataFromKanban(request));
+			String fingerprint = reportFetchDeduplicator.fingerprint("jira", request.getJiraBoardSetting(),
+					request.getStartTime(), request.getEndTime(), request.getTimezone(), request.getCalendarType(),
+					getHolidayCalendarVersion(request));
+			fetchedData.setCardCollectionInfo(
+					reportFetchDeduplicator.fetch(fingerprint, () -> kanbanService.fetchDataFromKanban(request)));
 		}
 		return fetchedData;
 	}
@@ -293,9 +355,11 @@ public class GenerateReporterService {
 		csvFileGenerator.convertMetricDataToCSV(uuid, reportContent, csvTimeRangeTimeStamp);
 	}
 
+	// report files are written under the per-file lock of FileRepository, so generation itself needs no lock
 	private void saveReporterInHandler(ReportResponse reportContent, String uuid, String fileName,
 			FilePrefixType filePrefixType) {
 		fileRepository.createFileByType(REPORT, uuid, fileName, reportContent, filePrefixType);
+		reportProgressPublisher.publishReport(uuid, fileName, reportContent);
 	}
 
 	private ErrorInfo handleAsyncExceptionAndGetErrorInfo(AsyncExceptionDTO exception) {
@@ -319,21 +383,24 @@ public class GenerateReporterService {
 		if (fileRepository.isExpired(System.currentTimeMillis(), Long.parseLong(timeStamp))) {
 			throw new GenerateReportException("Failed to get report due to report time expires");
 		}
-		return fileRepository.readFileByType(FileType.METRICS_DATA_COMPLETED, uuid, timeRangeAndTimeStamp,
-				MetricsDataCompleted.class, FilePrefixType.DATA_COMPLETED_PREFIX);
+		return asyncMetricsDataHandler.getMetricsDataCompleted(uuid, timeRangeAndTimeStamp);
 	}
 
 	public ReportResponse getComposedReportResponse(String uuid, String startTime, String endTime) {
+		return getCachedComposedReportResponse(uuid, startTime, endTime).reportResponse();
+	}
+
+	public CachedReportResponse getCachedComposedReportResponse(String uuid, String startTime, String endTime) {
 		String timeRangeAndTimeStamp = fileRepository.getFileTimeRangeAndTimeStampByStartTimeAndEndTime(
 				FileType.METRICS_DATA_COMPLETED, uuid, startTime, endTime);
 		if (timeRangeAndTimeStamp == null) {
-			return ReportResponse.builder()
+			return composedReportCache.uncached(ReportResponse.builder()
 				.overallMetricsCompleted(false)
 				.boardMetricsCompleted(false)
 				.doraMetricsCompleted(false)
 				.allMetricsCompleted(false)
 				.isSuccessfulCreateCsvFile(false)
-				.build();
+				.build());
 		}
 
 		return getComposedReportResponse(uuid, timeRangeAndTimeStamp);
@@ -342,12 +409,20 @@ public class GenerateReporterService {
 	public ReportResponse getComposedReportResponse(String uuid, String timestamp, String startTime, String endTime) {
 		String timeRangeAndTimeStamp = startTime + FILENAME_SEPARATOR + endTime + FILENAME_SEPARATOR + timestamp;
 
-		return getComposedReportResponse(uuid, timeRangeAndTimeStamp);
+		return getComposedReportResponse(uuid, timeRangeAndTimeStamp).reportResponse();
 	}
 
-	private ReportResponse getComposedReportResponse(String uuid, String timeRangeAndTimeStamp) {
+	private CachedReportResponse getComposedReportResponse(String uuid, String timeRangeAndTimeStamp) {
 		MetricsDataCompleted reportReadyStatus = checkReportReadyStatus(uuid, timeRangeAndTimeStamp);
+		// read before the report files, so a write that lands while composing leaves a stale version behind
+		long writeVersion = fileRepository.getWriteVersion(uuid, timeRangeAndTimeStamp);
+		return composedReportCache.get(uuid, timeRangeAndTimeStamp, writeVersion, reportReadyStatus)
+			.orElseGet(() -> composedReportCache.put(uuid, timeRangeAndTimeStamp, writeVersion, reportReadyStatus,
+					composeReportResponse(uuid, timeRangeAndTimeStamp, reportReadyStatus)));
+	}
 
+	private ReportResponse composeReportResponse(String uuid, String timeRangeAndTimeStamp,
+			MetricsDataCompleted reportReadyStatus) {
 		ReportResponse boardReportResponse = fileRepository.readFileByType(REPORT, uuid, timeRangeAndTimeStamp,
 				ReportResponse.class, FilePrefixType.BOARD_REPORT_PREFIX);
 		ReportResponse pipelineReportResponse = fileRepository.readFileByType(REPORT, uuid, timeRangeAndTimeStamp,
@@ -361,7 +436,7 @@ public class GenerateReporterService {
 			.classificationList(getValueOrNull(boardReportResponse, ReportResponse::getClassificationList))
 			.cycleTime(getValueOrNull(boardReportResponse, ReportResponse::getCycleTime))
 			.rework(getValueOrNull(boardReportResponse, ReportResponse::getRework))
-			.exportValidityTime(EXPORT_CSV_VALIDITY_TIME)
+			.exportValidityTime(fileRepository.getRetentionTime())
 			.deploymentFrequency(getValueOrNull(pipelineReportResponse, ReportResponse::getDeploymentFrequency))
 			.devChangeFailureRate(getValueOrNull(pipelineReportResponse, ReportResponse::getDevChangeFailureRate))
 			.devMeanTimeToRecovery(getValueOrNull(pipelineReportResponse, ReportResponse::getDevMeanTimeToRecovery))
@@ -372,9 +447,17 @@ public class GenerateReporterService {
 			.allMetricsCompleted(reportReadyStatus.allMetricsCompleted())
 			.isSuccessfulCreateCsvFile(reportReadyStatus.isSuccessfulCreateCsvFile())
 			.reportMetricsError(reportMetricsError)
+			.holidayCalendarIncomplete(isHolidayCalendarIncomplete(boardReportResponse, pipelineReportResponse,
+					sourceControlReportResponse))
 			.build();
 	}
 
+	private boolean isHolidayCalendarIncomplete(ReportResponse... reportResponses) {
+		return Stream.of(reportResponses)
+			.filter(Objects::nonNull)
+			.anyMatch(reportResponse -> Boolean.TRUE.equals(reportResponse.getHolidayCalendarIncomplete()));
+	}
+
 	private ReportMetricsError getReportErrorAndHandleAsyncException(String uuid, String timeRangeAndTimeStamp) {
 		AsyncExceptionDTO boardException = fileRepository.readFileByType(ERROR, uuid, timeRangeAndTimeStamp,
 				AsyncExceptionDTO.class, FilePrefixType.BOARD_REPORT_PREFIX);
@@ -0,0 +1,160 @@
+package heartbeat.service.report;
+
+import heartbeat.controller.report.dto.request.CalendarTypeEnum;
+import heartbeat.repository.HolidayCalendarStore;
+import heartbeat.repository.HolidayCalendarStore.StoredHolidayCalendar;
+import heartbeat.service.report.model.HolidayCalendarSnapshot;
+import heartbeat.service.report.model.HolidayCalendarSnapshot.CalendarHolidays;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Year;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+@Log4j2
+@Component
+public class HolidayCalendarService {
+
+	private static final int FIRST_DEFAULT_YEAR = 2020;
+
+	private final AtomicReference<HolidayCalendarSnapshot> snapshot = new AtomicReference<>(
+			HolidayCalendarSnapshot.EMPTY);
+
+	private final Map<String, CompletableFuture<Void>> loadingYears = new ConcurrentHashMap<>();
+
+	private final Map<String, Long> failedYearRetryTimes = new ConcurrentHashMap<>();
+
+	private final HolidayFactory holidayFactory;
+
+	private final HolidayCalendarStore holidayCalendarStore;
+
+	private final long retryBackoffMillis;
+
+	private final long refreshIntervalMillis;
+
+	public HolidayCalendarService(HolidayFactory holidayFactory, HolidayCalendarStore holidayCalendarStore,
+			@Value("${holiday.retry-backoff-minutes}") long retryBackoffMinutes,
+			@Value("${holiday.refresh-interval-hours}") long refreshIntervalHours) {
+		this.holidayFactory = holidayFactory;
+		this.holidayCalendarStore = holidayCalendarStore;
+		this.retryBackoffMillis = TimeUnit.MINUTES.toMillis(retryBackoffMinutes);
+		this.refreshIntervalMillis = TimeUnit.HOURS.toMillis(refreshIntervalHours);
+	}
+
+	public HolidayCalendarSnapshot getSnapshot() {
+		return snapshot.get();
+	}
+
+	// never waits for the holiday feeds, years which are not loaded yet only count weekends until they are
+	public HolidayCalendarSnapshot getSnapshot(CalendarTypeEnum calendarType, int startYear, int endYear) {
+		loadYears(calendarType, startYear, endYear);
+		return snapshot.get();
+	}
+
+	public boolean isLoaded(CalendarTypeEnum calendarType, int startYear, int endYear) {
+		CalendarHolidays calendarHolidays = snapshot.get().get(calendarType);
+		return IntStream.rangeClosed(startYear, endYear).allMatch(calendarHolidays::isLoaded);
+	}
+
+	// the default years of every calendar are loaded in the background, so reports rarely meet a missing year
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadDefaultYears() {
+		int lastDefaultYear = Year.now().getValue() + 1;
+		CompletableFuture.runAsync(() -> Arrays.stream(CalendarTypeEnum.values())
+			.forEach(calendarType -> loadYears(calendarType, FIRST_DEFAULT_YEAR, lastDefaultYear)));
+	}
+
+	public CompletableFuture<Void> loadYears(CalendarTypeEnum calendarType, int startYear, int endYear) {
+		HolidayCalendarSnapshot currentSnapshot = snapshot.get();
+		return CompletableFuture.allOf(IntStream.rangeClosed(startYear, endYear)
+			.filter(year -> !currentSnapshot.get(calendarType).isLoaded(year))
+			.mapToObj(year -> loadMissingYear(calendarType, year))
+			.toArray(CompletableFuture[]::new));
+	}
+
+	@Scheduled(fixedRateString = "${holiday.refresh-interval-hours}",
+			initialDelayString = "${holiday.refresh-interval-hours}", timeUnit = TimeUnit.HOURS)
+	public void refreshLoadedYears() {
+		snapshot.get()
+			.calendars()
+			.forEach((calendarType, calendarHolidays) -> calendarHolidays.yearHolidays()
+				.keySet()
+				.forEach(year -> loadYear(calendarType, year)));
+	}
+
+	// a year which is loading or failed recently is neither read from the store nor fetched again
+	private CompletableFuture<Void> loadMissingYear(CalendarTypeEnum calendarType, int year) {
+		String loadingKey = getLoadingKey(calendarType, year);
+		CompletableFuture<Void> loading = loadingYears.get(loadingKey);
+		if (loading != null) {
+			return loading;
+		}
+		if (failedYearRetryTimes.getOrDefault(loadingKey, 0L) > System.currentTimeMillis()
+				|| loadYearFromStore(calendarType, year)) {
+			return CompletableFuture.completedFuture(null);
+		}
+		return loadYear(calendarType, year);
+	}
+
+	private boolean loadYearFromStore(CalendarTypeEnum calendarType, int year) {
+		Optional<StoredHolidayCalendar> storedCalendar = holidayCalendarStore.findCalendar(calendarType, year);
+		storedCalendar.ifPresent(calendar -> {
+			publish(calendarType, year, calendar.holidays());
+			if (System.currentTimeMillis() - calendar.fetchedAt() > refreshIntervalMillis) {
+				loadYear(calendarType, year);
+			}
+		});
+		return storedCalendar.isPresent();
+	}
+
+	private void publish(CalendarTypeEnum calendarType, int year, Map<String, Boolean> holidays) {
+		HolidayCalendarSnapshot newSnapshot = snapshot
+			.updateAndGet(current -> current.withYear(calendarType, year, holidays));
+		log.info("Successfully load holiday calendar {} of {}, snapshot version: {}", calendarType, year,
+				newSnapshot.version());
+	}
+
+	private CompletableFuture<Void> loadYear(CalendarTypeEnum calendarType, int year) {
+		String loadingKey = getLoadingKey(calendarType, year);
+		CompletableFuture<Void> newLoading = new CompletableFuture<>();
+		CompletableFuture<Void> loading = loadingYears.putIfAbsent(loadingKey, newLoading);
+		if (loading != null) {
+			return loading;
+		}
+		CompletableFuture
+			.supplyAsync(() -> holidayFactory.build(calendarType).loadHolidayList(String.valueOf(year)))
+			.thenAccept(holidays -> {
+				holidayCalendarStore.saveCalendar(calendarType, year, holidays);
+				publish(calendarType, year, holidays);
+			})
+			.whenComplete((result, e) -> {
+				if (e != null) {
+					log.error("Failed to load holiday calendar {} of {}, reason: {}", calendarType, year,
+							e.getMessage());
+					failedYearRetryTimes.put(loadingKey, System.currentTimeMillis() + retryBackoffMillis);
+				}
+				else {
+					failedYearRetryTimes.remove(loadingKey);
+				}
+				loadingYears.remove(loadingKey, newLoading);
+				newLoading.complete(null);
+			});
+		return newLoading;
+	}
+
+	private String getLoadingKey(CalendarTypeEnum calendarType, int year) {
+		return calendarType + "-" + year;
+	}
+
+}
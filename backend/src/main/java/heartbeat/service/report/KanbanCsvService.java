@@ -14,7 +14,6 @@ import heartbeat.controller.board.dto.request.BoardRequestParam;
 import heartbeat.controller.board.dto.request.CardStepsEnum;
 import heartbeat.controller.board.dto.request.RequestJiraBoardColumnSetting;
 import heartbeat.controller.board.dto.response.CardCollection;
-import heartbeat.controller.board.dto.response.CycleTimeInfo;
 import heartbeat.controller.board.dto.response.JiraCardDTO;
 import heartbeat.controller.board.dto.response.JiraColumnDTO;
 import heartbeat.controller.board.dto.response.TargetField;
@@ -34,6 +33,7 @@ import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -119,16 +119,19 @@ public class KanbanCsvService {
 		List<JiraCardDTO> allDoneCards = cardCollectionInfo.getRealDoneCardCollection().getJiraCardDTOList();
 		List<JiraCardDTO> nonDoneCards = cardCollectionInfo.getNonDoneCardCollection().getJiraCardDTOList();
 
+		// the cards may be shared with identical reports by the fetch deduplicator, so only copies are sorted
 		if (allDoneCards != null) {
-			sortAllDoneCardsByTime(allDoneCards, jiraColumns);
-			cardDTOList.addAll(allDoneCards);
+			List<JiraCardDTO> sortedDoneCards = new ArrayList<>(allDoneCards);
+			sortAllDoneCardsByTime(sortedDoneCards, jiraColumns);
+			cardDTOList.addAll(sortedDoneCards);
 		}
 
 		cardDTOList.addAll(emptyJiraCard);
 
 		if (nonDoneCards != null) {
-			sortNonDoneCardsByStatusAndTime(nonDoneCards, jiraColumns);
-			cardDTOList.addAll(nonDoneCards);
+			List<JiraCardDTO> sortedNonDoneCards = new ArrayList<>(nonDoneCards);
+			sortNonDoneCardsByStatusAndTime(sortedNonDoneCards, jiraColumns);
+			cardDTOList.addAll(sortedNonDoneCards);
 		}
 
 		List<TargetField> enabledTargetFields = targetFields.stream().filter(TargetField::isFlag).toList();
@@ -143,20 +146,16 @@ public class KanbanCsvService {
 		var ignoreColumns = Arrays.stream(IGNORE_COLUMNS).toList();
 
 		// append OriginCycleTime
-		cardDTOList.stream().flatMap(cardDTO -> {
-			if (cardDTO.getOriginCycleTime() != null) {
-				return cardDTO.getOriginCycleTime().stream();
-			}
-			else {
-				return Stream.empty();
-			}
-		})
-			.map(CycleTimeInfo::getColumn)
-			.distinct()
+		Set<String> originCycleTimeColumns = new LinkedHashSet<>();
+		cardDTOList.stream()
+			.map(JiraCardDTO::getOriginCycleTime)
+			.filter(Objects::nonNull)
+			.forEach(originCycleTime -> originCycleTime.forEach((column, day) -> originCycleTimeColumns.add(column)));
+		originCycleTimeColumns.stream()
 			.filter(column -> !ignoreColumns.contains(column))
 			.forEach(column -> allBoardFields.add(BoardCSVConfig.builder()
 				.label("OriginCycleTime: " + column)
-				.value("cycleTimeFlat." + column)
+				.value(CSVFileGenerator.CYCLE_TIME_FLAT_PREFIX + column)
 				.build()));
 		// rework times fields
 		List<BoardCSVConfig> reworkFields = new ArrayList<>();
@@ -173,12 +172,7 @@ public class KanbanCsvService {
 				.toList());
 		}
 
-		cardDTOList.forEach(card -> {
-			card.setCycleTimeFlat(card.buildCycleTimeFlatObject());
-			card.setTotalCycleTimeDivideStoryPoints(card.getTotalCycleTimeDivideStoryPoints());
-			card.setReworkTimesFlat(card.buildReworkTimesFlatObject());
-		});
-		String[][] sheet = BoardSheetGenerator.builder()
+		Stream<String[]> sheet = BoardSheetGenerator.builder()
 			.csvFileGenerator(csvFileGenerator)
 			.jiraCardDTOList(cardDTOList)
 			.fields(allBoardFields)
@@ -10,6 +10,7 @@ import heartbeat.controller.pipeline.dto.request.DeploymentEnvironment;
 import heartbeat.controller.report.dto.request.GenerateReportRequest;
 import heartbeat.controller.report.dto.response.LeadTimeInfo;
 import heartbeat.controller.report.dto.response.PipelineCSVInfo;
+import heartbeat.repository.BuildKiteBuildStore;
 import heartbeat.service.pipeline.buildkite.BuildKiteService;
 import heartbeat.service.report.calculator.model.FetchedData;
 import heartbeat.service.source.github.GitHubService;
@@ -35,8 +36,10 @@ public class PipelineService {
 
 	private final GitHubService gitHubService;
 
-	public FetchedData.BuildKiteData fetchGitHubData(GenerateReportRequest request) {
-		FetchedData.BuildKiteData buildKiteData = fetchBuildKiteInfo(request);
+	private final BuildKiteBuildStore buildKiteBuildStore;
+
+	public FetchedData.BuildKiteData fetchGitHubData(GenerateReportRequest request,
+			FetchedData.BuildKiteData buildKiteData) {
 		Map<String, String> repoMap = getRepoMap(request.getBuildKiteSetting().getDeploymentEnvList());
 		List<PipelineLeadTime> pipelineLeadTimes = Collections.emptyList();
 		if (Objects.nonNull(request.getCodebaseSetting())
@@ -44,8 +47,11 @@ public class PipelineService {
 			pipelineLeadTimes = gitHubService.fetchPipelinesLeadTime(buildKiteData.getDeployTimesList(), repoMap,
 					request.getCodebaseSetting().getToken(), request);
 		}
-		buildKiteData.setPipelineLeadTimes(pipelineLeadTimes);
-		return buildKiteData;
+		return FetchedData.BuildKiteData.builder()
+			.deployTimesList(buildKiteData.getDeployTimesList())
+			.buildInfosList(buildKiteData.getBuildInfosList())
+			.pipelineLeadTimes(pipelineLeadTimes)
+			.build();
 	}
 
 	public FetchedData.BuildKiteData fetchBuildKiteInfo(GenerateReportRequest request) {
@@ -67,7 +73,7 @@ public class PipelineService {
 
 	public List<PipelineCSVInfo> generateCSVForPipeline(String startTime, String endTime,
 			FetchedData.BuildKiteData buildKiteData, List<DeploymentEnvironment> deploymentEnvironments) {
-		List<PipelineCSVInfo> pipelineCSVInfos = new ArrayList<>();
+		List<PipelineCSVInfo> pipelineCSVInfos = Collections.synchronizedList(new ArrayList<>());
 		deploymentEnvironments.parallelStream().forEach(deploymentEnvironment -> {
 			List<BuildKiteBuildInfo> buildInfos = getBuildInfos(buildKiteData.getBuildInfosList(),
 					deploymentEnvironment.getId());
@@ -143,10 +149,26 @@ public class PipelineService {
 					(previousValue, newValue) -> newValue));
 	}
 
+	// settled builds are kept on disk unfiltered, so reports over an already fetched range or for other crews
+	// are sliced from the store instead of paging through BuildKite again
+	private List<BuildKiteBuildInfo> getOrFetchPipelineBuilds(String token, DeploymentEnvironment deploymentEnvironment,
+			String startTime, String endTime) {
+		return buildKiteBuildStore
+			.findBuilds(token, deploymentEnvironment.getOrgId(), deploymentEnvironment.getId(),
+					deploymentEnvironment.getBranches(), startTime, endTime)
+			.orElseGet(() -> {
+				List<BuildKiteBuildInfo> buildKiteBuildInfo = buildKiteService.fetchPipelineBuilds(token,
+						deploymentEnvironment, startTime, endTime);
+				buildKiteBuildStore.saveBuilds(token, deploymentEnvironment.getOrgId(), deploymentEnvironment.getId(),
+						deploymentEnvironment.getBranches(), startTime, endTime, buildKiteBuildInfo);
+				return buildKiteBuildInfo;
+			});
+	}
+
 	private List<BuildKiteBuildInfo> getBuildKiteBuildInfo(String startTime, String endTime,
 			DeploymentEnvironment deploymentEnvironment, String token, List<String> pipelineCrews) {
-		List<BuildKiteBuildInfo> buildKiteBuildInfo = buildKiteService
-			.fetchPipelineBuilds(token, deploymentEnvironment, startTime, endTime)
+		List<BuildKiteBuildInfo> buildKiteBuildInfo = getOrFetchPipelineBuilds(token, deploymentEnvironment,
+				startTime, endTime)
 			.stream()
 			.map(it -> {
 				if (Objects.isNull(it.getAuthor())) {
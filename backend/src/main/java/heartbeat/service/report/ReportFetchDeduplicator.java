@@ -0,0 +1,112 @@
+package heartbeat.service.report;
+
+import com.google.gson.Gson;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+@Log4j2
+@Component
+public class ReportFetchDeduplicator {
+
+	private static final String SHA_256 = "SHA-256";
+
+	private final Map<String, SharedFetch> sharedFetches = new ConcurrentHashMap<>();
+
+	private final Gson gson;
+
+	private final long reuseMillis;
+
+	public ReportFetchDeduplicator(Gson gson, @Value("${report.single-flight.reuse-seconds}") long reuseSeconds) {
+		this.gson = gson;
+		this.reuseMillis = reuseSeconds * 1000;
+	}
+
+	// the request parts carry tokens, so only their hash is kept as the key of a shared fetch
+	public String fingerprint(String source, Object... requestParts) {
+		byte[] content = gson.toJson(List.of(requestParts)).getBytes(StandardCharsets.UTF_8);
+		try {
+			return source + ':' + HexFormat.of().formatHex(MessageDigest.getInstance(SHA_256).digest(content));
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	public <T> T fetch(String fingerprint, Supplier<T> fetcher) {
+		long now = System.currentTimeMillis();
+		sharedFetches.values().removeIf(sharedFetch -> sharedFetch.isExpired(now, reuseMillis));
+
+		SharedFetch newFetch = new SharedFetch(new CompletableFuture<>());
+		SharedFetch sharedFetch = sharedFetches.putIfAbsent(fingerprint, newFetch);
+		if (sharedFetch != null) {
+			log.info("Reuse in-flight or finished report data fetch");
+			return (T) join(sharedFetch.result());
+		}
+
+		try {
+			T result = fetcher.get();
+			newFetch.complete(result);
+			return result;
+		}
+		// errors have to fail the shared fetch as well, otherwise attached callers would wait forever
+		catch (Throwable e) {
+			sharedFetches.remove(fingerprint, newFetch);
+			newFetch.result().completeExceptionally(e);
+			throw e;
+		}
+	}
+
+	private static Object join(CompletableFuture<Object> result) {
+		try {
+			return result.join();
+		}
+		catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (e.getCause() instanceof Error cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	private static final class SharedFetch {
+
+		private final CompletableFuture<Object> result;
+
+		private volatile long completedAt;
+
+		private SharedFetch(CompletableFuture<Object> result) {
+			this.result = result;
+		}
+
+		private CompletableFuture<Object> result() {
+			return result;
+		}
+
+		private void complete(Object value) {
+			completedAt = System.currentTimeMillis();
+			result.complete(value);
+		}
+
+		private boolean isExpired(long now, long reuseMillis) {
+			return result.isDone() && now - completedAt > reuseMillis;
+		}
+
+	}
+
+}
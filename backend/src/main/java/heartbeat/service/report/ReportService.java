@@ -9,13 +9,15 @@ import heartbeat.controller.report.dto.response.ShareApiDetailsResponse;
 import heartbeat.controller.report.dto.response.UuidResponse;
 import heartbeat.exception.NotFoundException;
 import heartbeat.handler.AsyncMetricsDataHandler;
+import heartbeat.handler.ReportProgressPublisher;
 import heartbeat.repository.FilePrefixType;
 import heartbeat.repository.FileType;
 import heartbeat.service.report.calculator.ReportGenerator;
+import heartbeat.service.report.scheduler.ReportJobScheduler;
 import heartbeat.repository.FileRepository;
 import heartbeat.util.TimeUtil;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.stereotype.Service;
 
 import java.time.ZoneId;
@@ -42,9 +44,13 @@ public class ReportService {
 
 	private final FileRepository fileRepository;
 
+	private final ReportJobScheduler reportJobScheduler;
+
+	private final ReportProgressPublisher reportProgressPublisher;
+
 	private static final String FILENAME_SEPARATOR = "-";
 
-	public InputStreamResource exportCsv(ReportType reportDataType, String uuid, String startTime, String endTime) {
+	public FileSystemResource exportCsv(ReportType reportDataType, String uuid, String startTime, String endTime) {
 		String timeRangeAndTimeStamp = fileRepository.getFileTimeRangeAndTimeStampByStartTimeAndEndTime(FileType.REPORT,
 				uuid, startTime, endTime);
 		if (timeRangeAndTimeStamp == null) {
@@ -62,15 +68,22 @@ public class ReportService {
 	public void generateReport(GenerateReportRequest request, String uuid) {
 		List<MetricType> metricTypes = request.getMetricTypes();
 		String timeRangeAndTimeStamp = request.getTimeRangeAndTimeStamp();
-		asyncMetricsDataHandler.initializeMetricsDataCompletedInHandler(uuid, metricTypes, timeRangeAndTimeStamp);
 		Map<MetricType, BiConsumer<String, GenerateReportRequest>> reportGeneratorMap = reportGenerator
 			.getReportGenerator(generateReporterService);
-		List<CompletableFuture<Void>> threadList = new ArrayList<>();
-		for (MetricType metricType : metricTypes) {
-			CompletableFuture<Void> metricTypeThread = CompletableFuture
-				.runAsync(() -> reportGeneratorMap.get(metricType).accept(uuid, request));
-			threadList.add(metricTypeThread);
+		List<Runnable> metricTypeJobs = metricTypes.stream()
+			.map(metricType -> (Runnable) () -> reportGeneratorMap.get(metricType).accept(uuid, request))
+			.toList();
+		reportJobScheduler.reserveBulk(uuid, metricTypeJobs.size());
+		try {
+			reportProgressPublisher.start(uuid, timeRangeAndTimeStamp);
+			asyncMetricsDataHandler.initializeMetricsDataCompletedInHandler(uuid, metricTypes, timeRangeAndTimeStamp);
+		}
+		catch (RuntimeException e) {
+			reportJobScheduler.releaseBulk(metricTypeJobs.size());
+			reportProgressPublisher.fail(uuid, timeRangeAndTimeStamp, e.getMessage());
+			throw e;
 		}
+		List<CompletableFuture<Void>> threadList = reportJobScheduler.submitReservedBulk(uuid, metricTypeJobs);
 
 		CompletableFuture<Void> allFutures = CompletableFuture.allOf(threadList.toArray(new CompletableFuture[0]));
 		allFutures.thenRun(() -> {
@@ -82,7 +95,8 @@ public class ReportService {
 				generateReporterService.generateCSVForMetric(uuid, reportResponse, request.getTimeRangeAndTimeStamp());
 			}
 			asyncMetricsDataHandler.updateOverallMetricsCompletedInHandler(uuid, request.getTimeRangeAndTimeStamp());
-		});
+			reportProgressPublisher.publishReport(uuid, timeRangeAndTimeStamp, reportResponse);
+		}).whenComplete((result, throwable) -> reportProgressPublisher.complete(uuid, timeRangeAndTimeStamp));
 	}
 
 	private String convertTimeStampToYYYYMMDD(String timeStamp, ZoneId timezone) {
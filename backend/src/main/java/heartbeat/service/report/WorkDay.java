@@ -1,8 +1,8 @@
 package heartbeat.service.report;
 
 import heartbeat.controller.report.dto.request.CalendarTypeEnum;
+import heartbeat.service.report.model.HolidayCalendarSnapshot.CalendarHolidays;
 import heartbeat.service.report.model.WorkInfo;
-import heartbeat.config.DayType;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Component;
 
@@ -12,13 +12,9 @@ import java.time.DayOfWeek;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
-import java.util.ArrayList;
-import java.util.Calendar;
-import java.util.EnumMap;
-import java.util.HashMap;
-import java.util.List;
+import java.util.BitSet;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Log4j2
 @Component
@@ -26,42 +22,25 @@ public class WorkDay {
 
 	private static final long ONE_DAY = 1000L * 60 * 60 * 24;
 
-	private Map<CalendarTypeEnum, Map<String, Boolean>> allCountryHolidayMap = new EnumMap<>(CalendarTypeEnum.class);
+	private final Map<CalendarTypeEnum, WorkDayIndex> workDayIndexes = new ConcurrentHashMap<>();
 
-	private final HolidayFactory holidayFactory;
+	private final HolidayCalendarService holidayCalendarService;
 
-	public WorkDay(HolidayFactory holidayFactory) {
-		this.holidayFactory = holidayFactory;
-		loadAllHolidayList();
+	public WorkDay(HolidayCalendarService holidayCalendarService) {
+		this.holidayCalendarService = holidayCalendarService;
 	}
 
-	private void loadAllHolidayList() {
-		for (int year = 2020; year <= Calendar.getInstance().get(Calendar.YEAR) + 1; year++) {
-			for (CalendarTypeEnum calendarTypeEnum : CalendarTypeEnum.values()) {
-				int finalYear = year;
-				CompletableFuture.runAsync(() -> {
-					Map<String, Boolean> addedHolidayMap = holidayFactory.build(calendarTypeEnum)
-						.loadHolidayList(String.valueOf(finalYear));
-					synchronized (this) {
-						if (allCountryHolidayMap.containsKey(calendarTypeEnum)) {
-							Map<String, Boolean> loadedYearHolidayMap = new HashMap<>(
-									allCountryHolidayMap.get(calendarTypeEnum));
-							loadedYearHolidayMap.putAll(addedHolidayMap);
-							allCountryHolidayMap.put(calendarTypeEnum, loadedYearHolidayMap);
-						}
-						else {
-							allCountryHolidayMap.put(calendarTypeEnum, addedHolidayMap);
-						}
-					}
-				});
-			}
-		}
+	public boolean verifyIfThisDayHoliday(LocalDate localDate, CalendarTypeEnum calendarTypeEnum) {
+		CalendarHolidays calendarHolidays = holidayCalendarService
+			.getSnapshot(calendarTypeEnum, localDate.getYear(), localDate.getYear())
+			.get(calendarTypeEnum);
+		return isHoliday(calendarHolidays, localDate);
 	}
 
-	public boolean verifyIfThisDayHoliday(LocalDate localDate, CalendarTypeEnum calendarTypeEnum) {
-		String localDateString = localDate.toString();
-		if (allCountryHolidayMap.get(calendarTypeEnum).containsKey(localDateString)) {
-			return allCountryHolidayMap.get(calendarTypeEnum).get(localDateString);
+	private static boolean isHoliday(CalendarHolidays calendarHolidays, LocalDate localDate) {
+		Boolean holiday = calendarHolidays.isHoliday(localDate);
+		if (holiday != null) {
+			return holiday;
 		}
 		return localDate.getDayOfWeek() == DayOfWeek.SATURDAY || localDate.getDayOfWeek() == DayOfWeek.SUNDAY;
 	}
@@ -78,60 +57,72 @@ public class WorkDay {
 		return calculateWorkTimeAndHolidayBetweenWhenHolidayCanWork(startTime, endTime, calendarTypeEnum, timezone);
 	}
 
-	private List<DayType> getDayType(LocalDate startLocalDate, LocalDate endLocalDate,
-			CalendarTypeEnum calendarTypeEnum) {
-		LocalDate localDateIndex = LocalDate.of(startLocalDate.getYear(), startLocalDate.getMonth(),
-				startLocalDate.getDayOfMonth());
-
-		List<DayType> holidayTypeList = new ArrayList<>();
-
-		while (!endLocalDate.isBefore(localDateIndex)) {
-			if (verifyIfThisDayHoliday(localDateIndex, calendarTypeEnum)) {
-				holidayTypeList.add(DayType.NON_WORK_DAY);
-			}
-			else {
-				holidayTypeList.add(DayType.WORK_DAY);
-			}
-			localDateIndex = localDateIndex.plusDays(1);
+	private WorkDayIndex getWorkDayIndex(CalendarTypeEnum calendarTypeEnum, long startEpochDay, long endEpochDay) {
+		LocalDate startLocalDate = LocalDate.ofEpochDay(startEpochDay);
+		LocalDate endLocalDate = LocalDate.ofEpochDay(endEpochDay);
+		CalendarHolidays calendarHolidays = holidayCalendarService
+			.getSnapshot(calendarTypeEnum, startLocalDate.getYear(), endLocalDate.getYear())
+			.get(calendarTypeEnum);
+		WorkDayIndex workDayIndex = workDayIndexes.get(calendarTypeEnum);
+		if (workDayIndex != null && workDayIndex.version == calendarHolidays.version()
+				&& workDayIndex.covers(startEpochDay, endEpochDay)) {
+			return workDayIndex;
+		}
+
+		long firstEpochDay = startLocalDate.withDayOfYear(1).toEpochDay();
+		long lastEpochDay = endLocalDate.withDayOfYear(endLocalDate.lengthOfYear()).toEpochDay();
+		if (workDayIndex != null) {
+			firstEpochDay = Math.min(firstEpochDay, workDayIndex.firstEpochDay);
+			lastEpochDay = Math.max(lastEpochDay, workDayIndex.lastEpochDay);
 		}
-		return holidayTypeList;
+		workDayIndex = buildWorkDayIndex(calendarHolidays, firstEpochDay, lastEpochDay);
+		workDayIndexes.put(calendarTypeEnum, workDayIndex);
+		return workDayIndex;
+	}
+
+	private static WorkDayIndex buildWorkDayIndex(CalendarHolidays calendarHolidays, long firstEpochDay,
+			long lastEpochDay) {
+		int size = Math.toIntExact(lastEpochDay - firstEpochDay + 1);
+		BitSet workDays = new BitSet(size);
+		int[] workDaysBefore = new int[size + 1];
+		for (int i = 0; i < size; i++) {
+			boolean isWorkDay = !isHoliday(calendarHolidays, LocalDate.ofEpochDay(firstEpochDay + i));
+			workDays.set(i, isWorkDay);
+			workDaysBefore[i + 1] = workDaysBefore[i] + (isWorkDay ? 1 : 0);
+		}
+		return new WorkDayIndex(calendarHolidays.version(), firstEpochDay, lastEpochDay, workDays, workDaysBefore);
 	}
 
 	private WorkInfo calculateWorkTimeAndHolidayBetweenWhenHolidayCannotWork(long startTime, long endTime,
 			CalendarTypeEnum calendarTypeEnum, ZoneId timezone, boolean toScale) {
-		LocalDate startLocalDate = LocalDate.ofInstant(Instant.ofEpochMilli(startTime), timezone);
-		LocalDate endLocalDate = LocalDate.ofInstant(Instant.ofEpochMilli(endTime), timezone);
-
-		List<DayType> dayTypeList = getDayType(startLocalDate, endLocalDate, calendarTypeEnum);
-
-		long totalDays = dayTypeList.size();
-
-		long newStartTime = startTime;
-		int startTimeIndex = 0;
-		int endTimeIndex = dayTypeList.size() - 1;
-
-		if (dayTypeList.get(startTimeIndex) == DayType.NON_WORK_DAY) {
-			while (startTimeIndex < dayTypeList.size() && dayTypeList.get(startTimeIndex) == DayType.NON_WORK_DAY) {
-				startTimeIndex++;
-			}
-			LocalDate newStartLocalDateTime = startLocalDate.plusDays(startTimeIndex);
-			newStartTime = newStartLocalDateTime.atStartOfDay(timezone).toInstant().toEpochMilli();
+		long startEpochDay = LocalDate.ofInstant(Instant.ofEpochMilli(startTime), timezone).toEpochDay();
+		long endEpochDay = LocalDate.ofInstant(Instant.ofEpochMilli(endTime), timezone).toEpochDay();
+		if (endEpochDay < startEpochDay) {
+			return WorkInfo.builder().holidays(0).totalDays(0).workTime(endTime - startTime).build();
 		}
 
-		long newEndTime = endTime;
-		if (dayTypeList.get(endTimeIndex) == DayType.NON_WORK_DAY) {
-			while (endTimeIndex >= startTimeIndex && dayTypeList.get(endTimeIndex) == DayType.NON_WORK_DAY) {
-				endTimeIndex--;
-			}
-			LocalDate newEndLocalDateTime = startLocalDate.plusDays(endTimeIndex + 1L);
-			newEndTime = newEndLocalDateTime.atStartOfDay(timezone).toInstant().toEpochMilli();
+		WorkDayIndex workDayIndex = getWorkDayIndex(calendarTypeEnum, startEpochDay, endEpochDay);
+		long totalDays = endEpochDay - startEpochDay + 1;
+		long firstWorkDay = workDayIndex.nextWorkDay(startEpochDay);
+		boolean hasWorkDay = firstWorkDay <= endEpochDay;
+		long lastWorkDay = hasWorkDay ? workDayIndex.previousWorkDay(endEpochDay) : endEpochDay;
+
+		long newStartTime = firstWorkDay == startEpochDay ? startTime
+				: LocalDate.ofEpochDay(Math.min(firstWorkDay, endEpochDay + 1))
+					.atStartOfDay(timezone)
+					.toInstant()
+					.toEpochMilli();
+		long newEndTime = workDayIndex.isWorkDay(endEpochDay) ? endTime
+				: LocalDate.ofEpochDay(lastWorkDay + 1).atStartOfDay(timezone).toInstant().toEpochMilli();
+
+		long holidayNums;
+		if (!toScale) {
+			holidayNums = workDayIndex.countNonWorkDays(startEpochDay, endEpochDay);
 		}
-		long result = newEndTime - newStartTime;
-		if (toScale) {
-			dayTypeList = dayTypeList.subList(startTimeIndex, endTimeIndex + 1);
+		else {
+			holidayNums = hasWorkDay ? workDayIndex.countNonWorkDays(firstWorkDay, lastWorkDay) : 0;
 		}
-		long holidayNums = dayTypeList.stream().filter(it -> it.equals(DayType.NON_WORK_DAY)).count();
-		result = result - holidayNums * ONE_DAY;
+		long result = newEndTime - newStartTime - holidayNums * ONE_DAY;
 
 		return WorkInfo.builder().holidays(holidayNums).totalDays(totalDays).workTime(result).build();
 	}
@@ -140,21 +131,18 @@ public class WorkDay {
 			CalendarTypeEnum calendarTypeEnum, ZoneId timezone) {
 		long result = endTime - startTime;
 
-		LocalDate startLocalDate = LocalDate.ofInstant(Instant.ofEpochMilli(startTime), timezone);
-		LocalDate endLocalDate = LocalDate.ofInstant(Instant.ofEpochMilli(endTime), timezone);
-
-		List<DayType> dayTypeList = getDayType(startLocalDate, endLocalDate, calendarTypeEnum);
-		long totalDays = dayTypeList.size();
-
-		for (int i = 0; i < dayTypeList.size() && dayTypeList.get(i) == DayType.NON_WORK_DAY; i++) {
-			dayTypeList.set(i, DayType.WORK_DAY);
+		long startEpochDay = LocalDate.ofInstant(Instant.ofEpochMilli(startTime), timezone).toEpochDay();
+		long endEpochDay = LocalDate.ofInstant(Instant.ofEpochMilli(endTime), timezone).toEpochDay();
+		if (endEpochDay < startEpochDay) {
+			return WorkInfo.builder().holidays(0).totalDays(0).workTime(result).build();
 		}
 
-		for (int i = dayTypeList.size() - 1; i > 0 && dayTypeList.get(i) == DayType.NON_WORK_DAY; i--) {
-			dayTypeList.set(i, DayType.WORK_DAY);
-		}
+		WorkDayIndex workDayIndex = getWorkDayIndex(calendarTypeEnum, startEpochDay, endEpochDay);
+		long totalDays = endEpochDay - startEpochDay + 1;
+		long firstWorkDay = workDayIndex.nextWorkDay(startEpochDay);
 
-		long holidayNums = dayTypeList.stream().filter(it -> it.equals(DayType.NON_WORK_DAY)).count();
+		long holidayNums = firstWorkDay <= endEpochDay
+				? workDayIndex.countNonWorkDays(firstWorkDay, workDayIndex.previousWorkDay(endEpochDay)) : 0;
 		result = result - holidayNums * ONE_DAY;
 
 		return WorkInfo.builder().holidays(holidayNums).totalDays(totalDays).workTime(result).build();
@@ -168,4 +156,50 @@ public class WorkDay {
 		return BigDecimal.valueOf(days).setScale(2, RoundingMode.HALF_UP).doubleValue();
 	}
 
+	private static final class WorkDayIndex {
+
+		private final long version;
+
+		private final long firstEpochDay;
+
+		private final long lastEpochDay;
+
+		private final BitSet workDays;
+
+		private final int[] workDaysBefore;
+
+		private WorkDayIndex(long version, long firstEpochDay, long lastEpochDay, BitSet workDays,
+				int[] workDaysBefore) {
+			this.version = version;
+			this.firstEpochDay = firstEpochDay;
+			this.lastEpochDay = lastEpochDay;
+			this.workDays = workDays;
+			this.workDaysBefore = workDaysBefore;
+		}
+
+		private boolean covers(long startEpochDay, long endEpochDay) {
+			return startEpochDay >= firstEpochDay && endEpochDay <= lastEpochDay;
+		}
+
+		private boolean isWorkDay(long epochDay) {
+			return workDays.get((int) (epochDay - firstEpochDay));
+		}
+
+		private long countNonWorkDays(long startEpochDay, long endEpochDay) {
+			int startIndex = (int) (startEpochDay - firstEpochDay);
+			int endIndex = (int) (endEpochDay - firstEpochDay);
+			return (endIndex - startIndex + 1L) - (workDaysBefore[endIndex + 1] - workDaysBefore[startIndex]);
+		}
+
+		private long nextWorkDay(long epochDay) {
+			int index = workDays.nextSetBit((int) (epochDay - firstEpochDay));
+			return index < 0 ? lastEpochDay + 1 : firstEpochDay + index;
+		}
+
+		private long previousWorkDay(long epochDay) {
+			return firstEpochDay + workDays.previousSetBit((int) (epochDay - firstEpochDay));
+		}
+
+	}
+
 }
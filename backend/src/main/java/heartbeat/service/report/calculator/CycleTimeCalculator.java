@@ -70,22 +70,14 @@ public class CycleTimeCalculator {
 			Map<String, String> selectedStepsMap) {
 		Map<String, Double> tempSwimlaneMap = new HashMap<>();
 		cardCollection.getJiraCardDTOList()
-			.stream()
-			.flatMap(jiraCardResponse -> jiraCardResponse.getCycleTime().stream())
-			.forEach(partTime -> {
-				String column = partTime.getColumn();
+			.forEach(jiraCardResponse -> jiraCardResponse.getCycleTime().forEach((column, day) -> {
 				if (column.equals(CardStepsEnum.FLAG.getValue())) {
 					selectedStepsMap.put(column, CardStepsEnum.BLOCK.getValue());
 				}
-
-				selectedStepsMap.entrySet().stream().filter(entry -> entry.getKey().equals(column)).forEach(entry -> {
-					Double day = tempSwimlaneMap.get(column);
-					if (day == null) {
-						day = 0.0;
-					}
-					tempSwimlaneMap.put(column, day + partTime.getDay());
-				});
-			});
+				if (selectedStepsMap.containsKey(column)) {
+					tempSwimlaneMap.merge(column, day, Double::sum);
+				}
+			}));
 		return tempSwimlaneMap;
 	}
 
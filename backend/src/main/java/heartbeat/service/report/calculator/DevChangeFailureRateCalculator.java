@@ -16,14 +16,8 @@ public class DevChangeFailureRateCalculator {
 
 	private static final String FORMAT_4_DECIMALS = "0.0000";
 
-	private int totalCount = 0;
-
-	private int totalFailureCount = 0;
-
 	public DevChangeFailureRate calculate(List<DeployTimes> deployTimesList) {
 		DecimalFormat decimalFormat = new DecimalFormat(FORMAT_4_DECIMALS);
-		totalCount = 0;
-		totalFailureCount = 0;
 
 		List<DevChangeFailureRateOfPipeline> devChangeFailureRateOfPipelines = deployTimesList.stream().map(item -> {
 			int failedTimesOfPipeline = item.getFailed().size();
@@ -36,9 +30,6 @@ public class DevChangeFailureRateCalculator {
 			float failureRateOfPipeline = totalTimesOfPipeline == 0 ? 0
 					: (float) failedTimesOfPipeline / totalTimesOfPipeline;
 
-			totalCount += totalTimesOfPipeline;
-			totalFailureCount += failedTimesOfPipeline;
-
 			return DevChangeFailureRateOfPipeline.builder()
 				.name(item.getPipelineName())
 				.step(item.getPipelineStep())
@@ -48,6 +39,12 @@ public class DevChangeFailureRateCalculator {
 				.build();
 		}).toList();
 
+		int totalCount = devChangeFailureRateOfPipelines.stream()
+			.mapToInt(DevChangeFailureRateOfPipeline::getTotalTimesOfPipeline)
+			.sum();
+		int totalFailureCount = devChangeFailureRateOfPipelines.stream()
+			.mapToInt(DevChangeFailureRateOfPipeline::getFailedTimesOfPipeline)
+			.sum();
 		float avgFailureRate = totalCount == 0 ? 0 : (float) totalFailureCount / totalCount;
 		AvgDevChangeFailureRate avgDevChangeFailureRate = AvgDevChangeFailureRate.builder()
 			.totalTimes(totalCount)
@@ -0,0 +1,50 @@
+package heartbeat.service.report.model;
+
+import heartbeat.controller.report.dto.request.CalendarTypeEnum;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+public record HolidayCalendarSnapshot(long version, Map<CalendarTypeEnum, CalendarHolidays> calendars) {
+
+	public static final HolidayCalendarSnapshot EMPTY = new HolidayCalendarSnapshot(0, Map.of());
+
+	public CalendarHolidays get(CalendarTypeEnum calendarType) {
+		return calendars.getOrDefault(calendarType, CalendarHolidays.EMPTY);
+	}
+
+	public HolidayCalendarSnapshot withYear(CalendarTypeEnum calendarType, int year, Map<String, Boolean> holidays) {
+		long newVersion = version + 1;
+		Map<CalendarTypeEnum, CalendarHolidays> newCalendars = new EnumMap<>(CalendarTypeEnum.class);
+		newCalendars.putAll(calendars);
+		newCalendars.put(calendarType, get(calendarType).withYear(newVersion, year, holidays));
+		return new HolidayCalendarSnapshot(newVersion, Map.copyOf(newCalendars));
+	}
+
+	public record CalendarHolidays(long version, Map<Integer, Map<String, Boolean>> yearHolidays,
+			Map<String, Boolean> holidays) {
+
+		public static final CalendarHolidays EMPTY = new CalendarHolidays(0, Map.of(), Map.of());
+
+		public boolean isLoaded(int year) {
+			return yearHolidays.containsKey(year);
+		}
+
+		public Boolean isHoliday(LocalDate localDate) {
+			return holidays.get(localDate.toString());
+		}
+
+		private CalendarHolidays withYear(long newVersion, int year, Map<String, Boolean> holidays) {
+			Map<Integer, Map<String, Boolean>> newYearHolidays = new TreeMap<>(yearHolidays);
+			newYearHolidays.put(year, Map.copyOf(holidays));
+			Map<String, Boolean> mergedHolidays = new HashMap<>();
+			newYearHolidays.values().forEach(mergedHolidays::putAll);
+			return new CalendarHolidays(newVersion, Map.copyOf(newYearHolidays), Map.copyOf(mergedHolidays));
+		}
+
+	}
+
+}
@@ -1,9 +1,12 @@
 package heartbeat.service.report.scheduler;
 
-import heartbeat.repository.FileType;
+import heartbeat.handler.AsyncMetricsDataHandler;
+import heartbeat.handler.ReportProgressPublisher;
+import heartbeat.repository.BuildKiteBuildStore;
 import heartbeat.repository.FileRepository;
-import lombok.RequiredArgsConstructor;
+import heartbeat.repository.JiraCardStore;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -11,21 +14,48 @@ import java.util.concurrent.TimeUnit;
 
 @Log4j2
 @Component
-@RequiredArgsConstructor
 public class DeleteExpireCSVScheduler {
 
 	public static final int DELETE_INTERVAL_IN_MINUTES = 5;
 
+	private static final long ONE_MEGABYTE = 1024L * 1024;
+
 	private final FileRepository fileRepository;
 
+	private final JiraCardStore jiraCardStore;
+
+	private final BuildKiteBuildStore buildKiteBuildStore;
+
+	private final AsyncMetricsDataHandler asyncMetricsDataHandler;
+
+	private final ReportProgressPublisher reportProgressPublisher;
+
+	private final long maxDiskSize;
+
+	public DeleteExpireCSVScheduler(FileRepository fileRepository, JiraCardStore jiraCardStore,
+			BuildKiteBuildStore buildKiteBuildStore, AsyncMetricsDataHandler asyncMetricsDataHandler,
+			ReportProgressPublisher reportProgressPublisher,
+			@Value("${report.retention.max-disk-size-mb}") long maxDiskSizeMb) {
+		this.fileRepository = fileRepository;
+		this.jiraCardStore = jiraCardStore;
+		this.buildKiteBuildStore = buildKiteBuildStore;
+		this.asyncMetricsDataHandler = asyncMetricsDataHandler;
+		this.reportProgressPublisher = reportProgressPublisher;
+		this.maxDiskSize = maxDiskSizeMb * ONE_MEGABYTE;
+	}
+
 	@Scheduled(fixedRate = DELETE_INTERVAL_IN_MINUTES, timeUnit = TimeUnit.MINUTES)
 	public void triggerBatchDelete() {
 		long currentTimeStamp = System.currentTimeMillis();
 		log.info("Start to delete expired files, currentTimeStamp: {}", currentTimeStamp);
-		fileRepository.removeExpiredFiles(FileType.CSV, currentTimeStamp);
-		fileRepository.removeExpiredFiles(FileType.REPORT, currentTimeStamp);
-		fileRepository.removeExpiredFiles(FileType.ERROR, currentTimeStamp);
-		fileRepository.removeExpiredFiles(FileType.METRICS_DATA_COMPLETED, currentTimeStamp);
+		fileRepository.removeExpiredFiles(currentTimeStamp - fileRepository.getRetentionTime());
+		if (maxDiskSize > 0) {
+			fileRepository.evictOldestFiles(maxDiskSize);
+		}
+		asyncMetricsDataHandler.removeExpiredMetricsDataCompleted(currentTimeStamp);
+		reportProgressPublisher.removeExpiredProgress(currentTimeStamp);
+		jiraCardStore.removeExpiredCards(currentTimeStamp);
+		buildKiteBuildStore.removeExpiredBuilds(currentTimeStamp);
 	}
 
 }
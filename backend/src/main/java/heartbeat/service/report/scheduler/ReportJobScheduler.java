@@ -0,0 +1,282 @@
+package heartbeat.service.report.scheduler;
+
+import heartbeat.exception.ServiceUnavailableException;
+import heartbeat.exception.TooManyRequestsException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+@Log4j2
+@Component
+public class ReportJobScheduler {
+
+	private static final String SATURATED_MESSAGE = "Too many report requests in progress, please retry later";
+
+	private static final String SHUTDOWN_MESSAGE = "Report jobs are not accepted while the service is shutting down";
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private final Condition jobAvailable = lock.newCondition();
+
+	private final Deque<QueuedJob> interactiveJobs = new ArrayDeque<>();
+
+	private final Map<String, Deque<QueuedJob>> bulkJobsByTenant = new LinkedHashMap<>();
+
+	private final List<Thread> workers = new ArrayList<>();
+
+	private final int bulkWorkerLimit;
+
+	private final int interactiveQueueCapacity;
+
+	private final int bulkQueueCapacity;
+
+	private int queuedBulkJobs;
+
+	private int reservedBulkJobs;
+
+	private int runningBulkJobs;
+
+	private volatile boolean shutdown;
+
+	public ReportJobScheduler(@Value("${report.scheduler.workers}") int workerCount,
+			@Value("${report.scheduler.reserved-interactive-workers}") int reservedInteractiveWorkers,
+			@Value("${report.scheduler.interactive-queue-capacity}") int interactiveQueueCapacity,
+			@Value("${report.scheduler.bulk-queue-capacity}") int bulkQueueCapacity) {
+		if (reservedInteractiveWorkers < 0 || reservedInteractiveWorkers >= workerCount) {
+			throw new IllegalArgumentException("Reserved interactive workers must be between 0 and workers - 1");
+		}
+		this.bulkWorkerLimit = workerCount - reservedInteractiveWorkers;
+		this.interactiveQueueCapacity = interactiveQueueCapacity;
+		this.bulkQueueCapacity = bulkQueueCapacity;
+
+		ThreadFactory threadFactory = new CustomizableThreadFactory("Heartbeat-report-");
+		for (int i = 0; i < workerCount; i++) {
+			Thread worker = threadFactory.newThread(this::runWorker);
+			worker.setDaemon(true);
+			workers.add(worker);
+			worker.start();
+		}
+	}
+
+	public <T> T callInteractive(Supplier<T> job) {
+		CompletableFuture<T> future = new CompletableFuture<>();
+		lock.lock();
+		try {
+			rejectIfShutdown();
+			if (interactiveJobs.size() >= interactiveQueueCapacity) {
+				log.warn("Failed to schedule interactive job, queued interactive jobs: {}", interactiveJobs.size());
+				throw new TooManyRequestsException(SATURATED_MESSAGE);
+			}
+			interactiveJobs.add(new QueuedJob(() -> complete(future, job), future));
+			jobAvailable.signalAll();
+		}
+		finally {
+			lock.unlock();
+		}
+		try {
+			return future.join();
+		}
+		catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	public List<CompletableFuture<Void>> submitBulk(String tenant, List<Runnable> jobs) {
+		lock.lock();
+		try {
+			reserveBulk(tenant, jobs.size());
+			return submitReservedBulk(tenant, jobs);
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	// admits the jobs of a report before it is initialized, so a rejected report leaves no state behind
+	public void reserveBulk(String tenant, int jobCount) {
+		lock.lock();
+		try {
+			rejectIfShutdown();
+			if (queuedBulkJobs + reservedBulkJobs + jobCount > bulkQueueCapacity) {
+				log.warn("Failed to schedule report jobs, tenant: {}, queued bulk jobs: {}, reserved bulk jobs: {}",
+						tenant, queuedBulkJobs, reservedBulkJobs);
+				throw new TooManyRequestsException(SATURATED_MESSAGE);
+			}
+			reservedBulkJobs += jobCount;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	public List<CompletableFuture<Void>> submitReservedBulk(String tenant, List<Runnable> jobs) {
+		lock.lock();
+		try {
+			reservedBulkJobs -= jobs.size();
+			return jobs.stream().map(job -> enqueueBulk(tenant, job)).toList();
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	public void releaseBulk(int jobCount) {
+		lock.lock();
+		try {
+			reservedBulkJobs -= jobCount;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	public CompletableFuture<Void> submitFollowUp(String tenant, Runnable job) {
+		lock.lock();
+		try {
+			return enqueueBulk(tenant, job);
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	// queued jobs are failed instead of dropped, so callers waiting on them are released before the workers stop
+	@PreDestroy
+	public void shutdown() {
+		List<QueuedJob> drainedJobs = new ArrayList<>();
+		lock.lock();
+		try {
+			shutdown = true;
+			drainedJobs.addAll(interactiveJobs);
+			interactiveJobs.clear();
+			bulkJobsByTenant.values().forEach(drainedJobs::addAll);
+			bulkJobsByTenant.clear();
+			queuedBulkJobs = 0;
+		}
+		finally {
+			lock.unlock();
+		}
+		workers.forEach(Thread::interrupt);
+		if (!drainedJobs.isEmpty()) {
+			log.warn("Failed {} queued report jobs due to shutdown", drainedJobs.size());
+		}
+		ServiceUnavailableException exception = new ServiceUnavailableException(SHUTDOWN_MESSAGE);
+		drainedJobs.forEach(queuedJob -> queuedJob.future().completeExceptionally(exception));
+	}
+
+	private void rejectIfShutdown() {
+		if (shutdown) {
+			throw new ServiceUnavailableException(SHUTDOWN_MESSAGE);
+		}
+	}
+
+	private CompletableFuture<Void> enqueueBulk(String tenant, Runnable job) {
+		rejectIfShutdown();
+		CompletableFuture<Void> future = new CompletableFuture<>();
+		bulkJobsByTenant.computeIfAbsent(tenant, key -> new ArrayDeque<>())
+			.add(new QueuedJob(() -> complete(future, () -> {
+				job.run();
+				return null;
+			}), future));
+		queuedBulkJobs++;
+		jobAvailable.signalAll();
+		return future;
+	}
+
+	private void runWorker() {
+		while (!shutdown) {
+			ScheduledJob scheduledJob;
+			try {
+				scheduledJob = takeJob();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+			try {
+				scheduledJob.job().run();
+			}
+			finally {
+				if (scheduledJob.bulk()) {
+					finishBulkJob();
+				}
+			}
+		}
+	}
+
+	private ScheduledJob takeJob() throws InterruptedException {
+		lock.lock();
+		try {
+			while (true) {
+				if (!interactiveJobs.isEmpty()) {
+					return new ScheduledJob(interactiveJobs.poll().job(), false);
+				}
+				if (queuedBulkJobs > 0 && runningBulkJobs < bulkWorkerLimit) {
+					queuedBulkJobs--;
+					runningBulkJobs++;
+					return new ScheduledJob(pollNextTenantJob(), true);
+				}
+				jobAvailable.await();
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private Runnable pollNextTenantJob() {
+		String tenant = bulkJobsByTenant.keySet().iterator().next();
+		Deque<QueuedJob> tenantJobs = bulkJobsByTenant.remove(tenant);
+		Runnable job = tenantJobs.poll().job();
+		if (!tenantJobs.isEmpty()) {
+			bulkJobsByTenant.put(tenant, tenantJobs);
+		}
+		return job;
+	}
+
+	private void finishBulkJob() {
+		lock.lock();
+		try {
+			runningBulkJobs--;
+			jobAvailable.signalAll();
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private static <T> void complete(CompletableFuture<T> future, Supplier<T> job) {
+		try {
+			future.complete(job.get());
+		}
+		catch (Throwable e) {
+			log.error("Failed to run report job, reason: {}", e.getMessage());
+			future.completeExceptionally(e);
+		}
+	}
+
+	private record QueuedJob(Runnable job, CompletableFuture<?> future) {
+	}
+
+	private record ScheduledJob(Runnable job, boolean bulk) {
+	}
+
+}
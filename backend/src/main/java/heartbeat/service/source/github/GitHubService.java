@@ -7,6 +7,8 @@ import heartbeat.client.dto.codebase.github.PipelineLeadTime;
 import heartbeat.client.dto.codebase.github.PullRequestInfo;
 import heartbeat.client.dto.pipeline.buildkite.DeployInfo;
 import heartbeat.client.dto.pipeline.buildkite.DeployTimes;
+import heartbeat.client.ratelimit.AdaptiveConcurrencyLimiter;
+import heartbeat.client.ratelimit.Upstream;
 import heartbeat.controller.report.dto.request.GenerateReportRequest;
 import heartbeat.exception.BadRequestException;
 import heartbeat.exception.BaseException;
@@ -44,6 +46,8 @@ public class GitHubService {
 
 	private final WorkDay workDay;
 
+	private final AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter;
+
 	public void verifyToken(String githubToken) {
 		try {
 			String token = TOKEN_TITLE + githubToken;
@@ -141,8 +145,9 @@ public class GitHubService {
 		return item.getPassedDeploy().stream().map(deployInfo -> {
 			CompletableFuture<List<PullRequestInfo>> pullRequestInfoFuture = CompletableFuture.supplyAsync(() -> {
 				try {
-					return gitHubFeignClient.getPullRequestListInfo(item.getRepository(), deployInfo.getCommitId(),
-							realToken);
+					return adaptiveConcurrencyLimiter.call(Upstream.GITHUB, realToken,
+							() -> gitHubFeignClient.getPullRequestListInfo(item.getRepository(),
+									deployInfo.getCommitId(), realToken));
 				}
 				catch (NotFoundException e) {
 					return Collections.emptyList();
@@ -187,8 +192,9 @@ public class GitHubService {
 			return noPrLeadTime;
 		}
 
-		List<CommitInfo> commitInfos = gitHubFeignClient.getPullRequestCommitInfo(item.getRepository(),
-				mergedPull.get().getNumber().toString(), realToken);
+		List<CommitInfo> commitInfos = adaptiveConcurrencyLimiter.call(Upstream.GITHUB, realToken,
+				() -> gitHubFeignClient.getPullRequestCommitInfo(item.getRepository(),
+						mergedPull.get().getNumber().toString(), realToken));
 		CommitInfo firstCommitInfo = commitInfos.get(0);
 		if (!mergedPull.get().getMergeCommitSha().equals(deployInfo.getCommitId())) {
 			return noPrLeadTime;
@@ -204,7 +210,8 @@ public class GitHubService {
 		long firstCommitTime;
 		CommitInfo commitInfo = new CommitInfo();
 		try {
-			commitInfo = gitHubFeignClient.getCommitInfo(item.getRepository(), deployInfo.getCommitId(), realToken);
+			commitInfo = adaptiveConcurrencyLimiter.call(Upstream.GITHUB, realToken,
+					() -> gitHubFeignClient.getCommitInfo(item.getRepository(), deployInfo.getCommitId(), realToken));
 		}
 		catch (Exception e) {
 			log.error("Failed to get commit info_repoId: {},commitId: {}, error: {}", item.getRepository(),
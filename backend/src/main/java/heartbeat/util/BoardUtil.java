@@ -1,7 +1,8 @@
 package heartbeat.util;
 
 import heartbeat.controller.board.dto.request.CardStepsEnum;
-import heartbeat.controller.board.dto.response.CycleTimeInfo;
+import heartbeat.controller.board.dto.response.ColumnDictionary;
+import heartbeat.controller.board.dto.response.CycleTimeColumns;
 import heartbeat.controller.board.dto.response.StatusChangedItem;
 import heartbeat.controller.board.dto.response.StatusTimeStamp;
 import heartbeat.controller.report.dto.request.CalendarTypeEnum;
@@ -22,18 +23,18 @@ public class BoardUtil {
 
 	private final WorkDay workDay;
 
-	public List<CycleTimeInfo> getOriginCycleTimeInfos(List<StatusChangedItem> statusChangedArray,
-			Boolean treatFlagCardAsBlock, CalendarTypeEnum calendarTypeEnum, ZoneId timezone) {
+	public CycleTimeColumns getOriginCycleTimeColumns(List<StatusChangedItem> statusChangedArray,
+			Boolean treatFlagCardAsBlock, CalendarTypeEnum calendarTypeEnum, ZoneId timezone,
+			ColumnDictionary columnDictionary) {
 		List<StatusTimeStamp> flagTimeStamp = getFlagTimeStamps(statusChangedArray);
 		List<StatusTimeStamp> columnTimeStamp = getColumnTimeStamps(statusChangedArray);
-		List<CycleTimeInfo> originCycleTimeInfos = calculateOriginCycleTime(flagTimeStamp, columnTimeStamp,
-				treatFlagCardAsBlock, calendarTypeEnum, timezone);
-		return getCollectRemovedDuplicates(originCycleTimeInfos);
+		return calculateOriginCycleTime(flagTimeStamp, columnTimeStamp, treatFlagCardAsBlock, calendarTypeEnum,
+				timezone, CycleTimeColumns.accumulator(columnDictionary));
 	}
 
-	public List<CycleTimeInfo> getCycleTimeInfos(List<StatusChangedItem> statusChangedArray,
+	public CycleTimeColumns getCycleTimeColumns(List<StatusChangedItem> statusChangedArray,
 			List<String> realDoneStatus, Boolean treatFlagCardAsBlock, CalendarTypeEnum calendarTypeEnum,
-			ZoneId timezone) {
+			ZoneId timezone, ColumnDictionary columnDictionary) {
 		List<StatusChangedItem> statusChangedByFiltered;
 		if (treatFlagCardAsBlock) {
 			statusChangedByFiltered = statusChangedArray;
@@ -49,45 +50,45 @@ public class BoardUtil {
 		List<StatusTimeStamp> flagTimeStamp = getFlagTimeStamps(statusChangedBySorted);
 		List<StatusTimeStamp> columnTimeStamp = getColumnTimeStamps(statusChangedBySorted);
 
-		List<CycleTimeInfo> cycleTimeInfos = calculateCycleTime(realDoneStatus, flagTimeStamp, columnTimeStamp,
-				calendarTypeEnum, timezone);
-
-		return getCollectRemovedDuplicates(cycleTimeInfos);
+		return calculateCycleTime(realDoneStatus, flagTimeStamp, columnTimeStamp, calendarTypeEnum, timezone,
+				CycleTimeColumns.accumulator(columnDictionary));
 	}
 
-	private List<CycleTimeInfo> calculateOriginCycleTime(List<StatusTimeStamp> flagTimeStamp,
+	private CycleTimeColumns calculateOriginCycleTime(List<StatusTimeStamp> flagTimeStamp,
 			List<StatusTimeStamp> columnTimeStamp, Boolean treatFlagCardAsBlock, CalendarTypeEnum calendarTypeEnum,
-			ZoneId timezone) {
-		List<CycleTimeInfo> originCycleTimeInfos = new ArrayList<>();
-
+			ZoneId timezone, CycleTimeColumns.Accumulator originCycleTime) {
+		boolean isFlagAsBlock = Boolean.TRUE.equals(treatFlagCardAsBlock);
 		for (StatusTimeStamp columnTimeStampItem : columnTimeStamp) {
+			String column = columnTimeStampItem.getStatus().toUpperCase();
+			if (isFlagAsBlock && Objects.equals(column, CardStepsEnum.BLOCK.getValue().toUpperCase())) {
+				continue;
+			}
 			double originColumnTimeInDays = workDay.calculateWorkDaysToTwoScale(columnTimeStampItem.getStartTimestamp(),
 					columnTimeStampItem.getEndTimestamp(), calendarTypeEnum, timezone);
-			originCycleTimeInfos.add(CycleTimeInfo.builder()
-				.day(originColumnTimeInDays)
-				.column(columnTimeStampItem.getStatus().toUpperCase())
-				.build());
+			originCycleTime.add(column, originColumnTimeInDays);
 		}
 
-		if (Boolean.TRUE.equals(treatFlagCardAsBlock)) {
+		if (isFlagAsBlock) {
 			double totalFlagTimeInDays = calculateTotalFlagCycleTime(flagTimeStamp, calendarTypeEnum, timezone);
-			originCycleTimeInfos
-				.add(CycleTimeInfo.builder().day(totalFlagTimeInDays).column(CardStepsEnum.FLAG.getValue()).build());
-			originCycleTimeInfos = originCycleTimeInfos.stream()
-				.filter(it -> !Objects.equals(it.getColumn(), CardStepsEnum.BLOCK.getValue().toUpperCase()))
-				.toList();
+			originCycleTime.add(CardStepsEnum.FLAG.getValue(), totalFlagTimeInDays);
 		}
 
-		return originCycleTimeInfos;
+		return originCycleTime.build();
 	}
 
-	private List<CycleTimeInfo> calculateCycleTime(List<String> realDoneStatus, List<StatusTimeStamp> flagTimeStamp,
-			List<StatusTimeStamp> columnTimeStamp, CalendarTypeEnum calendarTypeEnum, ZoneId timezone) {
-		List<CycleTimeInfo> cycleTimeInfos = new ArrayList<>();
+	private CycleTimeColumns calculateCycleTime(List<String> realDoneStatus, List<StatusTimeStamp> flagTimeStamp,
+			List<StatusTimeStamp> columnTimeStamp, CalendarTypeEnum calendarTypeEnum, ZoneId timezone,
+			CycleTimeColumns.Accumulator cycleTime) {
 		double totalFlagTimeInDays = calculateTotalFlagCycleTime(flagTimeStamp, calendarTypeEnum, timezone);
-		double totalFlagAndRealDoneOverlapTime = calculateTotalFlagAndRealDoneOverlapTime(realDoneStatus, flagTimeStamp,
-				columnTimeStamp, calendarTypeEnum, timezone);
-		for (StatusTimeStamp columnTimeStampItem : columnTimeStamp) {
+		double[] overlapTimeInDays = calculateOverlapTimes(columnTimeStamp, flagTimeStamp, calendarTypeEnum, timezone);
+		double totalFlagAndRealDoneOverlapTime = 0.0;
+		for (int i = 0; i < columnTimeStamp.size(); i++) {
+			if (realDoneStatus.contains(columnTimeStamp.get(i).getStatus().toUpperCase())) {
+				totalFlagAndRealDoneOverlapTime += overlapTimeInDays[i];
+			}
+		}
+		for (int i = 0; i < columnTimeStamp.size(); i++) {
+			StatusTimeStamp columnTimeStampItem = columnTimeStamp.get(i);
 			double originColumnTimeInDays = workDay.calculateWorkDaysToTwoScale(columnTimeStampItem.getStartTimestamp(),
 					columnTimeStampItem.getEndTimestamp(), calendarTypeEnum, timezone);
 			double realColumnTimeInDays;
@@ -95,30 +96,22 @@ public class BoardUtil {
 			if (realDoneStatus.contains(columnTimeStampItem.getStatus().toUpperCase())) {
 				realColumnTimeInDays = originColumnTimeInDays;
 			}
+			else if (Objects.equals(columnTimeStampItem.getStatus(), CardStepsEnum.BLOCK.getValue().toUpperCase())) {
+				realColumnTimeInDays = originColumnTimeInDays + totalFlagTimeInDays - overlapTimeInDays[i]
+						- totalFlagAndRealDoneOverlapTime;
+			}
 			else {
-				double totalOverlapTimeInDays = calculateTotalOverlapTime(columnTimeStampItem, flagTimeStamp,
-						calendarTypeEnum, timezone);
-				if (Objects.equals(columnTimeStampItem.getStatus(), CardStepsEnum.BLOCK.getValue().toUpperCase())) {
-					realColumnTimeInDays = originColumnTimeInDays + totalFlagTimeInDays - totalOverlapTimeInDays
-							- totalFlagAndRealDoneOverlapTime;
-				}
-				else {
-					realColumnTimeInDays = originColumnTimeInDays - totalOverlapTimeInDays;
-				}
+				realColumnTimeInDays = originColumnTimeInDays - overlapTimeInDays[i];
 			}
 
-			cycleTimeInfos.add(CycleTimeInfo.builder()
-				.day(realColumnTimeInDays)
-				.column(columnTimeStampItem.getStatus().toUpperCase())
-				.build());
+			cycleTime.add(columnTimeStampItem.getStatus().toUpperCase(), realColumnTimeInDays);
 		}
 		if (!isBlockColumnExisted(columnTimeStamp) && totalFlagTimeInDays > 0) {
 			double blockDays = totalFlagTimeInDays - totalFlagAndRealDoneOverlapTime;
-			cycleTimeInfos.add(
-					CycleTimeInfo.builder().day(blockDays).column(CardStepsEnum.FLAG.getValue().toUpperCase()).build());
+			cycleTime.add(CardStepsEnum.FLAG.getValue().toUpperCase(), blockDays);
 		}
 
-		return cycleTimeInfos;
+		return cycleTime.build();
 	}
 
 	private boolean isBlockColumnExisted(List<StatusTimeStamp> columnTimeStamp) {
@@ -130,17 +123,30 @@ public class BoardUtil {
 		return false;
 	}
 
-	private double calculateTotalFlagAndRealDoneOverlapTime(List<String> realDoneStatus,
-			List<StatusTimeStamp> flagTimeStamp, List<StatusTimeStamp> columnTimeStamp,
+	// Both lists come from the same sorted history, so each segment starts no earlier than the previous one ends
+	// and the segment that ends first cannot overlap anything later in the other list.
+	private double[] calculateOverlapTimes(List<StatusTimeStamp> columnTimeStamp, List<StatusTimeStamp> flagTimeStamp,
 			CalendarTypeEnum calendarTypeEnum, ZoneId timezone) {
-		double totalFlagAndRealDoneColumnOverlapTime = 0.0;
-		for (StatusTimeStamp columnTimeStampItem : columnTimeStamp) {
-			if (realDoneStatus.contains(columnTimeStampItem.getStatus().toUpperCase())) {
-				totalFlagAndRealDoneColumnOverlapTime += calculateTotalOverlapTime(columnTimeStampItem, flagTimeStamp,
-						calendarTypeEnum, timezone);
+		double[] overlapTimeInDays = new double[columnTimeStamp.size()];
+		int columnIndex = 0;
+		int flagIndex = 0;
+		while (columnIndex < columnTimeStamp.size() && flagIndex < flagTimeStamp.size()) {
+			StatusTimeStamp columnTimeStampItem = columnTimeStamp.get(columnIndex);
+			StatusTimeStamp flagTimeStampItem = flagTimeStamp.get(flagIndex);
+			StatusTimeStamp overlapTime = calculateOverlapTime(columnTimeStampItem, flagTimeStampItem);
+
+			if (overlapTime.getStartTimestamp() < overlapTime.getEndTimestamp()) {
+				overlapTimeInDays[columnIndex] += workDay.calculateWorkDaysToTwoScale(overlapTime.getStartTimestamp(),
+						overlapTime.getEndTimestamp(), calendarTypeEnum, timezone);
+			}
+			if (columnTimeStampItem.getEndTimestamp() <= flagTimeStampItem.getEndTimestamp()) {
+				columnIndex++;
+			}
+			else {
+				flagIndex++;
 			}
 		}
-		return totalFlagAndRealDoneColumnOverlapTime;
+		return overlapTimeInDays;
 	}
 
 	private static List<StatusChangedItem> getStatusChangedBySorted(List<StatusChangedItem> statusChangedArray) {
@@ -169,23 +175,6 @@ public class BoardUtil {
 		return getStatusTimeStamp(flagChangedArray);
 	}
 
-	private double calculateTotalOverlapTime(StatusTimeStamp columnTimeStampItem, List<StatusTimeStamp> flagTimeStamp,
-			CalendarTypeEnum calendarTypeEnum, ZoneId timezone) {
-		double totalOverlapTimeInDays = 0.0;
-
-		for (StatusTimeStamp flagTimeStampItem : flagTimeStamp) {
-			StatusTimeStamp overlapTime = calculateOverlapTime(columnTimeStampItem, flagTimeStampItem);
-
-			if (overlapTime.getStartTimestamp() < overlapTime.getEndTimestamp()) {
-				double overlapTimeInDays = workDay.calculateWorkDaysToTwoScale(overlapTime.getStartTimestamp(),
-						overlapTime.getEndTimestamp(), calendarTypeEnum, timezone);
-				totalOverlapTimeInDays += overlapTimeInDays;
-			}
-		}
-
-		return totalOverlapTimeInDays;
-	}
-
 	private double calculateTotalFlagCycleTime(List<StatusTimeStamp> flagTimeStamp, CalendarTypeEnum calendarTypeEnum,
 			ZoneId timezone) {
 		double totalFlagTimeInDays = 0.0;
@@ -207,18 +196,6 @@ public class BoardUtil {
 		return StatusTimeStamp.builder().startTimestamp(startTimestamp).endTimestamp(endTimestamp).build();
 	}
 
-	private static List<CycleTimeInfo> getCollectRemovedDuplicates(List<CycleTimeInfo> cycleTimeInfos) {
-		return cycleTimeInfos.stream()
-			.collect(Collectors.groupingBy(CycleTimeInfo::getColumn))
-			.entrySet()
-			.stream()
-			.map(entry -> CycleTimeInfo.builder()
-				.column(entry.getKey())
-				.day(entry.getValue().stream().map(CycleTimeInfo::getDay).mapToDouble(Double::doubleValue).sum())
-				.build())
-			.collect(Collectors.toList());
-	}
-
 	private List<StatusTimeStamp> getStatusTimeStamp(List<StatusChangedItem> statusChangedItems) {
 		List<StatusTimeStamp> statusTimeStamps = new ArrayList<>();
 
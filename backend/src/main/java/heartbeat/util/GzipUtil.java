@@ -0,0 +1,64 @@
+package heartbeat.util;
+
+import heartbeat.exception.FileIOException;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+public interface GzipUtil {
+
+	String GZIP_ENCODING = "gzip";
+
+	int BUFFER_SIZE = 8192;
+
+	Pattern REJECTED_QUALITY = Pattern.compile(";q=0(\\.0*)?$", Pattern.CASE_INSENSITIVE);
+
+	static OutputStream compress(OutputStream outputStream) throws IOException {
+		return new GZIPOutputStream(outputStream, BUFFER_SIZE);
+	}
+
+	static boolean isCompressed(File file) {
+		try (InputStream inputStream = new FileInputStream(file)) {
+			return readMagic(inputStream) == GZIPInputStream.GZIP_MAGIC;
+		}
+		catch (IOException e) {
+			throw new FileIOException(e);
+		}
+	}
+
+	static InputStream openInputStream(File file) {
+		try {
+			InputStream inputStream = new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE);
+			inputStream.mark(2);
+			boolean compressed = readMagic(inputStream) == GZIPInputStream.GZIP_MAGIC;
+			inputStream.reset();
+			// files written before compression was introduced are still read as they are
+			return compressed ? new GZIPInputStream(inputStream, BUFFER_SIZE) : inputStream;
+		}
+		catch (IOException e) {
+			throw new FileIOException(e);
+		}
+	}
+
+	static boolean acceptsGzip(String acceptEncoding) {
+		return Arrays.stream(StringUtils.defaultString(acceptEncoding).split(","))
+			.map(StringUtils::deleteWhitespace)
+			.anyMatch(coding -> GZIP_ENCODING.equalsIgnoreCase(coding)
+					|| StringUtils.startsWithIgnoreCase(coding, GZIP_ENCODING + ";")
+							&& !REJECTED_QUALITY.matcher(coding).find());
+	}
+
+	private static int readMagic(InputStream inputStream) throws IOException {
+		return inputStream.read() | inputStream.read() << 8;
+	}
+
+}
@@ -0,0 +1,44 @@
+package heartbeat.util;
+
+import java.util.Objects;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+public class StripedLock {
+
+	private final Lock[] stripes;
+
+	public StripedLock(int stripeCount) {
+		if (stripeCount <= 0) {
+			throw new IllegalArgumentException("Stripe count must be positive, stripeCount: " + stripeCount);
+		}
+		this.stripes = new Lock[stripeCount];
+		for (int i = 0; i < stripeCount; i++) {
+			stripes[i] = new ReentrantLock();
+		}
+	}
+
+	public Lock get(Object key) {
+		return stripes[Math.floorMod(Objects.hashCode(key), stripes.length)];
+	}
+
+	public <T> T supplyWithLock(Object key, Supplier<T> action) {
+		Lock lock = get(key);
+		lock.lock();
+		try {
+			return action.get();
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	public void runWithLock(Object key, Runnable action) {
+		supplyWithLock(key, () -> {
+			action.run();
+			return null;
+		});
+	}
+
+}
@@ -0,0 +1,294 @@
+package heartbeat.client.ratelimit;
+
+import feign.Request;
+import feign.Request.HttpMethod;
+import feign.Response;
+import heartbeat.exception.InternalServerErrorException;
+import heartbeat.exception.RequestFailedException;
+import heartbeat.exception.UnauthorizedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveConcurrencyLimiterTest {
+
+	private static final String TOKEN = "Bearer token";
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(meterRegistry, 4, 5, 10, 2, 0,
+			30);
+
+	@Test
+	void shouldIncreaseLimitAdditivelyUntilMaxConcurrencyWhenRequestSucceeds() {
+		assertEquals("cards", limiter.call(Upstream.JIRA, TOKEN, () -> "cards"));
+		assertEquals(4.25, getLimit(Upstream.JIRA));
+
+		for (int i = 0; i < 10; i++) {
+			limiter.call(Upstream.JIRA, TOKEN, () -> "cards");
+		}
+
+		assertEquals(5, getLimit(Upstream.JIRA));
+		assertEquals(0, getInFlight(Upstream.JIRA));
+	}
+
+	@Test
+	void shouldHalveLimitWhenUpstreamIsThrottled() {
+		limiter.onErrorResponse(Upstream.GITHUB, buildResponse(429, Map.of()));
+
+		assertEquals(2, getLimit(Upstream.GITHUB));
+		assertEquals(1, meterRegistry.get("heartbeat.upstream.throttled").counter().count());
+
+		limiter.onErrorResponse(Upstream.GITHUB, buildResponse(429, Map.of()));
+		limiter.onErrorResponse(Upstream.GITHUB, buildResponse(429, Map.of()));
+
+		assertEquals(1, getLimit(Upstream.GITHUB));
+	}
+
+	@Test
+	void shouldHalveLimitWhenRemainingBudgetIsLow() {
+		limiter.onErrorResponse(Upstream.BUILDKITE,
+				buildResponse(400, Map.of(AdaptiveConcurrencyLimiter.RATE_LIMIT_REMAINING, List.of("100"))));
+		assertEquals(4, getLimit(Upstream.BUILDKITE));
+
+		limiter.onErrorResponse(Upstream.BUILDKITE,
+				buildResponse(400, Map.of(AdaptiveConcurrencyLimiter.RATE_LIMIT_REMAINING, List.of("5"))));
+		assertEquals(2, getLimit(Upstream.BUILDKITE));
+
+		limiter.onErrorResponse(Upstream.BUILDKITE,
+				buildResponse(400, Map.of(AdaptiveConcurrencyLimiter.RATE_LIMIT_REMAINING, List.of("invalid"))));
+		assertEquals(2, getLimit(Upstream.BUILDKITE));
+		assertEquals(0, meterRegistry.get("heartbeat.upstream.throttled").counter().count());
+	}
+
+	@Test
+	void shouldThrottleWhenRemainingBudgetIsExhausted() {
+		long pastEpochSeconds = System.currentTimeMillis() / 1000 - 10;
+		String pastDate = ZonedDateTime.now(ZoneOffset.UTC).minusSeconds(10).format(DateTimeFormatter.RFC_1123_DATE_TIME);
+
+		limiter.onErrorResponse(Upstream.GITHUB,
+				buildResponse(403, Map.of(AdaptiveConcurrencyLimiter.X_RATE_LIMIT_REMAINING, List.of("0"),
+						AdaptiveConcurrencyLimiter.X_RATE_LIMIT_RESET, List.of(String.valueOf(pastEpochSeconds)))));
+		limiter.onErrorResponse(Upstream.GITHUB,
+				buildResponse(403, Map.of(AdaptiveConcurrencyLimiter.X_RATE_LIMIT_REMAINING, List.of("0"),
+						AdaptiveConcurrencyLimiter.RATE_LIMIT_RESET, List.of("0"))));
+		limiter.onErrorResponse(Upstream.GITHUB,
+				buildResponse(429, Map.of(AdaptiveConcurrencyLimiter.RETRY_AFTER, List.of(pastDate))));
+		limiter.onErrorResponse(Upstream.GITHUB,
+				buildResponse(429, Map.of(AdaptiveConcurrencyLimiter.RETRY_AFTER, List.of("invalid"))));
+
+		assertEquals(4, meterRegistry.get("heartbeat.upstream.throttled").counter().count());
+		assertEquals("commits", limiter.call(Upstream.GITHUB, TOKEN, () -> "commits"));
+	}
+
+	@Test
+	void shouldWaitForRetryAfterBeforeNextRequest() {
+		limiter.onErrorResponse(Upstream.JIRA,
+				buildResponse(429, Map.of(AdaptiveConcurrencyLimiter.RETRY_AFTER, List.of("1"))));
+		long start = System.currentTimeMillis();
+
+		limiter.call(Upstream.JIRA, TOKEN, () -> "cards");
+
+		assertTrue(System.currentTimeMillis() - start >= 900);
+	}
+
+	@Test
+	void shouldRetryThrottledRequest() {
+		AtomicInteger attempts = new AtomicInteger();
+
+		String result = limiter.call(Upstream.JIRA, TOKEN, () -> {
+			if (attempts.incrementAndGet() < 3) {
+				throw new RequestFailedException(429, "Client Error");
+			}
+			return "cards";
+		});
+
+		assertEquals("cards", result);
+		assertEquals(3, attempts.get());
+	}
+
+	@Test
+	void shouldThrowExceptionWhenThrottledRetriesAreExhausted() {
+		AtomicInteger attempts = new AtomicInteger();
+
+		assertThrows(RequestFailedException.class, () -> limiter.call(Upstream.JIRA, TOKEN, () -> {
+			attempts.incrementAndGet();
+			throw new RequestFailedException(429, "Client Error");
+		}));
+		assertEquals(3, attempts.get());
+		assertEquals(0, getInFlight(Upstream.JIRA));
+	}
+
+	@Test
+	void shouldNotRetryWhenRequestFailedForOtherReason() {
+		AtomicInteger attempts = new AtomicInteger();
+
+		assertThrows(UnauthorizedException.class, () -> limiter.call(Upstream.JIRA, TOKEN, () -> {
+			attempts.incrementAndGet();
+			throw new UnauthorizedException("Failed to get jira cards");
+		}));
+		assertEquals(1, attempts.get());
+	}
+
+	@Test
+	void shouldLimitConcurrentRequestsPerUpstreamAndCredential() throws Exception {
+		AdaptiveConcurrencyLimiter singleLimiter = new AdaptiveConcurrencyLimiter(meterRegistry, 1, 1, 10, 2, 0, 30);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger secondStarted = new AtomicInteger();
+
+		CompletableFuture<String> first = CompletableFuture
+			.supplyAsync(() -> singleLimiter.call(Upstream.BUILDKITE, TOKEN, () -> {
+				started.countDown();
+				await(release);
+				return "first";
+			}));
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		CompletableFuture<String> second = CompletableFuture
+			.supplyAsync(() -> singleLimiter.call(Upstream.BUILDKITE, TOKEN, () -> {
+				secondStarted.incrementAndGet();
+				return "second";
+			}));
+
+		assertEquals("other", singleLimiter.call(Upstream.BUILDKITE, "Bearer other token", () -> "other"));
+		assertFalse(second.isDone());
+		assertEquals(0, secondStarted.get());
+		release.countDown();
+
+		assertEquals("first", first.get(5, TimeUnit.SECONDS));
+		assertEquals("second", second.get(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	void shouldTrackCredentialWithoutAuthorizationHeaderAsAnonymous() {
+		Response response = Response.builder()
+			.status(429)
+			.headers(Map.of())
+			.request(Request.create(HttpMethod.GET, "", Map.of(), null, null, null))
+			.build();
+
+		limiter.onErrorResponse(Upstream.JIRA, response);
+
+		assertEquals(2, meterRegistry.get("heartbeat.upstream.concurrency.limit")
+			.tag("upstream", Upstream.JIRA.name())
+			.tag("credential", "anonymous")
+			.gauge()
+			.value());
+	}
+
+	@Test
+	void shouldThrowInternalServerErrorWhenInterruptedWhileWaiting() {
+		limiter.onErrorResponse(Upstream.JIRA,
+				buildResponse(429, Map.of(AdaptiveConcurrencyLimiter.RETRY_AFTER, List.of("60"))));
+		Thread.currentThread().interrupt();
+
+		assertThrows(InternalServerErrorException.class, () -> limiter.call(Upstream.JIRA, TOKEN, () -> "cards"));
+		assertTrue(Thread.interrupted());
+	}
+
+	@Test
+	void shouldEvictIdleLimitAndRemoveItsMeters() {
+		AdaptiveConcurrencyLimiter evictingLimiter = new AdaptiveConcurrencyLimiter(meterRegistry, 4, 5, 10, 2, 0, 0);
+		evictingLimiter.call(Upstream.JIRA, TOKEN, () -> "cards");
+
+		evictingLimiter.evictIdleLimits();
+
+		assertTrue(meterRegistry.find("heartbeat.upstream.concurrency.limit").gauges().isEmpty());
+		assertTrue(meterRegistry.find("heartbeat.upstream.concurrency.in.flight").gauges().isEmpty());
+		assertTrue(meterRegistry.find("heartbeat.upstream.throttled").counters().isEmpty());
+		evictingLimiter.call(Upstream.JIRA, TOKEN, () -> "cards");
+		assertEquals(4.25, getLimit(Upstream.JIRA));
+	}
+
+	@Test
+	void shouldNotEvictRecentlyUsedLimit() {
+		limiter.call(Upstream.JIRA, TOKEN, () -> "cards");
+
+		limiter.evictIdleLimits();
+
+		assertEquals(4.25, getLimit(Upstream.JIRA));
+	}
+
+	@Test
+	void shouldNotEvictLimitHoldingPermit() throws Exception {
+		AdaptiveConcurrencyLimiter evictingLimiter = new AdaptiveConcurrencyLimiter(meterRegistry, 4, 5, 10, 2, 0, 0);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<String> running = CompletableFuture
+			.supplyAsync(() -> evictingLimiter.call(Upstream.JIRA, TOKEN, () -> {
+				started.countDown();
+				await(release);
+				return "cards";
+			}));
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+
+		evictingLimiter.evictIdleLimits();
+
+		assertEquals(1, getInFlight(Upstream.JIRA));
+		release.countDown();
+		assertEquals("cards", running.get(5, TimeUnit.SECONDS));
+		assertEquals(0, getInFlight(Upstream.JIRA));
+	}
+
+	@Test
+	void shouldNotEvictLimitWaitingForPermit() throws Exception {
+		AdaptiveConcurrencyLimiter evictingLimiter = new AdaptiveConcurrencyLimiter(meterRegistry, 4, 5, 10, 2, 0, 0);
+		evictingLimiter.onErrorResponse(Upstream.JIRA,
+				buildResponse(429, Map.of(AdaptiveConcurrencyLimiter.RETRY_AFTER, List.of("1"))));
+		CompletableFuture<String> waiting = CompletableFuture
+			.supplyAsync(() -> evictingLimiter.call(Upstream.JIRA, TOKEN, () -> "cards"));
+		TimeUnit.MILLISECONDS.sleep(200); // NOSONAR
+
+		evictingLimiter.evictIdleLimits();
+
+		assertEquals(1, meterRegistry.get("heartbeat.upstream.throttled").counter().count());
+		assertEquals("cards", waiting.get(5, TimeUnit.SECONDS));
+	}
+
+	private double getLimit(Upstream upstream) {
+		return meterRegistry.get("heartbeat.upstream.concurrency.limit")
+			.tag("upstream", upstream.name())
+			.gauge()
+			.value();
+	}
+
+	private double getInFlight(Upstream upstream) {
+		return meterRegistry.get("heartbeat.upstream.concurrency.in.flight")
+			.tag("upstream", upstream.name())
+			.gauge()
+			.value();
+	}
+
+	private static Response buildResponse(int status, Map<String, Collection<String>> headers) {
+		return Response.builder()
+			.status(status)
+			.headers(headers)
+			.request(Request.create(HttpMethod.GET, "", Map.of("Authorization", List.of(TOKEN)), null, null, null))
+			.build();
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
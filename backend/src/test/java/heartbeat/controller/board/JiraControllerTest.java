@@ -18,6 +18,8 @@ import heartbeat.controller.board.dto.request.BoardVerifyRequestParam;
 import heartbeat.controller.board.dto.response.BoardConfigDTO;
 import heartbeat.exception.RequestFailedException;
 import heartbeat.service.board.jira.JiraService;
+import heartbeat.service.report.scheduler.ReportJobScheduler;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -28,6 +30,8 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.function.Supplier;
+
 @WebMvcTest(BoardController.class)
 @ExtendWith(SpringExtension.class)
 @AutoConfigureJsonTesters
@@ -36,9 +40,18 @@ public class JiraControllerTest {
 	@MockBean
 	private JiraService jiraService;
 
+	@MockBean
+	private ReportJobScheduler reportJobScheduler;
+
 	@Autowired
 	private MockMvc mockMvc;
 
+	@BeforeEach
+	void setUp() {
+		when(reportJobScheduler.callInteractive(any()))
+			.thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+	}
+
 	private final static BoardType BOARD_TYPE = BoardType.JIRA;
 
 	@Test
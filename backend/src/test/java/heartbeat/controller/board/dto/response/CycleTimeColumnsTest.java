@@ -0,0 +1,57 @@
+package heartbeat.controller.board.dto.response;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CycleTimeColumnsTest {
+
+	@Test
+	void shouldSumDaysOfSameColumn() {
+		CycleTimeColumns cycleTimeColumns = CycleTimeColumns.of(List.of(
+				CycleTimeInfo.builder().column("DOING").day(1.5).build(),
+				CycleTimeInfo.builder().column("TESTING").day(2.0).build(),
+				CycleTimeInfo.builder().column("DOING").day(0.25).build()));
+
+		assertEquals(1.75, cycleTimeColumns.findDay("DOING"));
+		assertEquals(2.0, cycleTimeColumns.findDay("TESTING"));
+		assertNull(cycleTimeColumns.findDay("DONE"));
+		assertEquals(Map.of("DOING", 1.75, "TESTING", 2.0), toMap(cycleTimeColumns));
+	}
+
+	@Test
+	void shouldOnlyReturnColumnsOfCardWhenDictionaryIsSharedByBoard() {
+		ColumnDictionary columnDictionary = new ColumnDictionary();
+		CycleTimeColumns.Accumulator firstCard = CycleTimeColumns.accumulator(columnDictionary);
+		firstCard.add("DOING", 1.0);
+		firstCard.add("REVIEW", 0.5);
+		CycleTimeColumns firstCycleTime = firstCard.build();
+		CycleTimeColumns.Accumulator secondCard = CycleTimeColumns.accumulator(columnDictionary);
+		secondCard.add("REVIEW", 2.0);
+		secondCard.add("DONE", 3.0);
+		CycleTimeColumns secondCycleTime = secondCard.build();
+
+		assertEquals(Map.of("DOING", 1.0, "REVIEW", 0.5), toMap(firstCycleTime));
+		assertNull(firstCycleTime.findDay("DONE"));
+		assertEquals(Map.of("REVIEW", 2.0, "DONE", 3.0), toMap(secondCycleTime));
+		assertNull(secondCycleTime.findDay("DOING"));
+	}
+
+	@Test
+	void shouldReturnNothingWhenCycleTimeIsEmpty() {
+		assertEquals(Map.of(), toMap(CycleTimeColumns.EMPTY));
+		assertNull(CycleTimeColumns.EMPTY.findDay("DOING"));
+	}
+
+	private static Map<String, Double> toMap(CycleTimeColumns cycleTimeColumns) {
+		Map<String, Double> cycleTime = new LinkedHashMap<>();
+		cycleTimeColumns.forEach(cycleTime::put);
+		return cycleTime;
+	}
+
+}
@@ -8,8 +8,6 @@ import heartbeat.client.dto.board.jira.JiraCardField;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
-import java.util.List;
-
 public class JiraCardDTOTest {
 
 	@Nested
@@ -20,7 +18,7 @@ public class JiraCardDTOTest {
 			assertEquals("",
 					JiraCardDTO.builder()
 						.cardCycleTime(CardCycleTime.builder().build())
-						.cycleTime(List.of())
+						.cycleTime(CycleTimeColumns.EMPTY)
 						.build()
 						.getTotalCycleTimeDivideStoryPoints());
 		}
@@ -29,7 +27,7 @@ public class JiraCardDTOTest {
 		void shouldReturnEmptyWhenCardCycleTimeIsNull() {
 			assertEquals("",
 					JiraCardDTO.builder()
-						.cycleTime(List.of())
+						.cycleTime(CycleTimeColumns.EMPTY)
 						.baseInfo(JiraCard.builder().build())
 						.build()
 						.getTotalCycleTimeDivideStoryPoints());
@@ -40,7 +38,7 @@ public class JiraCardDTOTest {
 			assertEquals("",
 					JiraCardDTO.builder()
 						.cardCycleTime(CardCycleTime.builder().build())
-						.cycleTime(List.of())
+						.cycleTime(CycleTimeColumns.EMPTY)
 						.baseInfo(JiraCard.builder().build())
 						.build()
 						.getTotalCycleTimeDivideStoryPoints());
@@ -17,12 +17,15 @@ import heartbeat.controller.pipeline.dto.response.BuildKiteResponseDTO;
 import heartbeat.controller.pipeline.dto.response.Pipeline;
 import heartbeat.controller.pipeline.dto.response.PipelineStepsDTO;
 import heartbeat.service.pipeline.buildkite.BuildKiteService;
+import heartbeat.service.report.scheduler.ReportJobScheduler;
 
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Supplier;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -46,9 +49,18 @@ public class BuildKiteControllerTest {
 	@MockBean
 	private BuildKiteService buildKiteService;
 
+	@MockBean
+	private ReportJobScheduler reportJobScheduler;
+
 	@Autowired
 	private MockMvc mockMvc;
 
+	@BeforeEach
+	void setUp() {
+		when(reportJobScheduler.callInteractive(any()))
+			.thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+	}
+
 	@Test
 	void shouldReturnCorrectPipelineStepsWhenCalBuildKiteMockServer() throws Exception {
 		List<String> steps = List.of(":docker: publish image to cloudsmith", ":maven: :wrench: Build");
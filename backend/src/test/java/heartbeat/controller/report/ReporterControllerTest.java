@@ -8,28 +8,40 @@ import heartbeat.controller.report.dto.response.ReportResponse;
 import heartbeat.controller.report.dto.response.ShareApiDetailsResponse;
 import heartbeat.controller.report.dto.response.UuidResponse;
 import heartbeat.exception.GenerateReportException;
+import heartbeat.handler.ReportProgressPublisher;
+import heartbeat.service.report.ComposedReportCache.CachedReportResponse;
 import heartbeat.service.report.GenerateReporterService;
 import heartbeat.service.report.ReportService;
 import heartbeat.tools.TimeUtils;
+import heartbeat.util.GzipUtil;
 import lombok.extern.log4j.Log4j2;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.json.AutoConfigureJsonTesters;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Flux;
 
-import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Optional;
 
-import static heartbeat.repository.FileRepository.EXPORT_CSV_VALIDITY_TIME;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
@@ -38,9 +50,13 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(ReportController.class)
@@ -57,15 +73,23 @@ class ReporterControllerTest {
 	@MockBean
 	private ReportService reporterService;
 
+	@MockBean
+	private ReportProgressPublisher reportProgressPublisher;
+
 	@Autowired
 	private MockMvc mockMvc;
 
+	@TempDir
+	private Path tempDir;
+
 	private final ObjectMapper mapper = new ObjectMapper();
 
 	public static final String START_TIME = "20240310";
 
 	public static final String END_TIME = "20240409";
 
+	private static final long RETENTION_TIME = 1000L * 3600 * 24 * 7;
+
 	@Test
 	void shouldGetSuccessDataGivenReportId() throws Exception {
 		String timeStamp = Long.toString(System.currentTimeMillis());
@@ -74,59 +98,263 @@ class ReporterControllerTest {
 			.allMetricsCompleted(true)
 			.build();
 
-		when(generateReporterService.getComposedReportResponse(timeStamp, START_TIME, END_TIME))
-			.thenReturn(mockReportResponse);
+		when(generateReporterService.getCachedComposedReportResponse(timeStamp, START_TIME, END_TIME))
+			.thenReturn(new CachedReportResponse(mockReportResponse, "report-etag", 1, null));
 
 		String reportResponseString = mockMvc
 			.perform(get("/reports/{reportId}/detail", timeStamp).param("startTime", START_TIME)
 				.param("endTime", END_TIME)
 				.contentType(MediaType.APPLICATION_JSON))
 			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.ETAG, "\"report-etag\""))
 			.andExpect(jsonPath("$.allMetricsCompleted").value(true))
 			.andReturn()
 			.getResponse()
 			.getContentAsString();
 		ReportResponse response = mapper.readValue(reportResponseString, new TypeReference<>() {
 		});
-		verify(generateReporterService).getComposedReportResponse(any(), any(), any());
+		verify(generateReporterService).getCachedComposedReportResponse(any(), any(), any());
 		assertEquals(true, response.getBoardMetricsCompleted());
 		assertEquals(true, response.getAllMetricsCompleted());
 	}
 
+	@Test
+	void shouldReturnNotModifiedWhenGetReportGivenMatchedETag() throws Exception {
+		String timeStamp = Long.toString(System.currentTimeMillis());
+		ReportResponse mockReportResponse = ReportResponse.builder().allMetricsCompleted(true).build();
+
+		when(generateReporterService.getCachedComposedReportResponse(timeStamp, START_TIME, END_TIME))
+			.thenReturn(new CachedReportResponse(mockReportResponse, "report-etag", 1, null));
+
+		MockHttpServletResponse response = mockMvc
+			.perform(get("/reports/{reportId}/detail", timeStamp).param("startTime", START_TIME)
+				.param("endTime", END_TIME)
+				.header(HttpHeaders.IF_NONE_MATCH, "\"report-etag\""))
+			.andExpect(status().isNotModified())
+			.andReturn()
+			.getResponse();
+
+		assertThat(response.getContentAsString()).isEmpty();
+	}
+
+	@Test
+	void shouldStreamReportProgressWhenReportIsInProgress() throws Exception {
+		String uuid = "test-uuid";
+		when(reportProgressPublisher.subscribe(uuid, START_TIME, END_TIME)).thenReturn(Optional.of(Flux.just(
+				ReportProgressPublisher.toEvent(ReportProgressPublisher.REPORT_EVENT,
+						ReportResponse.builder().boardMetricsCompleted(true).build()))));
+
+		MvcResult mvcResult = mockMvc
+			.perform(get("/reports/{uuid}/stream", uuid).param("startTime", START_TIME).param("endTime", END_TIME))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		mockMvc.perform(asyncDispatch(mvcResult))
+			.andExpect(status().isOk())
+			.andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM))
+			.andExpect(content().string(Matchers.containsString("event:report")))
+			.andExpect(content().string(Matchers.containsString("\"boardMetricsCompleted\":true")));
+		verify(generateReporterService, times(0)).getComposedReportResponse(any(), any(), any());
+	}
+
+	@Test
+	void shouldStreamComposedReportOnceWhenReportIsNotInProgress() throws Exception {
+		String uuid = "test-uuid";
+		when(reportProgressPublisher.subscribe(uuid, START_TIME, END_TIME)).thenReturn(Optional.empty());
+		when(generateReporterService.getComposedReportResponse(uuid, START_TIME, END_TIME))
+			.thenReturn(ReportResponse.builder().allMetricsCompleted(true).build());
+
+		MvcResult mvcResult = mockMvc
+			.perform(get("/reports/{uuid}/stream", uuid).param("startTime", START_TIME).param("endTime", END_TIME))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		mockMvc.perform(asyncDispatch(mvcResult))
+			.andExpect(status().isOk())
+			.andExpect(content().string(Matchers.containsString("\"allMetricsCompleted\":true")));
+		verify(generateReporterService).getComposedReportResponse(uuid, START_TIME, END_TIME);
+	}
+
 	@Test
 	void shouldReturn500StatusWhenRequestGenerateReportGivenReportTimeIsExpired() throws Exception {
-		String reportId = Long.toString(System.currentTimeMillis() - EXPORT_CSV_VALIDITY_TIME - 200L);
+		String reportId = Long.toString(System.currentTimeMillis() - RETENTION_TIME - 200L);
 		doThrow(new GenerateReportException("Failed to get report due to report time expires"))
 			.when(generateReporterService)
-			.getComposedReportResponse(any(), any(), any());
+			.getCachedComposedReportResponse(any(), any(), any());
 
 		mockMvc.perform(get("/reports/{reportId}/detail", reportId).contentType(MediaType.APPLICATION_JSON))
 			.andExpect(status().isInternalServerError())
 			.andExpect(jsonPath("$.message").value("Failed to get report due to report time expires"))
 			.andReturn()
 			.getResponse();
-		verify(generateReporterService).getComposedReportResponse(any(), any(), any());
+		verify(generateReporterService).getCachedComposedReportResponse(any(), any(), any());
 	}
 
 	@Test
 	void shouldReturnWhenExportCsv() throws Exception {
 		long timeStamp = TimeUtils.mockTimeStamp(2023, 5, 25, 18, 21, 20);
 		String expectedResponse = "csv data";
+		Path csvPath = Files.writeString(tempDir.resolve("pipeline.csv"), expectedResponse);
 
 		when(reporterService.exportCsv(ReportType.PIPELINE, String.valueOf(timeStamp), START_TIME, END_TIME))
-			.thenReturn(new InputStreamResource(new ByteArrayInputStream(expectedResponse.getBytes())));
+			.thenReturn(new FileSystemResource(csvPath));
 
 		MockHttpServletResponse response = mockMvc
 			.perform(get("/reports/{reportType}/{timeStamp}", ReportType.PIPELINE.getValue(), timeStamp)
 				.param("startTime", START_TIME)
 				.param("endTime", END_TIME))
 			.andExpect(status().isOk())
+			.andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, expectedResponse.length()))
+			.andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+			.andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, csvPath.toFile().lastModified() / 1000 * 1000))
+			.andExpect(header().exists(HttpHeaders.ETAG))
 			.andReturn()
 			.getResponse();
 
 		assertThat(response.getContentAsString()).isEqualTo(expectedResponse);
 	}
 
+	@Test
+	void shouldReturnPartialCsvWhenExportCsvGivenRange() throws Exception {
+		long timeStamp = TimeUtils.mockTimeStamp(2023, 5, 25, 18, 21, 20);
+		Path csvPath = Files.writeString(tempDir.resolve("pipeline.csv"), "csv data");
+
+		when(reporterService.exportCsv(ReportType.PIPELINE, String.valueOf(timeStamp), START_TIME, END_TIME))
+			.thenReturn(new FileSystemResource(csvPath));
+
+		MockHttpServletResponse response = mockMvc
+			.perform(get("/reports/{reportType}/{timeStamp}", ReportType.PIPELINE.getValue(), timeStamp)
+				.param("startTime", START_TIME)
+				.param("endTime", END_TIME)
+				.header(HttpHeaders.RANGE, "bytes=4-"))
+			.andExpect(status().isPartialContent())
+			.andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 4-7/8"))
+			.andReturn()
+			.getResponse();
+
+		assertThat(response.getContentAsString()).isEqualTo("data");
+	}
+
+	@Test
+	void shouldReturnNotModifiedWhenExportCsvGivenMatchedETag() throws Exception {
+		long timeStamp = TimeUtils.mockTimeStamp(2023, 5, 25, 18, 21, 20);
+		Path csvPath = Files.writeString(tempDir.resolve("pipeline.csv"), "csv data");
+
+		when(reporterService.exportCsv(ReportType.PIPELINE, String.valueOf(timeStamp), START_TIME, END_TIME))
+			.thenReturn(new FileSystemResource(csvPath));
+		String eTag = mockMvc
+			.perform(get("/reports/{reportType}/{timeStamp}", ReportType.PIPELINE.getValue(), timeStamp)
+				.param("startTime", START_TIME)
+				.param("endTime", END_TIME))
+			.andReturn()
+			.getResponse()
+			.getHeader(HttpHeaders.ETAG);
+
+		MockHttpServletResponse response = mockMvc
+			.perform(get("/reports/{reportType}/{timeStamp}", ReportType.PIPELINE.getValue(), timeStamp)
+				.param("startTime", START_TIME)
+				.param("endTime", END_TIME)
+				.header(HttpHeaders.IF_NONE_MATCH, eTag))
+			.andExpect(status().isNotModified())
+			.andReturn()
+			.getResponse();
+
+		assertThat(response.getContentAsString()).isEmpty();
+	}
+
+	@Test
+	void shouldReturnCompressedCsvWhenExportCsvGivenClientAcceptsGzip() throws Exception {
+		long timeStamp = TimeUtils.mockTimeStamp(2023, 5, 25, 18, 21, 20);
+		Path csvPath = writeCompressedCsv("csv data");
+
+		when(reporterService.exportCsv(ReportType.PIPELINE, String.valueOf(timeStamp), START_TIME, END_TIME))
+			.thenReturn(new FileSystemResource(csvPath));
+
+		MockHttpServletResponse response = mockMvc
+			.perform(get("/reports/{reportType}/{timeStamp}", ReportType.PIPELINE.getValue(), timeStamp)
+				.param("startTime", START_TIME)
+				.param("endTime", END_TIME)
+				.header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+			.andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+			.andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, Files.size(csvPath)))
+			.andReturn()
+			.getResponse();
+
+		assertThat(response.getContentAsByteArray()).isEqualTo(Files.readAllBytes(csvPath));
+	}
+
+	@Test
+	void shouldReturnDecompressedCsvWhenExportCsvGivenClientDoesNotAcceptGzip() throws Exception {
+		long timeStamp = TimeUtils.mockTimeStamp(2023, 5, 25, 18, 21, 20);
+		Path csvPath = writeCompressedCsv("csv data");
+
+		when(reporterService.exportCsv(ReportType.PIPELINE, String.valueOf(timeStamp), START_TIME, END_TIME))
+			.thenReturn(new FileSystemResource(csvPath));
+
+		MockHttpServletResponse response = mockMvc
+			.perform(get("/reports/{reportType}/{timeStamp}", ReportType.PIPELINE.getValue(), timeStamp)
+				.param("startTime", START_TIME)
+				.param("endTime", END_TIME))
+			.andExpect(status().isOk())
+			.andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+			.andExpect(header().exists(HttpHeaders.ETAG))
+			.andReturn()
+			.getResponse();
+
+		assertThat(response.getContentAsString()).isEqualTo("csv data");
+	}
+
+	@Test
+	void shouldReturnWholeDecompressedCsvWhenExportCsvGivenRangeAndClientDoesNotAcceptGzip() throws Exception {
+		long timeStamp = TimeUtils.mockTimeStamp(2023, 5, 25, 18, 21, 20);
+		Path csvPath = writeCompressedCsv("csv data");
+
+		when(reporterService.exportCsv(ReportType.PIPELINE, String.valueOf(timeStamp), START_TIME, END_TIME))
+			.thenReturn(new FileSystemResource(csvPath));
+
+		MockHttpServletResponse response = mockMvc
+			.perform(get("/reports/{reportType}/{timeStamp}", ReportType.PIPELINE.getValue(), timeStamp)
+				.param("startTime", START_TIME)
+				.param("endTime", END_TIME)
+				.header(HttpHeaders.RANGE, "bytes=4-"))
+			.andExpect(status().isOk())
+			.andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "none"))
+			.andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+			.andReturn()
+			.getResponse();
+
+		assertThat(response.getContentAsString()).isEqualTo("csv data");
+	}
+
+	@Test
+	void shouldReturnNotModifiedWhenExportDecompressedCsvGivenMatchedETag() throws Exception {
+		long timeStamp = TimeUtils.mockTimeStamp(2023, 5, 25, 18, 21, 20);
+		Path csvPath = writeCompressedCsv("csv data");
+
+		when(reporterService.exportCsv(ReportType.PIPELINE, String.valueOf(timeStamp), START_TIME, END_TIME))
+			.thenReturn(new FileSystemResource(csvPath));
+		String eTag = mockMvc
+			.perform(get("/reports/{reportType}/{timeStamp}", ReportType.PIPELINE.getValue(), timeStamp)
+				.param("startTime", START_TIME)
+				.param("endTime", END_TIME))
+			.andReturn()
+			.getResponse()
+			.getHeader(HttpHeaders.ETAG);
+
+		MockHttpServletResponse response = mockMvc
+			.perform(get("/reports/{reportType}/{timeStamp}", ReportType.PIPELINE.getValue(), timeStamp)
+				.param("startTime", START_TIME)
+				.param("endTime", END_TIME)
+				.header(HttpHeaders.IF_NONE_MATCH, eTag))
+			.andExpect(status().isNotModified())
+			.andReturn()
+			.getResponse();
+
+		assertThat(response.getContentAsString()).isEmpty();
+	}
+
 	@Test
 	void shouldReturnCallBackUrlWithAcceptedStatusAndInvokeWhenGenerateReportByType() throws Exception {
 		ObjectMapper mapper = new ObjectMapper();
@@ -188,4 +416,12 @@ class ReporterControllerTest {
 		verify(reporterService, times(1)).getShareReportInfo(uuid);
 	}
 
+	private Path writeCompressedCsv(String content) throws IOException {
+		Path csvPath = tempDir.resolve("pipeline.csv");
+		try (OutputStream outputStream = GzipUtil.compress(new FileOutputStream(csvPath.toFile()))) {
+			outputStream.write(content.getBytes(StandardCharsets.UTF_8));
+		}
+		return csvPath;
+	}
+
 }
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import feign.Response;
 import heartbeat.exception.ServiceUnavailableException;
 import heartbeat.client.decoder.BuildKiteFeignClientDecoder;
+import heartbeat.client.ratelimit.AdaptiveConcurrencyLimiter;
 import heartbeat.exception.NotFoundException;
 import heartbeat.exception.RequestFailedException;
 import heartbeat.exception.UnauthorizedException;
@@ -14,6 +15,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 
@@ -22,11 +24,14 @@ class BuildKiteFeignClientDecoderTest {
 
 	private final ResponseMockUtil responseMock = new ResponseMockUtil();
 
+	@Mock
+	private AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter;
+
 	private BuildKiteFeignClientDecoder decoder;
 
 	@BeforeEach
 	void setup() {
-		decoder = new BuildKiteFeignClientDecoder();
+		decoder = new BuildKiteFeignClientDecoder(adaptiveConcurrencyLimiter);
 	}
 
 	@Test
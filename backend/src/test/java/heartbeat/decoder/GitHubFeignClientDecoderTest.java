@@ -7,6 +7,7 @@ import feign.Response;
 import heartbeat.exception.PermissionDenyException;
 import heartbeat.exception.ServiceUnavailableException;
 import heartbeat.client.decoder.GitHubFeignClientDecoder;
+import heartbeat.client.ratelimit.AdaptiveConcurrencyLimiter;
 import heartbeat.exception.NotFoundException;
 import heartbeat.exception.RequestFailedException;
 import heartbeat.exception.UnauthorizedException;
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 
@@ -23,11 +25,14 @@ class GitHubFeignClientDecoderTest {
 
 	private final ResponseMockUtil responseMock = new ResponseMockUtil();
 
+	@Mock
+	private AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter;
+
 	private GitHubFeignClientDecoder decoder;
 
 	@BeforeEach
 	void setup() {
-		decoder = new GitHubFeignClientDecoder();
+		decoder = new GitHubFeignClientDecoder(adaptiveConcurrencyLimiter);
 	}
 
 	@Test
@@ -2,10 +2,13 @@ package heartbeat.decoder;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
 
 import feign.Response;
 import heartbeat.exception.ServiceUnavailableException;
 import heartbeat.client.decoder.JiraFeignClientDecoder;
+import heartbeat.client.ratelimit.AdaptiveConcurrencyLimiter;
+import heartbeat.client.ratelimit.Upstream;
 import heartbeat.exception.NotFoundException;
 import heartbeat.exception.RequestFailedException;
 import heartbeat.exception.UnauthorizedException;
@@ -14,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 
@@ -22,11 +26,14 @@ class JiraFeignClientDecoderTest {
 
 	private final ResponseMockUtil responseMock = new ResponseMockUtil();
 
+	@Mock
+	private AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter;
+
 	private JiraFeignClientDecoder decoder;
 
 	@BeforeEach
 	void setup() {
-		decoder = new JiraFeignClientDecoder();
+		decoder = new JiraFeignClientDecoder(adaptiveConcurrencyLimiter);
 	}
 
 	@Test
@@ -78,6 +85,16 @@ class JiraFeignClientDecoderTest {
 		assertTrue(exception.getMessage().contains("UnKnown Error"));
 	}
 
+	@Test
+	void shouldReportErrorResponseToConcurrencyLimiter() {
+		Response response = responseMock.getMockResponse(HttpStatus.TOO_MANY_REQUESTS.value());
+
+		Exception exception = decoder.decode("getJiraCards", response);
+
+		assertEquals(RequestFailedException.class, exception.getClass());
+		verify(adaptiveConcurrencyLimiter).onErrorResponse(Upstream.JIRA, response);
+	}
+
 	@Test
 	void testDecodeTimeoutException() {
 		int statusCode = HttpStatus.SERVICE_UNAVAILABLE.value();
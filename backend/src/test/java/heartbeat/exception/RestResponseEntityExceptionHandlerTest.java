@@ -126,6 +126,19 @@ class RestResponseEntityExceptionHandlerTest {
 		assertEquals("Not found", errorResponse.getMessage());
 	}
 
+	@Test
+	public void shouldHandleTooManyRequestsException() {
+		TooManyRequestsException ex = new TooManyRequestsException("Too many requests");
+
+		ResponseEntity<Object> response = restExceptionHandler.handleTooManyRequestsException(ex);
+
+		assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+		assertNotNull(response.getBody());
+		assertTrue(response.getBody() instanceof RestApiErrorResponse);
+		RestApiErrorResponse errorResponse = (RestApiErrorResponse) response.getBody();
+		assertEquals("Too many requests", errorResponse.getMessage());
+	}
+
 	@Test
 	public void shouldHandleBadRequestException() {
 		BadRequestException ex = new BadRequestException("Bad request");
@@ -7,6 +7,10 @@ import heartbeat.exception.GenerateReportException;
 import heartbeat.exception.InternalServerErrorException;
 import heartbeat.repository.FilePrefixType;
 import heartbeat.repository.FileRepository;
+import heartbeat.repository.LocalReportStore;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.RepeatedTest;
@@ -16,6 +20,7 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -28,10 +33,19 @@ import static heartbeat.controller.report.dto.request.MetricType.DORA;
 import static heartbeat.repository.FileType.METRICS_DATA_COMPLETED;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -47,9 +61,23 @@ class AsyncMetricsDataHandlerTest {
 	@Mock
 	FileRepository fileRepository;
 
+	@Mock
+	ReportProgressPublisher reportProgressPublisher;
+
+	@Mock
+	ThreadPoolTaskExecutor metricsDataCompletedTaskExecutor;
+
 	@InjectMocks
 	AsyncMetricsDataHandler asyncMetricsDataHandler;
 
+	@BeforeEach
+	void setUp() {
+		lenient().doAnswer(invocation -> {
+			invocation.<Runnable>getArgument(0).run();
+			return null;
+		}).when(metricsDataCompletedTaskExecutor).execute(any());
+	}
+
 	@Nested
 	class UpdateMetricsDataCompletedInHandler {
 
@@ -80,13 +108,18 @@ class AsyncMetricsDataHandlerTest {
 
 			asyncMetricsDataHandler.updateMetricsDataCompletedInHandler(TEST_UUID, currentTime, BOARD, true);
 
-			assertTrue(metricsDataCompleted.boardMetricsCompleted());
-			assertNull(metricsDataCompleted.doraMetricsCompleted());
-			assertTrue(metricsDataCompleted.isSuccessfulCreateCsvFile());
+			MetricsDataCompleted updatedMetricsDataCompleted = asyncMetricsDataHandler
+				.getMetricsDataCompleted(TEST_UUID, currentTime);
+			assertTrue(updatedMetricsDataCompleted.boardMetricsCompleted());
+			assertNull(updatedMetricsDataCompleted.doraMetricsCompleted());
+			assertTrue(updatedMetricsDataCompleted.isSuccessfulCreateCsvFile());
+			assertFalse(metricsDataCompleted.boardMetricsCompleted());
 			verify(fileRepository, times(1)).readFileByType(METRICS_DATA_COMPLETED, TEST_UUID, currentTime,
 					MetricsDataCompleted.class, FilePrefixType.DATA_COMPLETED_PREFIX);
-			verify(fileRepository, times(1)).createFileByType(METRICS_DATA_COMPLETED, TEST_UUID, currentTime,
-					metricsDataCompleted, FilePrefixType.DATA_COMPLETED_PREFIX);
+			verify(fileRepository, timeout(5000)).createFileByType(METRICS_DATA_COMPLETED, TEST_UUID, currentTime,
+					updatedMetricsDataCompleted, FilePrefixType.DATA_COMPLETED_PREFIX);
+			verify(reportProgressPublisher).publishMetricsDataCompleted(TEST_UUID, currentTime,
+					updatedMetricsDataCompleted);
 		}
 
 		@Test
@@ -103,13 +136,15 @@ class AsyncMetricsDataHandlerTest {
 
 			asyncMetricsDataHandler.updateMetricsDataCompletedInHandler(TEST_UUID, currentTime, DORA, true);
 
-			assertNull(metricsDataCompleted.boardMetricsCompleted());
-			assertTrue(metricsDataCompleted.doraMetricsCompleted());
-			assertTrue(metricsDataCompleted.isSuccessfulCreateCsvFile());
+			MetricsDataCompleted updatedMetricsDataCompleted = asyncMetricsDataHandler
+				.getMetricsDataCompleted(TEST_UUID, currentTime);
+			assertNull(updatedMetricsDataCompleted.boardMetricsCompleted());
+			assertTrue(updatedMetricsDataCompleted.doraMetricsCompleted());
+			assertTrue(updatedMetricsDataCompleted.isSuccessfulCreateCsvFile());
 			verify(fileRepository, times(1)).readFileByType(METRICS_DATA_COMPLETED, TEST_UUID, currentTime,
 					MetricsDataCompleted.class, FilePrefixType.DATA_COMPLETED_PREFIX);
-			verify(fileRepository, times(1)).createFileByType(METRICS_DATA_COMPLETED, TEST_UUID, currentTime,
-					metricsDataCompleted, FilePrefixType.DATA_COMPLETED_PREFIX);
+			verify(fileRepository, timeout(5000)).createFileByType(METRICS_DATA_COMPLETED, TEST_UUID, currentTime,
+					updatedMetricsDataCompleted, FilePrefixType.DATA_COMPLETED_PREFIX);
 
 		}
 
@@ -128,13 +163,51 @@ class AsyncMetricsDataHandlerTest {
 
 			asyncMetricsDataHandler.updateMetricsDataCompletedInHandler(TEST_UUID, currentTime, BOARD, false);
 
-			assertTrue(metricsDataCompleted.boardMetricsCompleted());
-			assertFalse(metricsDataCompleted.doraMetricsCompleted());
-			assertFalse(metricsDataCompleted.isSuccessfulCreateCsvFile());
+			MetricsDataCompleted updatedMetricsDataCompleted = asyncMetricsDataHandler
+				.getMetricsDataCompleted(TEST_UUID, currentTime);
+			assertTrue(updatedMetricsDataCompleted.boardMetricsCompleted());
+			assertFalse(updatedMetricsDataCompleted.doraMetricsCompleted());
+			assertFalse(updatedMetricsDataCompleted.isSuccessfulCreateCsvFile());
 			verify(fileRepository, times(1)).readFileByType(METRICS_DATA_COMPLETED, TEST_UUID, currentTime,
 					MetricsDataCompleted.class, FilePrefixType.DATA_COMPLETED_PREFIX);
-			verify(fileRepository, times(1)).createFileByType(METRICS_DATA_COMPLETED, TEST_UUID, currentTime,
-					metricsDataCompleted, FilePrefixType.DATA_COMPLETED_PREFIX);
+			verify(fileRepository, timeout(5000)).createFileByType(METRICS_DATA_COMPLETED, TEST_UUID, currentTime,
+					updatedMetricsDataCompleted, FilePrefixType.DATA_COMPLETED_PREFIX);
+		}
+
+		@Test
+		void shouldKeepUpdatedMetricDataInMemoryWhenPersistingItFailed() {
+			String currentTime = Long.toString(System.currentTimeMillis());
+			when(fileRepository.readFileByType(METRICS_DATA_COMPLETED, TEST_UUID, currentTime,
+					MetricsDataCompleted.class, FilePrefixType.DATA_COMPLETED_PREFIX))
+				.thenReturn(MetricsDataCompleted.builder().boardMetricsCompleted(false).build());
+			doThrow(new GenerateReportException("Failed to write metrics-data-completed")).when(fileRepository)
+				.createFileByType(eq(METRICS_DATA_COMPLETED), eq(TEST_UUID), eq(currentTime), any(),
+						eq(FilePrefixType.DATA_COMPLETED_PREFIX));
+
+			asyncMetricsDataHandler.updateMetricsDataCompletedInHandler(TEST_UUID, currentTime, BOARD, true);
+
+			verify(fileRepository, timeout(5000)).createFileByType(eq(METRICS_DATA_COMPLETED), eq(TEST_UUID),
+					eq(currentTime), any(), eq(FilePrefixType.DATA_COMPLETED_PREFIX));
+			assertTrue(asyncMetricsDataHandler.getMetricsDataCompleted(TEST_UUID, currentTime).boardMetricsCompleted());
+		}
+
+		@Test
+		void shouldNotPersistMetricDataWhenItExpiredBeforeDelayedWriteRan() {
+			String currentTime = "20240310-20240409-" + System.currentTimeMillis();
+			when(fileRepository.readFileByType(METRICS_DATA_COMPLETED, TEST_UUID, currentTime,
+					MetricsDataCompleted.class, FilePrefixType.DATA_COMPLETED_PREFIX))
+				.thenReturn(MetricsDataCompleted.builder().boardMetricsCompleted(false).build());
+			ArgumentCaptor<Runnable> delayedWrite = ArgumentCaptor.forClass(Runnable.class);
+			doNothing().when(metricsDataCompletedTaskExecutor).execute(delayedWrite.capture());
+
+			when(fileRepository.isExpired(anyLong(), anyLong())).thenReturn(true);
+
+			asyncMetricsDataHandler.updateMetricsDataCompletedInHandler(TEST_UUID, currentTime, BOARD, true);
+			asyncMetricsDataHandler.removeExpiredMetricsDataCompleted(System.currentTimeMillis());
+			delayedWrite.getValue().run();
+
+			verify(fileRepository, never()).createFileByType(eq(METRICS_DATA_COMPLETED), eq(TEST_UUID),
+					eq(currentTime), any(), eq(FilePrefixType.DATA_COMPLETED_PREFIX));
 		}
 
 	}
@@ -154,11 +227,13 @@ class AsyncMetricsDataHandlerTest {
 
 			asyncMetricsDataHandler.updateOverallMetricsCompletedInHandler(TEST_UUID, currentTime);
 
-			assertTrue(metricsDataCompleted.overallMetricCompleted());
+			MetricsDataCompleted updatedMetricsDataCompleted = asyncMetricsDataHandler
+				.getMetricsDataCompleted(TEST_UUID, currentTime);
+			assertTrue(updatedMetricsDataCompleted.overallMetricCompleted());
 			verify(fileRepository, times(1)).readFileByType(METRICS_DATA_COMPLETED, TEST_UUID, currentTime,
 					MetricsDataCompleted.class, FilePrefixType.DATA_COMPLETED_PREFIX);
-			verify(fileRepository, times(1)).createFileByType(METRICS_DATA_COMPLETED, TEST_UUID, currentTime,
-					metricsDataCompleted, FilePrefixType.DATA_COMPLETED_PREFIX);
+			verify(fileRepository, timeout(5000)).createFileByType(METRICS_DATA_COMPLETED, TEST_UUID, currentTime,
+					updatedMetricsDataCompleted, FilePrefixType.DATA_COMPLETED_PREFIX);
 
 		}
 
@@ -180,9 +255,22 @@ class AsyncMetricsDataHandlerTest {
 	@Nested
 	class UpdateAllMetricsCompletedInHandlerAtTheSameTime {
 
-		FileRepository fileRepository = new FileRepository(new Gson());
+		FileRepository fileRepository = new FileRepository(new Gson(), new LocalReportStore(), 168);
+
+		ThreadPoolTaskExecutor metricsDataCompletedTaskExecutor = new ThreadPoolTaskExecutor();
 
-		AsyncMetricsDataHandler asyncMetricsDataHandler = new AsyncMetricsDataHandler(fileRepository);
+		AsyncMetricsDataHandler asyncMetricsDataHandler = new AsyncMetricsDataHandler(fileRepository,
+				new ReportProgressPublisher(), metricsDataCompletedTaskExecutor);
+
+		@BeforeEach
+		void setUp() {
+			metricsDataCompletedTaskExecutor.initialize();
+		}
+
+		@AfterEach
+		void tearDown() {
+			metricsDataCompletedTaskExecutor.shutdown();
+		}
 
 		// The test should be moved to integration test next.
 		@RepeatedTest(100)
@@ -237,11 +325,16 @@ class AsyncMetricsDataHandlerTest {
 				thread.join();
 			}
 
-			MetricsDataCompleted completed = fileRepository.readFileByType(METRICS_DATA_COMPLETED, TEST_UUID,
-					currentTime, MetricsDataCompleted.class, FilePrefixType.DATA_COMPLETED_PREFIX);
+			MetricsDataCompleted completed = asyncMetricsDataHandler.getMetricsDataCompleted(TEST_UUID, currentTime);
 			assertTrue(completed.boardMetricsCompleted());
 			assertTrue(completed.doraMetricsCompleted());
 			assertTrue(completed.allMetricsCompleted());
+			Awaitility.await()
+				.atMost(5, TimeUnit.SECONDS)
+				.until(() -> fileRepository
+					.readFileByType(METRICS_DATA_COMPLETED, TEST_UUID, currentTime, MetricsDataCompleted.class,
+							FilePrefixType.DATA_COMPLETED_PREFIX)
+					.allMetricsCompleted());
 		}
 
 	}
@@ -327,4 +420,77 @@ class AsyncMetricsDataHandlerTest {
 
 	}
 
+	@Nested
+	class GetMetricsDataCompleted {
+
+		@Test
+		void shouldReadPersistedMetricDataOnlyOnceAndServeItFromMemoryAfterwards() {
+			String currentTime = Long.toString(System.currentTimeMillis());
+			MetricsDataCompleted metricsDataCompleted = MetricsDataCompleted.builder()
+				.boardMetricsCompleted(true)
+				.build();
+			when(fileRepository.readFileByType(METRICS_DATA_COMPLETED, TEST_UUID, currentTime,
+					MetricsDataCompleted.class, FilePrefixType.DATA_COMPLETED_PREFIX))
+				.thenReturn(metricsDataCompleted);
+
+			MetricsDataCompleted firstResult = asyncMetricsDataHandler.getMetricsDataCompleted(TEST_UUID, currentTime);
+			MetricsDataCompleted secondResult = asyncMetricsDataHandler.getMetricsDataCompleted(TEST_UUID, currentTime);
+
+			assertEquals(metricsDataCompleted, firstResult);
+			assertEquals(metricsDataCompleted, secondResult);
+			verify(fileRepository, times(1)).readFileByType(METRICS_DATA_COMPLETED, TEST_UUID, currentTime,
+					MetricsDataCompleted.class, FilePrefixType.DATA_COMPLETED_PREFIX);
+		}
+
+		@Test
+		void shouldReadPersistedMetricDataEveryTimeWhenStoreIsShared() {
+			String currentTime = Long.toString(System.currentTimeMillis());
+			MetricsDataCompleted metricsDataCompleted = MetricsDataCompleted.builder()
+				.boardMetricsCompleted(false)
+				.build();
+			MetricsDataCompleted updatedMetricsDataCompleted = MetricsDataCompleted.builder()
+				.boardMetricsCompleted(true)
+				.build();
+			when(fileRepository.isSharedStore()).thenReturn(true);
+			when(fileRepository.readFileByType(METRICS_DATA_COMPLETED, TEST_UUID, currentTime,
+					MetricsDataCompleted.class, FilePrefixType.DATA_COMPLETED_PREFIX))
+				.thenReturn(metricsDataCompleted, updatedMetricsDataCompleted);
+
+			MetricsDataCompleted firstResult = asyncMetricsDataHandler.getMetricsDataCompleted(TEST_UUID, currentTime);
+			MetricsDataCompleted secondResult = asyncMetricsDataHandler.getMetricsDataCompleted(TEST_UUID, currentTime);
+
+			assertEquals(metricsDataCompleted, firstResult);
+			assertEquals(updatedMetricsDataCompleted, secondResult);
+		}
+
+		@Test
+		void shouldReturnNullWhenMetricDataIsNeitherInMemoryNorPersisted() {
+			assertNull(asyncMetricsDataHandler.getMetricsDataCompleted(TEST_UUID, "1683734399999"));
+		}
+
+		@Test
+		void shouldOnlyRemoveExpiredMetricDataFromMemory() {
+			long currentTimeMillis = System.currentTimeMillis();
+			long expiredTimeMillis = currentTimeMillis - 1;
+			when(fileRepository.isExpired(eq(currentTimeMillis), anyLong()))
+				.thenAnswer(invocation -> invocation.<Long>getArgument(1) < currentTimeMillis);
+			String expiredTimeRangeAndTimeStamp = "20240101-20240131-" + expiredTimeMillis;
+			String freshTimeRangeAndTimeStamp = "20240101-20240131-" + currentTimeMillis;
+			asyncMetricsDataHandler.initializeMetricsDataCompletedInHandler(TEST_UUID, List.of(BOARD),
+					expiredTimeRangeAndTimeStamp);
+			asyncMetricsDataHandler.initializeMetricsDataCompletedInHandler(TEST_UUID, List.of(BOARD),
+					freshTimeRangeAndTimeStamp);
+
+			asyncMetricsDataHandler.removeExpiredMetricsDataCompleted(currentTimeMillis);
+
+			assertNull(asyncMetricsDataHandler.getMetricsDataCompleted(TEST_UUID, expiredTimeRangeAndTimeStamp));
+			assertNotNull(asyncMetricsDataHandler.getMetricsDataCompleted(TEST_UUID, freshTimeRangeAndTimeStamp));
+			verify(fileRepository, times(2)).readFileByType(METRICS_DATA_COMPLETED, TEST_UUID,
+					expiredTimeRangeAndTimeStamp, MetricsDataCompleted.class, FilePrefixType.DATA_COMPLETED_PREFIX);
+			verify(fileRepository, times(1)).readFileByType(METRICS_DATA_COMPLETED, TEST_UUID,
+					freshTimeRangeAndTimeStamp, MetricsDataCompleted.class, FilePrefixType.DATA_COMPLETED_PREFIX);
+		}
+
+	}
+
 }
@@ -0,0 +1,121 @@
+package heartbeat.handler;
+
+import heartbeat.controller.report.dto.response.MetricsDataCompleted;
+import heartbeat.controller.report.dto.response.ReportResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.ServerSentEvent;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static heartbeat.handler.ReportProgressPublisher.ERROR_EVENT;
+import static heartbeat.handler.ReportProgressPublisher.METRICS_DATA_COMPLETED_EVENT;
+import static heartbeat.handler.ReportProgressPublisher.PROGRESS_VALIDITY_TIME;
+import static heartbeat.handler.ReportProgressPublisher.REPORT_EVENT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReportProgressPublisherTest {
+
+	private static final String TEST_UUID = "test-uuid";
+
+	private static final String TIME_RANGE_AND_TIME_STAMP = "20240310-20240409-1683734399999";
+
+	private final ReportProgressPublisher reportProgressPublisher = new ReportProgressPublisher();
+
+	@Test
+	void shouldReplayPublishedEventsToSubscriberUntilCompleted() {
+		MetricsDataCompleted metricsDataCompleted = MetricsDataCompleted.builder().boardMetricsCompleted(true).build();
+		ReportResponse reportResponse = ReportResponse.builder().boardMetricsCompleted(true).build();
+
+		reportProgressPublisher.start(TEST_UUID, TIME_RANGE_AND_TIME_STAMP);
+		reportProgressPublisher.publishMetricsDataCompleted(TEST_UUID, TIME_RANGE_AND_TIME_STAMP,
+				metricsDataCompleted);
+		reportProgressPublisher.publishReport(TEST_UUID, TIME_RANGE_AND_TIME_STAMP, reportResponse);
+		List<ServerSentEvent<Object>> events = reportProgressPublisher.subscribe(TEST_UUID, "20240310", "20240409")
+			.orElseThrow()
+			.doOnSubscribe(subscription -> reportProgressPublisher.complete(TEST_UUID, TIME_RANGE_AND_TIME_STAMP))
+			.collectList()
+			.block(Duration.ofSeconds(5));
+
+		assertEquals(2, events.size());
+		assertEquals(METRICS_DATA_COMPLETED_EVENT, events.get(0).event());
+		assertEquals(metricsDataCompleted, events.get(0).data());
+		assertEquals(REPORT_EVENT, events.get(1).event());
+		assertEquals(reportResponse, events.get(1).data());
+	}
+
+	@Test
+	void shouldReturnEmptyWhenReportIsNotInProgress() {
+		reportProgressPublisher.publishReport(TEST_UUID, TIME_RANGE_AND_TIME_STAMP, new ReportResponse());
+
+		assertTrue(reportProgressPublisher.subscribe(TEST_UUID, "20240310", "20240409").isEmpty());
+	}
+
+	@Test
+	void shouldRemoveProgressWhenReportIsCompleted() {
+		reportProgressPublisher.start(TEST_UUID, TIME_RANGE_AND_TIME_STAMP);
+
+		reportProgressPublisher.complete(TEST_UUID, TIME_RANGE_AND_TIME_STAMP);
+		reportProgressPublisher.complete(TEST_UUID, TIME_RANGE_AND_TIME_STAMP);
+
+		assertTrue(reportProgressPublisher.subscribe(TEST_UUID, "20240310", "20240409").isEmpty());
+	}
+
+	@Test
+	void shouldPublishErrorAndCompleteStreamWhenReportFailedToStart() throws Exception {
+		reportProgressPublisher.start(TEST_UUID, TIME_RANGE_AND_TIME_STAMP);
+		CompletableFuture<List<ServerSentEvent<Object>>> events = reportProgressPublisher
+			.subscribe(TEST_UUID, "20240310", "20240409")
+			.orElseThrow()
+			.collectList()
+			.toFuture();
+
+		reportProgressPublisher.fail(TEST_UUID, TIME_RANGE_AND_TIME_STAMP, "failed");
+		reportProgressPublisher.fail(TEST_UUID, TIME_RANGE_AND_TIME_STAMP, "failed");
+
+		List<ServerSentEvent<Object>> receivedEvents = events.get(5, TimeUnit.SECONDS);
+		assertEquals(1, receivedEvents.size());
+		assertEquals(ERROR_EVENT, receivedEvents.get(0).event());
+		assertEquals("failed", receivedEvents.get(0).data());
+		assertTrue(reportProgressPublisher.subscribe(TEST_UUID, "20240310", "20240409").isEmpty());
+	}
+
+	@Test
+	void shouldFailOnlyExpiredProgress() throws Exception {
+		reportProgressPublisher.start(TEST_UUID, TIME_RANGE_AND_TIME_STAMP);
+		CompletableFuture<List<ServerSentEvent<Object>>> events = reportProgressPublisher
+			.subscribe(TEST_UUID, "20240310", "20240409")
+			.orElseThrow()
+			.collectList()
+			.toFuture();
+
+		reportProgressPublisher.removeExpiredProgress(System.currentTimeMillis());
+		assertTrue(reportProgressPublisher.subscribe(TEST_UUID, "20240310", "20240409").isPresent());
+
+		reportProgressPublisher.removeExpiredProgress(System.currentTimeMillis() + PROGRESS_VALIDITY_TIME + 1000);
+
+		List<ServerSentEvent<Object>> receivedEvents = events.get(5, TimeUnit.SECONDS);
+		assertEquals(1, receivedEvents.size());
+		assertEquals(ERROR_EVENT, receivedEvents.get(0).event());
+		assertTrue(reportProgressPublisher.subscribe(TEST_UUID, "20240310", "20240409").isEmpty());
+	}
+
+	@Test
+	void shouldCompletePreviousStreamWhenReportIsRegenerated() throws Exception {
+		reportProgressPublisher.start(TEST_UUID, TIME_RANGE_AND_TIME_STAMP);
+		CompletableFuture<List<ServerSentEvent<Object>>> previousEvents = reportProgressPublisher
+			.subscribe(TEST_UUID, "20240310", "20240409")
+			.orElseThrow()
+			.collectList()
+			.toFuture();
+
+		reportProgressPublisher.start(TEST_UUID, "20240310-20240409-1683734400000");
+
+		assertTrue(previousEvents.get(5, TimeUnit.SECONDS).isEmpty());
+		assertTrue(reportProgressPublisher.subscribe(TEST_UUID, "20240310", "20240409").isPresent());
+	}
+
+}
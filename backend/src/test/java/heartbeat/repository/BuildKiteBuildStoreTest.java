@@ -0,0 +1,216 @@
+package heartbeat.repository;
+
+import com.google.gson.Gson;
+import heartbeat.client.dto.pipeline.buildkite.BuildKiteBuildInfo;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.MockedStatic;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.CopyOption;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static heartbeat.repository.BuildKiteBuildStore.BUILDS_VALIDITY_TIME;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mockStatic;
+
+class BuildKiteBuildStoreTest {
+
+	private static final String STORE_PATH = "./app/store/buildkite";
+
+	private static final String TOKEN = "token";
+
+	private static final String ORG_ID = "org";
+
+	private static final String PIPELINE_ID = "pipeline";
+
+	private static final List<String> BRANCHES = List.of("main");
+
+	private static final long ONE_DAY = 1000L * 3600 * 24;
+
+	private static final long START_TIME = System.currentTimeMillis() - ONE_DAY * 10;
+
+	private final BuildKiteBuildStore buildKiteBuildStore = new BuildKiteBuildStore(new Gson());
+
+	@AfterEach
+	void afterEach() throws IOException {
+		FileUtils.deleteDirectory(new File(STORE_PATH));
+	}
+
+	@Test
+	void shouldReturnStoredBuildsCreatedInRangeWhenRangeIsCovered() {
+		BuildKiteBuildInfo firstBuild = buildCreatedAt(1, "passed", START_TIME + 100);
+		BuildKiteBuildInfo secondBuild = buildCreatedAt(2, "failed", START_TIME + 200);
+
+		saveBuilds(TOKEN, START_TIME, START_TIME + ONE_DAY, List.of(firstBuild, secondBuild));
+
+		assertEquals(Optional.of(List.of(firstBuild, secondBuild)),
+				findBuilds(TOKEN, START_TIME, START_TIME + ONE_DAY));
+		assertEquals(Optional.of(List.of(secondBuild)), findBuilds(TOKEN, START_TIME + 150, START_TIME + 300));
+		assertTrue(findBuilds(TOKEN, START_TIME - 1, START_TIME + 300).isEmpty());
+		assertTrue(findBuilds(TOKEN, START_TIME, START_TIME + ONE_DAY + 1).isEmpty());
+		assertTrue(findBuilds("another-token", START_TIME, START_TIME + 300).isEmpty());
+	}
+
+	@Test
+	void shouldOnlyCoverRangeBeforeUnfinishedBuild() {
+		BuildKiteBuildInfo finishedBuild = buildCreatedAt(1, "passed", START_TIME + 100);
+		BuildKiteBuildInfo runningBuild = buildCreatedAt(2, "running", START_TIME + 200);
+
+		saveBuilds(TOKEN, START_TIME, START_TIME + ONE_DAY, List.of(finishedBuild, runningBuild));
+
+		assertEquals(Optional.of(List.of(finishedBuild)), findBuilds(TOKEN, START_TIME, START_TIME + 199));
+		assertTrue(findBuilds(TOKEN, START_TIME, START_TIME + 200).isEmpty());
+	}
+
+	@Test
+	void shouldNotStoreBuildsWhichMayStillChange() {
+		long startTime = System.currentTimeMillis() - ONE_DAY / 2;
+
+		saveBuilds(TOKEN, startTime, startTime + 100, List.of(buildCreatedAt(1, "passed", startTime + 50)));
+		saveBuilds(TOKEN, START_TIME, START_TIME + 100, List.of(buildCreatedAt(1, "scheduled", START_TIME)));
+
+		assertFalse(Files.exists(Path.of(STORE_PATH)));
+	}
+
+	@Test
+	void shouldMergeBuildsOfTouchingRangesAndReplaceBuildsOfRefetchedRange() {
+		BuildKiteBuildInfo firstBuild = buildCreatedAt(1, "passed", START_TIME + 100);
+		BuildKiteBuildInfo secondBuild = buildCreatedAt(2, "failed", START_TIME + 300);
+		BuildKiteBuildInfo retriedSecondBuild = buildCreatedAt(2, "passed", START_TIME + 300);
+		BuildKiteBuildInfo thirdBuild = buildCreatedAt(3, "passed", START_TIME + 500);
+
+		saveBuilds(TOKEN, START_TIME, START_TIME + 199, List.of(firstBuild));
+		saveBuilds(TOKEN, START_TIME + 200, START_TIME + 399, List.of(secondBuild));
+		saveBuilds(TOKEN, START_TIME + 400, START_TIME + 599, List.of(thirdBuild));
+		saveBuilds(TOKEN, START_TIME + 250, START_TIME + 350, List.of(retriedSecondBuild));
+
+		assertEquals(Optional.of(List.of(firstBuild, thirdBuild, retriedSecondBuild)),
+				findBuilds(TOKEN, START_TIME, START_TIME + 599));
+	}
+
+	@Test
+	void shouldReplaceBuildsOfRangeWhichDoesNotTouchStoredRange() {
+		BuildKiteBuildInfo firstBuild = buildCreatedAt(1, "passed", START_TIME + 100);
+		BuildKiteBuildInfo secondBuild = buildCreatedAt(2, "passed", START_TIME + 300);
+
+		saveBuilds(TOKEN, START_TIME + 200, START_TIME + 399, List.of(secondBuild));
+		saveBuilds(TOKEN, START_TIME, START_TIME + 198, List.of(firstBuild));
+
+		assertEquals(Optional.of(List.of(firstBuild)), findBuilds(TOKEN, START_TIME, START_TIME + 198));
+		assertTrue(findBuilds(TOKEN, START_TIME + 200, START_TIME + 399).isEmpty());
+
+		saveBuilds(TOKEN, START_TIME + 200, START_TIME + 399, List.of(secondBuild));
+
+		assertTrue(findBuilds(TOKEN, START_TIME, START_TIME + 198).isEmpty());
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "", "{}", "{broken" })
+	void shouldReturnEmptyWhenStoredBuildsAreBroken(String storedBuilds) throws IOException {
+		saveBuilds(TOKEN, START_TIME, START_TIME + 100, List.of(buildCreatedAt(1, "passed", START_TIME)));
+		try (Stream<Path> paths = Files.list(Path.of(STORE_PATH))) {
+			for (Path path : paths.toList()) {
+				Files.writeString(path, storedBuilds);
+			}
+		}
+
+		assertTrue(findBuilds(TOKEN, START_TIME, START_TIME + 100).isEmpty());
+	}
+
+	@Test
+	void shouldIgnoreInvalidTimeRange() {
+		buildKiteBuildStore.saveBuilds(TOKEN, ORG_ID, PIPELINE_ID, BRANCHES, "invalid", String.valueOf(START_TIME),
+				List.of());
+
+		assertFalse(Files.exists(Path.of(STORE_PATH)));
+		assertTrue(
+				buildKiteBuildStore.findBuilds(TOKEN, ORG_ID, PIPELINE_ID, BRANCHES, null, String.valueOf(START_TIME))
+					.isEmpty());
+	}
+
+	@Test
+	void shouldNotThrowExceptionWhenStoreBuildsFailed() {
+		try (MockedStatic<Files> mockStatic = mockStatic(Files.class, CALLS_REAL_METHODS)) {
+			mockStatic.when(() -> Files.move(any(), any(), any(CopyOption[].class))).thenThrow(IOException.class);
+
+			assertDoesNotThrow(() -> saveBuilds(TOKEN, START_TIME, START_TIME + 100, List.of()));
+		}
+		assertTrue(findBuilds(TOKEN, START_TIME, START_TIME + 100).isEmpty());
+	}
+
+	@Test
+	void shouldRemoveExpiredBuilds() throws IOException {
+		long currentTimeStamp = System.currentTimeMillis();
+		saveBuilds(TOKEN, START_TIME, START_TIME + 100, List.of());
+		saveBuilds("another-token", START_TIME, START_TIME + 100, List.of());
+		File expiredBuilds;
+		try (Stream<Path> paths = Files.list(Path.of(STORE_PATH))) {
+			expiredBuilds = paths.findFirst().orElseThrow().toFile();
+		}
+		assertTrue(expiredBuilds.setLastModified(currentTimeStamp - BUILDS_VALIDITY_TIME - 1000));
+
+		buildKiteBuildStore.removeExpiredBuilds(currentTimeStamp);
+
+		assertFalse(expiredBuilds.exists());
+		try (Stream<Path> paths = Files.list(Path.of(STORE_PATH))) {
+			assertEquals(1, paths.count());
+		}
+	}
+
+	@Test
+	void shouldNotThrowExceptionWhenRemoveExpiredBuildsFailed() {
+		saveBuilds(TOKEN, START_TIME, START_TIME + 100, List.of());
+		long expiredTimeStamp = System.currentTimeMillis() + BUILDS_VALIDITY_TIME + 1000;
+
+		try (MockedStatic<Files> mockStatic = mockStatic(Files.class, CALLS_REAL_METHODS)) {
+			mockStatic.when(() -> Files.deleteIfExists(any())).thenThrow(IOException.class);
+
+			assertDoesNotThrow(() -> buildKiteBuildStore.removeExpiredBuilds(expiredTimeStamp));
+		}
+		try (MockedStatic<Files> mockStatic = mockStatic(Files.class, CALLS_REAL_METHODS)) {
+			mockStatic.when(() -> Files.list(any())).thenThrow(IOException.class);
+
+			assertDoesNotThrow(() -> buildKiteBuildStore.removeExpiredBuilds(expiredTimeStamp));
+		}
+		assertTrue(findBuilds(TOKEN, START_TIME, START_TIME + 100).isPresent());
+	}
+
+	@Test
+	void shouldDoNothingWhenStoreDirectoryIsNotExist() {
+		assertDoesNotThrow(() -> buildKiteBuildStore.removeExpiredBuilds(System.currentTimeMillis()));
+	}
+
+	private void saveBuilds(String token, long startTime, long endTime, List<BuildKiteBuildInfo> builds) {
+		buildKiteBuildStore.saveBuilds(token, ORG_ID, PIPELINE_ID, BRANCHES, String.valueOf(startTime),
+				String.valueOf(endTime), builds);
+	}
+
+	private Optional<List<BuildKiteBuildInfo>> findBuilds(String token, long startTime, long endTime) {
+		return buildKiteBuildStore.findBuilds(token, ORG_ID, PIPELINE_ID, BRANCHES, String.valueOf(startTime),
+				String.valueOf(endTime));
+	}
+
+	private static BuildKiteBuildInfo buildCreatedAt(int number, String state, long createdTime) {
+		return BuildKiteBuildInfo.builder()
+			.number(number)
+			.state(state)
+			.pipelineCreateTime(Instant.ofEpochMilli(createdTime).toString())
+			.build();
+	}
+
+}
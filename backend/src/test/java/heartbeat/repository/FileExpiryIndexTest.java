@@ -0,0 +1,109 @@
+package heartbeat.repository;
+
+import heartbeat.repository.FileExpiryIndex.ExpiringReport;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FileExpiryIndexTest {
+
+	private static final String BASE_PATH = "./app/expiry-test";
+
+	private static final Path JOURNAL_PATH = Path.of(BASE_PATH, "expiry.journal");
+
+	private static final long ONE_DAY = 1000L * 3600 * 24;
+
+	@AfterEach
+	void afterEach() throws IOException {
+		FileUtils.deleteDirectory(new File(BASE_PATH));
+	}
+
+	@Test
+	void shouldNotWriteJournalBeforeIndexIsInitialized() {
+		FileExpiryIndex fileExpiryIndex = new FileExpiryIndex(JOURNAL_PATH.toString());
+
+		fileExpiryIndex.schedule(FileType.CSV, "uuid", 100, 10);
+		List<ExpiringReport> expiredReports = fileExpiryIndex.pollExpired(1000);
+
+		assertEquals(List.of(new ExpiringReport(FileType.CSV, "uuid", 100, 10)), expiredReports);
+		assertFalse(fileExpiryIndex.isInitialized());
+		assertFalse(Files.exists(JOURNAL_PATH));
+	}
+
+	@Test
+	void shouldOnlyPollReportsExpiredBeforeGivenTime() {
+		FileExpiryIndex fileExpiryIndex = new FileExpiryIndex(JOURNAL_PATH.toString());
+		fileExpiryIndex.markInitialized();
+		fileExpiryIndex.schedule(FileType.CSV, "expired-uuid", ONE_DAY - 1, 10);
+		fileExpiryIndex.schedule(FileType.CSV, "valid-uuid", ONE_DAY, 10);
+		fileExpiryIndex.schedule(FileType.CSV, "later-uuid", ONE_DAY * 2, 10);
+
+		List<ExpiringReport> expiredReports = fileExpiryIndex.pollExpired(ONE_DAY);
+
+		assertEquals(List.of(new ExpiringReport(FileType.CSV, "expired-uuid", ONE_DAY - 1, 10)), expiredReports);
+		assertTrue(fileExpiryIndex.pollExpired(ONE_DAY).isEmpty());
+	}
+
+	@Test
+	void shouldReplayJournalAndCompactItAfterPolling() throws IOException {
+		FileExpiryIndex fileExpiryIndex = new FileExpiryIndex(JOURNAL_PATH.toString());
+		fileExpiryIndex.markInitialized();
+		fileExpiryIndex.schedule(FileType.CSV, "uuid", 100, 10);
+		fileExpiryIndex.schedule(FileType.CSV, "uuid", ONE_DAY * 3, 20);
+		fileExpiryIndex.schedule(FileType.REPORT, "uuid", 300, 5);
+		assertEquals(3, Files.readAllLines(JOURNAL_PATH).size());
+
+		FileExpiryIndex restartedFileExpiryIndex = new FileExpiryIndex(JOURNAL_PATH.toString());
+		List<ExpiringReport> expiredReports = restartedFileExpiryIndex.pollExpired(ONE_DAY);
+
+		assertTrue(restartedFileExpiryIndex.isInitialized());
+		assertEquals(List.of(new ExpiringReport(FileType.REPORT, "uuid", 300, 5)), expiredReports);
+		assertEquals(List.of("CSV\tuuid\t" + ONE_DAY * 3 + "\t20"), Files.readAllLines(JOURNAL_PATH));
+	}
+
+	@Test
+	void shouldPollOldestReportsUntilTotalSizeFitsQuota() {
+		FileExpiryIndex fileExpiryIndex = new FileExpiryIndex(JOURNAL_PATH.toString());
+		fileExpiryIndex.markInitialized();
+		fileExpiryIndex.schedule(FileType.CSV, "newest-uuid", ONE_DAY * 2, 30);
+		fileExpiryIndex.schedule(FileType.CSV, "older-uuid", 200, 20);
+		fileExpiryIndex.schedule(FileType.CSV, "oldest-uuid", 100, 10);
+
+		List<ExpiringReport> evictedReports = fileExpiryIndex.pollOldest(35);
+
+		assertEquals(List.of(new ExpiringReport(FileType.CSV, "oldest-uuid", 100, 10),
+				new ExpiringReport(FileType.CSV, "older-uuid", 200, 20)), evictedReports);
+		assertTrue(fileExpiryIndex.pollOldest(35).isEmpty());
+	}
+
+	@Test
+	void shouldRebuildIndexWhenJournalIsInvalid() throws IOException {
+		Files.createDirectories(JOURNAL_PATH.getParent());
+		Files.writeString(JOURNAL_PATH, "invalid journal");
+
+		assertFalse(new FileExpiryIndex(JOURNAL_PATH.toString()).isInitialized());
+	}
+
+	@Test
+	void shouldKeepIndexInMemoryWhenJournalCannotBeWritten() throws IOException {
+		Files.createDirectories(JOURNAL_PATH.resolve("occupied"));
+		FileExpiryIndex fileExpiryIndex = new FileExpiryIndex(JOURNAL_PATH.toString());
+
+		fileExpiryIndex.markInitialized();
+		fileExpiryIndex.schedule(FileType.CSV, "uuid", 100, 10);
+
+		assertTrue(Files.isDirectory(JOURNAL_PATH));
+		assertEquals(List.of(new ExpiringReport(FileType.CSV, "uuid", 100, 10)), fileExpiryIndex.pollExpired(1000));
+	}
+
+}
@@ -0,0 +1,213 @@
+package heartbeat.repository;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FileManifestStoreTest {
+
+	private static final String BASE_PATH = "./app/manifest-test";
+
+	private static final String OUTPUT_PATH = BASE_PATH + "/output";
+
+	private static final String STORE_PATH = BASE_PATH + "/store";
+
+	private static final String TEST_UUID = "test-uuid";
+
+	private static final Path DIRECTORY = Path.of(OUTPUT_PATH, FileType.REPORT.getType(), TEST_UUID);
+
+	private static final Path SNAPSHOT_PATH = Path.of(STORE_PATH, FileType.REPORT.getType(), TEST_UUID + ".json");
+
+	private final FileManifestStore fileManifestStore = new FileManifestStore(OUTPUT_PATH, STORE_PATH, false);
+
+	@BeforeEach
+	void beforeEach() throws IOException {
+		Files.createDirectories(DIRECTORY);
+	}
+
+	@AfterEach
+	void afterEach() throws IOException {
+		FileUtils.deleteDirectory(new File(BASE_PATH));
+	}
+
+	@Test
+	void shouldReturnEmptyWhenDirectoryDoesNotExist() {
+		assertTrue(fileManifestStore.getManifest(FileType.REPORT, "another-uuid").isEmpty());
+	}
+
+	@Test
+	void shouldScanDirectoryOnceAndServeLaterLookupsFromMemory() throws IOException {
+		Files.writeString(DIRECTORY.resolve("board-20240101-20240102-100"), "board");
+		Files.writeString(DIRECTORY.resolve("board-20240101-20240102-200.tmp"), "writing");
+
+		List<String> fileNames = fileManifestStore.getManifest(FileType.REPORT, TEST_UUID)
+			.orElseThrow()
+			.getFileNames();
+		Files.writeString(DIRECTORY.resolve("board-20240101-20240102-300"), "board");
+
+		assertEquals(List.of("board-20240101-20240102-100"), fileNames);
+		assertEquals(fileNames, fileManifestStore.getManifest(FileType.REPORT, TEST_UUID).orElseThrow().getFileNames());
+	}
+
+	@Test
+	void shouldFindLatestRecordedFileOfTimeRange() throws IOException {
+		Files.writeString(DIRECTORY.resolve("test-name"), "test");
+		Files.writeString(DIRECTORY.resolve("board-20240101-20240102-100"), "board");
+		Files.writeString(DIRECTORY.resolve("pipeline-20240101-20240102-200"), "pipeline");
+
+		fileManifestStore.recordFile(FileType.REPORT, TEST_UUID, "pipeline-20240101-20240102-200");
+		FileManifest manifest = fileManifestStore.getManifest(FileType.REPORT, TEST_UUID).orElseThrow();
+		Optional<FileManifest.Entry> latestEntry = manifest.findByTimeRange("20240101", "20240102");
+		fileManifestStore.removeFile(FileType.REPORT, TEST_UUID, "pipeline-20240101-20240102-200");
+		Optional<FileManifest.Entry> entryAfterRemoval = manifest.findByTimeRange("20240101", "20240102");
+		fileManifestStore.removeFile(FileType.REPORT, TEST_UUID, "test-name");
+		fileManifestStore.removeFile(FileType.REPORT, TEST_UUID, "board-20240101-20240102-100");
+
+		assertEquals(Optional.of(new FileManifest.Entry("pipeline-20240101-20240102-200", "20240101", "20240102",
+				"200", 8)), latestEntry);
+		assertEquals("20240101-20240102-200", latestEntry.orElseThrow().timeRangeAndTimeStamp());
+		assertEquals("20240101-20240102-100", entryAfterRemoval.orElseThrow().timeRangeAndTimeStamp());
+		assertTrue(manifest.findByTimeRange("20240101", "20240102").isEmpty());
+		assertTrue(manifest.findByTimeRange("20240101", "20240103").isEmpty());
+		assertTrue(manifest.getFileNames().isEmpty());
+	}
+
+	@Test
+	void shouldKeepLatestFileOfTimeRangeWhenOlderFileIsRemoved() throws IOException {
+		Files.writeString(DIRECTORY.resolve("board-20240101-20240102-200"), "board");
+		Files.writeString(DIRECTORY.resolve("board-20240101-20240102-100"), "board");
+		FileManifest manifest = fileManifestStore.getManifest(FileType.REPORT, TEST_UUID).orElseThrow();
+
+		fileManifestStore.recordFile(FileType.REPORT, TEST_UUID, "board-20240101-20240102-100");
+		fileManifestStore.removeFile(FileType.REPORT, TEST_UUID, "board-20240101-20240102-100");
+		fileManifestStore.removeFile(FileType.REPORT, TEST_UUID, "unknown-file");
+
+		assertEquals("20240101-20240102-200",
+				manifest.findByTimeRange("20240101", "20240102").orElseThrow().timeRangeAndTimeStamp());
+		assertEquals(List.of("board-20240101-20240102-200"), manifest.getFileNames());
+	}
+
+	@Test
+	void shouldLoadManifestFromSnapshotWhenDirectoryIsUnchanged() throws IOException {
+		Path filePath = DIRECTORY.resolve("board-20240101-20240102-100");
+		Files.writeString(filePath, "board");
+		fileManifestStore.recordFile(FileType.REPORT, TEST_UUID, "board-20240101-20240102-100");
+		Files.writeString(filePath, "board with more content");
+
+		FileManifest manifest = new FileManifestStore(OUTPUT_PATH, STORE_PATH, false)
+			.getManifest(FileType.REPORT, TEST_UUID)
+			.orElseThrow();
+
+		assertTrue(Files.exists(SNAPSHOT_PATH));
+		assertEquals(5, manifest.findByTimeRange("20240101", "20240102").orElseThrow().size());
+	}
+
+	@Test
+	void shouldScanDirectoryWhenSnapshotIsOutdated() throws IOException {
+		Path filePath = DIRECTORY.resolve("board-20240101-20240102-100");
+		Files.writeString(filePath, "board");
+		fileManifestStore.recordFile(FileType.REPORT, TEST_UUID, "board-20240101-20240102-100");
+		Files.writeString(filePath, "board with more content");
+		Files.writeString(DIRECTORY.resolve(FileManifestStore.VERSION_FILE_NAME), "1");
+
+		FileManifest manifest = new FileManifestStore(OUTPUT_PATH, STORE_PATH, false)
+			.getManifest(FileType.REPORT, TEST_UUID)
+			.orElseThrow();
+
+		assertEquals(23, manifest.findByTimeRange("20240101", "20240102").orElseThrow().size());
+	}
+
+	@Test
+	void shouldReloadManifestWhenSharedDirectoryIsChangedByAnotherInstance() throws IOException {
+		FileManifestStore sharedFileManifestStore = new FileManifestStore(OUTPUT_PATH, STORE_PATH, true);
+		Files.writeString(DIRECTORY.resolve("board-20240101-20240102-100"), "board");
+		FileManifest manifest = sharedFileManifestStore.getManifest(FileType.REPORT, TEST_UUID).orElseThrow();
+		assertSame(manifest, sharedFileManifestStore.getManifest(FileType.REPORT, TEST_UUID).orElseThrow());
+
+		long modifiedTime = DIRECTORY.toFile().lastModified();
+		Files.writeString(DIRECTORY.resolve("board-20240101-20240102-200"), "board");
+		new FileManifestStore(OUTPUT_PATH, STORE_PATH, true).recordFile(FileType.REPORT, TEST_UUID,
+				"board-20240101-20240102-200");
+		// published within the same tick of the directory modified time
+		assertTrue(DIRECTORY.toFile().setLastModified(modifiedTime));
+		FileManifest reloadedManifest = sharedFileManifestStore.getManifest(FileType.REPORT, TEST_UUID)
+			.orElseThrow();
+
+		assertEquals("20240101-20240102-200",
+				reloadedManifest.findByTimeRange("20240101", "20240102").orElseThrow().timeRangeAndTimeStamp());
+		assertEquals(2, reloadedManifest.getFileNames().size());
+	}
+
+	@Test
+	void shouldReturnEmptyWhenSharedDirectoryIsRemovedByAnotherInstance() throws IOException {
+		FileManifestStore sharedFileManifestStore = new FileManifestStore(OUTPUT_PATH, STORE_PATH, true);
+		Files.writeString(DIRECTORY.resolve("board-20240101-20240102-100"), "board");
+		assertTrue(sharedFileManifestStore.getManifest(FileType.REPORT, TEST_UUID).isPresent());
+
+		FileUtils.deleteDirectory(DIRECTORY.toFile());
+
+		assertTrue(sharedFileManifestStore.getManifest(FileType.REPORT, TEST_UUID).isEmpty());
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "{}", "{invalid", "{\"version\":0,\"entries\":[]}" })
+	void shouldScanDirectoryWhenSnapshotIsInvalid(String snapshot) throws IOException {
+		Files.writeString(DIRECTORY.resolve("board-20240101-20240102-100"), "board");
+		Files.createDirectories(SNAPSHOT_PATH.getParent());
+		Files.writeString(SNAPSHOT_PATH, snapshot);
+
+		FileManifest manifest = fileManifestStore.getManifest(FileType.REPORT, TEST_UUID).orElseThrow();
+
+		assertEquals(List.of("board-20240101-20240102-100"), manifest.getFileNames());
+	}
+
+	@Test
+	void shouldNotLoadManifestWhenRemovingFileOfUnknownDirectory() {
+		fileManifestStore.removeFile(FileType.REPORT, TEST_UUID, "board-20240101-20240102-100");
+
+		assertFalse(Files.exists(SNAPSHOT_PATH));
+	}
+
+	@Test
+	void shouldRemoveManifestAndSnapshot() throws IOException {
+		Files.writeString(DIRECTORY.resolve("board-20240101-20240102-100"), "board");
+		fileManifestStore.recordFile(FileType.REPORT, TEST_UUID, "board-20240101-20240102-100");
+		FileUtils.deleteDirectory(DIRECTORY.toFile());
+
+		fileManifestStore.removeManifest(FileType.REPORT, TEST_UUID);
+
+		assertFalse(Files.exists(SNAPSHOT_PATH));
+		assertTrue(fileManifestStore.getManifest(FileType.REPORT, TEST_UUID).isEmpty());
+	}
+
+	@Test
+	void shouldKeepManifestInMemoryWhenSnapshotCannotBeStoredOrRemoved() throws IOException {
+		Files.writeString(DIRECTORY.resolve("board-20240101-20240102-100"), "board");
+		Files.createDirectories(SNAPSHOT_PATH.resolve("occupied"));
+		Files.createDirectories(DIRECTORY.resolve(FileManifestStore.VERSION_FILE_NAME).resolve("occupied"));
+
+		fileManifestStore.recordFile(FileType.REPORT, TEST_UUID, "board-20240101-20240102-100");
+
+		assertEquals(List.of("board-20240101-20240102-100"),
+				fileManifestStore.getManifest(FileType.REPORT, TEST_UUID).orElseThrow().getFileNames());
+		assertDoesNotThrow(() -> fileManifestStore.removeManifest(FileType.REPORT, TEST_UUID));
+		assertTrue(Files.isDirectory(SNAPSHOT_PATH));
+	}
+
+}
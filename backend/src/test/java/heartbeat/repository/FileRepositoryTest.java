@@ -8,39 +8,47 @@ import heartbeat.controller.report.dto.response.MetricsDataCompleted;
 import heartbeat.exception.FileIOException;
 import heartbeat.exception.GenerateReportException;
 import heartbeat.exception.NotFoundException;
+import heartbeat.util.GzipUtil;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FileUtils;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedConstruction;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.FileSystemResource;
 
 import java.io.BufferedReader;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import static heartbeat.repository.FileRepository.EXPORT_CSV_VALIDITY_TIME;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -48,7 +56,6 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mockConstruction;
 import static org.mockito.Mockito.mockStatic;
-import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -61,14 +68,30 @@ class FileRepositoryTest {
 
 	private static final String TEST_UUID = "test-uuid";
 
+	private static final long RETENTION_HOURS = 168;
+
+	private static final long RETENTION_TIME = RETENTION_HOURS * 1000 * 3600;
+
 	@Mock
 	Gson gson;
 
-	@InjectMocks
+	@Spy
+	ReportStore reportStore = new LocalReportStore();
+
 	FileRepository fileRepository;
 
 	ObjectMapper objectMapper = new ObjectMapper();
 
+	@BeforeEach
+	void createFileRepository() {
+		fileRepository = new FileRepository(gson, reportStore, RETENTION_HOURS);
+	}
+
+	@AfterEach
+	void removeFileManifests() throws IOException {
+		FileUtils.deleteDirectory(new File(BASE_PATH + "/store/manifest"));
+	}
+
 	@BeforeAll
 	static void beforeAll() throws IOException {
 		Path path = Paths.get(BASE_PATH);
@@ -220,6 +243,29 @@ class FileRepositoryTest {
 			assertNull(result.isSuccessfulCreateCsvFile());
 		}
 
+		@Test
+		void shouldReadCompressedFileSuccessfully() throws IOException {
+			String testFileName = "compressed";
+			MetricsDataCompleted metricsDataCompleted = MetricsDataCompleted.builder()
+				.doraMetricsCompleted(true)
+				.boardMetricsCompleted(false)
+				.build();
+			String json = objectMapper.writeValueAsString(metricsDataCompleted);
+			try (OutputStream outputStream = GzipUtil.compress(new FileOutputStream("./app/output/report/" + TEST_UUID
+					+ "/" + FilePrefixType.BOARD_REPORT_PREFIX.getPrefix() + testFileName))) {
+				outputStream.write(json.getBytes(StandardCharsets.UTF_8));
+			}
+
+			when(gson.fromJson(any(JsonReader.class), eq(MetricsDataCompleted.class)))
+				.thenAnswer(invocation -> new Gson().fromJson((JsonReader) invocation.getArgument(0),
+						MetricsDataCompleted.class));
+
+			MetricsDataCompleted result = fileRepository.readFileByType(FileType.REPORT, TEST_UUID, testFileName,
+					MetricsDataCompleted.class, FilePrefixType.BOARD_REPORT_PREFIX);
+
+			assertEquals(metricsDataCompleted, result);
+		}
+
 		@Test
 		void shouldReadFileNullWhenFileDontExist() {
 			String dontExistFileName = "dontExistFileName";
@@ -369,9 +415,10 @@ class FileRepositoryTest {
 			assertTrue(realFile.exists());
 			assertFalse(realFile.isDirectory());
 
-			List<String> lines = Files.readAllLines(Paths.get(expectedFilepath));
-			String realContent = String.join("\n", lines);
-			assertEquals(data, realContent);
+			assertTrue(GzipUtil.isCompressed(realFile));
+			try (InputStream inputStream = GzipUtil.openInputStream(realFile)) {
+				assertEquals(data, new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+			}
 		}
 
 		@Test
@@ -466,13 +513,18 @@ class FileRepositoryTest {
 					+ ".csv";
 			List<String> expectedData = List.of("\"a\",\"b\"", "\"c\",\"d\"");
 
-			fileRepository.createCSVFileByType(TEST_UUID, fileName, data, boardReportPrefix);
+			fileRepository.createCSVFileByType(TEST_UUID, fileName, Stream.of(data), boardReportPrefix);
 
 			File realFile = new File(expectedFilepath);
 			assertTrue(realFile.exists());
 			assertFalse(realFile.isDirectory());
+			assertFalse(new File(expectedFilepath + ".tmp").exists());
 
-			List<String> realContent = Files.readAllLines(Paths.get(expectedFilepath));
+			assertTrue(GzipUtil.isCompressed(realFile));
+			List<String> realContent = new BufferedReader(
+					new InputStreamReader(GzipUtil.openInputStream(realFile), StandardCharsets.UTF_8))
+				.lines()
+				.toList();
 
 			assertEquals(expectedData.size(), realContent.size());
 			for (int i = 0; i < expectedData.size(); i++) {
@@ -481,24 +533,52 @@ class FileRepositoryTest {
 		}
 
 		@Test
-		void shouldCreateCsvFileErrorWhenFileExistAndFileIsDirectory() throws IOException {
+		void shouldCreateCsvFileErrorWhenTmpFileExistAndFileIsDirectory() throws IOException {
 			String fileName = "test-filename";
 			String[][] data = new String[][] { { "a", "b" }, { "c", "d" } };
 			FilePrefixType boardReportPrefix = FilePrefixType.BOARD_REPORT_PREFIX;
 			String expectedFilepath = "./app/output/csv/" + TEST_UUID + "/" + boardReportPrefix.getPrefix() + fileName
 					+ ".csv";
-			Path path = Paths.get(expectedFilepath);
+			Path path = Paths.get(expectedFilepath + ".tmp");
 			Files.createDirectories(path);
 
 			FileIOException fileIOException = assertThrows(FileIOException.class, () -> {
-				fileRepository.createCSVFileByType(TEST_UUID, fileName, data, boardReportPrefix);
+				fileRepository.createCSVFileByType(TEST_UUID, fileName, Stream.of(data), boardReportPrefix);
 			});
 
-			assertEquals("File handle error: ./app/output/csv/test-uuid/board-test-filename.csv (Is a directory)",
+			assertEquals("File handle error: ./app/output/csv/test-uuid/board-test-filename.csv.tmp (Is a directory)",
 					fileIOException.getMessage());
 
-			File realFile = new File(expectedFilepath);
-			assertTrue(realFile.exists());
+			assertTrue(path.toFile().exists());
+			assertFalse(new File(expectedFilepath).exists());
+		}
+
+		@Test
+		void shouldWriteCsvFileOfOtherUuidWhileSlowCsvFileIsBeingWritten() throws InterruptedException {
+			CountDownLatch slowRowStarted = new CountDownLatch(1);
+			CountDownLatch slowRowReleased = new CountDownLatch(1);
+			Stream<String[]> slowRows = Stream.<String[]>of(new String[] { "a", "b" }).peek(row -> {
+				slowRowStarted.countDown();
+				try {
+					slowRowReleased.await(5, TimeUnit.SECONDS);
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+			FilePrefixType boardReportPrefix = FilePrefixType.BOARD_REPORT_PREFIX;
+
+			CompletableFuture<Void> slowWrite = CompletableFuture.runAsync(() -> fileRepository
+				.createCSVFileByType(TEST_UUID, "slow-writer", slowRows, boardReportPrefix));
+			assertTrue(slowRowStarted.await(5, TimeUnit.SECONDS));
+			fileRepository.createCSVFileByType("other-uuid", "fast-writer",
+					Stream.<String[]>of(new String[] { "c", "d" }), boardReportPrefix);
+
+			assertFalse(slowWrite.isDone());
+			assertTrue(new File("./app/output/csv/other-uuid/board-fast-writer.csv").exists());
+			slowRowReleased.countDown();
+			slowWrite.join();
+			assertTrue(new File("./app/output/csv/" + TEST_UUID + "/board-slow-writer.csv").exists());
 		}
 
 	}
@@ -600,151 +680,207 @@ class FileRepositoryTest {
 	@Nested
 	class RemoveExpiredFiles {
 
-		@BeforeAll
-		static void beforeAll() throws IOException {
-			Path path = Paths.get("./app/output/csv/" + TEST_UUID);
-			Files.createDirectories(path);
-		}
+		private static final String CSV_PATH = "./app/output/csv/";
 
-		@AfterAll
-		static void afterAll() throws IOException {
-			FileUtils.deleteDirectory(new File("./app/output/csv"));
+		@AfterEach
+		void afterEach() throws IOException {
+			FileUtils.deleteDirectory(new File(CSV_PATH));
+			FileUtils.deleteDirectory(new File("./app/output/metrics"));
 		}
 
 		@Test
-		void shouldRemoveErrorWhenDirectoryDontExist() {
-			FileType fileType = FileType.REPORT;
-			long timestamp = 123L;
-			String expectedFilepath = "./app/output/report";
+		void shouldRemoveReportsWrittenBeforeExpiryIndexWasBuilt() throws IOException {
+			Files.createDirectories(Paths.get(CSV_PATH + "expired-uuid"));
+			Files.createFile(Paths.get(CSV_PATH + "expired-uuid/board-1-2-123.csv"));
+			Files.createDirectories(Paths.get(CSV_PATH + "valid-uuid"));
+			Files.createFile(Paths.get(CSV_PATH + "valid-uuid/board-1-2-" + System.currentTimeMillis() + ".csv"));
+			Files.createDirectories(Paths.get(CSV_PATH + "empty-uuid"));
+			Files.createFile(Paths.get(CSV_PATH + "not-directory"));
+
+			fileRepository.removeExpiredFiles(1000L);
+
+			assertFalse(new File(CSV_PATH + "expired-uuid").exists());
+			assertTrue(new File(CSV_PATH + "valid-uuid").exists());
+			assertTrue(new File(CSV_PATH + "empty-uuid").exists());
+			assertTrue(new File(CSV_PATH + "not-directory").exists());
+		}
 
-			try (MockedStatic<FileUtils> mockStatic = mockStatic(FileUtils.class)) {
-				fileRepository.removeExpiredFiles(fileType, timestamp);
+		@Test
+		void shouldOnlyRemoveExpiredReportsRecordedInExpiryIndex() throws IOException {
+			String data = "test-data";
+			when(gson.toJson(data)).thenReturn(data);
+			fileRepository.removeExpiredFiles(1000L);
+			Files.createDirectories(Paths.get(CSV_PATH + "unknown-uuid"));
+			Files.createFile(Paths.get(CSV_PATH + "unknown-uuid/board-1-2-123.csv"));
 
-				mockStatic.verify(() -> FileUtils.deleteDirectory(any(File.class)), never());
+			fileRepository.createCSVFileByType(TEST_UUID, "1-2-123", Stream.<String[]>of(new String[] { "a" }),
+					FilePrefixType.BOARD_REPORT_PREFIX);
+			fileRepository.createFileByType(FileType.METRICS, TEST_UUID, "1-2-123", data,
+					FilePrefixType.ALL_METRICS_PREFIX);
+			fileRepository.removeExpiredFiles(1000L);
 
-				File realFile = new File(expectedFilepath);
-				assertFalse(realFile.exists());
-			}
+			assertFalse(new File(CSV_PATH + TEST_UUID).exists());
+			assertTrue(new File(CSV_PATH + "unknown-uuid").exists());
+			assertTrue(new File("./app/output/metrics/" + TEST_UUID + "/allMetrics-1-2-123").exists());
 		}
 
 		@Test
-		void shouldRemoveErrorWhenPathIsNotDirectory() throws IOException {
-			FileType fileType = FileType.REPORT;
-			long timestamp = 123L;
+		void shouldLoadExpiryIndexFromJournalAfterRestart() {
+			fileRepository.removeExpiredFiles(1000L);
+			fileRepository.createCSVFileByType(TEST_UUID, "1-2-123", Stream.<String[]>of(new String[] { "a" }),
+					FilePrefixType.BOARD_REPORT_PREFIX);
 
-			String expectedFilePath = "./app/output/report";
-			Path path = Paths.get(expectedFilePath);
-			Files.createFile(path);
+			new FileRepository(gson, reportStore, RETENTION_HOURS).removeExpiredFiles(1000L);
 
-			try (MockedStatic<FileUtils> mockStatic = mockStatic(FileUtils.class)) {
-				fileRepository.removeExpiredFiles(fileType, timestamp);
-
-				mockStatic.verify(() -> FileUtils.deleteDirectory(any(File.class)), never());
+			assertFalse(new File(CSV_PATH + TEST_UUID).exists());
+		}
 
-				File realFile = new File(expectedFilePath);
-				assertTrue(realFile.exists());
-				File[] listFiles = realFile.listFiles();
-				assertNull(listFiles);
+		@Test
+		void shouldEvictOldestReportsWhenDiskSizeExceedsQuota() {
+			fileRepository.removeExpiredFiles(0L);
+			for (String uuid : List.of("uuid-300", "uuid-100", "uuid-200")) {
+				fileRepository.createCSVFileByType(uuid, "1-2-" + uuid.substring(5),
+						Stream.<String[]>of(new String[] { "a" }), FilePrefixType.BOARD_REPORT_PREFIX);
 			}
-			Files.deleteIfExists(path);
+			long reportSize = new File(CSV_PATH + "uuid-100/board-1-2-100.csv").length();
+
+			fileRepository.evictOldestFiles(reportSize * 2);
+
+			assertFalse(new File(CSV_PATH + "uuid-100").exists());
+			assertTrue(new File(CSV_PATH + "uuid-200").exists());
+			assertTrue(new File(CSV_PATH + "uuid-300").exists());
 		}
 
 		@Test
-		void shouldRemoveSuccessfullyWhenDirectoryIsEmpty() throws IOException {
-			FileType fileType = FileType.CSV;
-			long timestamp = 123L;
-
-			String expectedFilePath = "./app/output/csv/" + TEST_UUID;
-			Path path = Paths.get(expectedFilePath);
-			Files.createDirectories(path);
+		void shouldRemoveExpiredReportAgainWhenDeleteThrowException() {
+			fileRepository.removeExpiredFiles(1000L);
+			fileRepository.createCSVFileByType(TEST_UUID, "1-2-123", Stream.<String[]>of(new String[] { "a" }),
+					FilePrefixType.BOARD_REPORT_PREFIX);
 
 			try (MockedStatic<FileUtils> mockStatic = mockStatic(FileUtils.class)) {
-				fileRepository.removeExpiredFiles(fileType, timestamp);
+				mockStatic.when(() -> FileUtils.deleteDirectory(any(File.class))).thenThrow(IOException.class);
 
-				mockStatic.verify(() -> FileUtils.deleteDirectory(any(File.class)), times(1));
+				fileRepository.removeExpiredFiles(1000L);
 
-				File realFile = new File(expectedFilePath);
-				assertTrue(realFile.exists());
-				File[] listFiles = realFile.listFiles();
-				assertNotNull(listFiles);
-				assertEquals(0, listFiles.length);
+				mockStatic.verify(() -> FileUtils.deleteDirectory(any(File.class)), times(1));
 			}
-			Files.deleteIfExists(path);
+			assertTrue(new File(CSV_PATH + TEST_UUID).exists());
+
+			fileRepository.removeExpiredFiles(1000L);
+
+			assertFalse(new File(CSV_PATH + TEST_UUID).exists());
 		}
 
-		@Test
-		void shouldRemoveSuccessfullyWhenDirectoryIsNotEmpty() throws IOException {
-			FileType fileType = FileType.CSV;
-			long timestamp = 123L;
-			long currentTimestamp = EXPORT_CSV_VALIDITY_TIME + timestamp + 10000L;
+	}
 
-			String expectedFilePath = "./app/output/csv/" + TEST_UUID;
-			Path path = Paths.get(expectedFilePath);
-			Files.createDirectories(path);
-			Path filePath = Paths.get("./app/output/csv/" + TEST_UUID + "/board-1-2-" + timestamp);
-			Files.createFile(filePath);
+	@Nested
+	class GetWriteVersion {
 
-			fileRepository.removeExpiredFiles(fileType, currentTimestamp);
+		@AfterEach
+		void afterEach() throws IOException {
+			FileUtils.deleteDirectory(new File("./app/output/csv"));
+			FileUtils.deleteDirectory(new File("./app/output/report"));
+		}
 
-			File realFile = new File("./app/output/csv");
-			assertTrue(realFile.exists());
-			File[] listFiles = realFile.listFiles();
-			assertNotNull(listFiles);
-			assertEquals(0, listFiles.length);
+		@Test
+		void shouldChangeWriteVersionWhenReportFileIsWrittenOrRemoved() {
+			String data = "test-data";
+			when(gson.toJson(data)).thenReturn(data);
+			long initialVersion = fileRepository.getWriteVersion(TEST_UUID, "1-2-123");
 
-			Files.deleteIfExists(path);
+			fileRepository.createCSVFileByType(TEST_UUID, "1-2-123", Stream.<String[]>of(new String[] { "a" }),
+					FilePrefixType.BOARD_REPORT_PREFIX);
+			long versionAfterCsvWritten = fileRepository.getWriteVersion(TEST_UUID, "1-2-123");
+			fileRepository.createFileByType(FileType.REPORT, TEST_UUID, "1-2-123", data,
+					FilePrefixType.BOARD_REPORT_PREFIX);
+			long versionAfterReportWritten = fileRepository.getWriteVersion(TEST_UUID, "1-2-123");
+			fileRepository.removeFileByType(FileType.ERROR, TEST_UUID, "1-2-123", FilePrefixType.BOARD_REPORT_PREFIX);
+
+			assertEquals(initialVersion, versionAfterCsvWritten);
+			assertNotEquals(initialVersion, versionAfterReportWritten);
+			assertNotEquals(versionAfterReportWritten, fileRepository.getWriteVersion(TEST_UUID, "1-2-123"));
 		}
 
 		@Test
-		void shouldRemoveErrorWhenFileIsNotExpired() throws IOException {
-			FileType fileType = FileType.CSV;
-			long timestamp = 123L;
-			long currentTimestamp = EXPORT_CSV_VALIDITY_TIME + timestamp - 10000L;
+		void shouldChangeWriteVersionWhenExpiredReportIsRemoved() {
+			String data = "test-data";
+			when(gson.toJson(data)).thenReturn(data);
+			fileRepository.removeExpiredFiles(1000L);
+			fileRepository.createFileByType(FileType.REPORT, TEST_UUID, "1-2-123", data,
+					FilePrefixType.BOARD_REPORT_PREFIX);
+			long versionAfterReportWritten = fileRepository.getWriteVersion(TEST_UUID, "1-2-123");
 
-			Path path = Paths.get("./app/output/csv/" + TEST_UUID);
-			Files.createDirectories(path);
-			Path filePath = Paths.get("./app/output/csv/" + TEST_UUID + "/board-1-2-" + timestamp);
-			Files.createFile(filePath);
+			fileRepository.removeExpiredFiles(1000L);
 
-			fileRepository.removeExpiredFiles(fileType, currentTimestamp);
+			assertFalse(new File("./app/output/report/" + TEST_UUID).exists());
+			assertNotEquals(versionAfterReportWritten, fileRepository.getWriteVersion(TEST_UUID, "1-2-123"));
+		}
 
-			File realFile = new File("./app/output/csv");
-			assertTrue(realFile.exists());
-			File[] listFiles = realFile.listFiles();
-			assertNotNull(listFiles);
-			assertEquals(1, listFiles.length);
+	}
 
-			Files.deleteIfExists(filePath);
-			Files.deleteIfExists(path);
+	@Nested
+	class SharedDirectoryStore {
+
+		private static final String SHARED_PATH = "./app/shared";
+
+		@AfterEach
+		void afterEach() throws IOException {
+			FileUtils.deleteDirectory(new File(SHARED_PATH));
 		}
 
 		@Test
-		void shouldRemoveErrorWhenDeleteThrowException() throws IOException {
-			FileType fileType = FileType.CSV;
-			long timestamp = 123L;
-			long currentTimestamp = EXPORT_CSV_VALIDITY_TIME + timestamp + 10000L;
+		void shouldFindAndReadReportPublishedByAnotherInstance() {
+			String data = "test-data";
+			FileRepository writingFileRepository = new FileRepository(new Gson(),
+					new SharedDirectoryReportStore(SHARED_PATH + "/"), RETENTION_HOURS);
+			FileRepository readingFileRepository = new FileRepository(new Gson(),
+					new SharedDirectoryReportStore(SHARED_PATH), RETENTION_HOURS);
 
-			Path path = Paths.get("./app/output/csv/" + TEST_UUID);
-			Files.createDirectories(path);
-			Path filePath = Paths.get("./app/output/csv/" + TEST_UUID + "/board-1-2-" + timestamp);
-			Files.createFile(filePath);
+			writingFileRepository.createFileByType(FileType.REPORT, TEST_UUID, "20240101-20240102-100", data,
+					FilePrefixType.BOARD_REPORT_PREFIX);
+			String firstResult = readingFileRepository.getFileTimeRangeAndTimeStampByStartTimeAndEndTime(
+					FileType.REPORT, TEST_UUID, "20240101", "20240102");
+			long firstWriteVersion = readingFileRepository.getWriteVersion(TEST_UUID, "20240101-20240102-200");
+			File directory = new File(SHARED_PATH + "/report/" + TEST_UUID);
+			long modifiedTime = directory.lastModified();
+			writingFileRepository.createFileByType(FileType.REPORT, TEST_UUID, "20240101-20240102-200", data,
+					FilePrefixType.BOARD_REPORT_PREFIX);
+			// published within the same tick of the directory modified time
+			assertTrue(directory.setLastModified(modifiedTime));
+			String secondResult = readingFileRepository.getFileTimeRangeAndTimeStampByStartTimeAndEndTime(
+					FileType.REPORT, TEST_UUID, "20240101", "20240102");
+
+			assertTrue(readingFileRepository.isSharedStore());
+			assertEquals("20240101-20240102-100", firstResult);
+			assertEquals("20240101-20240102-200", secondResult);
+			assertNotEquals(firstWriteVersion,
+					readingFileRepository.getWriteVersion(TEST_UUID, "20240101-20240102-200"));
+			assertEquals(data, readingFileRepository.readFileByType(FileType.REPORT, TEST_UUID, "20240101-20240102-200",
+					String.class, FilePrefixType.BOARD_REPORT_PREFIX));
+		}
 
-			try (MockedStatic<FileUtils> mockStatic = mockStatic(FileUtils.class)) {
-				mockStatic.when(() -> FileUtils.deleteDirectory(any(File.class))).thenThrow(IOException.class);
+		@Test
+		void shouldKeepExpiredReportWhenAnotherInstanceWroteIntoItsDirectory() {
+			String data = "test-data";
+			String freshTimeRangeAndTimeStamp = "20240101-20240102-" + System.currentTimeMillis();
+			FileRepository expiringFileRepository = new FileRepository(new Gson(),
+					new SharedDirectoryReportStore(SHARED_PATH), RETENTION_HOURS);
+			FileRepository writingFileRepository = new FileRepository(new Gson(),
+					new SharedDirectoryReportStore(SHARED_PATH), RETENTION_HOURS);
+			expiringFileRepository.removeExpiredFiles(1000L);
+			expiringFileRepository.createFileByType(FileType.REPORT, TEST_UUID, "20240101-20240102-100", data,
+					FilePrefixType.BOARD_REPORT_PREFIX);
+			writingFileRepository.createFileByType(FileType.REPORT, TEST_UUID, freshTimeRangeAndTimeStamp, data,
+					FilePrefixType.BOARD_REPORT_PREFIX);
 
-				fileRepository.removeExpiredFiles(fileType, currentTimestamp);
+			expiringFileRepository.removeExpiredFiles(1000L);
 
-				mockStatic.verify(() -> FileUtils.deleteDirectory(any(File.class)), times(1));
+			assertEquals(freshTimeRangeAndTimeStamp, expiringFileRepository
+				.getFileTimeRangeAndTimeStampByStartTimeAndEndTime(FileType.REPORT, TEST_UUID, "20240101", "20240102"));
 
-				File realFile = new File("./app/output/csv");
-				assertTrue(realFile.exists());
-				File[] listFiles = realFile.listFiles();
-				assertNotNull(listFiles);
-				assertEquals(1, listFiles.length);
-			}
+			expiringFileRepository.removeExpiredFiles(System.currentTimeMillis() + 1000);
 
-			Files.deleteIfExists(filePath);
-			Files.deleteIfExists(path);
+			assertFalse(new File(SHARED_PATH + "/report/" + TEST_UUID).exists());
 		}
 
 	}
@@ -856,6 +992,32 @@ class FileRepositoryTest {
 			Files.deleteIfExists(path);
 		}
 
+		@Test
+		void shouldFindFileWrittenOrRemovedAfterTimeRangesWereLoaded() throws IOException {
+			String fileName = "20240101-20240102-123";
+			String data = "test-data";
+			Path path = Paths.get("./app/output/report/" + TEST_UUID);
+			Files.createDirectory(path);
+			when(gson.toJson(data)).thenReturn(data);
+
+			String resultBeforeWrite = fileRepository.getFileTimeRangeAndTimeStampByStartTimeAndEndTime(
+					FileType.REPORT, TEST_UUID, "20240101", "20240102");
+			fileRepository.createFileByType(FileType.REPORT, TEST_UUID, fileName, data,
+					FilePrefixType.BOARD_REPORT_PREFIX);
+			String resultAfterWrite = fileRepository.getFileTimeRangeAndTimeStampByStartTimeAndEndTime(
+					FileType.REPORT, TEST_UUID, "20240101", "20240102");
+			fileRepository.removeFileByType(FileType.REPORT, TEST_UUID, fileName, FilePrefixType.BOARD_REPORT_PREFIX);
+			String resultAfterRemove = fileRepository.getFileTimeRangeAndTimeStampByStartTimeAndEndTime(
+					FileType.REPORT, TEST_UUID, "20240101", "20240102");
+
+			assertNull(resultBeforeWrite);
+			assertEquals(fileName, resultAfterWrite);
+			assertNull(resultAfterRemove);
+			assertEquals(List.of(), fileRepository.getFiles(FileType.REPORT, TEST_UUID));
+
+			FileUtils.deleteDirectory(path.toFile());
+		}
+
 	}
 
 	@Nested
@@ -864,7 +1026,7 @@ class FileRepositoryTest {
 		@Test
 		void shouldExpired() {
 			long startTime = 123L;
-			long endTime = startTime + EXPORT_CSV_VALIDITY_TIME + 10000L;
+			long endTime = startTime + RETENTION_TIME + 10000L;
 
 			boolean expired = fileRepository.isExpired(endTime, startTime);
 
@@ -874,13 +1036,22 @@ class FileRepositoryTest {
 		@Test
 		void shouldNotExpired() {
 			long startTime = 123L;
-			long endTime = startTime + EXPORT_CSV_VALIDITY_TIME - 10000L;
+			long endTime = startTime + RETENTION_TIME - 10000L;
 
 			boolean expired = fileRepository.isExpired(endTime, startTime);
 
 			assertFalse(expired);
 		}
 
+		@Test
+		void shouldUseConfiguredRetentionTime() {
+			FileRepository oneHourFileRepository = new FileRepository(gson, reportStore, 1);
+
+			assertEquals(1000L * 3600, oneHourFileRepository.getRetentionTime());
+			assertTrue(oneHourFileRepository.isExpired(1000L * 3600 + 124, 123L));
+			assertFalse(fileRepository.isExpired(1000L * 3600 + 124, 123L));
+		}
+
 	}
 
 	@Nested
@@ -933,10 +1104,10 @@ class FileRepositoryTest {
 			Path path = Paths.get("./app/output/csv/test-uuid/board-1-2-3.csv");
 			Files.createFile(path);
 
-			InputStreamResource inputStreamResource = fileRepository.readStringFromCsvFile(TEST_UUID, "1-2-3",
+			FileSystemResource fileSystemResource = fileRepository.readStringFromCsvFile(TEST_UUID, "1-2-3",
 					FilePrefixType.BOARD_REPORT_PREFIX);
 
-			InputStream inputStream = inputStreamResource.getInputStream();
+			InputStream inputStream = fileSystemResource.getInputStream();
 			String returnData = new BufferedReader(new InputStreamReader(inputStream)).lines()
 				.collect(Collectors.joining("\n"));
 
@@ -953,8 +1124,7 @@ class FileRepositoryTest {
 			FileIOException fileIOException = assertThrows(FileIOException.class,
 					() -> fileRepository.readStringFromCsvFile(TEST_UUID, "1-2-3", FilePrefixType.BOARD_REPORT_PREFIX));
 
-			assertEquals("File handle error: ./app/output/csv/test-uuid/board-1-2-3.csv (Is a directory)",
-					fileIOException.getMessage());
+			assertEquals("File handle error: ./app/output/csv/test-uuid/board-1-2-3.csv", fileIOException.getMessage());
 
 			Files.deleteIfExists(path);
 		}
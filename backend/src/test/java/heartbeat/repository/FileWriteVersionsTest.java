@@ -0,0 +1,38 @@
+package heartbeat.repository;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class FileWriteVersionsTest {
+
+	private final FileWriteVersions fileWriteVersions = new FileWriteVersions();
+
+	@Test
+	void shouldChangeVersionOnlyForWrittenFile() {
+		long unwrittenVersion = fileWriteVersions.get("uuid", "file-name");
+
+		fileWriteVersions.increment("uuid", "file-name");
+
+		assertNotEquals(unwrittenVersion, fileWriteVersions.get("uuid", "file-name"));
+		assertEquals(unwrittenVersion, fileWriteVersions.get("uuid", "other-file-name"));
+		assertEquals(unwrittenVersion, fileWriteVersions.get("other-uuid", "file-name"));
+	}
+
+	@Test
+	void shouldChangeVersionsOfAllFilesWhenFilesOfUuidAreRemoved() {
+		fileWriteVersions.increment("uuid", "file-name");
+		fileWriteVersions.increment("other-uuid", "file-name");
+		long writtenVersion = fileWriteVersions.get("uuid", "file-name");
+		long otherWrittenVersion = fileWriteVersions.get("other-uuid", "file-name");
+		long unwrittenVersion = fileWriteVersions.get("uuid", "other-file-name");
+
+		fileWriteVersions.removeAll("uuid");
+
+		assertNotEquals(writtenVersion, fileWriteVersions.get("uuid", "file-name"));
+		assertNotEquals(unwrittenVersion, fileWriteVersions.get("uuid", "other-file-name"));
+		assertEquals(otherWrittenVersion, fileWriteVersions.get("other-uuid", "file-name"));
+	}
+
+}
@@ -0,0 +1,121 @@
+package heartbeat.repository;
+
+import com.google.gson.Gson;
+import heartbeat.controller.report.dto.request.CalendarTypeEnum;
+import heartbeat.repository.HolidayCalendarStore.StoredHolidayCalendar;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.CopyOption;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mockStatic;
+
+class HolidayCalendarStoreTest {
+
+	private static final String STORE_PATH = "./app/store/holiday";
+
+	private static final Map<String, Boolean> HOLIDAYS = Map.of("2023-10-01", true, "2023-10-07", false);
+
+	private final Gson gson = new Gson();
+
+	private final HolidayCalendarStore holidayCalendarStore = new HolidayCalendarStore(gson);
+
+	@AfterEach
+	void afterEach() throws IOException {
+		FileUtils.deleteDirectory(new File(STORE_PATH));
+	}
+
+	@Test
+	void shouldReturnStoredCalendarWhenItIsSaved() {
+		long startTime = System.currentTimeMillis();
+
+		holidayCalendarStore.saveCalendar(CalendarTypeEnum.CN, 2023, HOLIDAYS);
+		Optional<StoredHolidayCalendar> result = holidayCalendarStore.findCalendar(CalendarTypeEnum.CN, 2023);
+
+		assertTrue(result.isPresent());
+		assertEquals(HOLIDAYS, result.get().holidays());
+		assertEquals(HolidayCalendarStore.STORE_VERSION, result.get().version());
+		assertTrue(result.get().fetchedAt() >= startTime);
+	}
+
+	@Test
+	void shouldReturnBundledCalendarWhenNothingIsStored() {
+		Optional<StoredHolidayCalendar> result = holidayCalendarStore.findCalendar(CalendarTypeEnum.CN, 2024);
+
+		assertTrue(result.isPresent());
+		assertEquals(0, result.get().fetchedAt());
+		assertTrue(result.get().holidays().get("2024-02-10"));
+		assertFalse(result.get().holidays().get("2024-02-04"));
+	}
+
+	@Test
+	void shouldPreferStoredCalendarOverBundledOne() {
+		holidayCalendarStore.saveCalendar(CalendarTypeEnum.CN, 2024, HOLIDAYS);
+
+		assertEquals(HOLIDAYS, holidayCalendarStore.findCalendar(CalendarTypeEnum.CN, 2024).get().holidays());
+	}
+
+	@Test
+	void shouldReturnEmptyWhenNeitherStoredNorBundledCalendarExists() {
+		assertTrue(holidayCalendarStore.findCalendar(CalendarTypeEnum.VN, 2023).isEmpty());
+	}
+
+	@Test
+	void shouldSkipStoredCalendarWhenChecksumOrVersionDoesNotMatch() throws IOException {
+		Path path = Path.of(STORE_PATH, CalendarTypeEnum.CN.name(), "2024.json");
+		Files.createDirectories(path.getParent());
+		Files.writeString(path, gson.toJson(new StoredHolidayCalendar(HolidayCalendarStore.STORE_VERSION,
+				System.currentTimeMillis(), "tampered", HOLIDAYS)));
+
+		assertEquals(0, holidayCalendarStore.findCalendar(CalendarTypeEnum.CN, 2024).get().fetchedAt());
+
+		Files.writeString(path, gson.toJson(new StoredHolidayCalendar(0, System.currentTimeMillis(), "", HOLIDAYS)));
+
+		assertEquals(0, holidayCalendarStore.findCalendar(CalendarTypeEnum.CN, 2024).get().fetchedAt());
+
+		Path emptyPath = Path.of(STORE_PATH, CalendarTypeEnum.VN.name(), "2023.json");
+		Files.createDirectories(emptyPath.getParent());
+		Files.writeString(emptyPath, "");
+
+		assertTrue(holidayCalendarStore.findCalendar(CalendarTypeEnum.VN, 2023).isEmpty());
+	}
+
+	@Test
+	void shouldReturnBundledCalendarWhenStoredCalendarIsBroken() throws IOException {
+		Path path = Path.of(STORE_PATH, CalendarTypeEnum.CN.name(), "2024.json");
+		Files.createDirectories(path.getParent());
+		Files.writeString(path, "{broken");
+
+		assertTrue(holidayCalendarStore.findCalendar(CalendarTypeEnum.CN, 2024).isPresent());
+	}
+
+	@Test
+	void shouldReturnEmptyWhenBundledCalendarIsBroken() {
+		assertTrue(holidayCalendarStore.findCalendar(CalendarTypeEnum.VN, 1900).isEmpty());
+	}
+
+	@Test
+	void shouldNotThrowExceptionWhenStoreCalendarFailed() {
+		try (MockedStatic<Files> mockStatic = mockStatic(Files.class, CALLS_REAL_METHODS)) {
+			mockStatic.when(() -> Files.move(any(), any(), any(CopyOption[].class))).thenThrow(IOException.class);
+
+			assertDoesNotThrow(() -> holidayCalendarStore.saveCalendar(CalendarTypeEnum.VN, 2023, HOLIDAYS));
+		}
+		assertTrue(holidayCalendarStore.findCalendar(CalendarTypeEnum.VN, 2023).isEmpty());
+	}
+
+}
@@ -0,0 +1,158 @@
+package heartbeat.repository;
+
+import com.google.gson.Gson;
+import heartbeat.client.dto.board.jira.CardHistoryResponseDTO;
+import heartbeat.client.dto.board.jira.HistoryDetail;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.CopyOption;
+import java.nio.file.FileVisitOption;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static heartbeat.repository.JiraCardStore.CARD_HISTORY_VALIDITY_TIME;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mockStatic;
+
+class JiraCardStoreTest {
+
+	private static final String STORE_PATH = "./app/store/jira";
+
+	private static final String SITE = "site";
+
+	private static final String BOARD_ID = "1";
+
+	private static final String CARD_KEY = "ADM-1";
+
+	private static final String UPDATED = "2024-03-01T10:00:00.000+0800";
+
+	private final JiraCardStore jiraCardStore = new JiraCardStore(new Gson());
+
+	@AfterEach
+	void afterEach() throws IOException {
+		FileUtils.deleteDirectory(new File(STORE_PATH));
+	}
+
+	@Test
+	void shouldReturnStoredCardHistoryWhenCardIsNotUpdatedSinceLastSync() {
+		CardHistoryResponseDTO cardHistory = buildCardHistory();
+
+		jiraCardStore.saveCardHistory(SITE, BOARD_ID, CARD_KEY, UPDATED, cardHistory);
+		Optional<CardHistoryResponseDTO> result = jiraCardStore.findCardHistory(SITE, BOARD_ID, CARD_KEY, UPDATED);
+
+		assertEquals(Optional.of(cardHistory), result);
+	}
+
+	@Test
+	void shouldReturnEmptyWhenCardIsUpdatedSinceLastSync() {
+		jiraCardStore.saveCardHistory(SITE, BOARD_ID, CARD_KEY, UPDATED, buildCardHistory());
+
+		assertTrue(jiraCardStore.findCardHistory(SITE, BOARD_ID, CARD_KEY, "2024-03-02T10:00:00.000+0800").isEmpty());
+		assertTrue(jiraCardStore.findCardHistory(SITE, BOARD_ID, "ADM-2", UPDATED).isEmpty());
+	}
+
+	@Test
+	void shouldNotStoreCardHistoryWhenUpdatedIsUnknown() {
+		jiraCardStore.saveCardHistory(SITE, BOARD_ID, CARD_KEY, null, buildCardHistory());
+
+		assertFalse(Files.exists(Path.of(STORE_PATH, SITE, BOARD_ID, CARD_KEY + ".json")));
+		assertTrue(jiraCardStore.findCardHistory(SITE, BOARD_ID, CARD_KEY, null).isEmpty());
+	}
+
+	@Test
+	void shouldSkipStoreWhenPathSegmentIsInvalid() {
+		jiraCardStore.saveCardHistory("..", BOARD_ID, CARD_KEY, UPDATED, buildCardHistory());
+		jiraCardStore.saveCardHistory(SITE, "a/b", CARD_KEY, UPDATED, buildCardHistory());
+		jiraCardStore.saveCardHistory(SITE, BOARD_ID, "a\\b", UPDATED, buildCardHistory());
+		jiraCardStore.saveCardHistory(SITE, BOARD_ID, "", UPDATED, buildCardHistory());
+
+		assertFalse(Files.exists(Path.of(STORE_PATH)));
+		assertTrue(jiraCardStore.findCardHistory(null, BOARD_ID, CARD_KEY, UPDATED).isEmpty());
+	}
+
+	@Test
+	void shouldReturnEmptyWhenStoredCardHistoryIsBroken() throws IOException {
+		Path cardPath = Path.of(STORE_PATH, SITE, BOARD_ID, CARD_KEY + ".json");
+		Files.createDirectories(cardPath.getParent());
+		Files.writeString(cardPath, "{broken");
+
+		assertTrue(jiraCardStore.findCardHistory(SITE, BOARD_ID, CARD_KEY, UPDATED).isEmpty());
+	}
+
+	@Test
+	void shouldReturnEmptyWhenStoredCardHistoryIsEmpty() throws IOException {
+		Path cardPath = Path.of(STORE_PATH, SITE, BOARD_ID, CARD_KEY + ".json");
+		Files.createDirectories(cardPath.getParent());
+		Files.writeString(cardPath, "");
+
+		assertTrue(jiraCardStore.findCardHistory(SITE, BOARD_ID, CARD_KEY, UPDATED).isEmpty());
+	}
+
+	@Test
+	void shouldNotThrowExceptionWhenStoreCardHistoryFailed() {
+		try (MockedStatic<Files> mockStatic = mockStatic(Files.class, CALLS_REAL_METHODS)) {
+			mockStatic.when(() -> Files.move(any(), any(), any(CopyOption[].class))).thenThrow(IOException.class);
+
+			assertDoesNotThrow(
+					() -> jiraCardStore.saveCardHistory(SITE, BOARD_ID, CARD_KEY, UPDATED, buildCardHistory()));
+		}
+		assertTrue(jiraCardStore.findCardHistory(SITE, BOARD_ID, CARD_KEY, UPDATED).isEmpty());
+	}
+
+	@Test
+	void shouldRemoveExpiredCardHistories() {
+		long currentTimeStamp = System.currentTimeMillis();
+		jiraCardStore.saveCardHistory(SITE, BOARD_ID, CARD_KEY, UPDATED, buildCardHistory());
+		jiraCardStore.saveCardHistory(SITE, BOARD_ID, "ADM-2", UPDATED, buildCardHistory());
+		File expiredCard = Path.of(STORE_PATH, SITE, BOARD_ID, "ADM-2.json").toFile();
+		assertTrue(expiredCard.setLastModified(currentTimeStamp - CARD_HISTORY_VALIDITY_TIME - 1000));
+
+		jiraCardStore.removeExpiredCards(currentTimeStamp);
+
+		assertFalse(expiredCard.exists());
+		assertTrue(jiraCardStore.findCardHistory(SITE, BOARD_ID, CARD_KEY, UPDATED).isPresent());
+	}
+
+	@Test
+	void shouldNotThrowExceptionWhenRemoveExpiredCardHistoriesFailed() {
+		jiraCardStore.saveCardHistory(SITE, BOARD_ID, CARD_KEY, UPDATED, buildCardHistory());
+		long expiredTimeStamp = System.currentTimeMillis() + CARD_HISTORY_VALIDITY_TIME + 1000;
+
+		try (MockedStatic<Files> mockStatic = mockStatic(Files.class, CALLS_REAL_METHODS)) {
+			mockStatic.when(() -> Files.deleteIfExists(any())).thenThrow(IOException.class);
+
+			assertDoesNotThrow(() -> jiraCardStore.removeExpiredCards(expiredTimeStamp));
+		}
+		try (MockedStatic<Files> mockStatic = mockStatic(Files.class, CALLS_REAL_METHODS)) {
+			mockStatic.when(() -> Files.walk(any(), any(FileVisitOption[].class))).thenThrow(IOException.class);
+
+			assertDoesNotThrow(() -> jiraCardStore.removeExpiredCards(expiredTimeStamp));
+		}
+		assertTrue(Files.exists(Path.of(STORE_PATH, SITE, BOARD_ID, CARD_KEY + ".json")));
+	}
+
+	@Test
+	void shouldDoNothingWhenStoreDirectoryIsNotExist() {
+		assertDoesNotThrow(() -> jiraCardStore.removeExpiredCards(System.currentTimeMillis()));
+	}
+
+	private static CardHistoryResponseDTO buildCardHistory() {
+		return CardHistoryResponseDTO.builder()
+			.isLast(true)
+			.items(List.of(new HistoryDetail(1709258400000L, "status", null, null, null, null)))
+			.build();
+	}
+
+}
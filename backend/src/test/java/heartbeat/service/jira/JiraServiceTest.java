@@ -2,6 +2,7 @@ package heartbeat.service.jira;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.JsonSyntaxException;
 import heartbeat.client.JiraFeignClient;
 import heartbeat.client.component.JiraUriGenerator;
 import heartbeat.client.dto.board.jira.CardHistoryResponseDTO;
@@ -19,6 +20,7 @@ import heartbeat.client.dto.board.jira.AllCardsResponseDTO;
 import heartbeat.client.dto.board.jira.JiraCard;
 import heartbeat.client.dto.board.jira.JiraCardField;
 import heartbeat.client.dto.board.jira.Assignee;
+import heartbeat.client.ratelimit.AdaptiveConcurrencyLimiter;
 import heartbeat.controller.board.dto.request.BoardRequestParam;
 import heartbeat.controller.board.dto.request.BoardType;
 import heartbeat.controller.board.dto.request.BoardVerifyRequestParam;
@@ -28,6 +30,7 @@ import heartbeat.controller.board.dto.request.ReworkTimesSetting;
 import heartbeat.controller.board.dto.request.StoryPointsAndCycleTimeRequest;
 import heartbeat.controller.board.dto.response.BoardConfigDTO;
 import heartbeat.controller.board.dto.response.CardCollection;
+import heartbeat.controller.board.dto.response.CycleTimeColumns;
 import heartbeat.controller.board.dto.response.IssueType;
 import heartbeat.controller.board.dto.response.TargetField;
 import heartbeat.controller.report.dto.request.CalendarTypeEnum;
@@ -40,14 +43,17 @@ import heartbeat.exception.NoContentException;
 import heartbeat.exception.NotFoundException;
 import heartbeat.exception.PermissionDenyException;
 import heartbeat.exception.UnauthorizedException;
+import heartbeat.repository.JiraCardStore;
 import heartbeat.service.board.jira.AssigneeFilterMethod;
 import heartbeat.service.board.jira.JiraService;
 import heartbeat.util.BoardUtil;
 import heartbeat.util.SystemUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -61,6 +67,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.CompletionException;
 
 import static heartbeat.controller.board.BoardRequestFixture.BOARD_REQUEST_BUILDER;
@@ -126,9 +133,12 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -156,23 +166,34 @@ class JiraServiceTest {
 
 	ThreadPoolTaskExecutor executor;
 
+	ThreadPoolTaskExecutor jiraCardHistoryExecutor;
+
 	@Mock
 	BoardUtil boardUtil;
 
 	@Mock
 	SystemUtil systemUtil;
 
+	@Mock
+	JiraCardStore jiraCardStore;
+
 	ObjectMapper objectMapper = new ObjectMapper();
 
 	@BeforeEach
 	public void setUp() {
-		jiraService = new JiraService(executor = getTaskExecutor(), jiraFeignClient, urlGenerator, boardUtil,
-				systemUtil);
+		jiraService = new JiraService(executor = getTaskExecutor(), jiraCardHistoryExecutor = getTaskExecutor(),
+				jiraFeignClient, urlGenerator, boardUtil, systemUtil, jiraCardStore,
+				new AdaptiveConcurrencyLimiter(new SimpleMeterRegistry(), 10, 20, 10, 3, 0, 30));
+		lenient().when(boardUtil.getCycleTimeColumns(any(), any(), any(), any(), any(), any()))
+			.thenReturn(CycleTimeColumns.EMPTY);
+		lenient().when(boardUtil.getOriginCycleTimeColumns(any(), any(), any(), any(), any()))
+			.thenReturn(CycleTimeColumns.EMPTY);
 	}
 
 	@AfterEach
 	public void tearDown() {
 		executor.shutdown();
+		jiraCardHistoryExecutor.shutdown();
 	}
 
 	public ThreadPoolTaskExecutor getTaskExecutor() {
@@ -211,7 +232,9 @@ class JiraServiceTest {
 		when(urlGenerator.getUri(any())).thenReturn(URI.create(SITE_ATLASSIAN_NET));
 		when(jiraFeignClient.getColumnStatusCategory(baseUrl, COLUM_SELF_ID_1, token)).thenReturn(doneStatusSelf);
 		when(jiraFeignClient.getColumnStatusCategory(baseUrl, COLUM_SELF_ID_2, token)).thenReturn(doingStatusSelf);
-		when(jiraFeignClient.getJiraCards(baseUrl, BOARD_ID, QUERY_COUNT, 0, jql, token)).thenReturn(allDoneCards);
+		when(jiraFeignClient.getJiraCards(eq(baseUrl), eq(BOARD_ID), eq(QUERY_COUNT), eq(0), eq(jql), anyString(),
+				eq(token)))
+			.thenReturn(allDoneCards);
 		when(jiraFeignClient.getJiraCardHistoryByCount(any(), any(), anyInt(), anyInt(), any()))
 			.thenReturn(CARD_HISTORY_RESPONSE_BUILDER().build());
 		when(jiraFeignClient.getTargetField(baseUrl, "project key", token))
@@ -253,7 +276,9 @@ class JiraServiceTest {
 			.thenReturn(JiraBoardProject.builder().style("next-gen").build());
 		when(jiraFeignClient.getColumnStatusCategory(baseUrl, COLUM_SELF_ID_1, token)).thenReturn(doneStatusSelf);
 		when(jiraFeignClient.getColumnStatusCategory(baseUrl, COLUM_SELF_ID_2, token)).thenReturn(doingStatusSelf);
-		when(jiraFeignClient.getJiraCards(baseUrl, BOARD_ID, QUERY_COUNT, 0, jql, token)).thenReturn(allDoneCards);
+		when(jiraFeignClient.getJiraCards(eq(baseUrl), eq(BOARD_ID), eq(QUERY_COUNT), eq(0), eq(jql), anyString(),
+				eq(token)))
+			.thenReturn(allDoneCards);
 		when(jiraFeignClient.getJiraCardHistoryByCount(any(), any(), anyInt(), anyInt(), any()))
 			.thenReturn(CARD_HISTORY_RESPONSE_BUILDER().build());
 		when(jiraFeignClient.getTargetField(baseUrl, "project key", token))
@@ -306,8 +331,12 @@ class JiraServiceTest {
 		when(urlGenerator.getUri(any())).thenReturn(URI.create(SITE_ATLASSIAN_NET));
 		when(jiraFeignClient.getColumnStatusCategory(baseUrl, COLUM_SELF_ID_1, token)).thenReturn(doneStatusSelf);
 		when(jiraFeignClient.getColumnStatusCategory(baseUrl, COLUM_SELF_ID_2, token)).thenReturn(doingStatusSelf);
-		when(jiraFeignClient.getJiraCards(baseUrl, BOARD_ID, QUERY_COUNT, 0, jql, token)).thenReturn(allDoneCards);
-		when(jiraFeignClient.getJiraCards(baseUrl, BOARD_ID, QUERY_COUNT, 100, jql, token)).thenReturn(allDoneCards);
+		when(jiraFeignClient.getJiraCards(eq(baseUrl), eq(BOARD_ID), eq(QUERY_COUNT), eq(0), eq(jql), anyString(),
+				eq(token)))
+			.thenReturn(allDoneCards);
+		when(jiraFeignClient.getJiraCards(eq(baseUrl), eq(BOARD_ID), eq(QUERY_COUNT), eq(100), eq(jql), anyString(),
+				eq(token)))
+			.thenReturn(allDoneCards);
 		when(jiraFeignClient.getJiraCardHistoryByCount(baseUrl, "1", 0, 100, token))
 			.thenReturn(CARD_HISTORY_RESPONSE_BUILDER().build());
 		when(jiraFeignClient.getTargetField(baseUrl, "project key", token))
@@ -346,8 +375,12 @@ class JiraServiceTest {
 			.thenReturn(JiraBoardProject.builder().style("next-gen").build());
 		when(jiraFeignClient.getColumnStatusCategory(baseUrl, COLUM_SELF_ID_1, token)).thenReturn(doneStatusSelf);
 		when(jiraFeignClient.getColumnStatusCategory(baseUrl, COLUM_SELF_ID_2, token)).thenReturn(doingStatusSelf);
-		when(jiraFeignClient.getJiraCards(baseUrl, BOARD_ID, QUERY_COUNT, 0, jql, token)).thenReturn(allDoneCards);
-		when(jiraFeignClient.getJiraCards(baseUrl, BOARD_ID, QUERY_COUNT, 100, jql, token)).thenReturn(allDoneCards);
+		when(jiraFeignClient.getJiraCards(eq(baseUrl), eq(BOARD_ID), eq(QUERY_COUNT), eq(0), eq(jql), anyString(),
+				eq(token)))
+			.thenReturn(allDoneCards);
+		when(jiraFeignClient.getJiraCards(eq(baseUrl), eq(BOARD_ID), eq(QUERY_COUNT), eq(100), eq(jql), anyString(),
+				eq(token)))
+			.thenReturn(allDoneCards);
 		when(jiraFeignClient.getJiraCardHistoryByCount(baseUrl, "1", 0, 100, token))
 			.thenReturn(CARD_HISTORY_RESPONSE_BUILDER().build());
 		when(jiraFeignClient.getTargetField(baseUrl, "project key", token))
@@ -388,7 +421,9 @@ class JiraServiceTest {
 		when(jiraFeignClient.getColumnStatusCategory(baseUrl, COLUM_SELF_ID_1, token)).thenReturn(doneStatusSelf);
 		when(jiraFeignClient.getColumnStatusCategory(baseUrl, COLUM_SELF_ID_3, token)).thenReturn(completeStatusSelf);
 		when(jiraFeignClient.getColumnStatusCategory(baseUrl, COLUM_SELF_ID_2, token)).thenReturn(doingStatusSelf);
-		when(jiraFeignClient.getJiraCards(baseUrl, BOARD_ID, QUERY_COUNT, 0, jql, token)).thenReturn(allDoneCards);
+		when(jiraFeignClient.getJiraCards(eq(baseUrl), eq(BOARD_ID), eq(QUERY_COUNT), eq(0), eq(jql), anyString(),
+				eq(token)))
+			.thenReturn(allDoneCards);
 		when(jiraFeignClient.getJiraCardHistoryByCount(any(), any(), anyInt(), anyInt(), any()))
 			.thenReturn(CARD_HISTORY_RESPONSE_BUILDER().build());
 		when(jiraFeignClient.getTargetField(baseUrl, "project key", token))
@@ -431,7 +466,9 @@ class JiraServiceTest {
 		when(jiraFeignClient.getColumnStatusCategory(baseUrl, COLUM_SELF_ID_1, token)).thenReturn(doneStatusSelf);
 		when(jiraFeignClient.getColumnStatusCategory(baseUrl, COLUM_SELF_ID_3, token)).thenReturn(completeStatusSelf);
 		when(jiraFeignClient.getColumnStatusCategory(baseUrl, COLUM_SELF_ID_2, token)).thenReturn(doingStatusSelf);
-		when(jiraFeignClient.getJiraCards(baseUrl, BOARD_ID, QUERY_COUNT, 0, jql, token)).thenReturn(allDoneCards);
+		when(jiraFeignClient.getJiraCards(eq(baseUrl), eq(BOARD_ID), eq(QUERY_COUNT), eq(0), eq(jql), anyString(),
+				eq(token)))
+			.thenReturn(allDoneCards);
 		when(jiraFeignClient.getJiraCardHistoryByCount(any(), any(), anyInt(), anyInt(), any()))
 			.thenReturn(CARD_HISTORY_RESPONSE_BUILDER().build());
 		when(jiraFeignClient.getTargetField(baseUrl, "project key", token))
@@ -558,7 +595,9 @@ class JiraServiceTest {
 		when(jiraFeignClient.getColumnStatusCategory(baseUrl, COLUM_SELF_ID_1, token)).thenReturn(doneStatusSelf);
 		when(jiraFeignClient.getColumnStatusCategory(baseUrl, COLUM_SELF_ID_2, token))
 			.thenThrow(new NotFoundException("message"));
-		when(jiraFeignClient.getJiraCards(baseUrl, BOARD_ID, QUERY_COUNT, 0, jql, token)).thenReturn(allDoneCards);
+		when(jiraFeignClient.getJiraCards(eq(baseUrl), eq(BOARD_ID), eq(QUERY_COUNT), eq(0), eq(jql), anyString(),
+				eq(token)))
+			.thenReturn(allDoneCards);
 		when(jiraFeignClient.getJiraCardHistoryByCount(any(), any(), anyInt(), anyInt(), any()))
 			.thenReturn(new CardHistoryResponseDTO(true, Collections.emptyList()));
 		when(jiraFeignClient.getTargetField(baseUrl, "project key", token))
@@ -580,7 +619,8 @@ class JiraServiceTest {
 		String allDoneCards = objectMapper.writeValueAsString(NEED_FILTERED_ALL_DONE_CARDS_BUILDER().build());
 
 		when(urlGenerator.getUri(any())).thenReturn(baseUrl);
-		when(jiraFeignClient.getJiraCards(any(), any(), anyInt(), anyInt(), any(), any())).thenReturn(allDoneCards);
+		when(jiraFeignClient.getJiraCards(any(), any(), anyInt(), anyInt(), any(), any(), any()))
+			.thenReturn(allDoneCards);
 		when(jiraFeignClient.getJiraCardHistoryByCount(baseUrl, "1", 0, 100, token))
 			.thenReturn(CARD_HISTORY_MULTI_RESPONSE_BUILDER().build());
 		when(jiraFeignClient.getJiraCardHistoryByCount(baseUrl, "2", 0, 100, token))
@@ -613,7 +653,8 @@ class JiraServiceTest {
 		doReturn(jiraBoardConfigDTO).when(jiraFeignClient).getJiraBoardConfiguration(baseUrl, BOARD_ID, token);
 		when(jiraFeignClient.getColumnStatusCategory(baseUrl, COLUM_SELF_ID_1, token)).thenReturn(doneStatusSelf);
 		when(jiraFeignClient.getColumnStatusCategory(baseUrl, COLUM_SELF_ID_2, token)).thenReturn(doingStatusSelf);
-		when(jiraFeignClient.getJiraCards(baseUrl, BOARD_ID, QUERY_COUNT, 0, jql, token))
+		when(jiraFeignClient.getJiraCards(eq(baseUrl), eq(BOARD_ID), eq(QUERY_COUNT), eq(0), eq(jql), anyString(),
+				eq(token)))
 			.thenReturn(objectMapper.writeValueAsString(ONE_PAGE_NO_DONE_CARDS_RESPONSE_BUILDER().build()));
 		when(jiraFeignClient.getTargetField(baseUrl, "project key", token))
 			.thenReturn(FIELD_RESPONSE_BUILDER().build());
@@ -639,7 +680,8 @@ class JiraServiceTest {
 			.thenReturn(JiraBoardProject.builder().style("next-gen").build());
 		when(jiraFeignClient.getColumnStatusCategory(baseUrl, COLUM_SELF_ID_1, token)).thenReturn(doneStatusSelf);
 		when(jiraFeignClient.getColumnStatusCategory(baseUrl, COLUM_SELF_ID_2, token)).thenReturn(doingStatusSelf);
-		when(jiraFeignClient.getJiraCards(baseUrl, BOARD_ID, QUERY_COUNT, 0, jql, token))
+		when(jiraFeignClient.getJiraCards(eq(baseUrl), eq(BOARD_ID), eq(QUERY_COUNT), eq(0), eq(jql), anyString(),
+				eq(token)))
 			.thenReturn(objectMapper.writeValueAsString(ONE_PAGE_NO_DONE_CARDS_RESPONSE_BUILDER().build()));
 		when(jiraFeignClient.getTargetField(baseUrl, "project key", token))
 			.thenReturn(FIELD_RESPONSE_BUILDER().build());
@@ -710,7 +752,8 @@ class JiraServiceTest {
 			.replaceAll("storyPoints", "customfield_10016");
 
 		when(urlGenerator.getUri(any())).thenReturn(baseUrl);
-		when(jiraFeignClient.getJiraCards(baseUrl, BOARD_ID, QUERY_COUNT, 0, jql, boardRequestParam.getToken()))
+		when(jiraFeignClient.getJiraCards(eq(baseUrl), eq(BOARD_ID), eq(QUERY_COUNT), eq(0), eq(jql), anyString(),
+				eq(boardRequestParam.getToken())))
 			.thenReturn(allDoneCards);
 		when(jiraFeignClient.getJiraCardHistoryByCount(baseUrl, "1", 0, 100, token))
 			.thenReturn(CARD_HISTORY_MULTI_RESPONSE_BUILDER().build());
@@ -753,7 +796,8 @@ class JiraServiceTest {
 		String allDoneCards = objectMapper.writeValueAsString(allCardsResponseDTO);
 
 		when(urlGenerator.getUri(any())).thenReturn(baseUrl);
-		when(jiraFeignClient.getJiraCards(baseUrl, BOARD_ID, QUERY_COUNT, 0, jql, boardRequestParam.getToken()))
+		when(jiraFeignClient.getJiraCards(eq(baseUrl), eq(BOARD_ID), eq(QUERY_COUNT), eq(0), eq(jql), anyString(),
+				eq(boardRequestParam.getToken())))
 			.thenReturn(allDoneCards);
 		when(jiraFeignClient.getJiraCardHistoryByCount(baseUrl, "1", 0, 100, token))
 			.thenReturn(CARD_HISTORY_MULTI_RESPONSE_BUILDER().build());
@@ -807,7 +851,8 @@ class JiraServiceTest {
 		String allDoneCards = objectMapper.writeValueAsString(allCardsResponseDTO);
 
 		when(urlGenerator.getUri(any())).thenReturn(baseUrl);
-		when(jiraFeignClient.getJiraCards(baseUrl, BOARD_ID, QUERY_COUNT, 0, jql, boardRequestParam.getToken()))
+		when(jiraFeignClient.getJiraCards(eq(baseUrl), eq(BOARD_ID), eq(QUERY_COUNT), eq(0), eq(jql), anyString(),
+				eq(boardRequestParam.getToken())))
 			.thenReturn(allDoneCards);
 		when(jiraFeignClient.getJiraCardHistoryByCount(baseUrl, "1", 0, 100, token)).thenReturn(cardHistoryResponseDTO);
 		when(jiraFeignClient.getJiraCardHistoryByCount(baseUrl, "2", 0, 100, token)).thenReturn(cardHistoryResponseDTO);
@@ -839,7 +884,8 @@ class JiraServiceTest {
 				""";
 
 		when(urlGenerator.getUri(any())).thenReturn(baseUrl);
-		when(jiraFeignClient.getJiraCards(any(), any(), anyInt(), anyInt(), any(), any())).thenReturn(allDoneCards);
+		when(jiraFeignClient.getJiraCards(any(), any(), anyInt(), anyInt(), any(), any(), any()))
+			.thenReturn(allDoneCards);
 		when(jiraFeignClient.getJiraCardHistoryByCount(baseUrl, "1", 0, 100, token))
 			.thenReturn(CARD_HISTORY_MULTI_RESPONSE_BUILDER().build());
 		when(jiraFeignClient.getTargetField(baseUrl, "PLL", token))
@@ -849,7 +895,153 @@ class JiraServiceTest {
 				jiraBoardSetting.getBoardColumns(), List.of("Zhang San"), "", CalendarTypeEnum.REGULAR,
 				ZoneId.of("Asia/Shanghai"));
 
-		verify(jiraFeignClient, times(10)).getJiraCardHistoryByCount(any(), eq("1"), anyInt(), anyInt(), any());
+		verify(jiraFeignClient, times(1)).getJiraCardHistoryByCount(any(), eq("1"), anyInt(), anyInt(), any());
+	}
+
+	@Test
+	void shouldSkipUnusedPropertiesWhenParseJiraCardsResponse() {
+		URI baseUrl = URI.create(SITE_ATLASSIAN_NET);
+		String token = "token";
+		BoardRequestParam boardRequestParam = BOARD_REQUEST_BUILDER().build();
+		String jql = String.format("status in ('%s') AND status changed during (%s, %s)", "DONE",
+				boardRequestParam.getStartTime(), boardRequestParam.getEndTime());
+		String allDoneCards = """
+				{"expand":"names","startAt":0,"total":1,"issues":[{"id":"10001","self":"https://site/issue/10001","key":"1",
+				"fields":{"assignee":{"displayName":"Zhang San"},"comment":{"comments":[{"body":"text"}]},
+				"updated":"2024-03-01T10:00:00.000+0800"}}]}
+				""";
+
+		when(urlGenerator.getUri(any())).thenReturn(baseUrl);
+		when(jiraFeignClient.getJiraCards(eq(baseUrl), eq(BOARD_ID), eq(QUERY_COUNT), eq(0), eq(jql), anyString(),
+				eq(boardRequestParam.getToken())))
+			.thenReturn(allDoneCards);
+		when(jiraFeignClient.getJiraCardHistoryByCount(baseUrl, "1", 0, 100, token))
+			.thenReturn(CARD_HISTORY_MULTI_RESPONSE_BUILDER().build());
+		when(jiraFeignClient.getTargetField(baseUrl, "PLL", token)).thenReturn(ALL_FIELD_RESPONSE_BUILDER().build());
+
+		CardCollection cardCollection = jiraService.getStoryPointsAndCycleTimeAndReworkInfoForDoneCards(
+				STORY_POINTS_FORM_ALL_DONE_CARD().build(), JIRA_BOARD_SETTING_BUILD().build().getBoardColumns(),
+				List.of("Zhang San"), "", CalendarTypeEnum.REGULAR, ZoneId.of("Asia/Shanghai"));
+
+		assertThat(cardCollection.getCardsNumber()).isEqualTo(1);
+		JiraCardField fields = cardCollection.getJiraCardDTOList().get(0).getBaseInfo().getFields();
+		assertThat(fields.getUpdated()).isEqualTo("2024-03-01T10:00:00.000+0800");
+		assertThat(fields.getAssignee().getDisplayName()).isEqualTo("Zhang San");
+		assertThat(fields.getStoryPoints()).isZero();
+	}
+
+	@Test
+	void shouldOnlyRequestUsedFieldsWhenGetJiraCards() {
+		URI baseUrl = URI.create(SITE_ATLASSIAN_NET);
+		String token = "token";
+		StoryPointsAndCycleTimeRequest storyPointsAndCycleTimeRequest = STORY_POINTS_FORM_ALL_DONE_CARD().build();
+		storyPointsAndCycleTimeRequest.setTargetFields(List.of(new TargetField("customfield_10050", "Team", true),
+				new TargetField("customfield_10060", "Hidden", false)));
+		storyPointsAndCycleTimeRequest
+			.setOverrideFields(List.of(new TargetField("customfield_10070", "Story Points", true),
+					new TargetField("", "Flagged", true)));
+		ArgumentCaptor<String> fieldsCaptor = ArgumentCaptor.forClass(String.class);
+
+		when(urlGenerator.getUri(any())).thenReturn(baseUrl);
+		when(jiraFeignClient.getJiraCards(any(), any(), anyInt(), anyInt(), any(), fieldsCaptor.capture(), any()))
+			.thenReturn("{\"total\":0,\"issues\":[]}");
+		when(jiraFeignClient.getTargetField(baseUrl, "PLL", token)).thenReturn(ALL_FIELD_RESPONSE_BUILDER().build());
+
+		jiraService.getStoryPointsAndCycleTimeAndReworkInfoForDoneCards(storyPointsAndCycleTimeRequest,
+				JIRA_BOARD_SETTING_BUILD().build().getBoardColumns(), List.of("Zhang San"), "",
+				CalendarTypeEnum.REGULAR, ZoneId.of("Asia/Shanghai"));
+
+		List<String> fields = List.of(fieldsCaptor.getValue().split(","));
+		assertThat(fields).containsAll(JiraService.CARD_FIXED_FIELDS)
+			.contains("customfield_10050", "customfield_10070")
+			.doesNotContain("customfield_10060", "", "description", "attachment", "comment");
+	}
+
+	@Test
+	void shouldThrowJsonSyntaxExceptionWhenJiraCardsResponseIsMalformed() {
+		URI baseUrl = URI.create(SITE_ATLASSIAN_NET);
+		String token = "token";
+
+		when(urlGenerator.getUri(any())).thenReturn(baseUrl);
+		when(jiraFeignClient.getJiraCards(any(), any(), anyInt(), anyInt(), any(), any(), any()))
+			.thenReturn("{\"total\":1,\"issues\":[{\"key\":\"1\"");
+		when(jiraFeignClient.getTargetField(baseUrl, "PLL", token)).thenReturn(ALL_FIELD_RESPONSE_BUILDER().build());
+
+		assertThatThrownBy(() -> jiraService.getStoryPointsAndCycleTimeAndReworkInfoForDoneCards(
+				STORY_POINTS_FORM_ALL_DONE_CARD().build(), JIRA_BOARD_SETTING_BUILD().build().getBoardColumns(),
+				List.of("Zhang San"), "", CalendarTypeEnum.REGULAR, ZoneId.of("Asia/Shanghai")))
+			.isInstanceOf(JsonSyntaxException.class);
+	}
+
+	@Test
+	void shouldThrowOriginalExceptionWhenFetchCardHistoryFailed() throws JsonProcessingException {
+		URI baseUrl = URI.create(SITE_ATLASSIAN_NET);
+		String token = "token";
+		JiraBoardSetting jiraBoardSetting = CLASSIC_JIRA_BOARD_SETTING_BUILD().build();
+		StoryPointsAndCycleTimeRequest storyPointsAndCycleTimeRequest = CLASSIC_JIRA_STORY_POINTS_FORM_ALL_DONE_CARD()
+			.build();
+		String allDoneCards = objectMapper.writeValueAsString(NEED_FILTERED_ALL_DONE_CARDS_BUILDER().build());
+
+		when(urlGenerator.getUri(any())).thenReturn(baseUrl);
+		when(jiraFeignClient.getJiraCards(any(), any(), anyInt(), anyInt(), any(), any(), any()))
+			.thenReturn(allDoneCards);
+		when(jiraFeignClient.getJiraCardHistoryByCount(any(), any(), anyInt(), anyInt(), any()))
+			.thenThrow(new CustomFeignClientException(500, "exception"));
+		when(jiraFeignClient.getTargetField(baseUrl, "PLL", token)).thenReturn(ALL_FIELD_RESPONSE_BUILDER().build());
+
+		assertThatThrownBy(() -> jiraService.getStoryPointsAndCycleTimeAndReworkInfoForDoneCards(
+				storyPointsAndCycleTimeRequest, jiraBoardSetting.getBoardColumns(), List.of("Zhang San"), "",
+				CalendarTypeEnum.REGULAR, ZoneId.of("Asia/Shanghai")))
+			.isInstanceOf(CustomFeignClientException.class)
+			.hasMessageContaining("exception");
+	}
+
+	@Test
+	void shouldThrowOriginalErrorWhenFetchCardHistoryFailedWithError() throws JsonProcessingException {
+		URI baseUrl = URI.create(SITE_ATLASSIAN_NET);
+		String token = "token";
+		JiraBoardSetting jiraBoardSetting = CLASSIC_JIRA_BOARD_SETTING_BUILD().build();
+		StoryPointsAndCycleTimeRequest storyPointsAndCycleTimeRequest = CLASSIC_JIRA_STORY_POINTS_FORM_ALL_DONE_CARD()
+			.build();
+		String allDoneCards = objectMapper.writeValueAsString(NEED_FILTERED_ALL_DONE_CARDS_BUILDER().build());
+
+		when(urlGenerator.getUri(any())).thenReturn(baseUrl);
+		when(jiraFeignClient.getJiraCards(any(), any(), anyInt(), anyInt(), any(), any(), any()))
+			.thenReturn(allDoneCards);
+		when(jiraFeignClient.getJiraCardHistoryByCount(any(), any(), anyInt(), anyInt(), any()))
+			.thenThrow(new OutOfMemoryError("exception"));
+		when(jiraFeignClient.getTargetField(baseUrl, "PLL", token)).thenReturn(ALL_FIELD_RESPONSE_BUILDER().build());
+
+		assertThatThrownBy(() -> jiraService.getStoryPointsAndCycleTimeAndReworkInfoForDoneCards(
+				storyPointsAndCycleTimeRequest, jiraBoardSetting.getBoardColumns(), List.of("Zhang San"), "",
+				CalendarTypeEnum.REGULAR, ZoneId.of("Asia/Shanghai")))
+			.isInstanceOf(OutOfMemoryError.class)
+			.hasMessageContaining("exception");
+	}
+
+	@Test
+	void shouldWrapCheckedExceptionWhenFetchCardHistoryFailedWithCheckedException() throws JsonProcessingException {
+		URI baseUrl = URI.create(SITE_ATLASSIAN_NET);
+		String token = "token";
+		JiraBoardSetting jiraBoardSetting = CLASSIC_JIRA_BOARD_SETTING_BUILD().build();
+		StoryPointsAndCycleTimeRequest storyPointsAndCycleTimeRequest = CLASSIC_JIRA_STORY_POINTS_FORM_ALL_DONE_CARD()
+			.build();
+		String allDoneCards = objectMapper.writeValueAsString(NEED_FILTERED_ALL_DONE_CARDS_BUILDER().build());
+
+		when(urlGenerator.getUri(any())).thenReturn(baseUrl);
+		when(jiraFeignClient.getJiraCards(any(), any(), anyInt(), anyInt(), any(), any(), any()))
+			.thenReturn(allDoneCards);
+		when(jiraFeignClient.getJiraCardHistoryByCount(any(), any(), anyInt(), anyInt(), any()))
+			.thenAnswer(invocation -> {
+				throw new IOException("exception");
+			});
+		when(jiraFeignClient.getTargetField(baseUrl, "PLL", token)).thenReturn(ALL_FIELD_RESPONSE_BUILDER().build());
+
+		assertThatThrownBy(() -> jiraService.getStoryPointsAndCycleTimeAndReworkInfoForDoneCards(
+				storyPointsAndCycleTimeRequest, jiraBoardSetting.getBoardColumns(), List.of("Zhang San"), "",
+				CalendarTypeEnum.REGULAR, ZoneId.of("Asia/Shanghai")))
+			.isInstanceOf(CompletionException.class)
+			.hasCauseInstanceOf(IOException.class);
 	}
 
 	@Test
@@ -869,7 +1061,8 @@ class JiraServiceTest {
 			.replaceAll("storyPoints", "customfield_10016");
 
 		when(urlGenerator.getUri(any())).thenReturn(baseUrl);
-		when(jiraFeignClient.getJiraCards(baseUrl, BOARD_ID, QUERY_COUNT, 0, jql, boardRequestParam.getToken()))
+		when(jiraFeignClient.getJiraCards(eq(baseUrl), eq(BOARD_ID), eq(QUERY_COUNT), eq(0), eq(jql), anyString(),
+				eq(boardRequestParam.getToken())))
 			.thenReturn(allDoneCards);
 		when(jiraFeignClient.getJiraCardHistoryByCount(baseUrl, "1", 0, 100, token))
 			.thenReturn(CARD_HISTORY_MULTI_REAL_DONE_RESPONSE_BUILDER().build());
@@ -902,7 +1095,8 @@ class JiraServiceTest {
 			.replaceAll("storyPoints", "customfield_10016");
 
 		when(urlGenerator.getUri(any())).thenReturn(baseUrl);
-		when(jiraFeignClient.getJiraCards(baseUrl, BOARD_ID, QUERY_COUNT, 0, jql, boardRequestParam.getToken()))
+		when(jiraFeignClient.getJiraCards(eq(baseUrl), eq(BOARD_ID), eq(QUERY_COUNT), eq(0), eq(jql), anyString(),
+				eq(boardRequestParam.getToken())))
 			.thenReturn(allDoneCards);
 		when(jiraFeignClient.getJiraCardHistoryByCount(baseUrl, "1", 0, 100, token))
 			.thenReturn(CARD_HISTORY_MULTI_RESPONSE_BUILDER().build());
@@ -977,7 +1171,9 @@ class JiraServiceTest {
 		when(urlGenerator.getUri(any())).thenReturn(URI.create(SITE_ATLASSIAN_NET));
 		when(jiraFeignClient.getColumnStatusCategory(baseUrl, COLUM_SELF_ID_1, token)).thenReturn(doneStatusSelf);
 		when(jiraFeignClient.getColumnStatusCategory(baseUrl, COLUM_SELF_ID_2, token)).thenReturn(doingStatusSelf);
-		when(jiraFeignClient.getJiraCards(baseUrl, BOARD_ID, QUERY_COUNT, 0, jql, token)).thenReturn(allDoneCards);
+		when(jiraFeignClient.getJiraCards(eq(baseUrl), eq(BOARD_ID), eq(QUERY_COUNT), eq(0), eq(jql), anyString(),
+				eq(token)))
+			.thenReturn(allDoneCards);
 		when(jiraFeignClient.getJiraCardHistoryByCount(any(), any(), anyInt(), anyInt(), any()))
 			.thenReturn(new CardHistoryResponseDTO(true, Collections.emptyList()));
 		when(jiraFeignClient.getTargetField(baseUrl, "project key", token))
@@ -1007,7 +1203,9 @@ class JiraServiceTest {
 			.thenReturn(JiraBoardProject.builder().style("next-gen").build());
 		when(jiraFeignClient.getColumnStatusCategory(baseUrl, COLUM_SELF_ID_1, token)).thenReturn(doneStatusSelf);
 		when(jiraFeignClient.getColumnStatusCategory(baseUrl, COLUM_SELF_ID_2, token)).thenReturn(doingStatusSelf);
-		when(jiraFeignClient.getJiraCards(baseUrl, BOARD_ID, QUERY_COUNT, 0, jql, token)).thenReturn(allDoneCards);
+		when(jiraFeignClient.getJiraCards(eq(baseUrl), eq(BOARD_ID), eq(QUERY_COUNT), eq(0), eq(jql), anyString(),
+				eq(token)))
+			.thenReturn(allDoneCards);
 		when(jiraFeignClient.getJiraCardHistoryByCount(any(), any(), anyInt(), anyInt(), any()))
 			.thenReturn(new CardHistoryResponseDTO(true, Collections.emptyList()));
 		when(jiraFeignClient.getTargetField(baseUrl, "project key", token))
@@ -1190,7 +1388,8 @@ class JiraServiceTest {
 			.replaceAll("storyPoints", "customfield_10016");
 
 		when(urlGenerator.getUri(any())).thenReturn(baseUrl);
-		when(jiraFeignClient.getJiraCards(baseUrl, BOARD_ID, QUERY_COUNT, 0, jql, boardRequestParam.getToken()))
+		when(jiraFeignClient.getJiraCards(eq(baseUrl), eq(BOARD_ID), eq(QUERY_COUNT), eq(0), eq(jql), anyString(),
+				eq(boardRequestParam.getToken())))
 			.thenReturn(allDoneCards);
 		when(jiraFeignClient.getJiraCardHistoryByCount(baseUrl, "1", 0, 100, token))
 			.thenReturn(CARD_HISTORY_MULTI_RESPONSE_BUILDER().build());
@@ -1208,6 +1407,42 @@ class JiraServiceTest {
 		assertThat(cardCollection.getCardsNumber()).isEqualTo(1);
 	}
 
+	@Test
+	void shouldReuseStoredCardHistoryAndStoreFetchedCardHistoryWhenCallGetStoryPointsAndCycleTime()
+			throws JsonProcessingException {
+		URI baseUrl = URI.create(SITE_ATLASSIAN_NET);
+		String token = "token";
+		BoardRequestParam boardRequestParam = BOARD_REQUEST_BUILDER().build();
+		String jql = String.format("status in ('%s') AND status changed during (%s, %s)", "DONE",
+				boardRequestParam.getStartTime(), boardRequestParam.getEndTime());
+
+		String allDoneCards = objectMapper.writeValueAsString(ALL_DONE_CARDS_RESPONSE_FOR_STORY_POINT_BUILDER().build())
+			.replaceAll("\"storyPoints\":0", "\"customfield_10016\":null")
+			.replaceAll("storyPoints", "customfield_10016");
+		CardHistoryResponseDTO storedCardHistory = CARD_HISTORY_MULTI_RESPONSE_BUILDER().build();
+		CardHistoryResponseDTO fetchedCardHistory = CARD_HISTORY_RESPONSE_BUILDER().build();
+
+		when(urlGenerator.getUri(any())).thenReturn(baseUrl);
+		when(jiraFeignClient.getJiraCards(eq(baseUrl), eq(BOARD_ID), eq(QUERY_COUNT), eq(0), eq(jql), anyString(),
+				eq(boardRequestParam.getToken())))
+			.thenReturn(allDoneCards);
+		when(jiraCardStore.findCardHistory(any(), any(), eq("1"), any())).thenReturn(Optional.of(storedCardHistory));
+		when(jiraFeignClient.getJiraCardHistoryByCount(baseUrl, "2", 0, 100, token)).thenReturn(fetchedCardHistory);
+		when(jiraFeignClient.getTargetField(baseUrl, "PLL", token)).thenReturn(ALL_FIELD_RESPONSE_BUILDER().build());
+
+		StoryPointsAndCycleTimeRequest storyPointsAndCycleTimeRequest = STORY_POINTS_FORM_ALL_DONE_CARD().build();
+		JiraBoardSetting jiraBoardSetting = JIRA_BOARD_SETTING_BUILD().build();
+		CardCollection cardCollection = jiraService.getStoryPointsAndCycleTimeAndReworkInfoForDoneCards(
+				storyPointsAndCycleTimeRequest, jiraBoardSetting.getBoardColumns(), List.of("Zhang San"), "",
+				CalendarTypeEnum.REGULAR, ZoneId.of("Asia/Shanghai"));
+
+		assertThat(cardCollection.getCardsNumber()).isEqualTo(1);
+		verify(jiraFeignClient, never()).getJiraCardHistoryByCount(baseUrl, "1", 0, 100, token);
+		verify(jiraCardStore, never()).saveCardHistory(any(), any(), eq("1"), any(), any());
+		verify(jiraCardStore).saveCardHistory(storyPointsAndCycleTimeRequest.getSite(),
+				storyPointsAndCycleTimeRequest.getBoardId(), "2", null, fetchedCardHistory);
+	}
+
 	@Test
 	void shouldGetCardsWhenCallGetStoryPointsAndCycleTimeWhenBoardTypeIsClassicJira() throws JsonProcessingException {
 
@@ -1224,7 +1459,8 @@ class JiraServiceTest {
 			.replaceAll("development", "customfield_10000");
 
 		when(urlGenerator.getUri(any())).thenReturn(baseUrl);
-		when(jiraFeignClient.getJiraCards(any(), any(), anyInt(), anyInt(), any(), any())).thenReturn(allDoneCards);
+		when(jiraFeignClient.getJiraCards(any(), any(), anyInt(), anyInt(), any(), any(), any()))
+			.thenReturn(allDoneCards);
 		when(jiraFeignClient.getJiraCardHistoryByCount(baseUrl, "1", 0, 100, token))
 			.thenReturn(CARD_HISTORY_MULTI_RESPONSE_BUILDER().build());
 		when(jiraFeignClient.getJiraCardHistoryByCount(baseUrl, "2", 0, 100, token))
@@ -1250,7 +1486,8 @@ class JiraServiceTest {
 			.build();
 		String allDoneCards = objectMapper.writeValueAsString(NEED_FILTERED_ALL_DONE_CARDS_BUILDER().build());
 		when(urlGenerator.getUri(any())).thenReturn(baseUrl);
-		when(jiraFeignClient.getJiraCards(any(), any(), anyInt(), anyInt(), any(), any())).thenReturn(allDoneCards);
+		when(jiraFeignClient.getJiraCards(any(), any(), anyInt(), anyInt(), any(), any(), any()))
+			.thenReturn(allDoneCards);
 		when(jiraFeignClient.getJiraCardHistoryByCount(baseUrl, "1", 0, 100, token))
 			.thenReturn(CARD_HISTORY_MULTI_RESPONSE_BUILDER().build());
 		when(jiraFeignClient.getJiraCardHistoryByCount(baseUrl, "2", 0, 100, token))
@@ -1299,13 +1536,15 @@ class JiraServiceTest {
 		JiraBoardSetting jiraBoardSetting = JIRA_BOARD_SETTING_BUILD().build();
 
 		when(urlGenerator.getUri(any())).thenReturn(baseUrl);
-		when(jiraFeignClient.getJiraCards(any(), any(), anyInt(), anyInt(), any(), any())).thenReturn(
+		when(jiraFeignClient.getJiraCards(any(), any(), anyInt(), anyInt(), any(), any(), any())).thenReturn(
 				"{\"total\":1,\"issues\":[{\"expand\":\"expand\",\"id\":\"1\",\"self\":\"https:xxxx/issue/1\",\"key\":\"ADM-455\",\"fields\":{\"customfield_10020\":[{\"id\":16,\"name\":\"Tool Sprint 11\",\"state\":\"closed\",\"boardId\":2,\"goal\":\"goals\",\"startDate\":\"2023-05-15T03:09:23.000Z\",\"endDate\":\"2023-05-28T16:00:00.000Z\",\"completeDate\":\"2023-05-29T03:51:24.898Z\"}],\"customfield_10021\":[{\"self\":\"https:xxxx/10019\",\"value\":\"Impediment\",\"id\":\"10019\"}],\"customfield_10016\":1,\"assignee\":{\"displayName\":\"Zhang San\"}}}]}");
 		when(jiraFeignClient.getTargetField(any(), any(), any())).thenReturn(FIELD_RESPONSE_BUILDER().build());
 		when(jiraFeignClient.getJiraCardHistoryByCount(any(), any(), anyInt(), anyInt(), any()))
 			.thenReturn(CARD_HISTORY_MULTI_RESPONSE_BUILDER().build());
-		when(boardUtil.getCycleTimeInfos(any(), any(), any(), any(), any())).thenReturn(CYCLE_TIME_INFO_LIST());
-		when(boardUtil.getOriginCycleTimeInfos(any(), any(), any(), any())).thenReturn(CYCLE_TIME_INFO_LIST());
+		when(boardUtil.getCycleTimeColumns(any(), any(), any(), any(), any(), any()))
+			.thenReturn(CycleTimeColumns.of(CYCLE_TIME_INFO_LIST()));
+		when(boardUtil.getOriginCycleTimeColumns(any(), any(), any(), any(), any()))
+			.thenReturn(CycleTimeColumns.of(CYCLE_TIME_INFO_LIST()));
 
 		CardCollection doneCards = jiraService.getStoryPointsAndCycleTimeAndReworkInfoForDoneCards(
 				storyPointsAndCycleTimeRequest, jiraBoardSetting.getBoardColumns(), List.of("Zhang San"), "",
@@ -1321,7 +1560,7 @@ class JiraServiceTest {
 		JiraBoardSetting jiraBoardSetting = JIRA_BOARD_SETTING_BUILD().build();
 
 		when(urlGenerator.getUri(any())).thenReturn(baseUrl);
-		when(jiraFeignClient.getJiraCards(any(), any(), anyInt(), anyInt(), any(), any())).thenReturn(
+		when(jiraFeignClient.getJiraCards(any(), any(), anyInt(), anyInt(), any(), any(), any())).thenReturn(
 				"{\"total\":1,\"issues\":[{\"expand\":\"expand\",\"id\":\"1\",\"self\":\"https:xxxx/issue/1\",\"key\":\"ADM-455\",\"fields\":{\"customfield_10020\":[{\"id\":16,\"name\":\"Tool Sprint 11\",\"state\":\"closed\",\"boardId\":2,\"goal\":\"goals\",\"startDate\":\"2023-05-15T03:09:23.000Z\",\"endDate\":\"2023-05-28T16:00:00.000Z\",\"completeDate\":\"2023-05-29T03:51:24.898Z\"}],\"customfield_10021\":[{\"self\":\"https:xxxx/10019\",\"value\":\"Impediment\",\"id\":\"10019\"}],\"customfield_10016\":1,\"assignee\":{\"displayName\":\"Zhang San\"}}}]}");
 		when(jiraFeignClient.getTargetField(any(), any(), any())).thenReturn(FIELD_RESPONSE_BUILDER().build());
 		when(jiraFeignClient.getJiraCardHistoryByCount(any(), any(), anyInt(), anyInt(), any()))
@@ -1348,7 +1587,8 @@ class JiraServiceTest {
 			.replaceAll("storyPoints", "customfield_10016");
 
 		when(urlGenerator.getUri(any())).thenReturn(baseUrl);
-		when(jiraFeignClient.getJiraCards(baseUrl, BOARD_ID, QUERY_COUNT, 0, jql, boardRequestParam.getToken()))
+		when(jiraFeignClient.getJiraCards(eq(baseUrl), eq(BOARD_ID), eq(QUERY_COUNT), eq(0), eq(jql), anyString(),
+				eq(boardRequestParam.getToken())))
 			.thenReturn(allDoneCards);
 		when(jiraFeignClient.getTargetField(baseUrl, "PLL", token)).thenReturn(FIELD_RESPONSE_BUILDER().build());
 
@@ -1369,7 +1609,7 @@ class JiraServiceTest {
 		StoryPointsAndCycleTimeRequest storyPointsAndCycleTimeRequest = STORY_POINTS_FORM_ALL_DONE_CARD().build();
 
 		when(urlGenerator.getUri(any())).thenReturn(baseUrl);
-		when(jiraFeignClient.getJiraCards(any(), any(), anyInt(), anyInt(), any(), any()))
+		when(jiraFeignClient.getJiraCards(any(), any(), anyInt(), anyInt(), any(), any(), any()))
 			.thenReturn(objectMapper.writeValueAsString(ALL_NON_DONE_CARDS_RESPONSE_FOR_STORY_POINT_BUILDER().build()));
 		when(jiraFeignClient.getJiraCardHistoryByCount(any(), any(), anyInt(), anyInt(), any()))
 			.thenReturn(CARD_HISTORY_MULTI_RESPONSE_BUILDER().build());
@@ -1421,7 +1661,7 @@ class JiraServiceTest {
 								.build())))
 			.build();
 
-		when(jiraFeignClient.getJiraCards(any(), any(), anyInt(), anyInt(), any(), any()))
+		when(jiraFeignClient.getJiraCards(any(), any(), anyInt(), anyInt(), any(), any(), any()))
 			.thenReturn(objectMapper.writeValueAsString(allCardsResponseDTO));
 		when(jiraFeignClient.getJiraCardHistoryByCount(any(), any(), anyInt(), anyInt(), any()))
 			.thenReturn(cardHistoryResponseDTO);
@@ -1476,7 +1716,7 @@ class JiraServiceTest {
 								.build())))
 			.build();
 
-		when(jiraFeignClient.getJiraCards(any(), any(), anyInt(), anyInt(), any(), any()))
+		when(jiraFeignClient.getJiraCards(any(), any(), anyInt(), anyInt(), any(), any(), any()))
 			.thenReturn(objectMapper.writeValueAsString(allCardsResponseDTO));
 		when(jiraFeignClient.getJiraCardHistoryByCount(any(), any(), anyInt(), anyInt(), any()))
 			.thenReturn(cardHistoryResponseDTO);
@@ -1498,7 +1738,7 @@ class JiraServiceTest {
 			.build();
 
 		when(urlGenerator.getUri(any())).thenReturn(baseUrl);
-		when(jiraFeignClient.getJiraCards(any(), any(), anyInt(), anyInt(), any(), any()))
+		when(jiraFeignClient.getJiraCards(any(), any(), anyInt(), anyInt(), any(), any(), any()))
 			.thenReturn(objectMapper.writeValueAsString(ALL_NON_DONE_CARDS_RESPONSE_FOR_STORY_POINT_BUILDER().build()));
 		when(jiraFeignClient.getTargetField(any(), any(), any())).thenReturn(ALL_FIELD_RESPONSE_BUILDER().build());
 		when(jiraFeignClient.getJiraCardHistoryByCount(any(), any(), anyInt(), anyInt(), any()))
@@ -1524,11 +1764,11 @@ class JiraServiceTest {
 		String jqlForActiveSprint = "sprint in openSprints() AND status not in ('"
 				+ String.join("','", storyPointsAndCycleTimeRequest.getStatus()) + "') ORDER BY updated DESC";
 		when(urlGenerator.getUri(any())).thenReturn(baseUrl);
-		when(jiraFeignClient.getJiraCards(baseUrl, BOARD_ID, NONE_DONE_MAX_QUERY_COUNT, 0, jqlForActiveSprint,
-				boardRequestParam.getToken()))
+		when(jiraFeignClient.getJiraCards(eq(baseUrl), eq(BOARD_ID), eq(NONE_DONE_MAX_QUERY_COUNT), eq(0),
+				eq(jqlForActiveSprint), anyString(), eq(boardRequestParam.getToken())))
 			.thenReturn("");
-		when(jiraFeignClient.getJiraCards(baseUrl, BOARD_ID, NONE_DONE_MAX_QUERY_COUNT, 0, jqlForKanban,
-				boardRequestParam.getToken()))
+		when(jiraFeignClient.getJiraCards(eq(baseUrl), eq(BOARD_ID), eq(NONE_DONE_MAX_QUERY_COUNT), eq(0),
+				eq(jqlForKanban), anyString(), eq(boardRequestParam.getToken())))
 			.thenReturn(objectMapper.writeValueAsString(ALL_NON_DONE_CARDS_RESPONSE_FOR_STORY_POINT_BUILDER().build()));
 
 		when(jiraFeignClient.getTargetField(any(), any(), any())).thenReturn(ALL_FIELD_RESPONSE_BUILDER().build());
@@ -1554,11 +1794,11 @@ class JiraServiceTest {
 		String jqlForKanban = "ORDER BY updated DESC";
 		String jqlForActiveSprint = "sprint in openSprints() ORDER BY updated DESC";
 		when(urlGenerator.getUri(any())).thenReturn(baseUrl);
-		when(jiraFeignClient.getJiraCards(baseUrl, BOARD_ID, NONE_DONE_MAX_QUERY_COUNT, 0, jqlForActiveSprint,
-				boardRequestParam.getToken()))
+		when(jiraFeignClient.getJiraCards(eq(baseUrl), eq(BOARD_ID), eq(NONE_DONE_MAX_QUERY_COUNT), eq(0),
+				eq(jqlForActiveSprint), anyString(), eq(boardRequestParam.getToken())))
 			.thenReturn("");
-		when(jiraFeignClient.getJiraCards(baseUrl, BOARD_ID, NONE_DONE_MAX_QUERY_COUNT, 0, jqlForKanban,
-				boardRequestParam.getToken()))
+		when(jiraFeignClient.getJiraCards(eq(baseUrl), eq(BOARD_ID), eq(NONE_DONE_MAX_QUERY_COUNT), eq(0),
+				eq(jqlForKanban), anyString(), eq(boardRequestParam.getToken())))
 			.thenReturn(objectMapper.writeValueAsString(ALL_NON_DONE_CARDS_RESPONSE_FOR_STORY_POINT_BUILDER().build()));
 
 		when(jiraFeignClient.getTargetField(any(), any(), any())).thenReturn(ALL_FIELD_RESPONSE_BUILDER().build());
@@ -1583,8 +1823,8 @@ class JiraServiceTest {
 		String jqlForActiveSprint = "sprint in openSprints() ORDER BY updated DESC";
 		String allDoneCards = JiraBoardConfigDTOFixture.JIRA_CARD_WITH_TWO_SPRINT;
 		when(urlGenerator.getUri(any())).thenReturn(baseUrl);
-		when(jiraFeignClient.getJiraCards(baseUrl, BOARD_ID, NONE_DONE_MAX_QUERY_COUNT, 0, jqlForActiveSprint,
-				boardRequestParam.getToken()))
+		when(jiraFeignClient.getJiraCards(eq(baseUrl), eq(BOARD_ID), eq(NONE_DONE_MAX_QUERY_COUNT), eq(0),
+				eq(jqlForActiveSprint), anyString(), eq(boardRequestParam.getToken())))
 			.thenReturn(allDoneCards);
 		when(jiraFeignClient.getTargetField(any(), any(), any())).thenReturn(ALL_FIELD_RESPONSE_BUILDER().build());
 		when(jiraFeignClient.getJiraCardHistoryByCount(any(), any(), anyInt(), anyInt(), any()))
@@ -1632,7 +1872,8 @@ class JiraServiceTest {
 			.replaceAll("flagged", "customfield_10021")
 			.replaceAll("development", "customfield_10000");
 		when(urlGenerator.getUri(any())).thenReturn(baseUrl);
-		when(jiraFeignClient.getJiraCards(any(), any(), anyInt(), anyInt(), any(), any())).thenReturn(allDoneCards);
+		when(jiraFeignClient.getJiraCards(any(), any(), anyInt(), anyInt(), any(), any(), any()))
+			.thenReturn(allDoneCards);
 		when(jiraFeignClient.getJiraCardHistoryByCount(baseUrl, "ADM-475", 0, 100, token))
 			.thenReturn(CARD1_HISTORY_FOR_HISTORICAL_ASSIGNEE_FILTER().build());
 		when(jiraFeignClient.getJiraCardHistoryByCount(baseUrl, "ADM-524", 0, 100, token))
@@ -1673,7 +1914,8 @@ class JiraServiceTest {
 			.replaceAll("flagged", "customfield_10021")
 			.replaceAll("development", "customfield_10000");
 		when(urlGenerator.getUri(any())).thenReturn(baseUrl);
-		when(jiraFeignClient.getJiraCards(any(), any(), anyInt(), anyInt(), any(), any())).thenReturn(allDoneCards);
+		when(jiraFeignClient.getJiraCards(any(), any(), anyInt(), anyInt(), any(), any(), any()))
+			.thenReturn(allDoneCards);
 		when(jiraFeignClient.getJiraCardHistoryByCount(baseUrl, "ADM-475", 0, 100, token))
 			.thenReturn(CARD1_HISTORY_FOR_HISTORICAL_ASSIGNEE_FILTER().build());
 		when(jiraFeignClient.getJiraCardHistoryByCount(baseUrl, "ADM-524", 0, 100, token))
@@ -1717,7 +1959,9 @@ class JiraServiceTest {
 		when(jiraFeignClient.getColumnStatusCategory(baseUrl, COLUM_SELF_ID_1, token)).thenReturn(doneStatusSelf);
 		when(jiraFeignClient.getColumnStatusCategory(baseUrl, COLUM_SELF_ID_3, token)).thenReturn(completeStatusSelf);
 		when(jiraFeignClient.getColumnStatusCategory(baseUrl, COLUM_SELF_ID_2, token)).thenReturn(doingStatusSelf);
-		when(jiraFeignClient.getJiraCards(baseUrl, BOARD_ID, QUERY_COUNT, 0, jql, token)).thenReturn(allDoneCards);
+		when(jiraFeignClient.getJiraCards(eq(baseUrl), eq(BOARD_ID), eq(QUERY_COUNT), eq(0), eq(jql), anyString(),
+				eq(token)))
+			.thenReturn(allDoneCards);
 		when(jiraFeignClient.getJiraCardHistoryByCount(any(), any(), anyInt(), anyInt(), any()))
 			.thenReturn(CARD_HISTORY_RESPONSE_BUILDER().build());
 		when(jiraFeignClient.getTargetField(baseUrl, "project key", token))
@@ -1757,7 +2001,9 @@ class JiraServiceTest {
 		when(jiraFeignClient.getColumnStatusCategory(baseUrl, COLUM_SELF_ID_1, token)).thenReturn(doneStatusSelf);
 		when(jiraFeignClient.getColumnStatusCategory(baseUrl, COLUM_SELF_ID_3, token)).thenReturn(completeStatusSelf);
 		when(jiraFeignClient.getColumnStatusCategory(baseUrl, COLUM_SELF_ID_2, token)).thenReturn(doingStatusSelf);
-		when(jiraFeignClient.getJiraCards(baseUrl, BOARD_ID, QUERY_COUNT, 0, jql, token)).thenReturn(allDoneCards);
+		when(jiraFeignClient.getJiraCards(eq(baseUrl), eq(BOARD_ID), eq(QUERY_COUNT), eq(0), eq(jql), anyString(),
+				eq(token)))
+			.thenReturn(allDoneCards);
 		when(jiraFeignClient.getJiraCardHistoryByCount(any(), any(), anyInt(), anyInt(), any()))
 			.thenReturn(CARD_HISTORY_RESPONSE_BUILDER().build());
 		when(jiraFeignClient.getTargetField(baseUrl, "project key", token))
@@ -1793,7 +2039,8 @@ class JiraServiceTest {
 			.replaceAll("development", "customfield_10000");
 
 		when(urlGenerator.getUri(any())).thenReturn(baseUrl);
-		when(jiraFeignClient.getJiraCards(any(), any(), anyInt(), anyInt(), any(), any())).thenReturn(allDoneCards);
+		when(jiraFeignClient.getJiraCards(any(), any(), anyInt(), anyInt(), any(), any(), any()))
+			.thenReturn(allDoneCards);
 		when(jiraFeignClient.getJiraCardHistoryByCount(baseUrl, "ADM-475", 0, 100, token))
 			.thenReturn(CARD1_HISTORY_FOR_MULTIPLE_STATUSES().build());
 		when(jiraFeignClient.getJiraCardHistoryByCount(baseUrl, "ADM-524", 0, 100, token))
@@ -1828,7 +2075,8 @@ class JiraServiceTest {
 			.replaceAll("development", "customfield_10000");
 
 		when(urlGenerator.getUri(any())).thenReturn(baseUrl);
-		when(jiraFeignClient.getJiraCards(any(), any(), anyInt(), anyInt(), any(), any())).thenReturn(allDoneCards);
+		when(jiraFeignClient.getJiraCards(any(), any(), anyInt(), anyInt(), any(), any(), any()))
+			.thenReturn(allDoneCards);
 		when(jiraFeignClient.getJiraCardHistoryByCount(baseUrl, "ADM-475", 0, 100, token))
 			.thenReturn(CARD2_HISTORY_FOR_MULTIPLE_STATUSES().build());
 		when(jiraFeignClient.getJiraCardHistoryByCount(baseUrl, "ADM-524", 0, 100, token))
@@ -1865,7 +2113,8 @@ class JiraServiceTest {
 			.replaceAll("development", "customfield_10000");
 
 		when(urlGenerator.getUri(any())).thenReturn(baseUrl);
-		when(jiraFeignClient.getJiraCards(any(), any(), anyInt(), anyInt(), any(), any())).thenReturn(allDoneCards);
+		when(jiraFeignClient.getJiraCards(any(), any(), anyInt(), anyInt(), any(), any(), any()))
+			.thenReturn(allDoneCards);
 		when(jiraFeignClient.getJiraCardHistoryByCount(baseUrl, "ADM-475", 0, 100, token))
 			.thenReturn(CARD1_HISTORY_FOR_MULTIPLE_STATUSES().build());
 		when(jiraFeignClient.getJiraCardHistoryByCount(baseUrl, "ADM-524", 0, 100, token))
@@ -1913,7 +2162,8 @@ class JiraServiceTest {
 			.replaceAll("development", "customfield_10000");
 
 		when(urlGenerator.getUri(any())).thenReturn(baseUrl);
-		when(jiraFeignClient.getJiraCards(any(), any(), anyInt(), anyInt(), any(), any())).thenReturn(allDoneCards);
+		when(jiraFeignClient.getJiraCards(any(), any(), anyInt(), anyInt(), any(), any(), any()))
+			.thenReturn(allDoneCards);
 		when(jiraFeignClient.getJiraCardHistoryByCount(baseUrl, "ADM-475", 0, 100, token))
 			.thenReturn(CARD1_HISTORY_FOR_MULTIPLE_STATUSES_WITH_FLAG().build());
 		when(jiraFeignClient.getJiraCardHistoryByCount(baseUrl, "ADM-524", 0, 100, token))
@@ -1958,7 +2208,8 @@ class JiraServiceTest {
 			.replaceAll("development", "customfield_10000");
 
 		when(urlGenerator.getUri(any())).thenReturn(baseUrl);
-		when(jiraFeignClient.getJiraCards(any(), any(), anyInt(), anyInt(), any(), any())).thenReturn(allDoneCards);
+		when(jiraFeignClient.getJiraCards(any(), any(), anyInt(), anyInt(), any(), any(), any()))
+			.thenReturn(allDoneCards);
 		when(jiraFeignClient.getJiraCardHistoryByCount(baseUrl, "ADM-475", 0, 100, token))
 			.thenReturn(CARD1_HISTORY_FOR_MULTIPLE_STATUSES().build());
 		when(jiraFeignClient.getJiraCardHistoryByCount(baseUrl, "ADM-524", 0, 100, token))
@@ -2006,7 +2257,8 @@ class JiraServiceTest {
 			.replaceAll("development", "customfield_10000");
 
 		when(urlGenerator.getUri(any())).thenReturn(baseUrl);
-		when(jiraFeignClient.getJiraCards(any(), any(), anyInt(), anyInt(), any(), any())).thenReturn(allDoneCards);
+		when(jiraFeignClient.getJiraCards(any(), any(), anyInt(), anyInt(), any(), any(), any()))
+			.thenReturn(allDoneCards);
 		when(jiraFeignClient.getJiraCardHistoryByCount(baseUrl, "ADM-475", 0, 100, token))
 			.thenReturn(CARD1_HISTORY_FOR_MULTIPLE_STATUSES_WITH_FLAG().build());
 		when(jiraFeignClient.getJiraCardHistoryByCount(baseUrl, "ADM-524", 0, 100, token))
@@ -12,6 +12,7 @@ import heartbeat.client.dto.pipeline.buildkite.DeployInfo;
 import heartbeat.client.dto.pipeline.buildkite.DeployTimes;
 import heartbeat.client.dto.pipeline.buildkite.PageBuildKitePipelineInfoDTO;
 import heartbeat.client.dto.pipeline.buildkite.PageStepsInfoDto;
+import heartbeat.client.ratelimit.AdaptiveConcurrencyLimiter;
 import heartbeat.controller.pipeline.dto.request.DeploymentEnvironment;
 import heartbeat.controller.pipeline.dto.request.PipelineStepsParam;
 import heartbeat.controller.pipeline.dto.request.TokenParam;
@@ -29,6 +30,7 @@ import heartbeat.service.pipeline.buildkite.builder.BuildKiteJobBuilder;
 import heartbeat.service.pipeline.buildkite.builder.DeployInfoBuilder;
 import heartbeat.service.pipeline.buildkite.builder.DeployTimesBuilder;
 import heartbeat.service.pipeline.buildkite.builder.DeploymentEnvironmentBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -102,7 +104,8 @@ class BuildKiteServiceTest {
 
 	@BeforeEach
 	public void setUp() {
-		buildKiteService = new BuildKiteService(cachePageService, getTaskExecutor(), buildKiteFeignClient);
+		buildKiteService = new BuildKiteService(cachePageService, getTaskExecutor(), buildKiteFeignClient,
+				new AdaptiveConcurrencyLimiter(new SimpleMeterRegistry(), 10, 20, 10, 3, 0, 30));
 	}
 
 	public ThreadPoolTaskExecutor getTaskExecutor() {
@@ -9,6 +9,8 @@ import heartbeat.client.dto.board.jira.Status;
 import heartbeat.controller.board.dto.request.CardStepsEnum;
 import heartbeat.controller.board.dto.response.CardCycleTime;
 import heartbeat.controller.board.dto.response.CardParent;
+import heartbeat.controller.board.dto.response.CycleTimeColumns;
+import heartbeat.controller.board.dto.response.CycleTimeInfo;
 import heartbeat.controller.board.dto.response.Fields;
 import heartbeat.controller.board.dto.response.IssueType;
 import heartbeat.controller.board.dto.response.JiraCardDTO;
@@ -251,10 +253,6 @@ public class BoardCsvFixture {
 	public static List<JiraCardDTO> MOCK_JIRA_CARD_DTO() {
 		JiraCardField jiraCardField = MOCK_JIRA_CARD();
 
-		HashMap<String, Double> cycleTimeFlat = new HashMap<>();
-		cycleTimeFlat.put("DOING", 9.8067E-5);
-		cycleTimeFlat.put("BLOCKED", null);
-
 		CardCycleTime cardCycleTime = CardCycleTime.builder()
 			.name("ADM-489")
 			.total(0.90)
@@ -263,7 +261,8 @@ public class BoardCsvFixture {
 		JiraCardDTO jiraCardDTO = JiraCardDTO.builder()
 			.baseInfo(JiraCard.builder().key("ADM-489").fields(jiraCardField).build())
 			.cardCycleTime(cardCycleTime)
-			.cycleTimeFlat(cycleTimeFlat)
+			.originCycleTime(
+					CycleTimeColumns.of(List.of(CycleTimeInfo.builder().column("DOING").day(9.8067E-5).build())))
 			.totalCycleTimeDivideStoryPoints("0.90")
 			.build();
 		JiraCardDTO jiraCardDTOWithoutBaseInfo = JiraCardDTO.builder().build();
@@ -41,24 +41,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
-import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.FileSystemResource;
 
-import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static heartbeat.repository.FilePrefixType.BOARD_REPORT_PREFIX;
@@ -70,7 +66,6 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -86,6 +81,9 @@ class CSVFileGeneratorTest {
 	@InjectMocks
 	CSVFileGenerator csvFileGenerator;
 
+	@Captor
+	ArgumentCaptor<Stream<String[]>> csvRowsCaptor;
+
 	String mockTimeStamp = "168369327000";
 
 	public static final String TEST_UUID = "test-uuid";
@@ -101,7 +99,7 @@ class CSVFileGeneratorTest {
 				"Pipeline Lead Time (HH:mm:ss)", "Status", "Branch", "Revert" }, respectedData };
 		csvFileGenerator.convertPipelineDataToCSV(TEST_UUID, pipelineCSVInfos, mockTimeStamp);
 
-		verify(fileRepository, times(1)).createCSVFileByType(any(), any(), eq(expectedSavedData), any());
+		verifySavedData(expectedSavedData);
 	}
 
 	@Test
@@ -119,7 +117,7 @@ class CSVFileGeneratorTest {
 
 		csvFileGenerator.convertPipelineDataToCSV(TEST_UUID, pipelineCSVInfos, mockTimeStamp);
 
-		verify(fileRepository, times(1)).createCSVFileByType(any(), any(), eq(expectedSavedData), any());
+		verifySavedData(expectedSavedData);
 	}
 
 	@Test
@@ -137,7 +135,7 @@ class CSVFileGeneratorTest {
 
 		csvFileGenerator.convertPipelineDataToCSV(TEST_UUID, pipelineCSVInfos, mockTimeStamp);
 
-		verify(fileRepository, times(1)).createCSVFileByType(any(), any(), eq(expectedSavedData), any());
+		verifySavedData(expectedSavedData);
 	}
 
 	@Test
@@ -155,7 +153,7 @@ class CSVFileGeneratorTest {
 
 		csvFileGenerator.convertPipelineDataToCSV(TEST_UUID, pipelineCSVInfos, mockTimeStamp);
 
-		verify(fileRepository, times(1)).createCSVFileByType(any(), any(), eq(expectedSavedData), any());
+		verifySavedData(expectedSavedData);
 	}
 
 	@Test
@@ -173,7 +171,7 @@ class CSVFileGeneratorTest {
 
 		csvFileGenerator.convertPipelineDataToCSV(TEST_UUID, pipelineCSVInfos, mockTimeStamp);
 
-		verify(fileRepository, times(1)).createCSVFileByType(any(), any(), eq(expectedSavedData), any());
+		verifySavedData(expectedSavedData);
 	}
 
 	@Test
@@ -198,7 +196,7 @@ class CSVFileGeneratorTest {
 
 		csvFileGenerator.convertPipelineDataToCSV(TEST_UUID, pipelineCSVInfos, mockTimeStamp);
 
-		verify(fileRepository, times(1)).createCSVFileByType(any(), any(), eq(expectedSavedData), any());
+		verifySavedData(expectedSavedData);
 	}
 
 	@Test
@@ -254,7 +252,7 @@ class CSVFileGeneratorTest {
 
 		csvFileGenerator.convertMetricDataToCSV(TEST_UUID, reportResponse, mockTimeStamp);
 
-		verify(fileRepository, times(1)).createCSVFileByType(any(), any(), eq(expectedSavedData), any());
+		verifySavedData(expectedSavedData);
 
 	}
 
@@ -273,20 +271,17 @@ class CSVFileGeneratorTest {
 	}
 
 	@Test
-	void shouldReadMetricCsvDataWhenReportTypeIsMetric() throws IOException {
+	void shouldReadMetricCsvDataWhenReportTypeIsMetric() {
 		String mockTimeRangeTimeStamp = "123-456-789";
 
+		FileSystemResource csvResource = new FileSystemResource("metric-123-456-789.csv");
 		when(fileRepository.readStringFromCsvFile(TEST_UUID, mockTimeRangeTimeStamp, METRIC_REPORT_PREFIX))
-			.thenReturn(new InputStreamResource(new ByteArrayInputStream("csv data".getBytes())));
+			.thenReturn(csvResource);
 
-		InputStreamResource dataFromCSV = csvFileGenerator.getDataFromCSV(ReportType.METRIC, TEST_UUID,
+		FileSystemResource dataFromCSV = csvFileGenerator.getDataFromCSV(ReportType.METRIC, TEST_UUID,
 				mockTimeRangeTimeStamp);
 
-		InputStream inputStream = dataFromCSV.getInputStream();
-		String returnData = new BufferedReader(new InputStreamReader(inputStream)).lines()
-			.collect(Collectors.joining("\n"));
-
-		assertEquals("csv data", returnData);
+		assertEquals(csvResource, dataFromCSV);
 		verify(fileRepository, times(1)).readStringFromCsvFile(TEST_UUID, mockTimeRangeTimeStamp, METRIC_REPORT_PREFIX);
 		verify(fileRepository, never()).readStringFromCsvFile(TEST_UUID, mockTimeRangeTimeStamp,
 				PIPELINE_REPORT_PREFIX);
@@ -294,20 +289,17 @@ class CSVFileGeneratorTest {
 	}
 
 	@Test
-	void shouldReadPipelineCsvDataWhenReportTypeIsPipeline() throws IOException {
+	void shouldReadPipelineCsvDataWhenReportTypeIsPipeline() {
 		String mockTimeRangeTimeStamp = "123-456-789";
 
+		FileSystemResource csvResource = new FileSystemResource("pipeline-123-456-789.csv");
 		when(fileRepository.readStringFromCsvFile(TEST_UUID, mockTimeRangeTimeStamp, PIPELINE_REPORT_PREFIX))
-			.thenReturn(new InputStreamResource(new ByteArrayInputStream("csv data".getBytes())));
+			.thenReturn(csvResource);
 
-		InputStreamResource dataFromCSV = csvFileGenerator.getDataFromCSV(ReportType.PIPELINE, TEST_UUID,
+		FileSystemResource dataFromCSV = csvFileGenerator.getDataFromCSV(ReportType.PIPELINE, TEST_UUID,
 				mockTimeRangeTimeStamp);
 
-		InputStream inputStream = dataFromCSV.getInputStream();
-		String returnData = new BufferedReader(new InputStreamReader(inputStream)).lines()
-			.collect(Collectors.joining("\n"));
-
-		assertEquals("csv data", returnData);
+		assertEquals(csvResource, dataFromCSV);
 		verify(fileRepository, never()).readStringFromCsvFile(TEST_UUID, mockTimeRangeTimeStamp, METRIC_REPORT_PREFIX);
 		verify(fileRepository, times(1)).readStringFromCsvFile(TEST_UUID, mockTimeRangeTimeStamp,
 				PIPELINE_REPORT_PREFIX);
@@ -315,20 +307,17 @@ class CSVFileGeneratorTest {
 	}
 
 	@Test
-	void shouldReadBoardCsvDataWhenReportTypeIsBoard() throws IOException {
+	void shouldReadBoardCsvDataWhenReportTypeIsBoard() {
 		String mockTimeRangeTimeStamp = "123-456-789";
 
+		FileSystemResource csvResource = new FileSystemResource("board-123-456-789.csv");
 		when(fileRepository.readStringFromCsvFile(TEST_UUID, mockTimeRangeTimeStamp, BOARD_REPORT_PREFIX))
-			.thenReturn(new InputStreamResource(new ByteArrayInputStream("csv data".getBytes())));
+			.thenReturn(csvResource);
 
-		InputStreamResource dataFromCSV = csvFileGenerator.getDataFromCSV(ReportType.BOARD, TEST_UUID,
+		FileSystemResource dataFromCSV = csvFileGenerator.getDataFromCSV(ReportType.BOARD, TEST_UUID,
 				mockTimeRangeTimeStamp);
 
-		InputStream inputStream = dataFromCSV.getInputStream();
-		String returnData = new BufferedReader(new InputStreamReader(inputStream)).lines()
-			.collect(Collectors.joining("\n"));
-
-		assertEquals("csv data", returnData);
+		assertEquals(csvResource, dataFromCSV);
 		verify(fileRepository, never()).readStringFromCsvFile(TEST_UUID, mockTimeRangeTimeStamp, METRIC_REPORT_PREFIX);
 		verify(fileRepository, never()).readStringFromCsvFile(TEST_UUID, mockTimeRangeTimeStamp,
 				PIPELINE_REPORT_PREFIX);
@@ -530,7 +519,7 @@ class CSVFileGeneratorTest {
 
 		csvFileGenerator.convertMetricDataToCSV(TEST_UUID, reportResponse, mockTimeStamp);
 
-		verify(fileRepository, times(1)).createCSVFileByType(any(), any(), eq(expectedSavedData), any());
+		verifySavedData(expectedSavedData);
 	}
 
 	@Test
@@ -541,7 +530,7 @@ class CSVFileGeneratorTest {
 
 		csvFileGenerator.convertMetricDataToCSV(TEST_UUID, reportResponse, mockTimeStamp);
 
-		verify(fileRepository, times(1)).createCSVFileByType(any(), any(), eq(expectedSavedData), any());
+		verifySavedData(expectedSavedData);
 	}
 
 	@Test
@@ -613,7 +602,7 @@ class CSVFileGeneratorTest {
 
 		csvFileGenerator.convertMetricDataToCSV(TEST_UUID, reportResponse, mockTimeStamp);
 
-		verify(fileRepository, times(1)).createCSVFileByType(any(), any(), eq(expectedSavedData), any());
+		verifySavedData(expectedSavedData);
 	}
 
 	@Test
@@ -630,7 +619,8 @@ class CSVFileGeneratorTest {
 				"name", "ADM", "Auto Dora Metrics", "Medium", "parent", "sprint 1", "", "0.90", "1.00", "", "", "{}",
 				"0.45", "0", "0.90", "0", "0", "0", "0", "0", "0" };
 
-		String[][] result = csvFileGenerator.assembleBoardData(cardDTOList, fields, extraFields);
+		String[][] result = csvFileGenerator.assembleBoardData(cardDTOList, fields, extraFields)
+			.toArray(String[][]::new);
 
 		assertEquals(4, result.length);
 		assertArrayEquals(expectKey, result[0]);
@@ -673,7 +663,8 @@ class CSVFileGeneratorTest {
 				"Auto Dora Metrics", "Medium", null, null, "", "0.90", null, null, null, null, "0.45", "0", "0.90", "0",
 				"0", "0", "0", null, null };
 
-		String[][] result = csvFileGenerator.assembleBoardData(cardDTOList, fields, extraFields);
+		String[][] result = csvFileGenerator.assembleBoardData(cardDTOList, fields, extraFields)
+			.toArray(String[][]::new);
 
 		assertEquals(2, result.length);
 		assertArrayEquals(expectKey, result[0]);
@@ -823,4 +814,9 @@ class CSVFileGeneratorTest {
 								"653037000", "passed", "branch", "" }));
 	}
 
+	private void verifySavedData(String[][] expectedSavedData) {
+		verify(fileRepository, times(1)).createCSVFileByType(any(), any(), csvRowsCaptor.capture(), any());
+		assertArrayEquals(expectedSavedData, csvRowsCaptor.getValue().toArray(String[][]::new));
+	}
+
 }
@@ -0,0 +1,69 @@
+package heartbeat.service.report;
+
+import com.google.gson.Gson;
+import heartbeat.controller.report.dto.response.MetricsDataCompleted;
+import heartbeat.controller.report.dto.response.ReportResponse;
+import heartbeat.service.report.ComposedReportCache.CachedReportResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ComposedReportCacheTest {
+
+	private static final String TIME_RANGE_AND_TIME_STAMP = "20240310-20240409-1234";
+
+	private static final MetricsDataCompleted REPORT_READY_STATUS = MetricsDataCompleted.builder()
+		.boardMetricsCompleted(true)
+		.build();
+
+	private final ComposedReportCache composedReportCache = new ComposedReportCache(new Gson(), 2);
+
+	@Test
+	void shouldReturnCachedReportOnlyWhileWriteVersionAndStatusAreUnchanged() {
+		CachedReportResponse cachedReportResponse = composedReportCache.put("uuid", TIME_RANGE_AND_TIME_STAMP, 1,
+				REPORT_READY_STATUS, ReportResponse.builder().allMetricsCompleted(true).build());
+
+		assertEquals(Optional.of(cachedReportResponse),
+				composedReportCache.get("uuid", TIME_RANGE_AND_TIME_STAMP, 1, REPORT_READY_STATUS));
+		assertTrue(composedReportCache.get("uuid", TIME_RANGE_AND_TIME_STAMP, 1, null).isEmpty());
+		assertTrue(composedReportCache.get("uuid", TIME_RANGE_AND_TIME_STAMP, 1, REPORT_READY_STATUS).isEmpty());
+	}
+
+	@Test
+	void shouldEvictLeastRecentlyUsedReportWhenCacheIsFull() {
+		composedReportCache.put("first-uuid", TIME_RANGE_AND_TIME_STAMP, 1, REPORT_READY_STATUS,
+				ReportResponse.builder().build());
+		composedReportCache.put("second-uuid", TIME_RANGE_AND_TIME_STAMP, 1, REPORT_READY_STATUS,
+				ReportResponse.builder().build());
+		composedReportCache.get("first-uuid", TIME_RANGE_AND_TIME_STAMP, 1, REPORT_READY_STATUS);
+
+		composedReportCache.put("third-uuid", TIME_RANGE_AND_TIME_STAMP, 1, REPORT_READY_STATUS,
+				ReportResponse.builder().build());
+
+		assertTrue(composedReportCache.get("first-uuid", TIME_RANGE_AND_TIME_STAMP, 1, REPORT_READY_STATUS)
+			.isPresent());
+		assertTrue(composedReportCache.get("second-uuid", TIME_RANGE_AND_TIME_STAMP, 1, REPORT_READY_STATUS)
+			.isEmpty());
+		assertTrue(composedReportCache.get("third-uuid", TIME_RANGE_AND_TIME_STAMP, 1, REPORT_READY_STATUS)
+			.isPresent());
+	}
+
+	@Test
+	void shouldDeriveETagFromReportContent() {
+		ReportResponse reportResponse = ReportResponse.builder().allMetricsCompleted(false).build();
+
+		CachedReportResponse uncachedReportResponse = composedReportCache.uncached(reportResponse);
+		CachedReportResponse cachedReportResponse = composedReportCache.put("uuid", TIME_RANGE_AND_TIME_STAMP, 1,
+				REPORT_READY_STATUS, reportResponse);
+
+		assertEquals(uncachedReportResponse.eTag(), cachedReportResponse.eTag());
+		assertNotEquals(uncachedReportResponse.eTag(),
+				composedReportCache.uncached(ReportResponse.builder().allMetricsCompleted(true).build()).eTag());
+		assertTrue(composedReportCache.get("other-uuid", TIME_RANGE_AND_TIME_STAMP, 1, REPORT_READY_STATUS).isEmpty());
+	}
+
+}
@@ -2,6 +2,7 @@ package heartbeat.service.report;
 
 import heartbeat.controller.board.dto.request.RequestJiraBoardColumnSetting;
 import heartbeat.controller.board.dto.response.CardCollection;
+import heartbeat.controller.board.dto.response.CycleTimeColumns;
 import heartbeat.controller.board.dto.response.CycleTimeInfo;
 import heartbeat.controller.board.dto.response.JiraCardDTO;
 import heartbeat.controller.report.dto.response.CycleTime;
@@ -43,8 +44,8 @@ class CycleTimeCalculatorTest {
 		CardCollection cardCollection = CardCollection.builder()
 			.storyPointSum(3)
 			.cardsNumber(2)
-			.jiraCardDTOList(List.of(JiraCardDTO.builder().cycleTime(cycleTimeInfoList).build(),
-					JiraCardDTO.builder().cycleTime(cycleTimeInfoList).build()))
+			.jiraCardDTOList(List.of(JiraCardDTO.builder().cycleTime(CycleTimeColumns.of(cycleTimeInfoList)).build(),
+					JiraCardDTO.builder().cycleTime(CycleTimeColumns.of(cycleTimeInfoList)).build()))
 			.build();
 
 		List<RequestJiraBoardColumnSetting> boardColumns = List.of(
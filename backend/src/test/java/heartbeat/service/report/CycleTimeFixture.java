@@ -2,6 +2,7 @@ package heartbeat.service.report;
 
 import heartbeat.controller.board.dto.request.RequestJiraBoardColumnSetting;
 import heartbeat.controller.board.dto.response.CardCollection;
+import heartbeat.controller.board.dto.response.CycleTimeColumns;
 import heartbeat.controller.board.dto.response.CycleTimeInfo;
 import heartbeat.controller.board.dto.response.JiraCardDTO;
 
@@ -15,8 +16,9 @@ public class CycleTimeFixture {
 				CycleTimeInfo.builder().column("FLAG").day(1.0).build(),
 				CycleTimeInfo.builder().column("DONE").day(9.0).build(),
 				CycleTimeInfo.builder().column("TESTING").day(1.3).build());
-		List<JiraCardDTO> jiraCardList = List.of(JiraCardDTO.builder().cycleTime(cycleTimeInfoList).build(),
-				JiraCardDTO.builder().cycleTime(cycleTimeInfoList).build());
+		CycleTimeColumns cycleTime = CycleTimeColumns.of(cycleTimeInfoList);
+		List<JiraCardDTO> jiraCardList = List.of(JiraCardDTO.builder().cycleTime(cycleTime).build(),
+				JiraCardDTO.builder().cycleTime(cycleTime).build());
 
 		return CardCollection.builder().storyPointSum(3).cardsNumber(2).jiraCardDTOList(jiraCardList).build();
 	}
@@ -27,7 +29,8 @@ public class CycleTimeFixture {
 				CycleTimeInfo.builder().column("FLAG").day(1.0).build(),
 				CycleTimeInfo.builder().column("DONE").day(9.0).build(),
 				CycleTimeInfo.builder().column("TESTING").day(1.3).build());
-		List<JiraCardDTO> jiraCardList = List.of(JiraCardDTO.builder().cycleTime(cycleTimeInfoList).build());
+		List<JiraCardDTO> jiraCardList = List
+			.of(JiraCardDTO.builder().cycleTime(CycleTimeColumns.of(cycleTimeInfoList)).build());
 
 		return CardCollection.builder().storyPointSum(0).cardsNumber(0).jiraCardDTOList(jiraCardList).build();
 	}
@@ -39,7 +42,8 @@ public class CycleTimeFixture {
 				CycleTimeInfo.builder().column("FLAG").day(1.0).build(),
 				CycleTimeInfo.builder().column("TESTING").day(1.3).build(),
 				CycleTimeInfo.builder().column("DONE").day(9.0).build());
-		List<JiraCardDTO> jiraCardList = List.of(JiraCardDTO.builder().cycleTime(cycleTimeInfoList).build());
+		List<JiraCardDTO> jiraCardList = List
+			.of(JiraCardDTO.builder().cycleTime(CycleTimeColumns.of(cycleTimeInfoList)).build());
 
 		return CardCollection.builder().storyPointSum(2.0).cardsNumber(1).jiraCardDTOList(jiraCardList).build();
 	}
@@ -1,11 +1,13 @@
 package heartbeat.service.report;
 
+import heartbeat.handler.AsyncMetricsDataHandler;
+import heartbeat.handler.ReportProgressPublisher;
+import heartbeat.repository.BuildKiteBuildStore;
 import heartbeat.repository.FileRepository;
-import heartbeat.repository.FileType;
+import heartbeat.repository.JiraCardStore;
 import heartbeat.service.report.scheduler.DeleteExpireCSVScheduler;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -13,29 +15,60 @@ import org.mockito.quality.Strictness;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
 class DeleteExpireCSVSchedulerTest {
 
+	private static final long ONE_DAY = 1000L * 3600 * 24;
+
 	@Mock
 	FileRepository fileRepository;
 
-	@InjectMocks
-	private DeleteExpireCSVScheduler deleteExpireCSVScheduler;
+	@Mock
+	JiraCardStore jiraCardStore;
+
+	@Mock
+	BuildKiteBuildStore buildKiteBuildStore;
+
+	@Mock
+	AsyncMetricsDataHandler asyncMetricsDataHandler;
+
+	@Mock
+	ReportProgressPublisher reportProgressPublisher;
 
 	@Test
 	void shouldTriggerBatchDeleteCSV() {
+		DeleteExpireCSVScheduler deleteExpireCSVScheduler = new DeleteExpireCSVScheduler(fileRepository,
+				jiraCardStore, buildKiteBuildStore, asyncMetricsDataHandler, reportProgressPublisher, 0);
+		when(fileRepository.getRetentionTime()).thenReturn(ONE_DAY);
+		long expireBefore = System.currentTimeMillis() - ONE_DAY;
 
 		assertDoesNotThrow(() -> deleteExpireCSVScheduler.triggerBatchDelete());
-		verify(fileRepository, times(1)).removeExpiredFiles(eq(FileType.CSV), anyLong());
-		verify(fileRepository, times(1)).removeExpiredFiles(eq(FileType.REPORT), anyLong());
-		verify(fileRepository, times(1)).removeExpiredFiles(eq(FileType.ERROR), anyLong());
-		verify(fileRepository, times(1)).removeExpiredFiles(eq(FileType.METRICS_DATA_COMPLETED), anyLong());
+		verify(fileRepository, times(1))
+			.removeExpiredFiles(longThat(it -> it >= expireBefore && it < expireBefore + ONE_DAY));
+		verify(fileRepository, never()).evictOldestFiles(anyLong());
+		verify(jiraCardStore, times(1)).removeExpiredCards(anyLong());
+		verify(buildKiteBuildStore, times(1)).removeExpiredBuilds(anyLong());
+		verify(asyncMetricsDataHandler, times(1)).removeExpiredMetricsDataCompleted(anyLong());
+		verify(reportProgressPublisher, times(1)).removeExpiredProgress(anyLong());
+
+	}
+
+	@Test
+	void shouldEvictOldestFilesWhenDiskSizeQuotaIsConfigured() {
+		DeleteExpireCSVScheduler deleteExpireCSVScheduler = new DeleteExpireCSVScheduler(fileRepository,
+				jiraCardStore, buildKiteBuildStore, asyncMetricsDataHandler, reportProgressPublisher, 2);
+
+		deleteExpireCSVScheduler.triggerBatchDelete();
 
+		verify(fileRepository, times(1)).removeExpiredFiles(anyLong());
+		verify(fileRepository, times(1)).evictOldestFiles(2L * 1024 * 1024);
 	}
 
 }
@@ -1,6 +1,7 @@
 package heartbeat.service.report;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.Gson;
 import heartbeat.controller.report.dto.response.MetricsDataCompleted;
 import heartbeat.exception.GenerateReportException;
 import heartbeat.exception.RequestFailedException;
@@ -39,6 +40,10 @@ import heartbeat.service.report.calculator.MeanToRecoveryCalculator;
 import heartbeat.service.report.calculator.ReworkCalculator;
 import heartbeat.service.report.calculator.VelocityCalculator;
 import heartbeat.service.report.calculator.model.FetchedData;
+import heartbeat.service.report.model.HolidayCalendarSnapshot;
+import heartbeat.service.report.ComposedReportCache.CachedReportResponse;
+import heartbeat.service.report.scheduler.ReportJobScheduler;
+import heartbeat.handler.ReportProgressPublisher;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -48,6 +53,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
@@ -55,20 +61,30 @@ import org.mockito.quality.Strictness;
 import java.io.File;
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 import static heartbeat.controller.report.dto.request.MetricType.BOARD;
 import static heartbeat.controller.report.dto.request.MetricType.DORA;
-import static heartbeat.repository.FilePrefixType.DATA_COMPLETED_PREFIX;
-import static heartbeat.repository.FileRepository.EXPORT_CSV_VALIDITY_TIME;
 import static heartbeat.repository.FileType.ERROR;
 import static heartbeat.repository.FileType.REPORT;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
@@ -83,6 +99,8 @@ class GenerateReporterServiceTest {
 
 	private static final String TIMESTAMP = "1683734399999";
 
+	private static final long RETENTION_TIME = 604800000L;
+
 	@InjectMocks
 	GenerateReporterService generateReporterService;
 
@@ -128,6 +146,21 @@ class GenerateReporterServiceTest {
 	@Mock
 	KanbanCsvService kanbanCsvService;
 
+	@Mock
+	ReportJobScheduler reportJobScheduler;
+
+	@Mock
+	ReportProgressPublisher reportProgressPublisher;
+
+	@Mock
+	ReportFetchDeduplicator reportFetchDeduplicator;
+
+	@Mock
+	HolidayCalendarService holidayCalendarService;
+
+	@Spy
+	ComposedReportCache composedReportCache = new ComposedReportCache(new Gson(), 16);
+
 	@Captor
 	ArgumentCaptor<ReportResponse> responseArgumentCaptor;
 
@@ -140,9 +173,70 @@ class GenerateReporterServiceTest {
 
 	public static final String TEST_UUID = "test-uuid";
 
+	@BeforeEach
+	void setUp() {
+		when(reportJobScheduler.submitFollowUp(any(), any()))
+			.thenAnswer(invocation -> CompletableFuture.runAsync(invocation.<Runnable>getArgument(1)));
+		when(reportFetchDeduplicator.fetch(any(), any()))
+			.thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+		when(fileRepository.getRetentionTime()).thenReturn(RETENTION_TIME);
+		when(holidayCalendarService.isLoaded(any(), anyInt(), anyInt())).thenReturn(true);
+		when(holidayCalendarService.getSnapshot()).thenReturn(HolidayCalendarSnapshot.EMPTY);
+	}
+
 	@Nested
 	class GenerateBoardReport {
 
+		@Test
+		void shouldMarkBoardReportComputedAgainstMissingHolidayYears() {
+			GenerateReportRequest request = GenerateReportRequest.builder()
+				.calendarType(CalendarTypeEnum.CN)
+				.metrics(List.of("velocity"))
+				.jiraBoardSetting(JiraBoardSetting.builder().build())
+				.csvTimeStamp(TIMESTAMP)
+				.startTime("1710000000000")
+				.endTime("1712678399999")
+				.timezone("Asia/Shanghai")
+				.build();
+			when(holidayCalendarService.isLoaded(CalendarTypeEnum.CN, 2024, 2024)).thenReturn(false);
+			when(kanbanService.fetchDataFromKanban(request)).thenReturn(FetchedData.CardCollectionInfo.builder()
+				.realDoneCardCollection(CardCollection.builder().build())
+				.build());
+
+			generateReporterService.generateBoardReport(TEST_UUID, request);
+
+			verify(fileRepository).createFileByType(eq(REPORT), eq(TEST_UUID), eq(request.getTimeRangeAndTimeStamp()),
+					responseArgumentCaptor.capture(), eq(FilePrefixType.BOARD_REPORT_PREFIX));
+			assertTrue(responseArgumentCaptor.getValue().getHolidayCalendarIncomplete());
+		}
+
+		@Test
+		void shouldNotShareJiraFetchAcrossHolidayCalendarVersions() {
+			JiraBoardSetting jiraBoardSetting = JiraBoardSetting.builder().build();
+			GenerateReportRequest request = GenerateReportRequest.builder()
+				.calendarType(CalendarTypeEnum.CN)
+				.metrics(List.of("velocity"))
+				.jiraBoardSetting(jiraBoardSetting)
+				.csvTimeStamp(TIMESTAMP)
+				.startTime("1710000000000")
+				.endTime("1712678399999")
+				.timezone("Asia/Shanghai")
+				.build();
+			when(holidayCalendarService.getSnapshot())
+				.thenReturn(HolidayCalendarSnapshot.EMPTY.withYear(CalendarTypeEnum.CN, 2024, Map.of()));
+			when(kanbanService.fetchDataFromKanban(request)).thenReturn(FetchedData.CardCollectionInfo.builder()
+				.realDoneCardCollection(CardCollection.builder().build())
+				.build());
+
+			generateReporterService.generateBoardReport(TEST_UUID, request);
+
+			verify(reportFetchDeduplicator).fingerprint("jira", jiraBoardSetting, "1710000000000", "1712678399999",
+					"Asia/Shanghai", CalendarTypeEnum.CN, 1L);
+			verify(fileRepository).createFileByType(eq(REPORT), eq(TEST_UUID), eq(request.getTimeRangeAndTimeStamp()),
+					responseArgumentCaptor.capture(), eq(FilePrefixType.BOARD_REPORT_PREFIX));
+			assertFalse(responseArgumentCaptor.getValue().getHolidayCalendarIncomplete());
+		}
+
 		@Test
 		void shouldSaveReportResponseWithReworkInfoWhenReworkInfoTimesIsNotEmpty() {
 			GenerateReportRequest request = GenerateReportRequest.builder()
@@ -251,7 +345,7 @@ class GenerateReporterServiceTest {
 			generateReporterService.generateBoardReport(TEST_UUID, request);
 
 			verify(kanbanService, never()).fetchDataFromKanban(request);
-			verify(pipelineService, never()).fetchGitHubData(any());
+			verify(pipelineService, never()).fetchGitHubData(any(), any());
 			verify(fileRepository, times(1)).createFileByType(eq(REPORT), eq(TEST_UUID), eq(timeRangeAndTimeStamp),
 					responseArgumentCaptor.capture(), eq(FilePrefixType.BOARD_REPORT_PREFIX));
 			verify(fileRepository, times(1)).removeFileByType(ERROR, TEST_UUID, timeRangeAndTimeStamp,
@@ -330,7 +424,7 @@ class GenerateReporterServiceTest {
 			generateReporterService.generateBoardReport(TEST_UUID, request);
 
 			verify(kanbanService, times(1)).fetchDataFromKanban(request);
-			verify(pipelineService, never()).fetchGitHubData(any());
+			verify(pipelineService, never()).fetchGitHubData(any(), any());
 			verify(fileRepository, times(1)).createFileByType(eq(REPORT), eq(TEST_UUID), eq(timeRangeAndTimeStamp),
 					responseArgumentCaptor.capture(), eq(FilePrefixType.BOARD_REPORT_PREFIX));
 			verify(fileRepository, times(1)).removeFileByType(ERROR, TEST_UUID, timeRangeAndTimeStamp,
@@ -376,7 +470,7 @@ class GenerateReporterServiceTest {
 			generateReporterService.generateBoardReport(TEST_UUID, request);
 
 			verify(kanbanService, times(1)).fetchDataFromKanban(request);
-			verify(pipelineService, never()).fetchGitHubData(any());
+			verify(pipelineService, never()).fetchGitHubData(any(), any());
 			verify(fileRepository, times(1)).createFileByType(eq(REPORT), eq(TEST_UUID), eq(timeRangeAndTimeStamp),
 					responseArgumentCaptor.capture(), eq(FilePrefixType.BOARD_REPORT_PREFIX));
 			verify(fileRepository, times(1)).removeFileByType(ERROR, TEST_UUID, timeRangeAndTimeStamp,
@@ -420,7 +514,7 @@ class GenerateReporterServiceTest {
 			generateReporterService.generateBoardReport(TEST_UUID, request);
 
 			verify(kanbanService, times(1)).fetchDataFromKanban(request);
-			verify(pipelineService, never()).fetchGitHubData(any());
+			verify(pipelineService, never()).fetchGitHubData(any(), any());
 			verify(fileRepository, times(1)).createFileByType(eq(REPORT), eq(TEST_UUID), eq(timeRangeAndTimeStamp),
 					responseArgumentCaptor.capture(), eq(FilePrefixType.BOARD_REPORT_PREFIX));
 			verify(fileRepository, times(1)).removeFileByType(ERROR, TEST_UUID, timeRangeAndTimeStamp,
@@ -457,7 +551,7 @@ class GenerateReporterServiceTest {
 			generateReporterService.generateBoardReport(TEST_UUID, request);
 
 			verify(kanbanService, times(1)).fetchDataFromKanban(request);
-			verify(pipelineService, never()).fetchGitHubData(any());
+			verify(pipelineService, never()).fetchGitHubData(any(), any());
 			verify(kanbanCsvService, never()).generateCsvInfo(eq(TEST_UUID), eq(request), any());
 			verify(asyncMetricsDataHandler, times(1)).updateMetricsDataCompletedInHandler(TEST_UUID,
 					timeRangeAndTimeStamp, BOARD, false);
@@ -499,7 +593,7 @@ class GenerateReporterServiceTest {
 
 			verify(reworkCalculator, times(1)).calculateRework(any(), any());
 			verify(kanbanService, times(1)).fetchDataFromKanban(request);
-			verify(pipelineService, never()).fetchGitHubData(any());
+			verify(pipelineService, never()).fetchGitHubData(any(), any());
 			verify(fileRepository, times(1)).createFileByType(eq(REPORT), eq(TEST_UUID), eq(timeRangeAndTimeStamp),
 					responseArgumentCaptor.capture(), eq(FilePrefixType.BOARD_REPORT_PREFIX));
 			verify(fileRepository, times(1)).removeFileByType(ERROR, TEST_UUID, timeRangeAndTimeStamp,
@@ -516,6 +610,88 @@ class GenerateReporterServiceTest {
 
 		}
 
+		@Test
+		void shouldGenerateBoardReportsInParallelWhenUuidsAreDifferent() throws InterruptedException {
+			int concurrentReports = 4;
+			CountDownLatch allFetching = new CountDownLatch(concurrentReports);
+			GenerateReportRequest request = GenerateReportRequest.builder()
+				.calendarType(CalendarTypeEnum.REGULAR)
+				.metrics(List.of("velocity"))
+				.jiraBoardSetting(JiraBoardSetting.builder().build())
+				.csvTimeStamp(TIMESTAMP)
+				.startTime("1710000000000")
+				.endTime("1712678399999")
+				.timezone("Asia/Shanghai")
+				.build();
+			// every fetch waits until all reports are fetching, so serialized reports would never get past it
+			when(kanbanService.fetchDataFromKanban(request)).thenAnswer(invocation -> {
+				allFetching.countDown();
+				if (!allFetching.await(5, TimeUnit.SECONDS)) {
+					throw new IllegalStateException("Reports are not generated in parallel");
+				}
+				return FetchedData.CardCollectionInfo.builder()
+					.realDoneCardCollection(CardCollection.builder().build())
+					.build();
+			});
+			ExecutorService executor = Executors.newFixedThreadPool(concurrentReports);
+			CountDownLatch done = new CountDownLatch(concurrentReports);
+
+			for (int i = 0; i < concurrentReports; i++) {
+				String uuid = TEST_UUID + i;
+				executor.execute(() -> {
+					generateReporterService.generateBoardReport(uuid, request);
+					done.countDown();
+				});
+			}
+			assertTrue(done.await(10, TimeUnit.SECONDS));
+			executor.shutdown();
+
+			verify(kanbanService, times(concurrentReports)).fetchDataFromKanban(request);
+			verify(fileRepository, times(concurrentReports)).createFileByType(eq(REPORT), any(),
+					eq(request.getTimeRangeAndTimeStamp()), any(), eq(FilePrefixType.BOARD_REPORT_PREFIX));
+		}
+
+		@Test
+		void shouldRunConcurrentBoardReportsUpToBulkWorkerLimit() throws Exception {
+			int bulkWorkers = 3;
+			int concurrentReports = 6;
+			ReportJobScheduler scheduler = new ReportJobScheduler(bulkWorkers + 1, 1, 10, concurrentReports);
+			AtomicInteger fetching = new AtomicInteger();
+			AtomicInteger peakFetching = new AtomicInteger();
+			CountDownLatch release = new CountDownLatch(1);
+			GenerateReportRequest request = GenerateReportRequest.builder()
+				.calendarType(CalendarTypeEnum.REGULAR)
+				.metrics(List.of("velocity"))
+				.jiraBoardSetting(JiraBoardSetting.builder().build())
+				.csvTimeStamp(TIMESTAMP)
+				.startTime("1710000000000")
+				.endTime("1712678399999")
+				.timezone("Asia/Shanghai")
+				.build();
+			when(kanbanService.fetchDataFromKanban(request)).thenAnswer(invocation -> {
+				peakFetching.accumulateAndGet(fetching.incrementAndGet(), Math::max);
+				release.await(5, TimeUnit.SECONDS);
+				fetching.decrementAndGet();
+				return FetchedData.CardCollectionInfo.builder()
+					.realDoneCardCollection(CardCollection.builder().build())
+					.build();
+			});
+
+			List<CompletableFuture<Void>> reports = IntStream.range(0, concurrentReports)
+				.mapToObj(i -> TEST_UUID + i)
+				.map(uuid -> scheduler
+					.submitFollowUp(uuid, () -> generateReporterService.generateBoardReport(uuid, request)))
+				.toList();
+			Awaitility.await().atMost(5, TimeUnit.SECONDS).until(() -> fetching.get() == bulkWorkers);
+			TimeUnit.MILLISECONDS.sleep(200); // NOSONAR
+			release.countDown();
+			CompletableFuture.allOf(reports.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+			scheduler.shutdown();
+
+			assertEquals(bulkWorkers, peakFetching.get());
+			verify(kanbanService, times(concurrentReports)).fetchDataFromKanban(request);
+		}
+
 	}
 
 	@Nested
@@ -535,8 +711,7 @@ class GenerateReporterServiceTest {
 			List<PipelineCSVInfo> pipelineCSVInfos = List.of();
 			String timeRangeAndTimeStamp = request.getTimeRangeAndTimeStamp();
 
-			when(fileRepository.readFileByType(FileType.METRICS_DATA_COMPLETED, TEST_UUID, timeRangeAndTimeStamp,
-					MetricsDataCompleted.class, DATA_COMPLETED_PREFIX))
+			when(asyncMetricsDataHandler.getMetricsDataCompleted(TEST_UUID, timeRangeAndTimeStamp))
 				.thenReturn(MetricsDataCompleted.builder().doraMetricsCompleted(false).build());
 			when(pipelineService.generateCSVForPipeline(any(), any(), any(), any())).thenReturn(pipelineCSVInfos);
 
@@ -547,8 +722,7 @@ class GenerateReporterServiceTest {
 					FilePrefixType.PIPELINE_REPORT_PREFIX);
 			verify(fileRepository, times(1)).removeFileByType(ERROR, TEST_UUID, timeRangeAndTimeStamp,
 					FilePrefixType.SOURCE_CONTROL_PREFIX);
-			verify(fileRepository, times(1)).readFileByType(FileType.METRICS_DATA_COMPLETED, TEST_UUID,
-					timeRangeAndTimeStamp, MetricsDataCompleted.class, DATA_COMPLETED_PREFIX);
+			verify(asyncMetricsDataHandler, times(1)).getMetricsDataCompleted(TEST_UUID, timeRangeAndTimeStamp);
 
 			Awaitility.await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
 				verify(pipelineService, times(1)).generateCSVForPipeline(any(), any(), any(), any());
@@ -573,8 +747,7 @@ class GenerateReporterServiceTest {
 			List<PipelineCSVInfo> pipelineCSVInfos = List.of();
 			String timeRangeAndTimeStamp = request.getTimeRangeAndTimeStamp();
 
-			when(fileRepository.readFileByType(FileType.METRICS_DATA_COMPLETED, TEST_UUID, timeRangeAndTimeStamp,
-					MetricsDataCompleted.class, DATA_COMPLETED_PREFIX))
+			when(asyncMetricsDataHandler.getMetricsDataCompleted(TEST_UUID, timeRangeAndTimeStamp))
 				.thenReturn(null);
 			when(pipelineService.generateCSVForPipeline(any(), any(), any(), any())).thenReturn(pipelineCSVInfos);
 
@@ -585,8 +758,7 @@ class GenerateReporterServiceTest {
 					FilePrefixType.PIPELINE_REPORT_PREFIX);
 			verify(fileRepository, times(1)).removeFileByType(ERROR, TEST_UUID, timeRangeAndTimeStamp,
 					FilePrefixType.SOURCE_CONTROL_PREFIX);
-			verify(fileRepository, times(1)).readFileByType(FileType.METRICS_DATA_COMPLETED, TEST_UUID,
-					timeRangeAndTimeStamp, MetricsDataCompleted.class, DATA_COMPLETED_PREFIX);
+			verify(asyncMetricsDataHandler, times(1)).getMetricsDataCompleted(TEST_UUID, timeRangeAndTimeStamp);
 
 			verify(pipelineService, never()).generateCSVForPipeline(any(), any(), any(), any());
 			verify(csvFileGenerator, never()).convertPipelineDataToCSV(TEST_UUID, pipelineCSVInfos,
@@ -608,8 +780,7 @@ class GenerateReporterServiceTest {
 				.build();
 			String timeRangeAndTimeStamp = request.getTimeRangeAndTimeStamp();
 
-			when(fileRepository.readFileByType(FileType.METRICS_DATA_COMPLETED, TEST_UUID, timeRangeAndTimeStamp,
-					MetricsDataCompleted.class, DATA_COMPLETED_PREFIX))
+			when(asyncMetricsDataHandler.getMetricsDataCompleted(TEST_UUID, timeRangeAndTimeStamp))
 				.thenReturn(MetricsDataCompleted.builder().doraMetricsCompleted(true).build());
 			List<PipelineCSVInfo> pipelineCSVInfos = List.of();
 
@@ -620,8 +791,7 @@ class GenerateReporterServiceTest {
 					FilePrefixType.PIPELINE_REPORT_PREFIX);
 			verify(fileRepository, times(1)).removeFileByType(ERROR, TEST_UUID, timeRangeAndTimeStamp,
 					FilePrefixType.SOURCE_CONTROL_PREFIX);
-			verify(fileRepository, times(1)).readFileByType(FileType.METRICS_DATA_COMPLETED, TEST_UUID,
-					timeRangeAndTimeStamp, MetricsDataCompleted.class, DATA_COMPLETED_PREFIX);
+			verify(asyncMetricsDataHandler, times(1)).getMetricsDataCompleted(TEST_UUID, timeRangeAndTimeStamp);
 			verify(pipelineService, never()).generateCSVForPipeline(any(), any(), any(), any());
 			verify(csvFileGenerator, never()).convertPipelineDataToCSV(TEST_UUID, pipelineCSVInfos,
 					timeRangeAndTimeStamp);
@@ -648,8 +818,7 @@ class GenerateReporterServiceTest {
 				.build();
 			String timeRangeAndTimeStamp = request.getTimeRangeAndTimeStamp();
 
-			when(fileRepository.readFileByType(FileType.METRICS_DATA_COMPLETED, TEST_UUID, timeRangeAndTimeStamp,
-					MetricsDataCompleted.class, DATA_COMPLETED_PREFIX))
+			when(asyncMetricsDataHandler.getMetricsDataCompleted(TEST_UUID, timeRangeAndTimeStamp))
 				.thenReturn(MetricsDataCompleted.builder().doraMetricsCompleted(true).build());
 			List<PipelineCSVInfo> pipelineCSVInfos = List.of();
 			when(pipelineService.generateCSVForPipeline(any(), any(), any(), any())).thenReturn(pipelineCSVInfos);
@@ -661,8 +830,7 @@ class GenerateReporterServiceTest {
 					FilePrefixType.PIPELINE_REPORT_PREFIX);
 			verify(fileRepository, times(1)).removeFileByType(ERROR, TEST_UUID, timeRangeAndTimeStamp,
 					FilePrefixType.SOURCE_CONTROL_PREFIX);
-			verify(fileRepository, times(1)).readFileByType(FileType.METRICS_DATA_COMPLETED, TEST_UUID,
-					timeRangeAndTimeStamp, MetricsDataCompleted.class, DATA_COMPLETED_PREFIX);
+			verify(asyncMetricsDataHandler, times(1)).getMetricsDataCompleted(TEST_UUID, timeRangeAndTimeStamp);
 			verify(pipelineService, never()).generateCSVForPipeline(any(), any(), any(), any());
 			verify(csvFileGenerator, never()).convertPipelineDataToCSV(TEST_UUID, pipelineCSVInfos,
 					timeRangeAndTimeStamp);
@@ -691,8 +859,7 @@ class GenerateReporterServiceTest {
 				.build();
 			String timeRangeAndTimeStamp = request.getTimeRangeAndTimeStamp();
 
-			when(fileRepository.readFileByType(FileType.METRICS_DATA_COMPLETED, TEST_UUID, timeRangeAndTimeStamp,
-					MetricsDataCompleted.class, DATA_COMPLETED_PREFIX))
+			when(asyncMetricsDataHandler.getMetricsDataCompleted(TEST_UUID, timeRangeAndTimeStamp))
 				.thenReturn(MetricsDataCompleted.builder().doraMetricsCompleted(false).build());
 			List<PipelineCSVInfo> pipelineCSVInfos = List.of();
 			when(pipelineService.generateCSVForPipeline(any(), any(), any(), any())).thenReturn(pipelineCSVInfos);
@@ -712,8 +879,7 @@ class GenerateReporterServiceTest {
 					FilePrefixType.PIPELINE_REPORT_PREFIX);
 			verify(fileRepository, times(1)).removeFileByType(ERROR, TEST_UUID, timeRangeAndTimeStamp,
 					FilePrefixType.PIPELINE_REPORT_PREFIX);
-			verify(fileRepository, times(1)).readFileByType(FileType.METRICS_DATA_COMPLETED, TEST_UUID,
-					timeRangeAndTimeStamp, MetricsDataCompleted.class, DATA_COMPLETED_PREFIX);
+			verify(asyncMetricsDataHandler, times(1)).getMetricsDataCompleted(TEST_UUID, timeRangeAndTimeStamp);
 			verify(asyncMetricsDataHandler, never()).updateMetricsDataCompletedInHandler(TEST_UUID,
 					timeRangeAndTimeStamp, DORA, false);
 			verify(fileRepository, times(1)).createFileByType(eq(REPORT), eq(TEST_UUID), eq(timeRangeAndTimeStamp),
@@ -753,8 +919,7 @@ class GenerateReporterServiceTest {
 				.build();
 			String timeRangeAndTimeStamp = request.getTimeRangeAndTimeStamp();
 
-			when(fileRepository.readFileByType(FileType.METRICS_DATA_COMPLETED, TEST_UUID, timeRangeAndTimeStamp,
-					MetricsDataCompleted.class, DATA_COMPLETED_PREFIX))
+			when(asyncMetricsDataHandler.getMetricsDataCompleted(TEST_UUID, timeRangeAndTimeStamp))
 				.thenReturn(MetricsDataCompleted.builder().doraMetricsCompleted(true).build());
 			List<PipelineCSVInfo> pipelineCSVInfos = List.of();
 			when(pipelineService.fetchBuildKiteInfo(request))
@@ -769,8 +934,7 @@ class GenerateReporterServiceTest {
 					FilePrefixType.PIPELINE_REPORT_PREFIX);
 			verify(fileRepository, times(1)).removeFileByType(ERROR, TEST_UUID, timeRangeAndTimeStamp,
 					FilePrefixType.PIPELINE_REPORT_PREFIX);
-			verify(fileRepository, times(1)).readFileByType(FileType.METRICS_DATA_COMPLETED, TEST_UUID,
-					timeRangeAndTimeStamp, MetricsDataCompleted.class, DATA_COMPLETED_PREFIX);
+			verify(asyncMetricsDataHandler, times(1)).getMetricsDataCompleted(TEST_UUID, timeRangeAndTimeStamp);
 			verify(pipelineService, never()).generateCSVForPipeline(any(), any(), any(), any());
 			verify(csvFileGenerator, never()).convertPipelineDataToCSV(TEST_UUID, pipelineCSVInfos,
 					timeRangeAndTimeStamp);
@@ -799,12 +963,15 @@ class GenerateReporterServiceTest {
 				.build();
 			String timeRangeAndTimeStamp = request.getTimeRangeAndTimeStamp();
 
-			when(fileRepository.readFileByType(FileType.METRICS_DATA_COMPLETED, TEST_UUID, timeRangeAndTimeStamp,
-					MetricsDataCompleted.class, DATA_COMPLETED_PREFIX))
+			when(asyncMetricsDataHandler.getMetricsDataCompleted(TEST_UUID, timeRangeAndTimeStamp))
 				.thenReturn(MetricsDataCompleted.builder().doraMetricsCompleted(false).build());
 			List<PipelineCSVInfo> pipelineCSVInfos = List.of();
 			when(pipelineService.generateCSVForPipeline(any(), any(), any(), any())).thenReturn(pipelineCSVInfos);
-			when(pipelineService.fetchGitHubData(request))
+			FetchedData.BuildKiteData buildKiteData = FetchedData.BuildKiteData.builder()
+				.buildInfosList(List.of())
+				.build();
+			when(pipelineService.fetchBuildKiteInfo(request)).thenReturn(buildKiteData);
+			when(pipelineService.fetchGitHubData(request, buildKiteData))
 				.thenReturn(FetchedData.BuildKiteData.builder().buildInfosList(List.of()).build());
 			LeadTimeForChanges fakeLeadTimeForChange = LeadTimeForChanges.builder().build();
 			when(leadTimeForChangesCalculator.calculate(any())).thenReturn(fakeLeadTimeForChange);
@@ -816,8 +983,7 @@ class GenerateReporterServiceTest {
 					FilePrefixType.PIPELINE_REPORT_PREFIX);
 			verify(fileRepository, times(1)).removeFileByType(ERROR, TEST_UUID, timeRangeAndTimeStamp,
 					FilePrefixType.PIPELINE_REPORT_PREFIX);
-			verify(fileRepository, times(1)).readFileByType(FileType.METRICS_DATA_COMPLETED, TEST_UUID,
-					timeRangeAndTimeStamp, MetricsDataCompleted.class, DATA_COMPLETED_PREFIX);
+			verify(asyncMetricsDataHandler, times(1)).getMetricsDataCompleted(TEST_UUID, timeRangeAndTimeStamp);
 
 			verify(asyncMetricsDataHandler, never()).updateMetricsDataCompletedInHandler(TEST_UUID,
 					timeRangeAndTimeStamp, DORA, false);
@@ -853,14 +1019,15 @@ class GenerateReporterServiceTest {
 				.build();
 			String timeRangeAndTimeStamp = request.getTimeRangeAndTimeStamp();
 
-			when(fileRepository.readFileByType(FileType.METRICS_DATA_COMPLETED, TEST_UUID, timeRangeAndTimeStamp,
-					MetricsDataCompleted.class, DATA_COMPLETED_PREFIX))
+			when(asyncMetricsDataHandler.getMetricsDataCompleted(TEST_UUID, timeRangeAndTimeStamp))
 				.thenReturn(MetricsDataCompleted.builder().doraMetricsCompleted(false).build());
 			List<PipelineCSVInfo> pipelineCSVInfos = List.of();
 			when(pipelineService.generateCSVForPipeline(any(), any(), any(), any())).thenReturn(pipelineCSVInfos);
-			when(pipelineService.fetchGitHubData(any()))
-				.thenReturn(FetchedData.BuildKiteData.builder().buildInfosList(List.of()).build());
-			when(pipelineService.fetchBuildKiteInfo(any()))
+			FetchedData.BuildKiteData buildKiteData = FetchedData.BuildKiteData.builder()
+				.buildInfosList(List.of())
+				.build();
+			when(pipelineService.fetchBuildKiteInfo(any())).thenReturn(buildKiteData);
+			when(pipelineService.fetchGitHubData(any(), eq(buildKiteData)))
 				.thenReturn(FetchedData.BuildKiteData.builder().buildInfosList(List.of()).build());
 			LeadTimeForChanges fakeLeadTimeForChange = LeadTimeForChanges.builder().build();
 			when(leadTimeForChangesCalculator.calculate(any())).thenReturn(fakeLeadTimeForChange);
@@ -868,12 +1035,13 @@ class GenerateReporterServiceTest {
 			generateReporterService.generateDoraReport(TEST_UUID, request);
 
 			verify(kanbanService, never()).fetchDataFromKanban(request);
+			verify(pipelineService, times(1)).fetchBuildKiteInfo(any());
+			verify(pipelineService, times(1)).fetchGitHubData(any(), eq(buildKiteData));
 			verify(fileRepository, times(1)).removeFileByType(ERROR, TEST_UUID, timeRangeAndTimeStamp,
 					FilePrefixType.PIPELINE_REPORT_PREFIX);
 			verify(fileRepository, times(1)).removeFileByType(ERROR, TEST_UUID, timeRangeAndTimeStamp,
 					FilePrefixType.PIPELINE_REPORT_PREFIX);
-			verify(fileRepository, times(1)).readFileByType(FileType.METRICS_DATA_COMPLETED, TEST_UUID,
-					timeRangeAndTimeStamp, MetricsDataCompleted.class, DATA_COMPLETED_PREFIX);
+			verify(asyncMetricsDataHandler, times(1)).getMetricsDataCompleted(TEST_UUID, timeRangeAndTimeStamp);
 			verify(asyncMetricsDataHandler, never()).updateMetricsDataCompletedInHandler(TEST_UUID,
 					timeRangeAndTimeStamp, DORA, false);
 			verify(fileRepository, times(1)).createFileByType(eq(REPORT), eq(TEST_UUID), eq(timeRangeAndTimeStamp),
@@ -907,12 +1075,11 @@ class GenerateReporterServiceTest {
 				.build();
 			String timeRangeAndTimeStamp = request.getTimeRangeAndTimeStamp();
 
-			when(fileRepository.readFileByType(FileType.METRICS_DATA_COMPLETED, TEST_UUID, timeRangeAndTimeStamp,
-					MetricsDataCompleted.class, DATA_COMPLETED_PREFIX))
+			when(asyncMetricsDataHandler.getMetricsDataCompleted(TEST_UUID, timeRangeAndTimeStamp))
 				.thenReturn(MetricsDataCompleted.builder().doraMetricsCompleted(true).build());
 			List<PipelineCSVInfo> pipelineCSVInfos = List.of();
 			when(pipelineService.generateCSVForPipeline(any(), any(), any(), any())).thenReturn(pipelineCSVInfos);
-			when(pipelineService.fetchGitHubData(request)).thenReturn(
+			when(pipelineService.fetchGitHubData(eq(request), any())).thenReturn(
 					FetchedData.BuildKiteData.builder().pipelineLeadTimes(List.of()).buildInfosList(List.of()).build());
 			doThrow(new NotFoundException("")).when(leadTimeForChangesCalculator).calculate(any());
 
@@ -923,8 +1090,7 @@ class GenerateReporterServiceTest {
 					FilePrefixType.PIPELINE_REPORT_PREFIX);
 			verify(fileRepository, times(1)).removeFileByType(ERROR, TEST_UUID, timeRangeAndTimeStamp,
 					FilePrefixType.PIPELINE_REPORT_PREFIX);
-			verify(fileRepository, times(1)).readFileByType(FileType.METRICS_DATA_COMPLETED, TEST_UUID,
-					timeRangeAndTimeStamp, MetricsDataCompleted.class, DATA_COMPLETED_PREFIX);
+			verify(asyncMetricsDataHandler, times(1)).getMetricsDataCompleted(TEST_UUID, timeRangeAndTimeStamp);
 			verify(pipelineService, never()).generateCSVForPipeline(any(), any(), any(), any());
 			verify(csvFileGenerator, never()).convertPipelineDataToCSV(TEST_UUID, pipelineCSVInfos,
 					timeRangeAndTimeStamp);
@@ -968,8 +1134,7 @@ class GenerateReporterServiceTest {
 
 			assertEquals("Failed to get report due to report time expires", generateReportException.getMessage());
 
-			verify(fileRepository, never()).readFileByType(FileType.METRICS_DATA_COMPLETED, TEST_UUID,
-					timeRangeAndTimeStamp, MetricsDataCompleted.class, DATA_COMPLETED_PREFIX);
+			verify(asyncMetricsDataHandler, never()).getMetricsDataCompleted(TEST_UUID, timeRangeAndTimeStamp);
 		}
 
 		@Test
@@ -980,8 +1145,7 @@ class GenerateReporterServiceTest {
 
 			generateReporterService.checkReportReadyStatus(TEST_UUID, timeRangeAndTimeStamp);
 
-			verify(fileRepository, times(1)).readFileByType(FileType.METRICS_DATA_COMPLETED, TEST_UUID,
-					timeRangeAndTimeStamp, MetricsDataCompleted.class, DATA_COMPLETED_PREFIX);
+			verify(asyncMetricsDataHandler, times(1)).getMetricsDataCompleted(TEST_UUID, timeRangeAndTimeStamp);
 		}
 
 	}
@@ -995,7 +1159,7 @@ class GenerateReporterServiceTest {
 
 		@BeforeEach
 		void setUp() {
-			reportId = String.valueOf(System.currentTimeMillis() - EXPORT_CSV_VALIDITY_TIME + 2000000);
+			reportId = String.valueOf(System.currentTimeMillis() - RETENTION_TIME + 2000000);
 			dataCompletedId = FileType.METRICS_DATA_COMPLETED + START_TIME + "-" + END_TIME + "-" + reportId;
 		}
 
@@ -1006,8 +1170,7 @@ class GenerateReporterServiceTest {
 					TEST_UUID, START_TIME, END_TIME))
 				.thenReturn(timeRangeAndTimeStamp);
 			when(fileRepository.isExpired(anyLong(), anyLong())).thenReturn(false);
-			when(fileRepository.readFileByType(FileType.METRICS_DATA_COMPLETED, TEST_UUID, timeRangeAndTimeStamp,
-					MetricsDataCompleted.class, DATA_COMPLETED_PREFIX))
+			when(asyncMetricsDataHandler.getMetricsDataCompleted(TEST_UUID, timeRangeAndTimeStamp))
 				.thenReturn(MetricsDataCompleted.builder()
 					.boardMetricsCompleted(false)
 					.doraMetricsCompleted(true)
@@ -1019,11 +1182,80 @@ class GenerateReporterServiceTest {
 
 			ReportResponse res = generateReporterService.getComposedReportResponse(TEST_UUID, START_TIME, END_TIME);
 
-			assertEquals(EXPORT_CSV_VALIDITY_TIME, res.getExportValidityTime());
+			assertEquals(RETENTION_TIME, res.getExportValidityTime());
 			assertFalse(res.getBoardMetricsCompleted());
 			assertTrue(res.getDoraMetricsCompleted());
 			assertFalse(res.getAllMetricsCompleted());
 			assertNull(res.getReportMetricsError().getBoardMetricsError());
+			assertFalse(res.getHolidayCalendarIncomplete());
+		}
+
+		@Test
+		void shouldMarkComposedReportWhenAnyReportIsComputedAgainstMissingHolidayYears() {
+			String timeRangeAndTimeStamp = START_TIME + "-" + END_TIME + "-1234";
+			when(fileRepository.getFileTimeRangeAndTimeStampByStartTimeAndEndTime(FileType.METRICS_DATA_COMPLETED,
+					TEST_UUID, START_TIME, END_TIME))
+				.thenReturn(timeRangeAndTimeStamp);
+			when(fileRepository.isExpired(anyLong(), anyLong())).thenReturn(false);
+			when(asyncMetricsDataHandler.getMetricsDataCompleted(TEST_UUID, timeRangeAndTimeStamp))
+				.thenReturn(MetricsDataCompleted.builder().boardMetricsCompleted(true).build());
+			when(fileRepository.readFileByType(REPORT, TEST_UUID, timeRangeAndTimeStamp, ReportResponse.class,
+					FilePrefixType.PIPELINE_REPORT_PREFIX))
+				.thenReturn(ReportResponse.builder().holidayCalendarIncomplete(true).build());
+
+			ReportResponse res = generateReporterService.getComposedReportResponse(TEST_UUID, START_TIME, END_TIME);
+
+			assertTrue(res.getHolidayCalendarIncomplete());
+		}
+
+		@Test
+		void shouldReuseComposedReportUntilReportFileIsWritten() {
+			String timeRangeAndTimeStamp = START_TIME + "-" + END_TIME + "-1234";
+			when(fileRepository.getFileTimeRangeAndTimeStampByStartTimeAndEndTime(FileType.METRICS_DATA_COMPLETED,
+					TEST_UUID, START_TIME, END_TIME))
+				.thenReturn(timeRangeAndTimeStamp);
+			when(fileRepository.isExpired(anyLong(), anyLong())).thenReturn(false);
+			when(asyncMetricsDataHandler.getMetricsDataCompleted(TEST_UUID, timeRangeAndTimeStamp))
+				.thenReturn(MetricsDataCompleted.builder().boardMetricsCompleted(true).build());
+			when(fileRepository.readFileByType(eq(REPORT), any(), any(), any(), any()))
+				.thenReturn(ReportResponse.builder().build());
+			when(fileRepository.getWriteVersion(TEST_UUID, timeRangeAndTimeStamp)).thenReturn(1L, 1L, 2L);
+
+			CachedReportResponse first = generateReporterService.getCachedComposedReportResponse(TEST_UUID, START_TIME,
+					END_TIME);
+			CachedReportResponse second = generateReporterService.getCachedComposedReportResponse(TEST_UUID,
+					START_TIME, END_TIME);
+			verify(fileRepository, times(3)).readFileByType(eq(REPORT), any(), any(), any(), any());
+			CachedReportResponse afterWrite = generateReporterService.getCachedComposedReportResponse(TEST_UUID,
+					START_TIME, END_TIME);
+
+			assertSame(first, second);
+			assertNotSame(first, afterWrite);
+			assertEquals(first.eTag(), afterWrite.eTag());
+			verify(fileRepository, times(6)).readFileByType(eq(REPORT), any(), any(), any(), any());
+		}
+
+		@Test
+		void shouldComposeReportAgainWhenReportStatusChanged() {
+			String timeRangeAndTimeStamp = START_TIME + "-" + END_TIME + "-1234";
+			when(fileRepository.getFileTimeRangeAndTimeStampByStartTimeAndEndTime(FileType.METRICS_DATA_COMPLETED,
+					TEST_UUID, START_TIME, END_TIME))
+				.thenReturn(timeRangeAndTimeStamp);
+			when(fileRepository.isExpired(anyLong(), anyLong())).thenReturn(false);
+			when(asyncMetricsDataHandler.getMetricsDataCompleted(TEST_UUID, timeRangeAndTimeStamp)).thenReturn(
+					MetricsDataCompleted.builder().boardMetricsCompleted(false).build(),
+					MetricsDataCompleted.builder().boardMetricsCompleted(true).build());
+			when(fileRepository.readFileByType(eq(REPORT), any(), any(), any(), any()))
+				.thenReturn(ReportResponse.builder().build());
+
+			CachedReportResponse first = generateReporterService.getCachedComposedReportResponse(TEST_UUID, START_TIME,
+					END_TIME);
+			CachedReportResponse second = generateReporterService.getCachedComposedReportResponse(TEST_UUID,
+					START_TIME, END_TIME);
+
+			assertFalse(first.reportResponse().getBoardMetricsCompleted());
+			assertTrue(second.reportResponse().getBoardMetricsCompleted());
+			assertNotEquals(first.eTag(), second.eTag());
 		}
 
 		@Test
@@ -1056,8 +1288,7 @@ class GenerateReporterServiceTest {
 					TEST_UUID, START_TIME, END_TIME))
 				.thenReturn(timeRangeAndTimeStamp);
 			when(fileRepository.isExpired(anyLong(), anyLong())).thenReturn(false);
-			when(fileRepository.readFileByType(FileType.METRICS_DATA_COMPLETED, TEST_UUID, timeRangeAndTimeStamp,
-					MetricsDataCompleted.class, DATA_COMPLETED_PREFIX))
+			when(asyncMetricsDataHandler.getMetricsDataCompleted(TEST_UUID, timeRangeAndTimeStamp))
 				.thenReturn(MetricsDataCompleted.builder()
 					.boardMetricsCompleted(false)
 					.doraMetricsCompleted(true)
@@ -1082,8 +1313,7 @@ class GenerateReporterServiceTest {
 					TEST_UUID, START_TIME, END_TIME))
 				.thenReturn(timeRangeAndTimeStamp);
 			when(fileRepository.isExpired(anyLong(), anyLong())).thenReturn(false);
-			when(fileRepository.readFileByType(FileType.METRICS_DATA_COMPLETED, TEST_UUID, timeRangeAndTimeStamp,
-					MetricsDataCompleted.class, DATA_COMPLETED_PREFIX))
+			when(asyncMetricsDataHandler.getMetricsDataCompleted(TEST_UUID, timeRangeAndTimeStamp))
 				.thenReturn(MetricsDataCompleted.builder()
 					.boardMetricsCompleted(false)
 					.doraMetricsCompleted(true)
@@ -1108,8 +1338,7 @@ class GenerateReporterServiceTest {
 					TEST_UUID, START_TIME, END_TIME))
 				.thenReturn(timeRangeAndTimeStamp);
 			when(fileRepository.isExpired(anyLong(), anyLong())).thenReturn(false);
-			when(fileRepository.readFileByType(FileType.METRICS_DATA_COMPLETED, TEST_UUID, timeRangeAndTimeStamp,
-					MetricsDataCompleted.class, DATA_COMPLETED_PREFIX))
+			when(asyncMetricsDataHandler.getMetricsDataCompleted(TEST_UUID, timeRangeAndTimeStamp))
 				.thenReturn(MetricsDataCompleted.builder()
 					.boardMetricsCompleted(false)
 					.doraMetricsCompleted(true)
@@ -1133,8 +1362,7 @@ class GenerateReporterServiceTest {
 					TEST_UUID, START_TIME, END_TIME))
 				.thenReturn(timeRangeAndTimeStamp);
 			when(fileRepository.isExpired(anyLong(), anyLong())).thenReturn(false);
-			when(fileRepository.readFileByType(FileType.METRICS_DATA_COMPLETED, TEST_UUID, timeRangeAndTimeStamp,
-					MetricsDataCompleted.class, DATA_COMPLETED_PREFIX))
+			when(asyncMetricsDataHandler.getMetricsDataCompleted(TEST_UUID, timeRangeAndTimeStamp))
 				.thenReturn(MetricsDataCompleted.builder()
 					.boardMetricsCompleted(false)
 					.doraMetricsCompleted(true)
@@ -1160,8 +1388,7 @@ class GenerateReporterServiceTest {
 					TEST_UUID, START_TIME, END_TIME))
 				.thenReturn(timeRangeAndTimeStamp);
 			when(fileRepository.isExpired(anyLong(), anyLong())).thenReturn(false);
-			when(fileRepository.readFileByType(FileType.METRICS_DATA_COMPLETED, TEST_UUID, timeRangeAndTimeStamp,
-					MetricsDataCompleted.class, DATA_COMPLETED_PREFIX))
+			when(asyncMetricsDataHandler.getMetricsDataCompleted(TEST_UUID, timeRangeAndTimeStamp))
 				.thenReturn(MetricsDataCompleted.builder()
 					.boardMetricsCompleted(false)
 					.overallMetricCompleted(false)
@@ -1185,8 +1412,7 @@ class GenerateReporterServiceTest {
 					TEST_UUID, START_TIME, END_TIME))
 				.thenReturn(timeRangeAndTimeStamp);
 			when(fileRepository.isExpired(anyLong(), anyLong())).thenReturn(false);
-			when(fileRepository.readFileByType(FileType.METRICS_DATA_COMPLETED, TEST_UUID, timeRangeAndTimeStamp,
-					MetricsDataCompleted.class, DATA_COMPLETED_PREFIX))
+			when(asyncMetricsDataHandler.getMetricsDataCompleted(TEST_UUID, timeRangeAndTimeStamp))
 				.thenReturn(MetricsDataCompleted.builder()
 					.doraMetricsCompleted(false)
 					.overallMetricCompleted(false)
@@ -1210,8 +1436,7 @@ class GenerateReporterServiceTest {
 					TEST_UUID, START_TIME, END_TIME))
 				.thenReturn(timeRangeAndTimeStamp);
 			when(fileRepository.isExpired(anyLong(), anyLong())).thenReturn(false);
-			when(fileRepository.readFileByType(FileType.METRICS_DATA_COMPLETED, TEST_UUID, timeRangeAndTimeStamp,
-					MetricsDataCompleted.class, DATA_COMPLETED_PREFIX))
+			when(asyncMetricsDataHandler.getMetricsDataCompleted(TEST_UUID, timeRangeAndTimeStamp))
 				.thenReturn(MetricsDataCompleted.builder()
 					.boardMetricsCompleted(true)
 					.doraMetricsCompleted(true)
@@ -1236,8 +1461,7 @@ class GenerateReporterServiceTest {
 					TEST_UUID, START_TIME, END_TIME))
 				.thenReturn(timeRangeAndTimeStamp);
 			when(fileRepository.isExpired(anyLong(), anyLong())).thenReturn(false);
-			when(fileRepository.readFileByType(FileType.METRICS_DATA_COMPLETED, TEST_UUID, timeRangeAndTimeStamp,
-					MetricsDataCompleted.class, DATA_COMPLETED_PREFIX))
+			when(asyncMetricsDataHandler.getMetricsDataCompleted(TEST_UUID, timeRangeAndTimeStamp))
 				.thenReturn(MetricsDataCompleted.builder().overallMetricCompleted(true).build());
 			when(fileRepository.readFileByType(eq(REPORT), any(), any(), any(), any()))
 				.thenReturn(ReportResponse.builder().build());
@@ -1258,8 +1482,7 @@ class GenerateReporterServiceTest {
 					TEST_UUID, START_TIME, END_TIME))
 				.thenReturn(timeRangeAndTimeStamp);
 			when(fileRepository.isExpired(anyLong(), anyLong())).thenReturn(false);
-			when(fileRepository.readFileByType(FileType.METRICS_DATA_COMPLETED, TEST_UUID, timeRangeAndTimeStamp,
-					MetricsDataCompleted.class, DATA_COMPLETED_PREFIX))
+			when(asyncMetricsDataHandler.getMetricsDataCompleted(TEST_UUID, timeRangeAndTimeStamp))
 				.thenReturn(MetricsDataCompleted.builder().overallMetricCompleted(false).build());
 			when(fileRepository.readFileByType(eq(REPORT), any(), any(), any(), any()))
 				.thenReturn(ReportResponse.builder().build());
@@ -1277,8 +1500,7 @@ class GenerateReporterServiceTest {
 		void shouldGetDataFromCacheWhenGetComposedReportResponse() {
 			String timeRangeAndTimeStamp = START_TIME + "-" + END_TIME + "-" + reportId;
 			when(fileRepository.isExpired(anyLong(), anyLong())).thenReturn(false);
-			when(fileRepository.readFileByType(FileType.METRICS_DATA_COMPLETED, TEST_UUID, timeRangeAndTimeStamp,
-					MetricsDataCompleted.class, DATA_COMPLETED_PREFIX))
+			when(asyncMetricsDataHandler.getMetricsDataCompleted(TEST_UUID, timeRangeAndTimeStamp))
 				.thenReturn(MetricsDataCompleted.builder()
 					.boardMetricsCompleted(false)
 					.doraMetricsCompleted(true)
@@ -0,0 +1,239 @@
+package heartbeat.service.report;
+
+import heartbeat.controller.report.dto.request.CalendarTypeEnum;
+import heartbeat.repository.HolidayCalendarStore;
+import heartbeat.repository.HolidayCalendarStore.StoredHolidayCalendar;
+import heartbeat.service.report.model.HolidayCalendarSnapshot;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HolidayCalendarServiceTest {
+
+	private static final Map<String, Boolean> CHINA_HOLIDAYS_2024 = Map.of("2024-04-04", true, "2024-04-07", false);
+
+	@Mock
+	private HolidayFactory holidayFactory;
+
+	@Mock
+	private ChinaHoliday chinaHoliday;
+
+	@Mock
+	private HolidayCalendarStore holidayCalendarStore;
+
+	@Test
+	void shouldOnlyLoadYearsRequestSpans() {
+		when(holidayFactory.build(CalendarTypeEnum.CN)).thenReturn(chinaHoliday);
+		when(chinaHoliday.loadHolidayList("2024")).thenReturn(CHINA_HOLIDAYS_2024);
+		HolidayCalendarService holidayCalendarService = new HolidayCalendarService(holidayFactory, holidayCalendarStore,
+				5, 24);
+
+		holidayCalendarService.loadYears(CalendarTypeEnum.CN, 2024, 2024).join();
+		HolidayCalendarSnapshot snapshot = holidayCalendarService.getSnapshot(CalendarTypeEnum.CN, 2024, 2024);
+		HolidayCalendarSnapshot cachedSnapshot = holidayCalendarService.getSnapshot(CalendarTypeEnum.CN, 2024, 2024);
+
+		assertSame(snapshot, cachedSnapshot);
+		assertEquals(1, snapshot.version());
+		assertTrue(snapshot.get(CalendarTypeEnum.CN).isLoaded(2024));
+		assertTrue(snapshot.get(CalendarTypeEnum.CN).isHoliday(LocalDate.of(2024, 4, 4)));
+		assertFalse(snapshot.get(CalendarTypeEnum.CN).isHoliday(LocalDate.of(2024, 4, 7)));
+		assertFalse(snapshot.get(CalendarTypeEnum.VN).isLoaded(2024));
+		verify(chinaHoliday, times(1)).loadHolidayList("2024");
+		verify(chinaHoliday, never()).loadHolidayList("2023");
+	}
+
+	@Test
+	void shouldPublishNewSnapshotWithoutChangingPreviousOne() {
+		when(holidayFactory.build(CalendarTypeEnum.CN)).thenReturn(chinaHoliday);
+		when(chinaHoliday.loadHolidayList("2024")).thenReturn(CHINA_HOLIDAYS_2024);
+		when(chinaHoliday.loadHolidayList("2025")).thenReturn(Map.of("2025-01-01", true));
+		HolidayCalendarService holidayCalendarService = new HolidayCalendarService(holidayFactory, holidayCalendarStore,
+				5, 24);
+
+		holidayCalendarService.loadYears(CalendarTypeEnum.CN, 2024, 2024).join();
+		HolidayCalendarSnapshot snapshot = holidayCalendarService.getSnapshot(CalendarTypeEnum.CN, 2024, 2024);
+		holidayCalendarService.loadYears(CalendarTypeEnum.CN, 2024, 2025).join();
+		HolidayCalendarSnapshot newSnapshot = holidayCalendarService.getSnapshot(CalendarTypeEnum.CN, 2024, 2025);
+
+		assertFalse(snapshot.get(CalendarTypeEnum.CN).isLoaded(2025));
+		assertNull(snapshot.get(CalendarTypeEnum.CN).isHoliday(LocalDate.of(2025, 1, 1)));
+		assertEquals(2, newSnapshot.version());
+		assertTrue(newSnapshot.get(CalendarTypeEnum.CN).isHoliday(LocalDate.of(2024, 4, 4)));
+		assertTrue(newSnapshot.get(CalendarTypeEnum.CN).isHoliday(LocalDate.of(2025, 1, 1)));
+		assertSame(newSnapshot, holidayCalendarService.getSnapshot());
+	}
+
+	@Test
+	void shouldNotWaitForHolidayFeedWhenYearIsNotLoaded() {
+		CountDownLatch release = new CountDownLatch(1);
+		when(holidayFactory.build(CalendarTypeEnum.CN)).thenReturn(chinaHoliday);
+		when(chinaHoliday.loadHolidayList("2024")).thenAnswer(invocation -> {
+			release.await(5, TimeUnit.SECONDS);
+			return CHINA_HOLIDAYS_2024;
+		});
+		HolidayCalendarService holidayCalendarService = new HolidayCalendarService(holidayFactory, holidayCalendarStore,
+				5, 24);
+
+		HolidayCalendarSnapshot snapshot = holidayCalendarService.getSnapshot(CalendarTypeEnum.CN, 2024, 2024);
+		holidayCalendarService.getSnapshot(CalendarTypeEnum.CN, 2024, 2024);
+		release.countDown();
+
+		assertFalse(snapshot.get(CalendarTypeEnum.CN).isLoaded(2024));
+		Awaitility.await()
+			.atMost(5, TimeUnit.SECONDS)
+			.until(() -> holidayCalendarService.getSnapshot().get(CalendarTypeEnum.CN).isLoaded(2024));
+		verify(chinaHoliday, times(1)).loadHolidayList("2024");
+	}
+
+	@Test
+	void shouldNotLoadFailedYearAgainUntilRetryBackoffPassed() {
+		when(holidayFactory.build(CalendarTypeEnum.CN)).thenReturn(chinaHoliday);
+		when(chinaHoliday.loadHolidayList("2024")).thenThrow(new RuntimeException("network error"));
+		HolidayCalendarService holidayCalendarService = new HolidayCalendarService(holidayFactory, holidayCalendarStore,
+				5, 24);
+
+		holidayCalendarService.loadYears(CalendarTypeEnum.CN, 2024, 2024).join();
+		HolidayCalendarSnapshot snapshot = holidayCalendarService.getSnapshot(CalendarTypeEnum.CN, 2024, 2024);
+		holidayCalendarService.getSnapshot(CalendarTypeEnum.CN, 2024, 2024);
+
+		assertFalse(snapshot.get(CalendarTypeEnum.CN).isLoaded(2024));
+		verify(chinaHoliday, times(1)).loadHolidayList("2024");
+		verify(holidayCalendarStore, times(1)).findCalendar(CalendarTypeEnum.CN, 2024);
+	}
+
+	@Test
+	void shouldLoadFailedYearAgainAfterRetryBackoffPassed() {
+		when(holidayFactory.build(CalendarTypeEnum.CN)).thenReturn(chinaHoliday);
+		when(chinaHoliday.loadHolidayList("2024")).thenThrow(new RuntimeException("network error"))
+			.thenReturn(CHINA_HOLIDAYS_2024);
+		HolidayCalendarService holidayCalendarService = new HolidayCalendarService(holidayFactory, holidayCalendarStore,
+				0, 24);
+
+		holidayCalendarService.loadYears(CalendarTypeEnum.CN, 2024, 2024).join();
+		holidayCalendarService.loadYears(CalendarTypeEnum.CN, 2024, 2024).join();
+
+		assertTrue(holidayCalendarService.getSnapshot().get(CalendarTypeEnum.CN).isLoaded(2024));
+		verify(chinaHoliday, times(2)).loadHolidayList("2024");
+	}
+
+	@Test
+	void shouldRefreshLoadedYearsInBackground() {
+		when(holidayFactory.build(CalendarTypeEnum.CN)).thenReturn(chinaHoliday);
+		when(chinaHoliday.loadHolidayList("2024")).thenReturn(CHINA_HOLIDAYS_2024)
+			.thenReturn(Map.of("2024-04-04", false));
+		HolidayCalendarService holidayCalendarService = new HolidayCalendarService(holidayFactory, holidayCalendarStore,
+				5, 24);
+		holidayCalendarService.loadYears(CalendarTypeEnum.CN, 2024, 2024).join();
+
+		holidayCalendarService.refreshLoadedYears();
+
+		Awaitility.await()
+			.atMost(5, TimeUnit.SECONDS)
+			.until(() -> holidayCalendarService.getSnapshot().version() == 2);
+		assertFalse(holidayCalendarService.getSnapshot().get(CalendarTypeEnum.CN).isHoliday(LocalDate.of(2024, 4, 4)));
+	}
+
+	@Test
+	void shouldUseStoredCalendarWithoutFetchingHolidayFeedWhenItIsFresh() {
+		when(holidayCalendarStore.findCalendar(CalendarTypeEnum.CN, 2024)).thenReturn(Optional
+			.of(new StoredHolidayCalendar(HolidayCalendarStore.STORE_VERSION, System.currentTimeMillis(), "checksum",
+					CHINA_HOLIDAYS_2024)));
+		HolidayCalendarService holidayCalendarService = new HolidayCalendarService(holidayFactory, holidayCalendarStore,
+				5, 24);
+
+		HolidayCalendarSnapshot snapshot = holidayCalendarService.getSnapshot(CalendarTypeEnum.CN, 2024, 2024);
+
+		assertTrue(snapshot.get(CalendarTypeEnum.CN).isHoliday(LocalDate.of(2024, 4, 4)));
+		verify(chinaHoliday, never()).loadHolidayList("2024");
+	}
+
+	@Test
+	void shouldUseStaleStoredCalendarAndRefreshItInBackground() {
+		when(holidayCalendarStore.findCalendar(CalendarTypeEnum.CN, 2024)).thenReturn(Optional
+			.of(new StoredHolidayCalendar(HolidayCalendarStore.STORE_VERSION, 0, "checksum", CHINA_HOLIDAYS_2024)));
+		when(holidayFactory.build(CalendarTypeEnum.CN)).thenReturn(chinaHoliday);
+		when(chinaHoliday.loadHolidayList("2024")).thenReturn(Map.of("2024-04-04", false));
+		HolidayCalendarService holidayCalendarService = new HolidayCalendarService(holidayFactory, holidayCalendarStore,
+				5, 24);
+
+		HolidayCalendarSnapshot snapshot = holidayCalendarService.getSnapshot(CalendarTypeEnum.CN, 2024, 2024);
+
+		assertTrue(snapshot.get(CalendarTypeEnum.CN).isHoliday(LocalDate.of(2024, 4, 4)));
+		verify(holidayCalendarStore, timeout(5000)).saveCalendar(CalendarTypeEnum.CN, 2024,
+				Map.of("2024-04-04", false));
+		Awaitility.await()
+			.atMost(5, TimeUnit.SECONDS)
+			.until(() -> !holidayCalendarService.getSnapshot()
+				.get(CalendarTypeEnum.CN)
+				.isHoliday(LocalDate.of(2024, 4, 4)));
+	}
+
+	@Test
+	void shouldStoreFetchedCalendar() {
+		when(holidayFactory.build(CalendarTypeEnum.CN)).thenReturn(chinaHoliday);
+		when(chinaHoliday.loadHolidayList("2024")).thenReturn(CHINA_HOLIDAYS_2024);
+		HolidayCalendarService holidayCalendarService = new HolidayCalendarService(holidayFactory, holidayCalendarStore,
+				5, 24);
+
+		holidayCalendarService.loadYears(CalendarTypeEnum.CN, 2024, 2024).join();
+
+		verify(holidayCalendarStore).saveCalendar(CalendarTypeEnum.CN, 2024, CHINA_HOLIDAYS_2024);
+	}
+
+	@Test
+	void shouldTellWhetherEveryYearIsLoaded() {
+		when(holidayFactory.build(CalendarTypeEnum.CN)).thenReturn(chinaHoliday);
+		when(chinaHoliday.loadHolidayList("2024")).thenReturn(CHINA_HOLIDAYS_2024);
+		HolidayCalendarService holidayCalendarService = new HolidayCalendarService(holidayFactory, holidayCalendarStore,
+				5, 24);
+
+		holidayCalendarService.loadYears(CalendarTypeEnum.CN, 2024, 2024).join();
+
+		assertTrue(holidayCalendarService.isLoaded(CalendarTypeEnum.CN, 2024, 2024));
+		assertFalse(holidayCalendarService.isLoaded(CalendarTypeEnum.CN, 2024, 2025));
+		assertFalse(holidayCalendarService.isLoaded(CalendarTypeEnum.VN, 2024, 2024));
+	}
+
+	@Test
+	void shouldLoadDefaultYearsOfEveryCalendarInBackground() {
+		when(holidayCalendarStore.findCalendar(any(CalendarTypeEnum.class), anyInt())).thenReturn(Optional
+			.of(new StoredHolidayCalendar(HolidayCalendarStore.STORE_VERSION, System.currentTimeMillis(), "checksum",
+					Map.of())));
+		HolidayCalendarService holidayCalendarService = new HolidayCalendarService(holidayFactory, holidayCalendarStore,
+				5, 24);
+		int lastDefaultYear = Year.now().getValue() + 1;
+
+		holidayCalendarService.loadDefaultYears();
+
+		Awaitility.await()
+			.atMost(5, TimeUnit.SECONDS)
+			.until(() -> Arrays.stream(CalendarTypeEnum.values())
+				.allMatch(calendarType -> holidayCalendarService.isLoaded(calendarType, 2020, lastDefaultYear)));
+		verify(holidayFactory, never()).build(any(CalendarTypeEnum.class));
+	}
+
+}
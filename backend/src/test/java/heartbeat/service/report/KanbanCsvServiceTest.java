@@ -11,6 +11,7 @@ import heartbeat.controller.board.dto.request.RequestJiraBoardColumnSetting;
 import heartbeat.controller.board.dto.request.ReworkTimesSetting;
 import heartbeat.controller.board.dto.response.CardCollection;
 import heartbeat.controller.board.dto.response.ColumnValue;
+import heartbeat.controller.board.dto.response.CycleTimeColumns;
 import heartbeat.controller.board.dto.response.CycleTimeInfo;
 import heartbeat.controller.board.dto.response.JiraCardDTO;
 import heartbeat.controller.board.dto.response.JiraColumnDTO;
@@ -39,6 +40,7 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 
 import static heartbeat.service.jira.JiraBoardConfigDTOFixture.MOCK_JIRA_BOARD_COLUMN_SETTING_LIST;
@@ -52,6 +54,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -81,7 +84,7 @@ class KanbanCsvServiceTest {
 	private ArgumentCaptor<List<BoardCSVConfig>> csvFieldsCaptor;
 
 	@Captor
-	private ArgumentCaptor<String[][]> csvSheetCaptor;
+	private ArgumentCaptor<Stream<String[]>> csvSheetCaptor;
 
 	@Captor
 	private ArgumentCaptor<List<BoardCSVConfig>> csvNewFieldsCaptor;
@@ -184,6 +187,56 @@ class KanbanCsvServiceTest {
 		assertEquals(doingJiraCard, jiraCardDTOCaptor.getValue().get(4));
 	}
 
+	@Test
+	void shouldSaveCsvOfReportsSharingOneFetchWithoutReorderingSharedCards() throws URISyntaxException {
+		URI uri = new URI("site-uri");
+		when(urlGenerator.getUri(any())).thenReturn(uri);
+		when(jiraService.getJiraBoardConfig(any(), any(), any())).thenReturn(JiraBoardConfigDTO.builder().build());
+		when(jiraService.getJiraColumns(any(), any(), any())).thenReturn(JiraColumnResult.builder()
+			.jiraColumnResponse(List.of(
+					JiraColumnDTO.builder().value(ColumnValue.builder().statuses(List.of("DOING")).build()).build(),
+					JiraColumnDTO.builder().value(ColumnValue.builder().statuses(List.of("TESTING")).build()).build(),
+					JiraColumnDTO.builder().value(ColumnValue.builder().statuses(List.of("DONE")).build()).build()))
+			.build());
+		JiraCardDTO olderDoneJiraCard = createJiraCard("Done", 1701151323000L);
+		JiraCardDTO newerDoneJiraCard = createJiraCard("Done", 1701251323000L);
+		JiraCardDTO doingJiraCard = createJiraCard("Doing", 1701151323000L);
+		JiraCardDTO testingJiraCard = createJiraCard("Testing", 1701151323000L);
+		// the deduplicated fetch hands the same unmodifiable card lists to every identical report
+		List<JiraCardDTO> sharedDoneCards = List.of(olderDoneJiraCard, newerDoneJiraCard);
+		List<JiraCardDTO> sharedNonDoneCards = List.of(doingJiraCard, testingJiraCard);
+		FetchedData.CardCollectionInfo sharedCardCollectionInfo = FetchedData.CardCollectionInfo.builder()
+			.realDoneCardCollection(CardCollection.builder().jiraCardDTOList(sharedDoneCards).build())
+			.nonDoneCardCollection(CardCollection.builder().jiraCardDTOList(sharedNonDoneCards).build())
+			.build();
+		GenerateReportRequest request = GenerateReportRequest.builder()
+			.jiraBoardSetting(JiraBoardSetting.builder()
+				.boardColumns(List.of(RequestJiraBoardColumnSetting.builder().name("DOING").value("In dev").build()))
+				.targetFields(List.of())
+				.build())
+			.csvTimeStamp(CSV_TIME_STAMP)
+			.startTime(START_TIME)
+			.endTime(END_TIME)
+			.timezone("Asia/Shanghai")
+			.build();
+
+		Runnable generateCsv = () -> kanbanCsvService.generateCsvInfo(TEST_UUID, request, sharedCardCollectionInfo);
+
+		CompletableFuture<Void> firstReport = CompletableFuture.runAsync(generateCsv);
+		CompletableFuture<Void> secondReport = CompletableFuture.runAsync(generateCsv);
+		CompletableFuture.allOf(firstReport, secondReport).join();
+
+		verify(csvFileGenerator, times(2)).assembleBoardData(jiraCardDTOCaptor.capture(), anyList(), any());
+		verify(fileRepository, times(2)).createCSVFileByType(eq(TEST_UUID), anyString(), any(),
+				eq(FilePrefixType.BOARD_REPORT_PREFIX));
+		for (List<JiraCardDTO> jiraCardDTOList : jiraCardDTOCaptor.getAllValues()) {
+			assertEquals(List.of(newerDoneJiraCard, olderDoneJiraCard), jiraCardDTOList.subList(0, 2));
+			assertEquals(List.of(testingJiraCard, doingJiraCard), jiraCardDTOList.subList(3, 5));
+		}
+		assertEquals(List.of(olderDoneJiraCard, newerDoneJiraCard), sharedDoneCards);
+		assertEquals(List.of(doingJiraCard, testingJiraCard), sharedNonDoneCards);
+	}
+
 	@Test
 	void shouldSaveCsvWithOrderedNonDoneCardsByJiraColumnDescendingWhenNonDoneCardIsNotEmptySortByStatusDate()
 			throws URISyntaxException {
@@ -533,7 +586,8 @@ class KanbanCsvServiceTest {
 			.build();
 		JiraCardDTO blockedJiraCard = JiraCardDTO.builder()
 			.baseInfo(JiraCard.builder().fields(MOCK_JIRA_CARD()).build())
-			.originCycleTime(List.of(CycleTimeInfo.builder().column("BLOCKED").day(30.7859).build()))
+			.originCycleTime(
+					CycleTimeColumns.of(List.of(CycleTimeInfo.builder().column("BLOCKED").day(30.7859).build())))
 			.build();
 		List<JiraCardDTO> NonDoneJiraCardDTOList = new ArrayList<>() {
 			{
@@ -581,7 +635,7 @@ class KanbanCsvServiceTest {
 			.build();
 		JiraCardDTO blockedJiraCard = JiraCardDTO.builder()
 			.baseInfo(JiraCard.builder().fields(MOCK_JIRA_CARD()).build())
-			.originCycleTime(List.of(CycleTimeInfo.builder().column("DONE").day(30.7859).build()))
+			.originCycleTime(CycleTimeColumns.of(List.of(CycleTimeInfo.builder().column("DONE").day(30.7859).build())))
 			.build();
 		List<JiraCardDTO> NonDoneJiraCardDTOList = new ArrayList<>() {
 			{
@@ -715,7 +769,7 @@ class KanbanCsvServiceTest {
 			.realDoneCardCollection(CardCollection.builder().jiraCardDTOList(jiraCardDTOS).build())
 			.nonDoneCardCollection(CardCollection.builder().jiraCardDTOList(NonDoneJiraCardDTOList).build())
 			.build();
-		when(csvFileGenerator.assembleBoardData(anyList(), anyList(), anyList())).thenReturn(fakeSringArray);
+		when(csvFileGenerator.assembleBoardData(anyList(), anyList(), anyList())).thenReturn(Stream.of(fakeSringArray));
 		kanbanCsvService.generateCsvInfo(TEST_UUID, GenerateReportRequest.builder()
 			.jiraBoardSetting(JiraBoardSetting.builder()
 				.boardColumns(List.of(RequestJiraBoardColumnSetting.builder().name("TODO").value("To do").build(),
@@ -744,13 +798,14 @@ class KanbanCsvServiceTest {
 		assertEquals("Review Days", targetValue.getLabel());
 		assertNull(targetValue.getOriginKey());
 
-		assertEquals(5, csvSheetCaptor.getValue().length);
-		assertEquals("cycle time", csvSheetCaptor.getValue()[0][0]);
-		assertEquals("Rework: total - In dev", csvSheetCaptor.getValue()[0][1]);
-		assertEquals("Rework: from Block", csvSheetCaptor.getValue()[0][2]);
-		assertEquals("Rework: from Waiting for testing", csvSheetCaptor.getValue()[0][3]);
-		assertEquals("Rework: from Testing", csvSheetCaptor.getValue()[0][4]);
-		assertEquals("Rework: from Done", csvSheetCaptor.getValue()[0][5]);
+		String[][] sheet = csvSheetCaptor.getValue().toArray(String[][]::new);
+		assertEquals(5, sheet.length);
+		assertEquals("cycle time", sheet[0][0]);
+		assertEquals("Rework: total - In dev", sheet[0][1]);
+		assertEquals("Rework: from Block", sheet[0][2]);
+		assertEquals("Rework: from Waiting for testing", sheet[0][3]);
+		assertEquals("Rework: from Testing", sheet[0][4]);
+		assertEquals("Rework: from Done", sheet[0][5]);
 	}
 
 	@Test
@@ -790,7 +845,7 @@ class KanbanCsvServiceTest {
 			.nonDoneCardCollection(CardCollection.builder().jiraCardDTOList(NonDoneJiraCardDTOList).build())
 			.build();
 		String[][] fakeSringArray = new String[][] { { "cycle time" }, { "1" }, { "2" }, { "3" }, { "4" } };
-		when(csvFileGenerator.assembleBoardData(anyList(), anyList(), anyList())).thenReturn(fakeSringArray);
+		when(csvFileGenerator.assembleBoardData(anyList(), anyList(), anyList())).thenReturn(Stream.of(fakeSringArray));
 		kanbanCsvService.generateCsvInfo(TEST_UUID, GenerateReportRequest.builder()
 			.jiraBoardSetting(JiraBoardSetting.builder()
 				.boardColumns(List.of(RequestJiraBoardColumnSetting.builder().name("TODO").value("To do").build(),
@@ -819,13 +874,14 @@ class KanbanCsvServiceTest {
 		assertEquals("Review Days", targetValue.getLabel());
 		assertNull(targetValue.getOriginKey());
 
-		assertEquals(5, csvSheetCaptor.getValue().length);
-		assertEquals("cycle time", csvSheetCaptor.getValue()[0][0]);
-		assertEquals("Rework: total - In dev", csvSheetCaptor.getValue()[0][1]);
-		assertEquals("Rework: from Block", csvSheetCaptor.getValue()[0][2]);
-		assertEquals("Rework: from Waiting for testing", csvSheetCaptor.getValue()[0][3]);
-		assertEquals("Rework: from Testing", csvSheetCaptor.getValue()[0][4]);
-		assertEquals("Rework: from Done", csvSheetCaptor.getValue()[0][5]);
+		String[][] sheet = csvSheetCaptor.getValue().toArray(String[][]::new);
+		assertEquals(5, sheet.length);
+		assertEquals("cycle time", sheet[0][0]);
+		assertEquals("Rework: total - In dev", sheet[0][1]);
+		assertEquals("Rework: from Block", sheet[0][2]);
+		assertEquals("Rework: from Waiting for testing", sheet[0][3]);
+		assertEquals("Rework: from Testing", sheet[0][4]);
+		assertEquals("Rework: from Done", sheet[0][5]);
 	}
 
 	private static Stream<GenerateReportRequest> generateReportRequest() {
@@ -873,4 +929,15 @@ class KanbanCsvServiceTest {
 					.build());
 	}
 
+	private static JiraCardDTO createJiraCard(String status, long lastStatusChangeDate) {
+		return JiraCardDTO.builder()
+			.baseInfo(JiraCard.builder()
+				.fields(JiraCardField.builder()
+					.lastStatusChangeDate(lastStatusChangeDate)
+					.status(Status.builder().name(status).build())
+					.build())
+				.build())
+			.build();
+	}
+
 }
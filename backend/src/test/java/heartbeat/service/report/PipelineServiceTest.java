@@ -11,6 +11,7 @@ import heartbeat.controller.report.dto.request.BuildKiteSetting;
 import heartbeat.controller.report.dto.request.CodebaseSetting;
 import heartbeat.controller.report.dto.request.GenerateReportRequest;
 import heartbeat.controller.report.dto.response.PipelineCSVInfo;
+import heartbeat.repository.BuildKiteBuildStore;
 import heartbeat.service.pipeline.buildkite.BuildKiteService;
 import heartbeat.service.report.calculator.model.FetchedData;
 import heartbeat.service.source.github.GitHubService;
@@ -30,6 +31,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
@@ -52,6 +54,9 @@ public class PipelineServiceTest {
 	@Mock
 	private GitHubService gitHubService;
 
+	@Mock
+	private BuildKiteBuildStore buildKiteBuildStore;
+
 	@Captor
 	ArgumentCaptor<Map<String, String>> roadMapArgumentCaptor;
 
@@ -64,6 +69,32 @@ public class PipelineServiceTest {
 	@Nested
 	class FetchGithubData {
 
+		@Test
+		void shouldReuseFetchedBuildKiteDataWithoutFetchingBuildKiteAgain() {
+			GenerateReportRequest request = GenerateReportRequest.builder()
+				.buildKiteSetting(BuildKiteSetting.builder()
+					.deploymentEnvList(List.of(DeploymentEnvironment.builder().id("env1").repository("repo1").build()))
+					.build())
+				.codebaseSetting(CodebaseSetting.builder().token(MOCK_TOKEN).build())
+				.metrics(new ArrayList<>())
+				.build();
+			List<DeployTimes> deployTimesList = List.of(DeployTimes.builder().build());
+			FetchedData.BuildKiteData buildKiteData = FetchedData.BuildKiteData.builder()
+				.deployTimesList(deployTimesList)
+				.buildInfosList(List.of())
+				.pipelineLeadTimes(List.of())
+				.build();
+			when(gitHubService.fetchPipelinesLeadTime(deployTimesList, Map.of("env1", "repo1"), MOCK_TOKEN, request))
+				.thenReturn(List.of(PipelineLeadTime.builder().build()));
+
+			FetchedData.BuildKiteData result = pipelineService.fetchGitHubData(request, buildKiteData);
+
+			assertEquals(1, result.getPipelineLeadTimes().size());
+			assertEquals(deployTimesList, result.getDeployTimesList());
+			assertEquals(0, buildKiteData.getPipelineLeadTimes().size());
+			verify(buildKiteService, never()).fetchPipelineBuilds(any(), any(), any(), any());
+		}
+
 		@Test
 		void shouldReturnEmptyBuildInfosListAndEmptyLeadTimeWhenDeploymentEnvironmentsIsEmpty() {
 			GenerateReportRequest request = GenerateReportRequest.builder()
@@ -71,7 +102,8 @@ public class PipelineServiceTest {
 				.metrics(new ArrayList<>())
 				.codebaseSetting(CodebaseSetting.builder().token(MOCK_TOKEN).build())
 				.build();
-			FetchedData.BuildKiteData result = pipelineService.fetchGitHubData(request);
+			FetchedData.BuildKiteData result = pipelineService.fetchGitHubData(request,
+					pipelineService.fetchBuildKiteInfo(request));
 
 			assertEquals(0, result.getBuildInfosList().size());
 			verify(buildKiteService, never()).countDeployTimes(any(), any(), any(), any());
@@ -84,7 +116,8 @@ public class PipelineServiceTest {
 				.buildKiteSetting(BuildKiteSetting.builder().deploymentEnvList(new ArrayList<>()).build())
 				.metrics(new ArrayList<>())
 				.build();
-			FetchedData.BuildKiteData result = pipelineService.fetchGitHubData(request);
+			FetchedData.BuildKiteData result = pipelineService.fetchGitHubData(request,
+					pipelineService.fetchBuildKiteInfo(request));
 
 			assertEquals(0, result.getPipelineLeadTimes().size());
 			verify(gitHubService, never()).fetchPipelinesLeadTime(any(), any(), any(), any());
@@ -112,7 +145,8 @@ public class PipelineServiceTest {
 			when(gitHubService.fetchPipelinesLeadTime(any(), any(), eq(MOCK_TOKEN), eq(request)))
 				.thenReturn(List.of(PipelineLeadTime.builder().build()));
 
-			FetchedData.BuildKiteData result = pipelineService.fetchGitHubData(request);
+			FetchedData.BuildKiteData result = pipelineService.fetchGitHubData(request,
+					pipelineService.fetchBuildKiteInfo(request));
 
 			assertEquals(1, result.getPipelineLeadTimes().size());
 			assertEquals(2, result.getBuildInfosList().size());
@@ -144,7 +178,8 @@ public class PipelineServiceTest {
 			when(gitHubService.fetchPipelinesLeadTime(any(), any(), eq(MOCK_TOKEN), eq(request)))
 				.thenReturn(List.of(PipelineLeadTime.builder().build()));
 
-			FetchedData.BuildKiteData result = pipelineService.fetchGitHubData(request);
+			FetchedData.BuildKiteData result = pipelineService.fetchGitHubData(request,
+					pipelineService.fetchBuildKiteInfo(request));
 
 			assertEquals(0, result.getPipelineLeadTimes().size());
 			assertEquals(2, result.getBuildInfosList().size());
@@ -176,7 +211,7 @@ public class PipelineServiceTest {
 			when(gitHubService.fetchPipelinesLeadTime(any(), any(), eq(MOCK_TOKEN), eq(request)))
 				.thenReturn(List.of(PipelineLeadTime.builder().build()));
 
-			pipelineService.fetchGitHubData(request);
+			pipelineService.fetchGitHubData(request, pipelineService.fetchBuildKiteInfo(request));
 
 			verify(gitHubService).fetchPipelinesLeadTime(any(), roadMapArgumentCaptor.capture(), any(), eq(request));
 			assertEquals("repo2", roadMapArgumentCaptor.getValue().get("env1"));
@@ -211,7 +246,8 @@ public class PipelineServiceTest {
 			when(gitHubService.fetchPipelinesLeadTime(any(), any(), eq(MOCK_TOKEN), eq(request)))
 				.thenReturn(List.of(PipelineLeadTime.builder().build()));
 
-			FetchedData.BuildKiteData result = pipelineService.fetchGitHubData(request);
+			FetchedData.BuildKiteData result = pipelineService.fetchGitHubData(request,
+					pipelineService.fetchBuildKiteInfo(request));
 
 			assertEquals(1, result.getPipelineLeadTimes().size());
 			assertEquals(1, result.getBuildInfosList().size());
@@ -321,6 +357,57 @@ public class PipelineServiceTest {
 
 		}
 
+		@Test
+		void shouldStoreFetchedBuildsOfEachDeploymentEnvironment() {
+			List<BuildKiteBuildInfo> fakeBuildKiteBuildInfos = List.of(BuildKiteBuildInfo.builder()
+				.author(BuildKiteBuildInfo.Author.builder().username("someone").build())
+				.build());
+			DeploymentEnvironment deploymentEnvironment = DeploymentEnvironment.builder()
+				.id("env1")
+				.orgId("org1")
+				.branches(List.of("main"))
+				.build();
+			GenerateReportRequest request = GenerateReportRequest.builder()
+				.buildKiteSetting(BuildKiteSetting.builder()
+					.token(MOCK_TOKEN)
+					.deploymentEnvList(List.of(deploymentEnvironment))
+					.build())
+				.startTime(MOCK_START_TIME)
+				.endTime(MOCK_END_TIME)
+				.build();
+			when(buildKiteService.fetchPipelineBuilds(MOCK_TOKEN, deploymentEnvironment, MOCK_START_TIME,
+					MOCK_END_TIME))
+				.thenReturn(fakeBuildKiteBuildInfos);
+
+			pipelineService.fetchBuildKiteInfo(request);
+
+			verify(buildKiteBuildStore, times(1)).saveBuilds(MOCK_TOKEN, "org1", "env1", List.of("main"),
+					MOCK_START_TIME, MOCK_END_TIME, fakeBuildKiteBuildInfos);
+		}
+
+		@Test
+		void shouldUseStoredBuildsWithoutFetchingBuildKite() {
+			List<BuildKiteBuildInfo> storedBuildKiteBuildInfos = List.of(BuildKiteBuildInfo.builder()
+				.author(BuildKiteBuildInfo.Author.builder().username("someone").build())
+				.build());
+			GenerateReportRequest request = GenerateReportRequest.builder()
+				.buildKiteSetting(BuildKiteSetting.builder()
+					.token(MOCK_TOKEN)
+					.deploymentEnvList(List.of(DeploymentEnvironment.builder().id("env1").orgId("org1").build()))
+					.build())
+				.startTime(MOCK_START_TIME)
+				.endTime(MOCK_END_TIME)
+				.build();
+			when(buildKiteBuildStore.findBuilds(MOCK_TOKEN, "org1", "env1", null, MOCK_START_TIME, MOCK_END_TIME))
+				.thenReturn(Optional.of(storedBuildKiteBuildInfos));
+
+			FetchedData.BuildKiteData result = pipelineService.fetchBuildKiteInfo(request);
+
+			assertEquals(storedBuildKiteBuildInfos, result.getBuildInfosList().get(0).getValue());
+			verify(buildKiteService, never()).fetchPipelineBuilds(any(), any(), any(), any());
+			verify(buildKiteBuildStore, never()).saveBuilds(any(), any(), any(), any(), any(), any(), any());
+		}
+
 	}
 
 	@Nested
@@ -0,0 +1,194 @@
+package heartbeat.service.report;
+
+import com.google.gson.Gson;
+import heartbeat.controller.report.dto.request.JiraBoardSetting;
+import heartbeat.exception.UnauthorizedException;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mockStatic;
+
+class ReportFetchDeduplicatorTest {
+
+	private static final String FINGERPRINT = "jira:[\"20240310\"]";
+
+	private final ReportFetchDeduplicator reportFetchDeduplicator = new ReportFetchDeduplicator(new Gson(), 300);
+
+	@Test
+	void shouldGenerateSameFingerprintGivenSameRequestParts() {
+		JiraBoardSetting jiraBoardSetting = JiraBoardSetting.builder().boardId("1").token("token").build();
+		JiraBoardSetting sameJiraBoardSetting = JiraBoardSetting.builder().boardId("1").token("token").build();
+		JiraBoardSetting otherJiraBoardSetting = JiraBoardSetting.builder().boardId("2").token("token").build();
+
+		String fingerprint = reportFetchDeduplicator.fingerprint("jira", jiraBoardSetting, "1710000000000");
+
+		assertEquals(fingerprint, reportFetchDeduplicator.fingerprint("jira", sameJiraBoardSetting, "1710000000000"));
+		assertNotEquals(fingerprint,
+				reportFetchDeduplicator.fingerprint("jira", otherJiraBoardSetting, "1710000000000"));
+		assertNotEquals(fingerprint,
+				reportFetchDeduplicator.fingerprint("buildkite", jiraBoardSetting, "1710000000000"));
+	}
+
+	@Test
+	void shouldNotKeepTokenInFingerprint() {
+		JiraBoardSetting jiraBoardSetting = JiraBoardSetting.builder().boardId("1").token("secret-token").build();
+
+		String fingerprint = reportFetchDeduplicator.fingerprint("jira", jiraBoardSetting, "1710000000000");
+
+		assertTrue(fingerprint.matches("jira:[0-9a-f]{64}"));
+	}
+
+	@Test
+	void shouldThrowIllegalStateExceptionWhenHashAlgorithmIsMissing() {
+		try (MockedStatic<MessageDigest> mockStatic = mockStatic(MessageDigest.class)) {
+			mockStatic.when(() -> MessageDigest.getInstance(any(String.class)))
+				.thenThrow(NoSuchAlgorithmException.class);
+
+			assertThrows(IllegalStateException.class, () -> reportFetchDeduplicator.fingerprint("jira", "20240310"));
+		}
+	}
+
+	@Test
+	void shouldAttachToInFlightFetchGivenSameFingerprint() throws Exception {
+		AtomicInteger fetchCount = new AtomicInteger();
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		CompletableFuture<String> first = CompletableFuture
+			.supplyAsync(() -> reportFetchDeduplicator.fetch(FINGERPRINT, () -> {
+				fetchCount.incrementAndGet();
+				started.countDown();
+				await(release);
+				return "cards";
+			}));
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		CompletableFuture<String> second = CompletableFuture
+			.supplyAsync(() -> reportFetchDeduplicator.fetch(FINGERPRINT, () -> {
+				fetchCount.incrementAndGet();
+				return "other cards";
+			}));
+		release.countDown();
+
+		assertEquals("cards", first.get(5, TimeUnit.SECONDS));
+		assertEquals("cards", second.get(5, TimeUnit.SECONDS));
+		assertEquals(1, fetchCount.get());
+	}
+
+	@Test
+	void shouldReuseFinishedFetchWithinReuseWindow() {
+		reportFetchDeduplicator.fetch(FINGERPRINT, () -> "cards");
+
+		String result = reportFetchDeduplicator.fetch(FINGERPRINT, () -> "other cards");
+
+		assertEquals("cards", result);
+	}
+
+	@Test
+	void shouldFetchAgainWhenFinishedFetchIsExpired() {
+		ReportFetchDeduplicator noReuseDeduplicator = new ReportFetchDeduplicator(new Gson(), -1);
+		noReuseDeduplicator.fetch(FINGERPRINT, () -> "cards");
+
+		String result = noReuseDeduplicator.fetch(FINGERPRINT, () -> "new cards");
+
+		assertEquals("new cards", result);
+	}
+
+	@Test
+	void shouldNotReuseFailedFetch() {
+		assertThrows(UnauthorizedException.class, () -> reportFetchDeduplicator.fetch(FINGERPRINT, () -> {
+			throw new UnauthorizedException("Failed to get Jira info");
+		}));
+
+		String result = reportFetchDeduplicator.fetch(FINGERPRINT, () -> "cards");
+
+		assertEquals("cards", result);
+	}
+
+	@Test
+	void shouldNotReuseFetchFailedWithError() {
+		assertThrows(OutOfMemoryError.class, () -> reportFetchDeduplicator.fetch(FINGERPRINT, () -> {
+			throw new OutOfMemoryError("Failed to get Jira info");
+		}));
+
+		String result = reportFetchDeduplicator.fetch(FINGERPRINT, () -> "cards");
+
+		assertEquals("cards", result);
+	}
+
+	@Test
+	void shouldRethrowFailureToAttachedCaller() throws Exception {
+		Throwable failure = fetchWithAttachedCaller(() -> {
+			throw new UnauthorizedException("Failed to get Jira info");
+		});
+
+		assertTrue(failure instanceof UnauthorizedException);
+	}
+
+	@Test
+	void shouldRethrowErrorToAttachedCaller() throws Exception {
+		Throwable failure = fetchWithAttachedCaller(() -> {
+			throw new OutOfMemoryError("Failed to get Jira info");
+		});
+
+		assertTrue(failure instanceof OutOfMemoryError);
+	}
+
+	@Test
+	void shouldRethrowCheckedFailureToAttachedCaller() throws Exception {
+		Throwable failure = fetchWithAttachedCaller(() -> {
+			throw sneakyThrow(new IOException("Failed to get Jira info"));
+		});
+
+		assertTrue(failure instanceof IOException);
+	}
+
+	private Throwable fetchWithAttachedCaller(Supplier<String> failingFetcher) throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<String> first = CompletableFuture
+			.supplyAsync(() -> reportFetchDeduplicator.fetch(FINGERPRINT, () -> {
+				started.countDown();
+				await(release);
+				return failingFetcher.get();
+			}));
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		CompletableFuture<String> second = CompletableFuture
+			.supplyAsync(() -> reportFetchDeduplicator.fetch(FINGERPRINT, () -> "cards"));
+		TimeUnit.MILLISECONDS.sleep(200); // NOSONAR
+
+		release.countDown();
+
+		assertThrows(Exception.class, () -> first.get(5, TimeUnit.SECONDS));
+		Exception exception = assertThrows(Exception.class, () -> second.get(5, TimeUnit.SECONDS));
+		return exception.getCause();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <E extends Throwable> RuntimeException sneakyThrow(Throwable throwable) throws E {
+		throw (E) throwable;
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -0,0 +1,203 @@
+package heartbeat.service.report;
+
+import heartbeat.exception.BadRequestException;
+import heartbeat.exception.ServiceUnavailableException;
+import heartbeat.exception.TooManyRequestsException;
+import heartbeat.service.report.scheduler.ReportJobScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReportJobSchedulerTest {
+
+	private static final Runnable NO_OP = () -> {
+	};
+
+	private ReportJobScheduler reportJobScheduler;
+
+	@AfterEach
+	void tearDown() {
+		if (reportJobScheduler != null) {
+			reportJobScheduler.shutdown();
+		}
+	}
+
+	@Test
+	void shouldThrowIllegalArgumentExceptionWhenReservedWorkersAreNotLessThanWorkers() {
+		assertThrows(IllegalArgumentException.class, () -> new ReportJobScheduler(2, 2, 1, 1));
+		assertThrows(IllegalArgumentException.class, () -> new ReportJobScheduler(2, -1, 1, 1));
+	}
+
+	@Test
+	void shouldRunBulkJobsAndCompleteFutures() throws Exception {
+		reportJobScheduler = new ReportJobScheduler(3, 1, 10, 10);
+		List<String> executed = new CopyOnWriteArrayList<>();
+
+		List<CompletableFuture<Void>> futures = reportJobScheduler.submitBulk("uuid",
+				List.of(() -> executed.add("board"), () -> executed.add("dora")));
+		CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+
+		assertEquals(2, executed.size());
+		assertTrue(executed.containsAll(List.of("board", "dora")));
+	}
+
+	@Test
+	void shouldCompleteFutureExceptionallyWhenBulkJobFails() {
+		reportJobScheduler = new ReportJobScheduler(2, 1, 10, 10);
+
+		CompletableFuture<Void> future = reportJobScheduler.submitFollowUp("uuid", () -> {
+			throw new BadRequestException("failed");
+		});
+
+		ExecutionException exception = assertThrows(ExecutionException.class,
+				() -> future.get(5, TimeUnit.SECONDS));
+		assertTrue(exception.getCause() instanceof BadRequestException);
+	}
+
+	@Test
+	void shouldRejectBulkJobsWhenQueueIsSaturated() throws Exception {
+		reportJobScheduler = new ReportJobScheduler(2, 1, 1, 1);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		CompletableFuture<Void> blocker = reportJobScheduler.submitFollowUp("uuid-1", () -> {
+			started.countDown();
+			await(release);
+		});
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		CompletableFuture<Void> queued = reportJobScheduler.submitBulk("uuid-2", List.of(NO_OP)).get(0);
+
+		assertThrows(TooManyRequestsException.class, () -> reportJobScheduler.submitBulk("uuid-3", List.of(NO_OP)));
+
+		release.countDown();
+		CompletableFuture.allOf(blocker, queued).get(5, TimeUnit.SECONDS);
+	}
+
+	@Test
+	void shouldCountReservedBulkJobsAgainstQueueCapacityUntilReleasedOrSubmitted() throws Exception {
+		reportJobScheduler = new ReportJobScheduler(2, 1, 1, 1);
+
+		reportJobScheduler.reserveBulk("uuid-1", 1);
+		assertThrows(TooManyRequestsException.class, () -> reportJobScheduler.reserveBulk("uuid-2", 1));
+		reportJobScheduler.releaseBulk(1);
+		reportJobScheduler.reserveBulk("uuid-2", 1);
+
+		reportJobScheduler.submitReservedBulk("uuid-2", List.of(NO_OP)).get(0).get(5, TimeUnit.SECONDS);
+		reportJobScheduler.submitBulk("uuid-3", List.of(NO_OP)).get(0).get(5, TimeUnit.SECONDS);
+	}
+
+	@Test
+	void shouldRunInteractiveJobWhileAllBulkWorkersAreBusy() throws Exception {
+		reportJobScheduler = new ReportJobScheduler(2, 1, 10, 10);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<Void> blocker = reportJobScheduler.submitFollowUp("uuid", () -> {
+			started.countDown();
+			await(release);
+		});
+		reportJobScheduler.submitFollowUp("uuid", NO_OP);
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+
+		String result = CompletableFuture.supplyAsync(() -> reportJobScheduler.callInteractive(() -> "board info"))
+			.get(5, TimeUnit.SECONDS);
+
+		assertEquals("board info", result);
+		release.countDown();
+		blocker.get(5, TimeUnit.SECONDS);
+	}
+
+	@Test
+	void shouldRethrowRuntimeExceptionWhenInteractiveJobFails() {
+		reportJobScheduler = new ReportJobScheduler(2, 1, 10, 10);
+
+		assertThrows(BadRequestException.class, () -> reportJobScheduler.callInteractive(() -> {
+			throw new BadRequestException("failed");
+		}));
+	}
+
+	@Test
+	void shouldRejectInteractiveJobWhenInteractiveQueueIsSaturated() {
+		reportJobScheduler = new ReportJobScheduler(2, 1, 0, 10);
+
+		assertThrows(TooManyRequestsException.class, () -> reportJobScheduler.callInteractive(() -> "board info"));
+	}
+
+	@Test
+	void shouldRunBulkJobsRoundRobinAcrossTenants() throws Exception {
+		reportJobScheduler = new ReportJobScheduler(2, 1, 10, 10);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		List<String> executed = new CopyOnWriteArrayList<>();
+		reportJobScheduler.submitFollowUp("blocker", () -> {
+			started.countDown();
+			await(release);
+		});
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+
+		List<CompletableFuture<Void>> tenantAFutures = reportJobScheduler.submitBulk("tenant-a",
+				List.of(() -> executed.add("a1"), () -> executed.add("a2"), () -> executed.add("a3")));
+		List<CompletableFuture<Void>> tenantBFutures = reportJobScheduler.submitBulk("tenant-b",
+				List.of(() -> executed.add("b1")));
+		release.countDown();
+		CompletableFuture.allOf(tenantAFutures.get(2), tenantBFutures.get(0)).get(5, TimeUnit.SECONDS);
+
+		assertEquals(List.of("a1", "b1", "a2", "a3"), executed);
+	}
+
+	@Test
+	void shouldFailQueuedJobsWhenShutdown() throws Exception {
+		reportJobScheduler = new ReportJobScheduler(1, 0, 10, 10);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		reportJobScheduler.submitFollowUp("blocker", () -> {
+			started.countDown();
+			await(release);
+		});
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		CompletableFuture<Void> queuedBulk = reportJobScheduler.submitFollowUp("uuid", NO_OP);
+		CompletableFuture<String> queuedInteractive = CompletableFuture
+			.supplyAsync(() -> reportJobScheduler.callInteractive(() -> "board info"));
+		TimeUnit.MILLISECONDS.sleep(200); // NOSONAR
+
+		reportJobScheduler.shutdown();
+
+		ExecutionException bulkException = assertThrows(ExecutionException.class,
+				() -> queuedBulk.get(5, TimeUnit.SECONDS));
+		assertTrue(bulkException.getCause() instanceof ServiceUnavailableException);
+		ExecutionException interactiveException = assertThrows(ExecutionException.class,
+				() -> queuedInteractive.get(5, TimeUnit.SECONDS));
+		assertTrue(interactiveException.getCause() instanceof ServiceUnavailableException);
+	}
+
+	@Test
+	void shouldRejectJobsAfterShutdown() {
+		reportJobScheduler = new ReportJobScheduler(2, 1, 10, 10);
+
+		reportJobScheduler.shutdown();
+
+		assertThrows(ServiceUnavailableException.class, () -> reportJobScheduler.submitFollowUp("uuid", NO_OP));
+		assertThrows(ServiceUnavailableException.class, () -> reportJobScheduler.reserveBulk("uuid", 1));
+		assertThrows(ServiceUnavailableException.class,
+				() -> reportJobScheduler.callInteractive(() -> "board info"));
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
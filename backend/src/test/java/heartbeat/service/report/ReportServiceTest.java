@@ -9,11 +9,15 @@ import heartbeat.controller.report.dto.response.ReportResponse;
 import heartbeat.controller.report.dto.response.ShareApiDetailsResponse;
 import heartbeat.controller.report.dto.response.UuidResponse;
 import heartbeat.exception.NotFoundException;
+import heartbeat.exception.TooManyRequestsException;
 import heartbeat.handler.AsyncMetricsDataHandler;
 import heartbeat.repository.FileType;
 import heartbeat.service.report.calculator.ReportGenerator;
+import heartbeat.service.report.scheduler.ReportJobScheduler;
+import heartbeat.handler.ReportProgressPublisher;
 import heartbeat.repository.FileRepository;
 import org.awaitility.Awaitility;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,31 +28,28 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
-import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.FileSystemResource;
 
-import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 
 import static heartbeat.controller.report.dto.request.MetricType.BOARD;
 import static heartbeat.controller.report.dto.request.MetricType.DORA;
 import static heartbeat.repository.FilePrefixType.ALL_METRICS_PREFIX;
 import static heartbeat.tools.TimeUtils.mockTimeStamp;
-import static heartbeat.repository.FileRepository.EXPORT_CSV_VALIDITY_TIME;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -73,6 +74,12 @@ public class ReportServiceTest {
 	@Mock
 	ReportGenerator reportGenerator;
 
+	@Mock
+	ReportJobScheduler reportJobScheduler;
+
+	@Mock
+	ReportProgressPublisher reportProgressPublisher;
+
 	@Captor
 	ArgumentCaptor<List<String>> argumentCaptor;
 
@@ -82,26 +89,35 @@ public class ReportServiceTest {
 
 	public static final String TEST_UUID = "test-uuid";
 
+	private static final long RETENTION_TIME = 1000L * 3600 * 24 * 7;
+
+	@BeforeEach
+	void setUp() {
+		lenient().when(reportJobScheduler.submitReservedBulk(any(), any()))
+			.thenAnswer(invocation -> invocation.<List<Runnable>>getArgument(1)
+				.stream()
+				.map(CompletableFuture::runAsync)
+				.toList());
+	}
+
 	@Nested
 	class ExportCsv {
 
 		@Test
-		void shouldCallCsvFileGeneratorToGotTheStreamWhenTimestampIsValid() throws IOException {
-			long validTimestamp = System.currentTimeMillis() - EXPORT_CSV_VALIDITY_TIME + 20000L;
+		void shouldCallCsvFileGeneratorToGotTheStreamWhenTimestampIsValid() {
+			long validTimestamp = System.currentTimeMillis() - RETENTION_TIME + 20000L;
 			String mockTimeRangeTimeStamp = START_TIME + "-" + END_TIME + "-" + validTimestamp;
+			FileSystemResource csvResource = new FileSystemResource("metric-" + mockTimeRangeTimeStamp + ".csv");
 			when(csvFileGenerator.getDataFromCSV(ReportType.METRIC, TEST_UUID, mockTimeRangeTimeStamp))
-				.thenReturn(new InputStreamResource(new ByteArrayInputStream("csv data".getBytes())));
+				.thenReturn(csvResource);
 			when(fileRepository.getFileTimeRangeAndTimeStampByStartTimeAndEndTime(FileType.REPORT, TEST_UUID,
 					START_TIME, END_TIME))
 				.thenReturn(START_TIME + "-" + END_TIME + "-" + validTimestamp);
 			when(fileRepository.isExpired(anyLong(), eq(validTimestamp))).thenReturn(false);
 
-			InputStream result = reportService.exportCsv(ReportType.METRIC, TEST_UUID, START_TIME, END_TIME)
-				.getInputStream();
-			String returnData = new BufferedReader(new InputStreamReader(result)).lines()
-				.collect(Collectors.joining("\n"));
+			FileSystemResource result = reportService.exportCsv(ReportType.METRIC, TEST_UUID, START_TIME, END_TIME);
 
-			assertEquals(returnData, "csv data");
+			assertEquals(csvResource, result);
 			verify(csvFileGenerator).getDataFromCSV(ReportType.METRIC, TEST_UUID, mockTimeRangeTimeStamp);
 			verify(fileRepository).getFileTimeRangeAndTimeStampByStartTimeAndEndTime(FileType.REPORT, TEST_UUID,
 					START_TIME, END_TIME);
@@ -110,7 +126,7 @@ public class ReportServiceTest {
 
 		@Test
 		void shouldThrowNotFoundExceptionWhenTimestampIsValid() {
-			long invalidTimestamp = System.currentTimeMillis() - EXPORT_CSV_VALIDITY_TIME - 20000L;
+			long invalidTimestamp = System.currentTimeMillis() - RETENTION_TIME - 20000L;
 			String mockTimeRangeTimeStamp = START_TIME + "-" + END_TIME + "-" + invalidTimestamp;
 			when(fileRepository.getFileTimeRangeAndTimeStampByStartTimeAndEndTime(FileType.REPORT, TEST_UUID,
 					START_TIME, END_TIME))
@@ -124,7 +140,7 @@ public class ReportServiceTest {
 
 		@Test
 		void shouldThrowNotFoundExceptionWhenTimestampIsNull() {
-			long invalidTimestamp = System.currentTimeMillis() - EXPORT_CSV_VALIDITY_TIME - 20000L;
+			long invalidTimestamp = System.currentTimeMillis() - RETENTION_TIME - 20000L;
 			String mockTimeRangeTimeStamp = START_TIME + "-" + END_TIME + "-" + invalidTimestamp;
 
 			assertThrows(NotFoundException.class,
@@ -170,6 +186,7 @@ public class ReportServiceTest {
 
 			reportService.generateReport(request, TEST_UUID);
 
+			verify(reportProgressPublisher).start(TEST_UUID, timeRangeAndTimeStamp);
 			verify(asyncMetricsDataHandler).initializeMetricsDataCompletedInHandler(TEST_UUID, metricTypes,
 					timeRangeAndTimeStamp);
 
@@ -182,9 +199,38 @@ public class ReportServiceTest {
 						request.getTimeRangeAndTimeStamp());
 				verify(asyncMetricsDataHandler).updateOverallMetricsCompletedInHandler(TEST_UUID,
 						timeRangeAndTimeStamp);
+				verify(reportProgressPublisher).publishReport(TEST_UUID, timeRangeAndTimeStamp, reportResponse);
+				verify(reportProgressPublisher).complete(TEST_UUID, timeRangeAndTimeStamp);
 			});
 		}
 
+		@Test
+		void shouldNotInitializeReportWhenReportJobsAreRejected() {
+			when(reportGenerator.getReportGenerator(generateReporterService)).thenReturn(Map.of(BOARD,
+					generateReporterService::generateBoardReport, DORA, generateReporterService::generateDoraReport));
+			doThrow(new TooManyRequestsException("saturated")).when(reportJobScheduler).reserveBulk(TEST_UUID, 1);
+
+			assertThrows(TooManyRequestsException.class, () -> reportService.generateReport(request, TEST_UUID));
+
+			verifyNoInteractions(reportProgressPublisher, asyncMetricsDataHandler);
+			verify(reportJobScheduler, never()).submitReservedBulk(any(), any());
+		}
+
+		@Test
+		void shouldReleaseReservedReportJobsWhenInitializeReportFailed() {
+			String timeRangeAndTimeStamp = request.getTimeRangeAndTimeStamp();
+			when(reportGenerator.getReportGenerator(generateReporterService)).thenReturn(Map.of(BOARD,
+					generateReporterService::generateBoardReport, DORA, generateReporterService::generateDoraReport));
+			doThrow(new NotFoundException("failed")).when(asyncMetricsDataHandler)
+				.initializeMetricsDataCompletedInHandler(TEST_UUID, metricTypes, timeRangeAndTimeStamp);
+
+			assertThrows(NotFoundException.class, () -> reportService.generateReport(request, TEST_UUID));
+
+			verify(reportJobScheduler).releaseBulk(1);
+			verify(reportProgressPublisher).fail(TEST_UUID, timeRangeAndTimeStamp, "failed");
+			verify(reportJobScheduler, never()).submitReservedBulk(any(), any());
+		}
+
 		@Test
 		void shouldSuccessfulGenerateDoraReportWhenMetricTypesListOnlyHasDoraMetricType() {
 			metricTypes = List.of(DORA);
@@ -1,8 +1,8 @@
 package heartbeat.service.report;
 
 import heartbeat.controller.report.dto.request.CalendarTypeEnum;
+import heartbeat.repository.HolidayCalendarStore;
 import heartbeat.service.report.model.WorkInfo;
-import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -11,6 +11,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -19,18 +21,16 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
-import java.util.Calendar;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.times;
-import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
 class WorkDayTest {
 
 	private static final long ONE_DAY_MILLISECONDS = 1000L * 60 * 60 * 24;
@@ -51,8 +51,20 @@ class WorkDayTest {
 	@InjectMocks
 	private HolidayFactory holidayFactory;
 
+	@Mock
+	private HolidayCalendarStore holidayCalendarStore;
+
 	WorkDay workDay;
 
+	// holidays are loaded in the background, so the queried year is loaded before the tests run
+	private HolidayCalendarService createLoadedHolidayCalendarService() {
+		HolidayCalendarService holidayCalendarService = new HolidayCalendarService(holidayFactory, holidayCalendarStore,
+				5, 24);
+		Arrays.stream(CalendarTypeEnum.values())
+			.forEach(calendarType -> holidayCalendarService.loadYears(calendarType, 2024, 2024).join());
+		return holidayCalendarService;
+	}
+
 	@Nested
 	class VerifyIfThisDayHoliday {
 
@@ -66,14 +78,7 @@ class WorkDayTest {
 			when(regularHoliday.loadHolidayList(any())).thenReturn(new HashMap<>());
 			when(vietnamHoliday.loadHolidayList(any())).thenReturn(vietnamHolidayMap);
 
-			workDay = new WorkDay(holidayFactory);
-
-			Awaitility.await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
-				Integer i = Calendar.getInstance().get(Calendar.YEAR) - 2020 + 2;
-				verify(chinaHoliday, times(i)).loadHolidayList(any());
-				verify(regularHoliday, times(i)).loadHolidayList(any());
-				verify(vietnamHoliday, times(i)).loadHolidayList(any());
-			});
+			workDay = new WorkDay(createLoadedHolidayCalendarService());
 		}
 
 		@Test
@@ -120,14 +125,7 @@ class WorkDayTest {
 			when(regularHoliday.loadHolidayList(any())).thenReturn(new HashMap<>());
 			when(vietnamHoliday.loadHolidayList(any())).thenReturn(vietnamHolidayMap);
 
-			workDay = new WorkDay(holidayFactory);
-
-			Awaitility.await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
-				Integer i = Calendar.getInstance().get(Calendar.YEAR) - 2020 + 2;
-				verify(chinaHoliday, times(i)).loadHolidayList(any());
-				verify(regularHoliday, times(i)).loadHolidayList(any());
-				verify(vietnamHoliday, times(i)).loadHolidayList(any());
-			});
+			workDay = new WorkDay(createLoadedHolidayCalendarService());
 		}
 
 		@Test
@@ -150,6 +148,43 @@ class WorkDayTest {
 			Assertions.assertEquals(22, chinaResult);
 		}
 
+		@Test
+		void shouldReturnRightWorkDaysWhenRangeIsOutsideLoadedYears() {
+			ZoneId timezone = ZoneId.of("Asia/Shanghai");
+			long pastStartTime = LocalDate.of(2019, 12, 30).atStartOfDay(timezone).toInstant().toEpochMilli();
+			long pastEndTime = LocalDate.of(2020, 1, 5).atStartOfDay(timezone).toInstant().toEpochMilli();
+			long futureStartTime = LocalDate.of(2040, 1, 2).atStartOfDay(timezone).toInstant().toEpochMilli();
+			long futureEndTime = LocalDate.of(2040, 1, 8).atStartOfDay(timezone).toInstant().toEpochMilli();
+
+			long pastResult = workDay.calculateWorkDaysBetween(pastStartTime, pastEndTime, CalendarTypeEnum.REGULAR,
+					timezone);
+			long futureResult = workDay.calculateWorkDaysBetween(futureStartTime, futureEndTime,
+					CalendarTypeEnum.REGULAR, timezone);
+			long loadedYearResult = workDay.calculateWorkDaysBetween(
+					LocalDate.of(2024, 4, 1).atStartOfDay(timezone).toInstant().toEpochMilli(),
+					LocalDate.of(2024, 5, 5).atStartOfDay(timezone).toInstant().toEpochMilli(), CalendarTypeEnum.CN,
+					timezone);
+
+			Assertions.assertEquals(5, pastResult);
+			Assertions.assertEquals(5, futureResult);
+			Assertions.assertEquals(22, loadedYearResult);
+		}
+
+		@Test
+		void shouldReturnZeroWorkDaysWhenEndIsBeforeStart() {
+			ZoneId timezone = ZoneId.of("Asia/Shanghai");
+			long startTime = LocalDate.of(2024, 4, 10).atStartOfDay(timezone).toInstant().toEpochMilli();
+			long endTime = LocalDate.of(2024, 4, 8).atStartOfDay(timezone).toInstant().toEpochMilli();
+
+			long result = workDay.calculateWorkDaysBetween(startTime, endTime, CalendarTypeEnum.REGULAR, timezone);
+			WorkInfo workInfo = workDay.calculateWorkTimeAndHolidayBetween(startTime, endTime, CalendarTypeEnum.REGULAR,
+					timezone);
+
+			Assertions.assertEquals(0, result);
+			Assertions.assertEquals(0, workInfo.getHolidays());
+			Assertions.assertEquals(endTime - startTime, workInfo.getWorkTime());
+		}
+
 	}
 
 	@Nested
@@ -165,14 +200,7 @@ class WorkDayTest {
 			when(regularHoliday.loadHolidayList(any())).thenReturn(new HashMap<>());
 			when(vietnamHoliday.loadHolidayList(any())).thenReturn(vietnamHolidayMap);
 
-			workDay = new WorkDay(holidayFactory);
-
-			Awaitility.await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
-				Integer i = Calendar.getInstance().get(Calendar.YEAR) - 2020 + 2;
-				verify(chinaHoliday, times(i)).loadHolidayList(any());
-				verify(regularHoliday, times(i)).loadHolidayList(any());
-				verify(vietnamHoliday, times(i)).loadHolidayList(any());
-			});
+			workDay = new WorkDay(createLoadedHolidayCalendarService());
 		}
 
 		@Test
@@ -249,14 +277,7 @@ class WorkDayTest {
 			when(regularHoliday.loadHolidayList(any())).thenReturn(new HashMap<>());
 			when(vietnamHoliday.loadHolidayList(any())).thenReturn(vietnamHolidayMap);
 
-			workDay = new WorkDay(holidayFactory);
-
-			Awaitility.await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
-				Integer i = Calendar.getInstance().get(Calendar.YEAR) - 2020 + 2;
-				verify(chinaHoliday, times(i)).loadHolidayList(any());
-				verify(regularHoliday, times(i)).loadHolidayList(any());
-				verify(vietnamHoliday, times(i)).loadHolidayList(any());
-			});
+			workDay = new WorkDay(createLoadedHolidayCalendarService());
 		}
 
 		@Test
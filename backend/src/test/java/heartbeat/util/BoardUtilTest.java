@@ -1,7 +1,10 @@
 package heartbeat.util;
 
+import heartbeat.controller.board.dto.response.ColumnDictionary;
+import heartbeat.controller.board.dto.response.CycleTimeColumns;
 import heartbeat.controller.board.dto.response.CycleTimeInfo;
 import heartbeat.controller.board.dto.response.StatusChangedItem;
+import heartbeat.controller.board.dto.response.StatusTimeStamp;
 import heartbeat.controller.report.dto.request.CalendarTypeEnum;
 import heartbeat.service.report.WorkDay;
 import org.junit.jupiter.api.Assertions;
@@ -11,8 +14,15 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -21,6 +31,14 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class BoardUtilTest {
 
+	private static final long ONE_DAY = 1000L * 60 * 60 * 24;
+
+	private static final long START_TIME = 1704067200000L;
+
+	private static final long END_TIME = START_TIME + 400 * ONE_DAY;
+
+	private static final List<String> STATUSES = List.of("In Dev", "Review", "BLOCK", "Done", "FLAG", "removeFlag");
+
 	@InjectMocks
 	BoardUtil boardUtil;
 
@@ -37,9 +55,9 @@ class BoardUtilTest {
 
 		when(workDay.calculateWorkDaysToTwoScale(anyLong(), anyLong(), any(), any(ZoneId.class)))
 			.thenReturn(StatusChangedItemsListAndCycleTimeInfosListFixture.EXPECT_DAYS);
-		List<CycleTimeInfo> result = boardUtil.getCycleTimeInfos(statusChangedItems, realDoneStatus, true,
-				CalendarTypeEnum.REGULAR, ZoneId.of("Asia/Shanghai"));
-		Assertions.assertEquals(statusChangedItemsExpect, result);
+		CycleTimeColumns result = boardUtil.getCycleTimeColumns(statusChangedItems, realDoneStatus, true,
+				CalendarTypeEnum.REGULAR, ZoneId.of("Asia/Shanghai"), new ColumnDictionary());
+		Assertions.assertEquals(toMap(statusChangedItemsExpect), toMap(result));
 	}
 
 	@Test
@@ -52,9 +70,9 @@ class BoardUtilTest {
 
 		when(workDay.calculateWorkDaysToTwoScale(anyLong(), anyLong(), any(), any(ZoneId.class)))
 			.thenReturn(StatusChangedItemsListAndCycleTimeInfosListFixture.EXPECT_DAYS);
-		List<CycleTimeInfo> result = boardUtil.getCycleTimeInfos(statusChangedItems, realDoneStatus, true,
-				CalendarTypeEnum.REGULAR, ZoneId.of("Asia/Shanghai"));
-		Assertions.assertEquals(statusChangedItemsExpect, result);
+		CycleTimeColumns result = boardUtil.getCycleTimeColumns(statusChangedItems, realDoneStatus, true,
+				CalendarTypeEnum.REGULAR, ZoneId.of("Asia/Shanghai"), new ColumnDictionary());
+		Assertions.assertEquals(toMap(statusChangedItemsExpect), toMap(result));
 	}
 
 	@Test
@@ -67,9 +85,9 @@ class BoardUtilTest {
 
 		when(workDay.calculateWorkDaysToTwoScale(anyLong(), anyLong(), any(), any(ZoneId.class)))
 			.thenReturn(StatusChangedItemsListAndCycleTimeInfosListFixture.EXPECT_DAYS);
-		List<CycleTimeInfo> result = boardUtil.getCycleTimeInfos(statusChangedItems, realDoneStatus, true,
-				CalendarTypeEnum.REGULAR, ZoneId.of("Asia/Shanghai"));
-		Assertions.assertEquals(statusChangedItemsExpect, result);
+		CycleTimeColumns result = boardUtil.getCycleTimeColumns(statusChangedItems, realDoneStatus, true,
+				CalendarTypeEnum.REGULAR, ZoneId.of("Asia/Shanghai"), new ColumnDictionary());
+		Assertions.assertEquals(toMap(statusChangedItemsExpect), toMap(result));
 	}
 
 	@Test
@@ -82,9 +100,9 @@ class BoardUtilTest {
 
 		when(workDay.calculateWorkDaysToTwoScale(anyLong(), anyLong(), any(), any(ZoneId.class)))
 			.thenReturn(StatusChangedItemsListAndCycleTimeInfosListFixture.EXPECT_DAYS);
-		List<CycleTimeInfo> result = boardUtil.getCycleTimeInfos(statusChangedItems, realDoneStatus, false,
-				CalendarTypeEnum.REGULAR, ZoneId.of("Asia/Shanghai"));
-		Assertions.assertEquals(statusChangedItemsExpect, result);
+		CycleTimeColumns result = boardUtil.getCycleTimeColumns(statusChangedItems, realDoneStatus, false,
+				CalendarTypeEnum.REGULAR, ZoneId.of("Asia/Shanghai"), new ColumnDictionary());
+		Assertions.assertEquals(toMap(statusChangedItemsExpect), toMap(result));
 	}
 
 	@Test
@@ -97,9 +115,9 @@ class BoardUtilTest {
 		when(workDay.calculateWorkDaysToTwoScale(anyLong(), anyLong(), any(), any(ZoneId.class)))
 			.thenReturn(StatusChangedItemsListAndCycleTimeInfosListFixture.EXPECT_DAYS);
 
-		List<CycleTimeInfo> result = boardUtil.getOriginCycleTimeInfos(statusChangedItems, Boolean.TRUE,
-				CalendarTypeEnum.REGULAR, ZoneId.of("Asia/Shanghai"));
-		Assertions.assertEquals(statusChangedItemsExpect, result);
+		CycleTimeColumns result = boardUtil.getOriginCycleTimeColumns(statusChangedItems, Boolean.TRUE,
+				CalendarTypeEnum.REGULAR, ZoneId.of("Asia/Shanghai"), new ColumnDictionary());
+		Assertions.assertEquals(toMap(statusChangedItemsExpect), toMap(result));
 	}
 
 	@Test
@@ -111,9 +129,126 @@ class BoardUtilTest {
 
 		when(workDay.calculateWorkDaysToTwoScale(anyLong(), anyLong(), any(), any(ZoneId.class)))
 			.thenReturn(StatusChangedItemsListAndCycleTimeInfosListFixture.EXPECT_DAYS);
-		List<CycleTimeInfo> result = boardUtil.getOriginCycleTimeInfos(statusChangedItems, Boolean.FALSE,
-				CalendarTypeEnum.REGULAR, ZoneId.of("Asia/Shanghai"));
-		Assertions.assertEquals(statusChangedItemsWithoutFlagExpect, result);
+		CycleTimeColumns result = boardUtil.getOriginCycleTimeColumns(statusChangedItems, Boolean.FALSE,
+				CalendarTypeEnum.REGULAR, ZoneId.of("Asia/Shanghai"), new ColumnDictionary());
+		Assertions.assertEquals(toMap(statusChangedItemsWithoutFlagExpect), toMap(result));
+	}
+
+	@Test
+	void shouldCalculateSameCycleTimeAsPairwiseOverlapForRandomFlagHistories() {
+		when(workDay.calculateWorkDaysToTwoScale(anyLong(), anyLong(), any(), any(ZoneId.class)))
+			.thenAnswer(invocation -> toDays(invocation.getArgument(0), invocation.getArgument(1)));
+		List<String> realDoneStatus = List.of("DONE");
+		Random random = new Random(20240301L);
+		ColumnDictionary columnDictionary = new ColumnDictionary();
+
+		for (int i = 0; i < 500; i++) {
+			List<StatusChangedItem> statusChangedItems = buildRandomStatusChangedItems(random);
+
+			CycleTimeColumns result = boardUtil.getCycleTimeColumns(statusChangedItems, realDoneStatus, true,
+					CalendarTypeEnum.REGULAR, ZoneId.of("Asia/Shanghai"), columnDictionary);
+
+			Assertions.assertEquals(calculatePairwiseCycleTime(statusChangedItems, realDoneStatus), toMap(result),
+					statusChangedItems.toString());
+		}
+	}
+
+	private static List<StatusChangedItem> buildRandomStatusChangedItems(Random random) {
+		List<StatusChangedItem> statusChangedItems = new ArrayList<>();
+		long timestamp = START_TIME;
+		int size = 1 + random.nextInt(40);
+		for (int i = 0; i < size; i++) {
+			timestamp += random.nextInt(4) == 0 ? 0 : random.nextInt((int) (3 * ONE_DAY));
+			statusChangedItems.add(StatusChangedItem.builder()
+				.timestamp(timestamp)
+				.status(STATUSES.get(random.nextInt(STATUSES.size())))
+				.build());
+		}
+		return statusChangedItems;
+	}
+
+	private static double toDays(long startTime, long endTime) {
+		double days = (double) (Math.min(endTime, END_TIME) - startTime) / ONE_DAY;
+		return BigDecimal.valueOf(days).setScale(2, RoundingMode.HALF_UP).doubleValue();
+	}
+
+	private static Map<String, Double> calculatePairwiseCycleTime(List<StatusChangedItem> statusChangedItems,
+			List<String> realDoneStatus) {
+		List<StatusChangedItem> sortedItems = statusChangedItems.stream()
+			.sorted(Comparator.comparingLong(StatusChangedItem::getTimestamp))
+			.toList();
+		List<StatusTimeStamp> flagTimeStamps = toStatusTimeStamps(sortedItems.stream()
+			.filter(item -> "FLAG".equals(item.getStatus()) || "removeFlag".equals(item.getStatus()))
+			.toList());
+		List<StatusTimeStamp> columnTimeStamps = toStatusTimeStamps(sortedItems.stream()
+			.filter(item -> !"FLAG".equals(item.getStatus()) && !"removeFlag".equals(item.getStatus()))
+			.toList());
+
+		double totalFlagTime = 0.0;
+		for (StatusTimeStamp flagTimeStamp : flagTimeStamps) {
+			totalFlagTime += toDays(flagTimeStamp.getStartTimestamp(), flagTimeStamp.getEndTimestamp());
+		}
+		double realDoneOverlapTime = 0.0;
+		for (StatusTimeStamp columnTimeStamp : columnTimeStamps) {
+			if (realDoneStatus.contains(columnTimeStamp.getStatus().toUpperCase())) {
+				realDoneOverlapTime += calculatePairwiseOverlapTime(columnTimeStamp, flagTimeStamps);
+			}
+		}
+		Map<String, Double> cycleTime = new TreeMap<>();
+		boolean hasBlockColumn = false;
+		for (StatusTimeStamp columnTimeStamp : columnTimeStamps) {
+			String column = columnTimeStamp.getStatus().toUpperCase();
+			double days = toDays(columnTimeStamp.getStartTimestamp(), columnTimeStamp.getEndTimestamp());
+			if (!realDoneStatus.contains(column)) {
+				double overlapTime = calculatePairwiseOverlapTime(columnTimeStamp, flagTimeStamps);
+				days = "BLOCK".equals(columnTimeStamp.getStatus())
+						? days + totalFlagTime - overlapTime - realDoneOverlapTime : days - overlapTime;
+			}
+			hasBlockColumn |= "BLOCK".equals(columnTimeStamp.getStatus());
+			cycleTime.merge(column, days, Double::sum);
+		}
+		if (!hasBlockColumn && totalFlagTime > 0) {
+			cycleTime.merge("FLAG", totalFlagTime - realDoneOverlapTime, Double::sum);
+		}
+		return cycleTime;
+	}
+
+	private static double calculatePairwiseOverlapTime(StatusTimeStamp columnTimeStamp,
+			List<StatusTimeStamp> flagTimeStamps) {
+		double overlapTime = 0.0;
+		for (StatusTimeStamp flagTimeStamp : flagTimeStamps) {
+			long startTime = Math.max(columnTimeStamp.getStartTimestamp(), flagTimeStamp.getStartTimestamp());
+			long endTime = Math.min(columnTimeStamp.getEndTimestamp(), flagTimeStamp.getEndTimestamp());
+			if (startTime < endTime) {
+				overlapTime += toDays(startTime, endTime);
+			}
+		}
+		return overlapTime;
+	}
+
+	private static List<StatusTimeStamp> toStatusTimeStamps(List<StatusChangedItem> statusChangedItems) {
+		List<StatusTimeStamp> statusTimeStamps = new ArrayList<>();
+		for (int i = 0; i < statusChangedItems.size(); i++) {
+			if (!"removeFlag".equals(statusChangedItems.get(i).getStatus())) {
+				long endTime = i < statusChangedItems.size() - 1 ? statusChangedItems.get(i + 1).getTimestamp()
+						: System.currentTimeMillis();
+				statusTimeStamps.add(new StatusTimeStamp(statusChangedItems.get(i).getTimestamp(), endTime,
+						statusChangedItems.get(i).getStatus()));
+			}
+		}
+		return statusTimeStamps;
+	}
+
+	private static Map<String, Double> toMap(List<CycleTimeInfo> cycleTimeInfos) {
+		Map<String, Double> cycleTime = new TreeMap<>();
+		cycleTimeInfos.forEach(cycleTimeInfo -> cycleTime.put(cycleTimeInfo.getColumn(), cycleTimeInfo.getDay()));
+		return cycleTime;
+	}
+
+	private static Map<String, Double> toMap(CycleTimeColumns cycleTimeColumns) {
+		Map<String, Double> cycleTime = new TreeMap<>();
+		cycleTimeColumns.forEach(cycleTime::put);
+		return cycleTime;
 	}
 
 }
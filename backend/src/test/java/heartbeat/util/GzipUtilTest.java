@@ -0,0 +1,73 @@
+package heartbeat.util;
+
+import heartbeat.exception.FileIOException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GzipUtilTest {
+
+	@TempDir
+	private Path tempDir;
+
+	@Test
+	void shouldReadCompressedFile() throws IOException {
+		Path path = tempDir.resolve("compressed.csv");
+		try (OutputStream outputStream = GzipUtil.compress(new FileOutputStream(path.toFile()))) {
+			outputStream.write("csv data".getBytes(StandardCharsets.UTF_8));
+		}
+
+		try (InputStream inputStream = GzipUtil.openInputStream(path.toFile())) {
+			assertTrue(GzipUtil.isCompressed(path.toFile()));
+			assertEquals("csv data", new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+		}
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "", "c", "csv data" })
+	void shouldReadUncompressedFileAsItIs(String content) throws IOException {
+		Path path = Files.writeString(tempDir.resolve("plain.csv"), content);
+
+		try (InputStream inputStream = GzipUtil.openInputStream(path.toFile())) {
+			assertFalse(GzipUtil.isCompressed(path.toFile()));
+			assertEquals(content, new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+		}
+	}
+
+	@Test
+	void shouldThrowFileIOExceptionWhenFileCannotBeRead() {
+		Path path = tempDir.resolve("missing.csv");
+
+		assertThrows(FileIOException.class, () -> GzipUtil.isCompressed(path.toFile()));
+		assertThrows(FileIOException.class, () -> GzipUtil.openInputStream(path.toFile()));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "gzip", "deflate, GZIP", "br;q=1.0, gzip;q=0.8", "gzip; q=0.5" })
+	void shouldAcceptGzip(String acceptEncoding) {
+		assertTrue(GzipUtil.acceptsGzip(acceptEncoding));
+	}
+
+	@ParameterizedTest
+	@NullAndEmptySource
+	@ValueSource(strings = { "identity", "deflate, br", "gzip;q=0", "gzip; q=0.000", "x-gzip" })
+	void shouldNotAcceptGzip(String acceptEncoding) {
+		assertFalse(GzipUtil.acceptsGzip(acceptEncoding));
+	}
+
+}
@@ -0,0 +1,93 @@
+package heartbeat.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StripedLockTest {
+
+	@Test
+	void shouldThrowIllegalArgumentExceptionWhenStripeCountIsNotPositive() {
+		assertThrows(IllegalArgumentException.class, () -> new StripedLock(0));
+	}
+
+	@Test
+	void shouldReturnSameLockForSameKey() {
+		StripedLock stripedLock = new StripedLock(16);
+
+		assertSame(stripedLock.get("uuid-20240310-20240409"), stripedLock.get("uuid-20240310-20240409"));
+		assertSame(stripedLock.get(null), stripedLock.get(null));
+	}
+
+	@Test
+	void shouldReturnDifferentLocksForKeysInDifferentStripes() {
+		StripedLock stripedLock = new StripedLock(2);
+
+		assertNotSame(stripedLock.get(0), stripedLock.get(1));
+	}
+
+	@Test
+	void shouldReturnSupplierValueAndReleaseLock() {
+		StripedLock stripedLock = new StripedLock(4);
+
+		String result = stripedLock.supplyWithLock("key", () -> "value");
+
+		assertEquals("value", result);
+		assertTrue(stripedLock.get("key").tryLock());
+	}
+
+	@Test
+	void shouldReleaseLockWhenActionThrowsException() {
+		StripedLock stripedLock = new StripedLock(4);
+
+		assertThrows(IllegalStateException.class, () -> stripedLock.runWithLock("key", () -> {
+			throw new IllegalStateException("failed");
+		}));
+		assertTrue(stripedLock.get("key").tryLock());
+	}
+
+	@Test
+	void shouldSerializeActionsWithSameKey() throws InterruptedException {
+		StripedLock stripedLock = new StripedLock(4);
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		int threads = 8;
+		CountDownLatch done = new CountDownLatch(threads);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+		for (int i = 0; i < threads; i++) {
+			executor.execute(() -> {
+				stripedLock.runWithLock("same-key", () -> {
+					maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+					sleep(20);
+					running.decrementAndGet();
+				});
+				done.countDown();
+			});
+		}
+
+		assertTrue(done.await(5, TimeUnit.SECONDS));
+		executor.shutdown();
+		assertEquals(1, maxRunning.get());
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}